@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.codec;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import info.archinnov.achilles.internals.codec.EnumNameCodec;
+import info.archinnov.achilles.internals.codec.EnumOrdinalCodec;
+
+/**
+ * Compare the lookup-table based enum codecs with the former
+ * list-based implementation, using an enum of 30 constants
+ * as a realistic enum size
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EnumCodecBenchmark {
+
+    /**
+     * Plain constants only: the former codec rejects constants
+     * having a body since their class is not the enum class itself
+     */
+    public enum Code {
+        C00, C01, C02, C03, C04, C05, C06, C07, C08, C09,
+        C10, C11, C12, C13, C14, C15, C16, C17, C18, C19,
+        C20, C21, C22, C23, C24, C25, C26, C27, C28, C29
+    }
+
+    private static final Code[] VALUES = Code.values();
+
+    private final EnumNameCodec<Code> nameCodec = new EnumNameCodec<>(Arrays.asList(VALUES), Code.class);
+    private final EnumOrdinalCodec<Code> ordinalCodec = new EnumOrdinalCodec<>(Arrays.asList(VALUES), Code.class);
+    private final ListBasedEnumCodecs.EnumNameCodec<Code> listNameCodec = new ListBasedEnumCodecs.EnumNameCodec<>(Arrays.asList(VALUES));
+    private final ListBasedEnumCodecs.EnumOrdinalCodec<Code> listOrdinalCodec = new ListBasedEnumCodecs.EnumOrdinalCodec<>(Arrays.asList(VALUES));
+
+    private String[] names;
+    private Integer[] ordinals;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        names = new String[VALUES.length];
+        ordinals = new Integer[VALUES.length];
+        for (int i = 0; i < VALUES.length; i++) {
+            names[i] = new String(VALUES[i].name());
+            ordinals[i] = i;
+        }
+    }
+
+    private int next() {
+        index = (index + 1) % VALUES.length;
+        return index;
+    }
+
+    @Benchmark
+    public String encodeName() {
+        return nameCodec.encode(VALUES[next()]);
+    }
+
+    @Benchmark
+    public String encodeName_listBased() {
+        return listNameCodec.encode(VALUES[next()]);
+    }
+
+    @Benchmark
+    public Code decodeName() {
+        return nameCodec.decode(names[next()]);
+    }
+
+    @Benchmark
+    public Code decodeName_listBased() {
+        return listNameCodec.decode(names[next()]);
+    }
+
+    @Benchmark
+    public Integer encodeOrdinal() {
+        return ordinalCodec.encode(VALUES[next()]);
+    }
+
+    @Benchmark
+    public Integer encodeOrdinal_listBased() {
+        return listOrdinalCodec.encode(VALUES[next()]);
+    }
+
+    @Benchmark
+    public Code decodeOrdinal() {
+        return ordinalCodec.decode(ordinals[next()]);
+    }
+
+    @Benchmark
+    public Code decodeOrdinal_listBased() {
+        return listOrdinalCodec.decode(ordinals[next()]);
+    }
+}
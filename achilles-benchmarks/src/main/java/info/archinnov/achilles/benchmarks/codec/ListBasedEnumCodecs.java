@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.benchmarks.codec;
+
+import java.util.List;
+
+/**
+ * Copy of the list-based enum codecs shipped before the lookup tables
+ * were introduced, kept as the baseline for {@link EnumCodecBenchmark}
+ */
+public class ListBasedEnumCodecs {
+
+    public static class EnumNameCodec<ENUM> {
+        private final List<ENUM> enumValues;
+
+        public EnumNameCodec(List<ENUM> enumValues) {
+            this.enumValues = enumValues;
+        }
+
+        public String encode(ENUM fromJava) {
+            if (fromJava == null) return null;
+            if (!fromJava.getClass().isEnum()) {
+                throw new IllegalArgumentException();
+            }
+            if (!enumValues.contains(fromJava)) {
+                throw new IllegalArgumentException();
+            }
+            return ((Enum<?>) fromJava).name();
+        }
+
+        public ENUM decode(String fromCassandra) {
+            if (fromCassandra == null) return null;
+            for (ENUM enumValue : enumValues) {
+                if (((Enum<?>) enumValue).name().equals(fromCassandra)) return enumValue;
+            }
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static class EnumOrdinalCodec<ENUM> {
+        private final List<ENUM> enumValues;
+
+        public EnumOrdinalCodec(List<ENUM> enumValues) {
+            this.enumValues = enumValues;
+        }
+
+        public Integer encode(ENUM fromJava) {
+            if (fromJava == null) return null;
+            if (!fromJava.getClass().isEnum()) {
+                throw new IllegalArgumentException();
+            }
+            for (int i = 0; i < enumValues.size(); i++) {
+                if (enumValues.get(i) == fromJava) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException();
+        }
+
+        public ENUM decode(Integer fromCassandra) {
+            if (fromCassandra == null) return null;
+            if (fromCassandra > enumValues.size() - 1 || fromCassandra < 0) {
+                throw new IllegalArgumentException();
+            }
+            return enumValues.get(fromCassandra);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.internals.futures;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 
 import com.google.common.util.concurrent.FutureCallback;
@@ -30,6 +31,10 @@ import com.google.common.util.concurrent.ListenableFuture;
 public class FutureUtils {
 
     public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, ExecutorService executor) {
+        return toCompletableFuture(listenableFuture, (Executor) executor);
+    }
+
+    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, Executor executor) {
         CompletableFuture<T> completable = new CompletableListenableFuture<>(listenableFuture);
 
         Futures.addCallback(listenableFuture, new FutureCallback<T>() {
@@ -47,6 +52,18 @@ public class FutureUtils {
         return completable;
     }
 
+    /**
+     * Make the stages depending on the returned future run on the given executor
+     * when the future completes later on a foreign thread (e.g. a user provided
+     * asynchronous interceptor). An already completed future is returned as is
+     */
+    public static <T> CompletableFuture<T> resumeOn(CompletableFuture<T> future, Executor executor) {
+        if (future.isDone()) {
+            return future;
+        }
+        return future.whenCompleteAsync((result, throwable) -> { }, executor);
+    }
+
 
     private static final class CompletableListenableFuture<T> extends CompletableFuture<T> {
         private final ListenableFuture<T> listenableFuture;
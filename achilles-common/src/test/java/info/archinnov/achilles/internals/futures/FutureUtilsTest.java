@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.futures;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.resumeOn;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class FutureUtilsTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "achilles-executor"));
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_return_completed_future_as_is() throws Exception {
+        //Given
+        final CompletableFuture<String> future = CompletableFuture.completedFuture("done");
+
+        //When
+        final CompletableFuture<String> resumed = resumeOn(future, executor);
+
+        //Then
+        assertThat(resumed).isSameAs(future);
+    }
+
+    @Test
+    public void should_run_dependent_stages_on_executor_when_completed_by_foreign_thread() throws Exception {
+        //Given
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        final AtomicReference<String> dependentThread = new AtomicReference<>();
+        final CompletableFuture<String> dependent = resumeOn(future, executor)
+                .thenApply(x -> {
+                    dependentThread.set(Thread.currentThread().getName());
+                    return x;
+                });
+
+        //When
+        final Thread foreignThread = new Thread(() -> future.complete("value"), "user-thread");
+        foreignThread.start();
+        foreignThread.join();
+
+        //Then
+        assertThat(dependent.get()).isEqualTo("value");
+        assertThat(dependentThread.get()).isEqualTo("achilles-executor");
+    }
+
+    @Test
+    public void should_propagate_failure_when_resuming_on_executor() throws Exception {
+        //Given
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        final CompletableFuture<String> resumed = resumeOn(future, executor);
+
+        //When
+        future.completeExceptionally(new IllegalStateException("boom"));
+
+        //Then
+        assertThat(resumed.handle((x, t) -> t.getCause()).get()).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -19,6 +19,7 @@ package info.archinnov.achilles.bootstrap;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +42,8 @@ import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
+import info.archinnov.achilles.type.metrics.MetricsRecorder;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.validation.Validator;
 
@@ -176,6 +179,38 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Whether Achilles should migrate the live schema at start-up. Missing tables, views, UDTs and indices
+     * are created and existing tables and UDTs only receive the minimal ALTER statements: new columns,
+     * new UDT fields and default TTL changes. Changes of primary key or column type are not migrated
+     * and are still reported by schema validation. Defaults to false.
+     * <br/>
+     * Like schema creation, this flag is mostly useful for development and controlled roll-outs
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T doSchemaMigration(boolean schemaMigration) {
+        configMap.put(SCHEMA_MIGRATION, schemaMigration);
+        return getThis();
+    }
+
+    /**
+     * Whether Achilles should send concurrently the schema statements of a same creation stage
+     * (UDTs, tables, indices, views) when creating or migrating the schema on Cassandra 3.0+. Defaults to false.
+     * <br/>
+     * By default the statements are sent one after the other and the driver waits for the schema agreement
+     * after each of them. With concurrent creation, these waits overlap and the schema agreement is
+     * checked once more before the next stage, which saves time when many objects are created at once.
+     * It does not reduce the number of statements, and concurrent schema changes may leave the nodes
+     * in schema disagreement for longer, so keep it for development and test clusters
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T doConcurrentSchemaCreation(boolean concurrentSchemaCreation) {
+        configMap.put(CONCURRENT_SCHEMA_CREATION, concurrentSchemaCreation);
+        return getThis();
+    }
+
     /**
      * Whether Achilles should validate the schema generated by the java classes/annotations with the live schema of the cluster.
      * Defaults to true.
@@ -188,6 +223,31 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Validate only the entities whose generated schema changed since their last successful validation,
+     * using a local file to cache the schema hash of each validated entity.
+     * Changes made directly on the live schema are not detected for the skipped entities.
+     * Views and functions are always validated
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withSchemaValidationCacheFile(String cacheFilePath) {
+        configMap.put(SCHEMA_VALIDATION_CACHE_FILE, cacheFilePath);
+        return getThis();
+    }
+
+    /**
+     * Whether Achilles should log at INFO level a summary of the bootstrap, with the time spent,
+     * round trips, prepared statements and metadata lookups per phase and for the slowest entities.
+     * Defaults to false. The report is always available with <em>ManagerFactory.getBootstrapReport()</em>
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withBootstrapReportLogging(boolean bootstrapReportLogging) {
+        configMap.put(BOOTSTRAP_REPORT_LOGGING, bootstrapReportLogging);
+        return getThis();
+    }
+
     /**
      * Define the pre-configured {@code com.datastax.driver.core.Session} object to
      * be used instead of creating a new one
@@ -281,6 +341,20 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Specify maximum size for the cache of statements prepared against the keyspace and table
+     * resolved by a {@link info.archinnov.achilles.type.SchemaNameProvider} passed at runtime.
+     * Statements are cached per entity, operation, keyspace and table
+     * <br/><br/>
+     * Default value is <strong>10000</strong>
+     *
+     * @return ManagerFactoryBuilder
+     */
+    public T withMaxSchemaNameProviderStatementCacheSize(int maxSchemaNameProviderStatementCacheSize) {
+        configMap.put(SCHEMA_NAME_PROVIDER_STATEMENTS_CACHE_SIZE, maxSchemaNameProviderStatementCacheSize);
+        return getThis();
+    }
+
     /**
      * Define the global insert strategy
      *
@@ -557,4 +631,121 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         configMap.put(DML_RESULTS_DISPLAY_SIZE, maxDMLResultsDisplayed);
         return getThis();
     }
+
+    /**
+     * Specify a metrics recorder to collect latency histograms, throughput, error and timeout counts
+     * and mapped rows per entity class and operation
+     * <br/>
+     * <pre class="code"><code class="java">
+     *
+     *  HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+     *
+     *  ManagerFactory factory = ManagerFactoryBuilder
+     *                               .builder(cluster)
+     *                               ...
+     *                               <strong>.withMetricsRecorder(recorder)</strong>
+     *                               .build();
+     * </code></pre>
+     * @param metricsRecorder an implementation of {@link MetricsRecorder}
+     * @return ManagerFactoryBuilder
+     */
+    public T withMetricsRecorder(MetricsRecorder metricsRecorder) {
+        configMap.put(METRICS_RECORDER, metricsRecorder);
+        return getThis();
+    }
+
+    /**
+     * Log statements taking longer than the given threshold on the <strong>ACHILLES_SLOW_QUERY</strong> logger,
+     * with query string, consistency level, coordinator, page count, row count and mapping time
+     * <br/>
+     * The duration is measured from submission to completion, including paging fetches
+     * and mapping of the returned rows
+     *
+     * @param thresholdInMillis default threshold in milliseconds
+     * @return ManagerFactoryBuilder
+     */
+    public T withSlowQueryThresholdInMillis(long thresholdInMillis) {
+        configMap.put(SLOW_QUERY_THRESHOLD_MILLIS, thresholdInMillis);
+        return getThis();
+    }
+
+    /**
+     * Define slow query thresholds per entity class, overriding the default threshold
+     *
+     * @param thresholdInMillisByEntity map of entity class to threshold in milliseconds
+     * @return ManagerFactoryBuilder
+     */
+    public T withSlowQueryThresholdMap(Map<Class<?>, Long> thresholdInMillisByEntity) {
+        configMap.put(SLOW_QUERY_THRESHOLD_MAP, thresholdInMillisByEntity);
+        return getThis();
+    }
+
+    /**
+     * Track only a fraction of the statements for the slow query log
+     *
+     * @param samplingRate ratio between 0 and 1, default = 1
+     * @return ManagerFactoryBuilder
+     */
+    public T withSlowQuerySamplingRate(double samplingRate) {
+        configMap.put(SLOW_QUERY_SAMPLING_RATE, samplingRate);
+        return getThis();
+    }
+
+    /**
+     * Display bound values in the slow query log instead of redacting them. Default = false
+     *
+     * @param logBoundValues whether bound values are displayed
+     * @return ManagerFactoryBuilder
+     */
+    public T withSlowQueryBoundValuesLogging(boolean logBoundValues) {
+        configMap.put(SLOW_QUERY_LOG_BOUND_VALUES, logBoundValues);
+        return getThis();
+    }
+
+    /**
+     * Enable server-side tracing on a random sample of all statements. Trace events are fetched
+     * in background and aggregated per stage, see <em>ManagerFactory.getTraceStageSummaries()</em>
+     * <br/>
+     * <br/>
+     * Keep the rate low in production (e.g. 0.0001 for 1 statement out of 10 000) to avoid
+     * overloading the <strong>system_traces</strong> keyspace
+     *
+     * @param samplingRate ratio between 0 and 1, default = 0
+     * @return ManagerFactoryBuilder
+     */
+    public T withTracingSamplingRate(double samplingRate) {
+        configMap.put(TRACING_SAMPLING_RATE, samplingRate);
+        return getThis();
+    }
+
+    /**
+     * Define the tracing sampling rate for all operations on the given entity class,
+     * overriding the default sampling rate
+     *
+     * @param entityClass  entity class
+     * @param samplingRate ratio between 0 and 1
+     * @return ManagerFactoryBuilder
+     */
+    public T withTracingSamplingRate(Class<?> entityClass, double samplingRate) {
+        for (MetricsOperation operation : MetricsOperation.values()) {
+            withTracingSamplingRate(entityClass, operation, samplingRate);
+        }
+        return getThis();
+    }
+
+    /**
+     * Define the tracing sampling rate for one operation on the given entity class,
+     * overriding the default sampling rate
+     *
+     * @param entityClass  entity class
+     * @param operation    operation to be sampled
+     * @param samplingRate ratio between 0 and 1
+     * @return ManagerFactoryBuilder
+     */
+    public T withTracingSamplingRate(Class<?> entityClass, MetricsOperation operation, double samplingRate) {
+        final Map<Class<?>, Map<MetricsOperation, Double>> samplingRates = configMap.getTypedOr(TRACING_SAMPLING_RATE_MAP, new HashMap<>());
+        samplingRates.computeIfAbsent(entityClass, key -> new EnumMap<>(MetricsOperation.class)).put(operation, samplingRate);
+        configMap.put(TRACING_SAMPLING_RATE_MAP, samplingRates);
+        return getThis();
+    }
 }
@@ -19,6 +19,7 @@ package info.archinnov.achilles.configuration;
 import static info.archinnov.achilles.configuration.ConfigurationParameters.*;
 import static javax.validation.Validation.buildDefaultValidatorFactory;
 
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.function.Supplier;
@@ -39,6 +40,9 @@ import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.DefaultBeanFactory;
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.QueryTracingSampler;
+import info.archinnov.achilles.internals.schema.SchemaValidationCache;
+import info.archinnov.achilles.internals.runtime.SlowQueryDetector;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
 import info.archinnov.achilles.json.JacksonMapperFactory;
@@ -47,6 +51,8 @@ import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
+import info.archinnov.achilles.type.metrics.MetricsRecorder;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.strategy.NamingStrategy;
 
@@ -56,6 +62,7 @@ import info.archinnov.achilles.type.strategy.NamingStrategy;
 public class ArgumentExtractor {
 
     static final int DEFAULT_LRU_CACHE_SIZE = 10000;
+    static final int DEFAULT_SCHEMA_NAME_PROVIDER_CACHE_SIZE = 10000;
     static final boolean DEFAULT_ENABLE_PRE_MUTATE_BEAN_VALIDATION = false;
     static final boolean DEFAULT_ENABLE_POST_LOAD_BEAN_VALIDATION = false;
     static final int DEFAULT_THREAD_POOL_MIN_THREAD_COUNT = 10;
@@ -75,6 +82,8 @@ public class ArgumentExtractor {
         ConfigurationContext configContext = new ConfigurationContext();
         configContext.setCurrentKeyspace(initKeyspaceName(configurationMap));
         configContext.setForceSchemaGeneration(initForceSchemaCreation(configurationMap));
+        configContext.setSchemaMigration(initSchemaMigration(configurationMap));
+        configContext.setConcurrentSchemaCreation(initConcurrentSchemaCreation(configurationMap));
         configContext.setManageEntities(initManagedEntities(configurationMap));
         configContext.setJacksonMapperFactory(initObjectMapperFactory(configurationMap));
         configContext.setDefaultReadConsistencyLevel(initDefaultReadConsistencyLevel(configurationMap));
@@ -98,7 +107,12 @@ public class ArgumentExtractor {
         configContext.setStatementsCache(initStatementCache(configurationMap));
         configContext.setRuntimeCodecs(initRuntimeCodecs(configurationMap));
         configContext.setValidateSchema(initValidateSchema(configurationMap));
+        configContext.setSchemaValidationCache(initSchemaValidationCache(configurationMap));
+        configContext.setBootstrapReportLogging(initBootstrapReportLogging(configurationMap));
         configContext.setDMLResultsDisplaySize(initDMLResultsDisplayLimit(configurationMap));
+        configContext.setMetricsRecorder(initMetricsRecorder(configurationMap, configContext.getExecutorService()));
+        configContext.setSlowQueryDetector(initSlowQueryDetector(configurationMap));
+        configContext.setTracingSampler(initTracingSampler(configurationMap));
         return configContext;
     }
 
@@ -107,11 +121,32 @@ public class ArgumentExtractor {
         return configurationMap.getTypedOr(VALIDATE_SCHEMA, true);
     }
 
+    static Optional<SchemaValidationCache> initSchemaValidationCache(ConfigMap configurationMap) {
+        LOGGER.trace("Extract 'schema validation cache file' from configuration map");
+        return Optional.ofNullable(configurationMap.<String>getTyped(SCHEMA_VALIDATION_CACHE_FILE))
+                .map(cacheFile -> new SchemaValidationCache(Paths.get(cacheFile)));
+    }
+
+    static boolean initBootstrapReportLogging(ConfigMap configurationMap) {
+        LOGGER.trace("Extract 'bootstrap report logging' from configuration map");
+        return configurationMap.getTypedOr(BOOTSTRAP_REPORT_LOGGING, false);
+    }
+
     static boolean initForceSchemaCreation(ConfigMap configurationMap) {
         LOGGER.trace("Extract 'force table creation' from configuration map");
         return configurationMap.getTypedOr(FORCE_SCHEMA_GENERATION, false);
     }
 
+    static boolean initSchemaMigration(ConfigMap configurationMap) {
+        LOGGER.trace("Extract 'schema migration' from configuration map");
+        return configurationMap.getTypedOr(SCHEMA_MIGRATION, false);
+    }
+
+    static boolean initConcurrentSchemaCreation(ConfigMap configurationMap) {
+        LOGGER.trace("Extract 'concurrent schema creation' from configuration map");
+        return configurationMap.getTypedOr(CONCURRENT_SCHEMA_CREATION, false);
+    }
+
 
     static public List<Class<?>> initManagedEntities(ConfigMap configMap) {
         LOGGER.trace("Extract managed entity classes from configuration map");
@@ -228,6 +263,11 @@ public class ArgumentExtractor {
         return configMap.getTypedOr(PREPARED_STATEMENTS_CACHE_SIZE, DEFAULT_LRU_CACHE_SIZE);
     }
 
+    public static Integer initSchemaNameProviderStatementsCacheSize(ConfigMap configMap) {
+        LOGGER.trace("Extract or init schema name provider prepared statements cache size");
+        return configMap.getTypedOr(SCHEMA_NAME_PROVIDER_STATEMENTS_CACHE_SIZE, DEFAULT_SCHEMA_NAME_PROVIDER_CACHE_SIZE);
+    }
+
     public static InsertStrategy initInsertStrategy(ConfigMap configMap) {
         LOGGER.trace("Extract or init global Insert strategy");
         return configMap.getTypedOr(GLOBAL_INSERT_STRATEGY, DEFAULT_INSERT_STRATEGY);
@@ -281,7 +321,8 @@ public class ArgumentExtractor {
             return configMap.getTyped(STATEMENTS_CACHE);
         } else {
             final Integer cacheSize = initPreparedStatementsCacheSize(configMap);
-            return new StatementsCache(cacheSize);
+            final Integer schemaNameCacheSize = initSchemaNameProviderStatementsCacheSize(configMap);
+            return new StatementsCache(cacheSize, schemaNameCacheSize);
         }
     }
 
@@ -302,4 +343,36 @@ public class ArgumentExtractor {
             return DEFAULT_DML_RESULTS_DISPLAY_SIZE;
         }
     }
+
+    static MetricsRecorder initMetricsRecorder(final ConfigMap configMap, ExecutorService executorService) {
+        LOGGER.trace("Extract or init metrics recorder");
+        final MetricsRecorder metricsRecorder = configMap.getTypedOr(METRICS_RECORDER, MetricsRecorder.NO_OP);
+        if (executorService instanceof ThreadPoolExecutor) {
+            final BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) executorService).getQueue();
+            metricsRecorder.registerExecutorQueueDepth(queue::size);
+        }
+        return metricsRecorder;
+    }
+
+    static SlowQueryDetector initSlowQueryDetector(final ConfigMap configMap) {
+        LOGGER.trace("Extract slow query log configuration");
+        final Optional<Long> defaultThreshold = Optional.ofNullable(configMap.<Long>getTyped(SLOW_QUERY_THRESHOLD_MILLIS));
+        final Map<Class<?>, Long> thresholdMap = configMap.getTypedOr(SLOW_QUERY_THRESHOLD_MAP, new HashMap<>());
+        if (!defaultThreshold.isPresent() && thresholdMap.isEmpty()) {
+            return SlowQueryDetector.DISABLED;
+        }
+        return new SlowQueryDetector(defaultThreshold, thresholdMap,
+                configMap.getTypedOr(SLOW_QUERY_SAMPLING_RATE, 1.0d),
+                configMap.getTypedOr(SLOW_QUERY_LOG_BOUND_VALUES, false));
+    }
+
+    static QueryTracingSampler initTracingSampler(final ConfigMap configMap) {
+        LOGGER.trace("Extract tracing sampler configuration");
+        final double defaultSamplingRate = configMap.getTypedOr(TRACING_SAMPLING_RATE, 0d);
+        final Map<Class<?>, Map<MetricsOperation, Double>> samplingRateMap = configMap.getTypedOr(TRACING_SAMPLING_RATE_MAP, new HashMap<>());
+        if (defaultSamplingRate == 0d && samplingRateMap.isEmpty()) {
+            return QueryTracingSampler.DISABLED;
+        }
+        return new QueryTracingSampler(defaultSamplingRate, samplingRateMap);
+    }
 }
@@ -38,8 +38,28 @@ package info.archinnov.achilles.configuration;
  If set to <strong>false</strong> and no column family is found for any entity, <strong>Achilles</strong> will raise an <strong>AchillesInvalidColumnFamilyException</strong></p>
  * </li>
  * <li>
+ * <strong>SCHEMA_MIGRATION</strong> (OPTIONAL): create missing schema objects and migrate existing tables and UDTs with the minimal
+ * ALTER statements (new columns, new UDT fields, default TTL) and missing indices. Changes of primary key or column type are not migrated. <strong>Default = 'false'</strong>
+ * </li>
+ * <li>
+ * <strong>CONCURRENT_SCHEMA_CREATION</strong> (OPTIONAL): on Cassandra 3.0+, send the schema statements of a same creation stage
+ * (UDTs, tables, indices, views) concurrently and check the schema agreement once per stage, instead of sending them one
+ * after the other. Concurrent schema changes may leave the nodes in schema disagreement for longer. <strong>Default = 'false'</strong>
+ * </li>
+ * <li>
  * <strong>VALIDATE_SCHEMA</strong> (OPTIONAL): enable or disable schema validation at start-up. <strong>Default = 'true'</strong>
  * </li>
+ * <li>
+ * <strong>SCHEMA_VALIDATION_CACHE_FILE</strong> (OPTIONAL): path of a local file caching the generated schema hash of each
+ * successfully validated entity. Entities whose generated schema did not change since their last successful validation
+ * are not validated again; changes made directly on the live schema are then not detected for them. Views and functions
+ * are always validated. <strong>Default = all entities validated</strong>
+ * </li>
+ * <li>
+ * <strong>BOOTSTRAP_REPORT_LOGGING</strong> (OPTIONAL): log at INFO level a summary of the time spent, round trips, prepared statements
+ * and metadata lookups per bootstrap phase and for the slowest entities. The report is always available
+ * through <em>ManagerFactory.getBootstrapReport()</em>. <strong>Default = 'false'</strong>
+ * </li>
  * </ul>
  * <br/>
  * <br/>
@@ -52,6 +72,49 @@ package info.archinnov.achilles.configuration;
  * </ul>
  * <br/>
  * <br/>
+ * <h4>Metrics</h4>
+ * <ul>
+ *     <li>
+ *         <strong>METRICS_RECORDER</strong> (OPTIONAL): an implementation of {@link info.archinnov.achilles.type.metrics.MetricsRecorder}
+ *         to record latency, throughput, errors, timeouts and mapped rows per entity class and operation.
+ *         The built-in {@link info.archinnov.achilles.type.metrics.HistogramMetricsRecorder} needs no external dependency.
+ *         <strong>Default = no metrics recorded</strong>
+ *     </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Slow query log</h4>
+ * <ul>
+ *     <li>
+ *         <strong>SLOW_QUERY_THRESHOLD_MILLIS</strong> (OPTIONAL): default threshold in milliseconds above which a statement is logged
+ *         on the <strong>ACHILLES_SLOW_QUERY</strong> logger. <strong>Default = slow query log disabled</strong>
+ *     </li>
+ *     <li>
+ *         <strong>SLOW_QUERY_THRESHOLD_MAP</strong> (OPTIONAL): map of entity class to threshold in milliseconds, overriding the default threshold
+ *     </li>
+ *     <li>
+ *         <strong>SLOW_QUERY_SAMPLING_RATE</strong> (OPTIONAL): ratio between 0 and 1 of statements to be tracked. <strong>Default = 1</strong>
+ *     </li>
+ *     <li>
+ *         <strong>SLOW_QUERY_LOG_BOUND_VALUES</strong> (OPTIONAL): whether bound values are displayed or redacted in the slow query log. <strong>Default = false</strong>
+ *     </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Tracing sampler</h4>
+ * <ul>
+ *     <li>
+ *         <strong>TRACING_SAMPLING_RATE</strong> (OPTIONAL): ratio between 0 and 1 of statements for which server-side tracing is enabled,
+ *         e.g. 0.0001 to trace 1 statement out of 10 000. <strong>Default = 0, tracing sampler disabled</strong>
+ *     </li>
+ *     <li>
+ *         <strong>TRACING_SAMPLING_RATE_MAP</strong> (OPTIONAL): map of entity class to a map of {@link info.archinnov.achilles.type.metrics.MetricsOperation}
+ *         to sampling rate, overriding the default sampling rate
+ *     </li>
+ * </ul>
+ * Trace events are fetched in background and aggregated per stage, see <em>AbstractManagerFactory.getTraceStageSummaries()</em>
+ * <br/>
+ * <br/>
  * <h4>JSON Serialization</h4>
  * <ul >
  * <li>
@@ -137,12 +200,17 @@ package info.archinnov.achilles.configuration;
  The default size is <code>10000</code> entries. Once the limit is reached, oldest prepared statements are evicted, causing <strong>Achilles</strong> to re-prepare them and get warnings from the Java Driver.</p>
  You can get details on the LRU cache state by putting the logger <code>info.archinnov.achilles.internal.statement.cache.CacheManager</code> on <strong>DEBUG</strong></p>
  * </li>
+ * <li><strong>SCHEMA_NAME_PROVIDER_STATEMENTS_CACHE_SIZE</strong> (OPTIONAL): define the size of the cache for statements prepared
+ * against the keyspace and table resolved by a <em>SchemaNameProvider</em> passed at runtime. Statements are cached per entity, operation,
+ * keyspace and table, independently from the LRU cache above. The default size is <code>10000</code> entries,
+ * raise it if you route queries to many tenant keyspaces
+ * </li>
  * <li>
  * <strong>STATEMENTS_CACHE</strong> (OPTIONAL): provide an instance of the class {@link info.archinnov.achilles.internals.cache.StatementsCache}
  * to store all prepared statements. This option is useful for unit testing to avoid re-preparing many times the same prepared statements
  * <br/><br/>
  * <em>
- * Remark: if your provide the statement cache object yourself, the parameter PREPARED_STATEMENTS_CACHE_SIZE will be ignored
+ * Remark: if your provide the statement cache object yourself, the parameters PREPARED_STATEMENTS_CACHE_SIZE and SCHEMA_NAME_PROVIDER_STATEMENTS_CACHE_SIZE will be ignored
  * </em>
  * </li>
  * </ul>
@@ -269,8 +337,13 @@ public enum ConfigurationParameters {
     EVENT_INTERCEPTORS("achilles.event.interceptors"),
 
     FORCE_SCHEMA_GENERATION("achilles.ddl.force.schema.generation"),
+    SCHEMA_MIGRATION("achilles.ddl.schema.migration"),
+    CONCURRENT_SCHEMA_CREATION("achilles.ddl.concurrent.schema.creation"),
 
     VALIDATE_SCHEMA("achilles.validate.schema"),
+    SCHEMA_VALIDATION_CACHE_FILE("achilles.schema.validation.cache.file"),
+
+    BOOTSTRAP_REPORT_LOGGING("achilles.bootstrap.report.logging"),
 
     MANAGED_ENTITIES("achilles.managed.entities"),
 
@@ -279,6 +352,7 @@ public enum ConfigurationParameters {
     BEAN_VALIDATION_VALIDATOR("achilles.bean.validation.validator"),
 
     PREPARED_STATEMENTS_CACHE_SIZE("achilles.prepared.statements.cache.size"),
+    SCHEMA_NAME_PROVIDER_STATEMENTS_CACHE_SIZE("achilles.prepared.statements.schema.name.provider.cache.size"),
 
     DEFAULT_BEAN_FACTORY("achilles.bean.factory"),
 
@@ -297,7 +371,17 @@ public enum ConfigurationParameters {
     DEFAULT_EXECUTOR_SERVICE_QUEUE_SIZE("achilles.executor.service.default.queue.size"),
     DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory"),
 
-    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size");
+    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size"),
+
+    METRICS_RECORDER("achilles.metrics.recorder"),
+
+    SLOW_QUERY_THRESHOLD_MILLIS("achilles.slow.query.threshold.millis"),
+    SLOW_QUERY_THRESHOLD_MAP("achilles.slow.query.threshold.map"),
+    SLOW_QUERY_SAMPLING_RATE("achilles.slow.query.sampling.rate"),
+    SLOW_QUERY_LOG_BOUND_VALUES("achilles.slow.query.log.bound.values"),
+
+    TRACING_SAMPLING_RATE("achilles.tracing.sampling.rate"),
+    TRACING_SAMPLING_RATE_MAP("achilles.tracing.sampling.rate.map");
 
 
     private String label;
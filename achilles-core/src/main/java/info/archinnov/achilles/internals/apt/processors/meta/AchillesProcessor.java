@@ -27,9 +27,15 @@ import static java.util.stream.Collectors.toSet;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -37,13 +43,15 @@ import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 
 import org.apache.commons.io.FileUtils;
 
+import com.google.auto.common.MoreElements;
 import com.google.auto.service.AutoService;
-import com.google.common.collect.Sets;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
@@ -57,18 +65,25 @@ import info.archinnov.achilles.internals.codegen.ManagerFactoryBuilderCodeGen;
 import info.archinnov.achilles.internals.codegen.ManagerFactoryCodeGen;
 import info.archinnov.achilles.internals.codegen.ManagerFactoryCodeGen.ManagersAndDSLClasses;
 import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
+import info.archinnov.achilles.internals.codegen.meta.ProjectionCodeGen;
+import info.archinnov.achilles.internals.metamodel.MetaClassIndex;
 import info.archinnov.achilles.internals.parser.CodecRegistryParser;
 import info.archinnov.achilles.internals.parser.EntityParser;
 import info.archinnov.achilles.internals.parser.FunctionParser;
+import info.archinnov.achilles.internals.parser.ProjectionParser;
 import info.archinnov.achilles.internals.parser.context.FunctionSignature;
 import info.archinnov.achilles.internals.parser.context.FunctionsContext;
 import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
+import info.archinnov.achilles.internals.parser.context.ProjectionSignature;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
 
 
 @AutoService(Processor.class)
 public class AchillesProcessor extends AbstractProcessor {
 
+    private static final List<Class<? extends Annotation>> SUPPORTED_ANNOTATIONS = Arrays.asList(Table.class,
+            MaterializedView.class, CodecRegistry.class, FunctionRegistry.class, Projection.class, CompileTimeConfig.class);
+
     protected AptUtils aptUtils;
     protected EntityParser entityParser;
     private boolean processed = false;
@@ -89,77 +104,13 @@ public class AchillesProcessor extends AbstractProcessor {
 
             try {
 
-                final GlobalParsingContext globalContext = initGlobalParsingContext(annotations, roundEnv);
-
-                validateCassandraVersionAgainstUsedAnnotations(annotations, globalContext);
-
-                parseCodecRegistry(globalContext, annotations, roundEnv);
-
-                final List<EntityMetaSignature> tableAndViewSignatures = discoverAndValidateTablesAndViews(annotations, roundEnv, globalContext);
-
-                final FunctionsContext udfContext = parseAndValidateFunctionRegistry(globalContext, annotations, roundEnv, tableAndViewSignatures);
-
-                final TypeSpec managerFactoryBuilder = ManagerFactoryBuilderCodeGen.buildInstance(globalContext);
-
-                final ManagersAndDSLClasses managersAndDSLClasses = ManagerFactoryCodeGen.buildInstance(aptUtils, tableAndViewSignatures, udfContext, globalContext);
-
-                aptUtils.printNote("[Achilles] Reading previously generated source files (if exist)");
-                try {
-                    final FileObject resource = aptUtils.filer.getResource(StandardLocation.SOURCE_OUTPUT, GENERATED_PACKAGE, globalContext.managerFactoryBuilderClassName());
-                    final File generatedSourceFolder = new File(resource.toUri().getRawPath().replaceAll("(.+/info/archinnov/achilles/generated/).+", "$1"));
-                    aptUtils.printNote("[Achilles] Cleaning previously generated source files folder : '%s'", generatedSourceFolder.getPath());
-                    FileUtils.deleteDirectory(generatedSourceFolder);
-                } catch (IOException ioe) {
-                    aptUtils.printNote("[Achilles] No previously generated source files found, proceed to code generation");
-                }
-
-                aptUtils.printNote("[Achilles] Generating CQL compatible types (used by the application) as class for function calls");
-                for (TypeSpec typeSpec : globalContext.functionParameterTypesCodeGen().buildParameterTypesClasses(udfContext)) {
-                    JavaFile.builder(FUNCTION_PACKAGE, typeSpec)
-                            .build().writeTo(aptUtils.filer);
-                }
-
-                aptUtils.printNote("[Achilles] Generating SystemFunctions");
-                JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(SYSTEM_FUNCTIONS_CLASS,
-                        SYSTEM_FUNCTIONS)).build().writeTo(aptUtils.filer);
-
-                if (globalContext.supportsFeature(UDF_UDA)) {
-                    aptUtils.printNote("[Achilles] Generating FunctionsRegistry");
-                    JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(FUNCTIONS_REGISTRY_CLASS,
-                            udfContext.functionSignatures)).build().writeTo(aptUtils.filer);
-                }
-
-
-                aptUtils.printNote("[Achilles] Generating ManagerFactoryBuilder");
-                JavaFile.builder(GENERATED_PACKAGE, managerFactoryBuilder)
-                        .build().writeTo(aptUtils.filer);
-
-                aptUtils.printNote("[Achilles] Generating Manager factory class");
-                JavaFile.builder(GENERATED_PACKAGE, managersAndDSLClasses.managerFactoryClass)
-                        .build().writeTo(aptUtils.filer);
+                final MetaClassIndex previousIndex = readPreviousMetaClassIndex();
+                final List<TypeElement> indexedSourceTypes = resolveIndexedSourceTypes(previousIndex, roundEnv);
 
-                aptUtils.printNote("[Achilles] Generating UDT meta classes");
-                for (TypeSpec typeSpec : globalContext.udtTypes.values()) {
-                    JavaFile.builder(UDT_META_PACKAGE, typeSpec)
-                            .build().writeTo(aptUtils.filer);
-                }
-
-                aptUtils.printNote("[Achilles] Generating entity meta classes");
-                for (EntityMetaSignature signature : tableAndViewSignatures) {
-                    JavaFile.builder(ENTITY_META_PACKAGE, signature.sourceCode)
-                            .build().writeTo(aptUtils.filer);
-                }
-
-                aptUtils.printNote("[Achilles] Generating manager classes");
-                for (TypeSpec manager : managersAndDSLClasses.managerClasses) {
-                    JavaFile.builder(MANAGER_PACKAGE, manager)
-                            .build().writeTo(aptUtils.filer);
-                }
-
-                aptUtils.printNote("[Achilles] Generating DSL classes");
-                for (TypeSpec dsl : managersAndDSLClasses.dslClasses) {
-                    JavaFile.builder(DSL_PACKAGE, dsl)
-                            .build().writeTo(aptUtils.filer);
+                if (indexedSourceTypes.isEmpty()) {
+                    processAllAnnotatedTypes(annotations, roundEnv);
+                } else {
+                    processRecompiledTables(annotations, roundEnv, previousIndex, indexedSourceTypes);
                 }
             }catch (AchillesException e) {
                 e.printStackTrace();
@@ -188,25 +139,329 @@ public class AchillesProcessor extends AbstractProcessor {
         return true;
     }
 
-    private void validateCassandraVersionAgainstUsedAnnotations(Set<? extends TypeElement> annotations, GlobalParsingContext parsingContext) {
+    private void processAllAnnotatedTypes(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) throws IOException {
+        final List<TypeElement> configTypes = getTypesAnnotatedBy(annotations, roundEnv, CompileTimeConfig.class);
+        final List<TypeElement> codecRegistryTypes = getTypesAnnotatedBy(annotations, roundEnv, CodecRegistry.class);
+        final List<TypeElement> tableTypes = getTypesAnnotatedBy(annotations, roundEnv, Table.class);
+        final List<TypeElement> viewTypes = getTypesAnnotatedBy(annotations, roundEnv, MaterializedView.class);
+        final List<TypeElement> functionRegistryTypes = getTypesAnnotatedBy(annotations, roundEnv, FunctionRegistry.class);
+        final List<TypeElement> projectionTypes = getTypesAnnotatedBy(annotations, roundEnv, Projection.class);
+
+        final GlobalParsingContext globalContext = initGlobalParsingContext(configTypes);
+
+        validateCassandraVersionAgainstUsedAnnotations(globalContext, functionRegistryTypes, viewTypes);
+
+        parseCodecRegistry(globalContext, codecRegistryTypes);
+
+        final List<EntityMetaSignature> tableAndViewSignatures = discoverAndValidateTablesAndViews(tableTypes, viewTypes, globalContext);
+
+        final FunctionsContext udfContext = parseAndValidateFunctionRegistry(globalContext, functionRegistryTypes, tableAndViewSignatures);
+
+        final List<ProjectionSignature> projectionSignatures = projectionTypes
+                .stream()
+                .map(x -> ProjectionParser.parseProjection(aptUtils, x, tableAndViewSignatures))
+                .collect(toList());
+
+        final TypeSpec managerFactoryBuilder = ManagerFactoryBuilderCodeGen.buildInstance(globalContext);
+
+        final ManagersAndDSLClasses managersAndDSLClasses = ManagerFactoryCodeGen.buildInstance(aptUtils, tableAndViewSignatures, projectionSignatures, udfContext, globalContext);
+
+        aptUtils.printNote("[Achilles] Reading previously generated source files (if exist)");
+        try {
+            final FileObject resource = aptUtils.filer.getResource(StandardLocation.SOURCE_OUTPUT, GENERATED_PACKAGE, globalContext.managerFactoryBuilderClassName());
+            final File generatedSourceFolder = new File(resource.toUri().getRawPath().replaceAll("(.+/info/archinnov/achilles/generated/).+", "$1"));
+            aptUtils.printNote("[Achilles] Cleaning previously generated source files folder : '%s'", generatedSourceFolder.getPath());
+            FileUtils.deleteDirectory(generatedSourceFolder);
+        } catch (IOException ioe) {
+            aptUtils.printNote("[Achilles] No previously generated source files found, proceed to code generation");
+        }
+
+        aptUtils.printNote("[Achilles] Generating CQL compatible types (used by the application) as class for function calls");
+        for (TypeSpec typeSpec : globalContext.functionParameterTypesCodeGen().buildParameterTypesClasses(udfContext)) {
+            JavaFile.builder(FUNCTION_PACKAGE, typeSpec)
+                    .build().writeTo(aptUtils.filer);
+        }
+
+        aptUtils.printNote("[Achilles] Generating SystemFunctions");
+        JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(SYSTEM_FUNCTIONS_CLASS,
+                SYSTEM_FUNCTIONS)).build().writeTo(aptUtils.filer);
+
+        if (globalContext.supportsFeature(UDF_UDA)) {
+            aptUtils.printNote("[Achilles] Generating FunctionsRegistry");
+            JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(FUNCTIONS_REGISTRY_CLASS,
+                    udfContext.functionSignatures)).build().writeTo(aptUtils.filer);
+        }
+
+
+        aptUtils.printNote("[Achilles] Generating ManagerFactoryBuilder");
+        JavaFile.builder(GENERATED_PACKAGE, managerFactoryBuilder)
+                .build().writeTo(aptUtils.filer);
+
+        aptUtils.printNote("[Achilles] Generating Manager factory class");
+        JavaFile.builder(GENERATED_PACKAGE, managersAndDSLClasses.managerFactoryClass)
+                .build().writeTo(aptUtils.filer);
+
+        aptUtils.printNote("[Achilles] Generating UDT meta classes");
+        for (TypeSpec typeSpec : globalContext.udtTypes.values()) {
+            JavaFile.builder(UDT_META_PACKAGE, typeSpec)
+                    .build().writeTo(aptUtils.filer);
+        }
+
+        aptUtils.printNote("[Achilles] Generating entity meta classes");
+        for (EntityMetaSignature signature : tableAndViewSignatures) {
+            JavaFile.builder(ENTITY_META_PACKAGE, signature.sourceCode)
+                    .build().writeTo(aptUtils.filer);
+        }
+
+        aptUtils.printNote("[Achilles] Generating manager classes");
+        for (TypeSpec manager : managersAndDSLClasses.managerClasses) {
+            JavaFile.builder(MANAGER_PACKAGE, manager)
+                    .build().writeTo(aptUtils.filer);
+        }
+
+        aptUtils.printNote("[Achilles] Generating DSL classes");
+        for (TypeSpec dsl : managersAndDSLClasses.dslClasses) {
+            JavaFile.builder(DSL_PACKAGE, dsl)
+                    .build().writeTo(aptUtils.filer);
+        }
+
+        aptUtils.printNote("[Achilles] Generating projection classes");
+        for (ProjectionSignature signature : projectionSignatures) {
+            JavaFile.builder(PROJECTION_PACKAGE, ProjectionCodeGen.buildProjectionClass(signature))
+                    .build().writeTo(aptUtils.filer);
+        }
+
+        aptUtils.printNote("[Achilles] Writing meta class index '%s'", MetaClassIndex.INDEX_RESOURCE);
+        writeMetaClassIndex(globalContext, tableAndViewSignatures,
+                CollectionsHelper.appendAll(configTypes, codecRegistryTypes, tableTypes, viewTypes, functionRegistryTypes, projectionTypes));
+    }
+
+    /**
+     * When the build tool only recompiles the changed sources (e.g. Maven without incremental compilation),
+     * the round does not contain all the annotated types and the aggregated classes (manager factory, function
+     * registries ...) cannot be generated again. Only the code of the recompiled entities is re-generated,
+     * using the compile-time config and codec registry resolved from the meta class index. Changes which
+     * would impact the aggregated classes require to rebuild the whole module
+     */
+    private void processRecompiledTables(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv,
+                                         MetaClassIndex previousIndex, List<TypeElement> indexedSourceTypes) throws IOException {
+        aptUtils.printNote("[Achilles] Partial compilation detected, re-generating code for the recompiled entities only");
+
+        for (Class<? extends Annotation> annotationClass : Arrays.asList(CompileTimeConfig.class, CodecRegistry.class,
+                FunctionRegistry.class, MaterializedView.class, Projection.class)) {
+            aptUtils.validateFalse(containsElementsAnnotatedBy(annotations, annotationClass),
+                    "@%s types cannot be compiled separately from other annotated types, please rebuild the whole module",
+                    annotationClass.getSimpleName());
+        }
+
+        final List<String> indexedSourceNames = previousIndex.getClassNames(MetaClassIndex.Kind.SOURCE);
+        final List<TypeElement> tableTypes = getTypesAnnotatedBy(annotations, roundEnv, Table.class);
+        for (TypeElement tableType : tableTypes) {
+            aptUtils.validateTrue(indexedSourceNames.contains(tableType.getQualifiedName().toString()),
+                    "New entity '%s' cannot be compiled separately from other annotated types, please rebuild the whole module",
+                    tableType.getQualifiedName());
+        }
+
+        final GlobalParsingContext globalContext = initGlobalParsingContext(filterAnnotatedBy(indexedSourceTypes, CompileTimeConfig.class));
+
+        parseCodecRegistry(globalContext, filterAnnotatedBy(indexedSourceTypes, CodecRegistry.class));
+
+        final List<EntityMetaSignature> tableSignatures;
+        try {
+            tableSignatures = discoverAndValidateTablesAndViews(tableTypes, Collections.emptyList(), globalContext);
+        } catch (AchillesException ex) {
+            aptUtils.printError("[Achilles] Types which are not recompiled are read from their class file, " +
+                    "if the error is related to one of them please rebuild the whole module");
+            throw ex;
+        }
+
+        final List<String> indexedUDTNames = previousIndex.getClassNames(MetaClassIndex.Kind.UDT);
+        for (TypeSpec typeSpec : globalContext.udtTypes.values()) {
+            aptUtils.validateTrue(indexedUDTNames.contains(UDT_META_PACKAGE + "." + typeSpec.name),
+                    "New UDT meta class '%s' cannot be generated separately from other annotated types, please rebuild the whole module",
+                    typeSpec.name);
+        }
+
+        final FunctionsContext udfContext = parseAndValidateFunctionRegistry(globalContext, Collections.emptyList(), tableSignatures);
+
+        final Set<TypeName> tableTypeNames = tableSignatures
+                .stream()
+                .map(x -> x.entityRawClass)
+                .collect(toSet());
+
+        final List<ProjectionSignature> projectionSignatures = filterAnnotatedBy(indexedSourceTypes, Projection.class)
+                .stream()
+                .filter(x -> tableTypeNames.contains(ProjectionParser.extractEntityType(x)))
+                .map(x -> ProjectionParser.parseProjection(aptUtils, x, tableSignatures))
+                .collect(toList());
+
+        final ManagersAndDSLClasses managersAndDSLClasses = ManagerFactoryCodeGen.buildInstance(aptUtils, tableSignatures, projectionSignatures, udfContext, globalContext);
+
+        aptUtils.printNote("[Achilles] Re-generating changed CQL compatible types as class for function calls");
+        for (TypeSpec typeSpec : globalContext.functionParameterTypesCodeGen().buildParameterTypesClasses(udfContext)) {
+            writeIfChanged(FUNCTION_PACKAGE, typeSpec);
+        }
+
+        final Set<TypeName> recompiledTypeNames = ElementFilter.typesIn(roundEnv.getRootElements())
+                .stream()
+                .map(ClassName::get)
+                .collect(toSet());
+
+        aptUtils.printNote("[Achilles] Re-generating changed UDT meta classes of recompiled UDT types");
+        for (Map.Entry<TypeName, TypeSpec> entry : globalContext.udtTypes.entrySet()) {
+            if (entry.getKey() instanceof ClassName
+                    && recompiledTypeNames.contains(((ClassName) entry.getKey()).topLevelClassName())) {
+                writeIfChanged(UDT_META_PACKAGE, entry.getValue());
+            }
+        }
+
+        aptUtils.printNote("[Achilles] Re-generating changed entity meta classes");
+        for (EntityMetaSignature signature : tableSignatures) {
+            writeIfChanged(ENTITY_META_PACKAGE, signature.sourceCode);
+        }
+
+        aptUtils.printNote("[Achilles] Re-generating changed manager classes");
+        for (TypeSpec manager : managersAndDSLClasses.managerClasses) {
+            writeIfChanged(MANAGER_PACKAGE, manager);
+        }
+
+        aptUtils.printNote("[Achilles] Re-generating changed DSL classes");
+        for (TypeSpec dsl : managersAndDSLClasses.dslClasses) {
+            writeIfChanged(DSL_PACKAGE, dsl);
+        }
+
+        aptUtils.printNote("[Achilles] Re-generating changed projection classes");
+        for (ProjectionSignature signature : projectionSignatures) {
+            writeIfChanged(PROJECTION_PACKAGE, ProjectionCodeGen.buildProjectionClass(signature));
+        }
+
+        aptUtils.printNote("[Achilles] Refreshing meta class index '%s'", MetaClassIndex.INDEX_RESOURCE);
+        refreshMetaClassIndex(previousIndex, tableTypes, tableSignatures);
+    }
+
+    /**
+     * Annotated types recorded in the meta class index which are not part of the current round
+     * but can still be resolved, meaning that they have not been recompiled
+     */
+    private List<TypeElement> resolveIndexedSourceTypes(MetaClassIndex previousIndex, RoundEnvironment roundEnv) {
+        final Set<String> roundTypeNames = SUPPORTED_ANNOTATIONS
+                .stream()
+                .flatMap(annotationClass -> roundEnv.getElementsAnnotatedWith(annotationClass).stream())
+                .map(x -> MoreElements.asType(x).getQualifiedName().toString())
+                .collect(toSet());
+
+        return previousIndex.getClassNames(MetaClassIndex.Kind.SOURCE)
+                .stream()
+                .filter(className -> !roundTypeNames.contains(className))
+                .map(className -> aptUtils.elementUtils.getTypeElement(className))
+                .filter(Objects::nonNull)
+                .filter(typeElement -> SUPPORTED_ANNOTATIONS.stream().anyMatch(x -> typeElement.getAnnotation(x) != null))
+                .collect(toList());
+    }
+
+    private List<TypeElement> filterAnnotatedBy(List<TypeElement> typeElements, Class<? extends Annotation> annotationClass) {
+        return typeElements
+                .stream()
+                .filter(x -> x.getAnnotation(annotationClass) != null)
+                .collect(toList());
+    }
+
+    /**
+     * Skip writing a generated source file whose content did not change, so that it is not compiled again
+     */
+    private void writeIfChanged(String packageName, TypeSpec typeSpec) throws IOException {
+        final JavaFile javaFile = JavaFile.builder(packageName, typeSpec).build();
+        try {
+            final FileObject previousFile = aptUtils.filer.getResource(StandardLocation.SOURCE_OUTPUT, packageName, typeSpec.name + ".java");
+            if (javaFile.toString().contentEquals(previousFile.getCharContent(true))) {
+                return;
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            // No previous file, generate it
+        }
+        aptUtils.printNote("[Achilles] Writing changed source file '%s.%s'", packageName, typeSpec.name);
+        javaFile.writeTo(aptUtils.filer);
+    }
+
+    private MetaClassIndex readPreviousMetaClassIndex() {
+        final MetaClassIndex index = MetaClassIndex.empty();
+        try {
+            final FileObject previousIndex = aptUtils.filer.getResource(StandardLocation.CLASS_OUTPUT, "", MetaClassIndex.INDEX_RESOURCE);
+            try (Reader reader = previousIndex.openReader(true)) {
+                index.read(reader);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            aptUtils.printNote("[Achilles] No previous meta class index found");
+        }
+        return index;
+    }
+
+    private void writeMetaClassIndex(GlobalParsingContext globalContext, List<EntityMetaSignature> tableAndViewSignatures,
+                                     List<TypeElement> sourceTypes) throws IOException {
+        final MetaClassIndex index = MetaClassIndex.empty();
+        for (TypeElement sourceType : sourceTypes) {
+            index.add(MetaClassIndex.Kind.SOURCE, sourceType.getQualifiedName().toString());
+        }
+        for (EntityMetaSignature signature : tableAndViewSignatures) {
+            index.add(signature.isTable() ? MetaClassIndex.Kind.ENTITY : MetaClassIndex.Kind.VIEW,
+                    ENTITY_META_PACKAGE + "." + signature.sourceCode.name);
+        }
+        for (TypeSpec typeSpec : globalContext.udtTypes.values()) {
+            index.add(MetaClassIndex.Kind.UDT, UDT_META_PACKAGE + "." + typeSpec.name);
+        }
+        index.add(MetaClassIndex.Kind.FUNCTION, FUNCTION_PACKAGE + "." + SYSTEM_FUNCTIONS_CLASS);
+        if (globalContext.supportsFeature(UDF_UDA)) {
+            index.add(MetaClassIndex.Kind.FUNCTION, FUNCTION_PACKAGE + "." + FUNCTIONS_REGISTRY_CLASS);
+        }
+
+        saveMetaClassIndex(index);
+    }
+
+    private void saveMetaClassIndex(MetaClassIndex index) throws IOException {
+        final FileObject indexFile = aptUtils.filer.createResource(StandardLocation.CLASS_OUTPUT, "", MetaClassIndex.INDEX_RESOURCE);
+        try (Writer writer = indexFile.openWriter()) {
+            writer.write(index.toIndexContent());
+        }
+    }
+
+    /**
+     * Keep the entries of the previous index which can still be resolved, so that the index no longer lists
+     * the types removed since the last full build, then add the recompiled tables and their meta classes
+     */
+    private void refreshMetaClassIndex(MetaClassIndex previousIndex, List<TypeElement> tableTypes,
+                                       List<EntityMetaSignature> tableSignatures) throws IOException {
+        previousIndex.retain(className -> aptUtils.elementUtils.getTypeElement(className) != null);
+        for (TypeElement tableType : tableTypes) {
+            previousIndex.add(MetaClassIndex.Kind.SOURCE, tableType.getQualifiedName().toString());
+        }
+        for (EntityMetaSignature signature : tableSignatures) {
+            previousIndex.add(MetaClassIndex.Kind.ENTITY, ENTITY_META_PACKAGE + "." + signature.sourceCode.name);
+        }
+
+        saveMetaClassIndex(previousIndex);
+    }
+
+    private void validateCassandraVersionAgainstUsedAnnotations(GlobalParsingContext parsingContext, List<TypeElement> functionRegistryTypes,
+                                                                List<TypeElement> viewTypes) {
         final InternalCassandraVersion version = parsingContext.cassandraVersion;
-        aptUtils.validateFalse(containsElementsAnnotatedBy(annotations, FunctionRegistry.class)
+        aptUtils.validateFalse(!functionRegistryTypes.isEmpty()
                 && !version.supportsFeature(UDF_UDA),
                 "Cassandra version %s does not support feature %s so @FunctionRegistry cannot be used",
                 version.version(), UDF_UDA.name());
 
-        aptUtils.validateFalse(containsElementsAnnotatedBy(annotations, MaterializedView.class)
+        aptUtils.validateFalse(!viewTypes.isEmpty()
                 && !version.supportsFeature(MATERIALIZED_VIEW),
                 "Cassandra version %s does not support feature %s so @MaterializedView cannot be used",
                 version.version(), MATERIALIZED_VIEW.name());
     }
 
-    private GlobalParsingContext initGlobalParsingContext(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        aptUtils.validateFalse(countElementsAnnotatedBy(annotations, CompileTimeConfig.class) > 1L,
+    private GlobalParsingContext initGlobalParsingContext(List<TypeElement> configTypes) {
+        aptUtils.validateFalse(configTypes.size() > 1,
                 "Cannot declare more than one @%s in a single compilation unit",
                 CompileTimeConfig.class.getSimpleName());
 
-        GlobalParsingContext context = getTypesAnnotatedByAsStream(annotations, roundEnv, CompileTimeConfig.class)
+        GlobalParsingContext context = configTypes
+                .stream()
                 .map(typeElement -> aptUtils.getAnnotationOnClass(typeElement, CompileTimeConfig.class).get())
                 .findFirst()
                 .map(annot -> GlobalParsingContext.fromCompileTimeConfig(annot))
@@ -218,10 +473,11 @@ public class AchillesProcessor extends AbstractProcessor {
 
     }
 
-    private FunctionsContext parseAndValidateFunctionRegistry(GlobalParsingContext context, Set<? extends TypeElement> annotations,
-                                                              RoundEnvironment roundEnv, List<EntityMetaSignature> tableAndViewSignatures) {
+    private FunctionsContext parseAndValidateFunctionRegistry(GlobalParsingContext context, List<TypeElement> functionRegistryTypes,
+                                                              List<EntityMetaSignature> tableAndViewSignatures) {
 
-        final List<FunctionSignature> udfSignatures = getTypesAnnotatedByAsStream(annotations, roundEnv, FunctionRegistry.class)
+        final List<FunctionSignature> udfSignatures = functionRegistryTypes
+                .stream()
                 .flatMap(x -> FunctionParser.parseFunctionRegistryAndValidateTypes(aptUtils, x, context).stream())
                 .collect(toList());
 
@@ -247,9 +503,7 @@ public class AchillesProcessor extends AbstractProcessor {
         return new FunctionsContext(udfSignatures, CollectionsHelper.appendAll(functionParameterTypes, functionReturnTypes, entityColumnTargetTypes, NATIVE_TYPES_2_1));
     }
 
-    private List<EntityMetaSignature> discoverAndValidateTablesAndViews(Set<? extends TypeElement> annotatedTypes, RoundEnvironment roundEnv, GlobalParsingContext parsingContext) {
-        final List<TypeElement> tableTypes = getTypesAnnotatedBy(annotatedTypes, roundEnv, Table.class);
-        final List<TypeElement> viewTypes = getTypesAnnotatedBy(annotatedTypes, roundEnv, MaterializedView.class);
+    private List<EntityMetaSignature> discoverAndValidateTablesAndViews(List<TypeElement> tableTypes, List<TypeElement> viewTypes, GlobalParsingContext parsingContext) {
         final List<TypeElement> types = CollectionsHelper.appendAll(tableTypes, viewTypes);
 
         parsingContext.beanValidator().validateEntityNames(aptUtils, types);
@@ -275,20 +529,19 @@ public class AchillesProcessor extends AbstractProcessor {
         return tableAndViewSignatures;
     }
 
-    private void parseCodecRegistry(GlobalParsingContext parsingContext, Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        if (containsElementsAnnotatedBy(annotations, CodecRegistry.class)) {
+    private void parseCodecRegistry(GlobalParsingContext parsingContext, List<TypeElement> codecRegistryTypes) {
+        if (!codecRegistryTypes.isEmpty()) {
             aptUtils.printNote("[Achilles] Parsing compile-time codec registry");
-            new CodecRegistryParser(aptUtils).parseCodecs(roundEnv, parsingContext);
+            new CodecRegistryParser(aptUtils).parseCodecs(codecRegistryTypes, parsingContext);
         }
     }
 
     @Override
     public Set<String> getSupportedAnnotationTypes() {
-        return Sets.newHashSet(Table.class.getCanonicalName(),
-                MaterializedView.class.getCanonicalName(),
-                CodecRegistry.class.getCanonicalName(),
-                FunctionRegistry.class.getCanonicalName(),
-                CompileTimeConfig.class.getCanonicalName());
+        return SUPPORTED_ANNOTATIONS
+                .stream()
+                .map(Class::getCanonicalName)
+                .collect(toSet());
     }
 
     @Override
@@ -75,9 +75,8 @@ public class CacheKey {
                 }
 
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, FIND));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateSelectQuery(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, FIND, provider, () -> generateSelectQuery(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, FIND)));
 
             }
         },
@@ -89,9 +88,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsert(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, INSERT, provider, () -> generateInsert(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, INSERT)));
             }
         },
         INSERT_JSON {
@@ -102,9 +100,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_JSON));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertJSON(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, INSERT_JSON, provider, () -> generateInsertJSON(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_JSON)));
             }
         },
         INSERT_STATIC {
@@ -115,9 +112,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertStatic(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, INSERT_STATIC, provider, () -> generateInsertStatic(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC)));
             }
         },
         INSERT_IF_NOT_EXISTS {
@@ -128,9 +124,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertIfNotExists(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, INSERT_IF_NOT_EXISTS, provider, () -> generateInsertIfNotExists(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS)));
             }
         },
         INSERT_IF_NOT_EXISTS_JSON {
@@ -141,9 +136,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS_JSON));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertIfNotExistsJson(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, INSERT_IF_NOT_EXISTS_JSON, provider, () -> generateInsertIfNotExistsJson(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_IF_NOT_EXISTS_JSON)));
             }
         },
         INSERT_STATIC_IF_NOT_EXISTS {
@@ -154,9 +148,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC_IF_NOT_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateInsertStaticIfNotExists(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, INSERT_STATIC_IF_NOT_EXISTS, provider, () -> generateInsertStaticIfNotExists(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, INSERT_STATIC_IF_NOT_EXISTS)));
             }
         },
         DELETE {
@@ -167,9 +160,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByKeys(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, DELETE, provider, () -> generateDeleteByKeys(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, DELETE)));
             }
         },
         DELETE_IF_EXISTS {
@@ -180,9 +172,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_IF_EXISTS));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByKeysIfExists(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, DELETE_IF_EXISTS, provider, () -> generateDeleteByKeysIfExists(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_IF_EXISTS)));
             }
         },
         DELETE_BY_PARTITION {
@@ -193,9 +184,8 @@ public class CacheKey {
                             meta.entityClass.getCanonicalName()));
                 }
                 final Optional<SchemaNameProvider> provider = cassandraOptions.getSchemaNameProvider();
-                final PreparedStatement psFromCache = rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_BY_PARTITION));
-                return rte.maybePrepareIfDifferentSchemaNameFromCache(meta, psFromCache, provider, () -> generateDeleteByPartition(meta, provider))
-                        .orElse(psFromCache);
+                return rte.maybePrepareForSchemaNameProvider(meta, DELETE_BY_PARTITION, provider, () -> generateDeleteByPartition(meta, provider))
+                        .orElseGet(() -> rte.getStaticCache(new CacheKey(meta.entityClass, DELETE_BY_PARTITION)));
             }
         },
         UPDATE {
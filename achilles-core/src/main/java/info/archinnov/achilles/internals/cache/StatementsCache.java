@@ -38,13 +38,21 @@ public class StatementsCache {
 
     private final Cache<String, PreparedStatement> dynamicCache;
     private final Cache<CacheKey, PreparedStatement> staticCache;
+    private final Cache<SchemaNameCacheKey, PreparedStatement> schemaNameCache;
     private final int maxLRUCacheSize;
+    private final int maxSchemaNameCacheSize;
 
 
     public StatementsCache(int maxLRUCacheSize) {
+        this(maxLRUCacheSize, maxLRUCacheSize);
+    }
+
+    public StatementsCache(int maxLRUCacheSize, int maxSchemaNameCacheSize) {
         this.maxLRUCacheSize = maxLRUCacheSize;
+        this.maxSchemaNameCacheSize = maxSchemaNameCacheSize;
         this.dynamicCache = newBuilder().maximumSize(maxLRUCacheSize).build();
         this.staticCache = newBuilder().build();
+        this.schemaNameCache = newBuilder().maximumSize(maxSchemaNameCacheSize).build();
     }
 
     public void putStaticCache(CacheKey cacheKey, Callable<PreparedStatement> psSupplier) {
@@ -66,6 +74,37 @@ public class StatementsCache {
         return preparedStatement;
     }
 
+    public long getStaticCacheSize() {
+        return staticCache.size();
+    }
+
+    /**
+     * Get the statement prepared for the keyspace and table resolved by a schema name provider,
+     * preparing it with the given supplier on cache miss. This cache is sized independently
+     * from the dynamic statements LRU cache so that a large number of tenants does not evict
+     * the dynamic statements and vice versa
+     */
+    public PreparedStatement getSchemaNameCache(SchemaNameCacheKey cacheKey, Callable<PreparedStatement> psSupplier) {
+        try {
+            return schemaNameCache.get(cacheKey, () -> {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Preparing statement for schema name cache key %s", cacheKey));
+                }
+                final PreparedStatement preparedStatement = psSupplier.call();
+                if (schemaNameCache.size() > (maxSchemaNameCacheSize * 0.8)) {
+                    LOGGER.warn("Warning, the schema name provider prepared statements cache is over 80% full");
+                }
+                return preparedStatement;
+            });
+        } catch (ExecutionException e) {
+            throw new AchillesException(e);
+        }
+    }
+
+    public long getSchemaNameCacheSize() {
+        return schemaNameCache.size();
+    }
+
     public PreparedStatement getDynamicCache(final String queryString, Session session) {
         AtomicBoolean displayStats = new AtomicBoolean(false);
         try {
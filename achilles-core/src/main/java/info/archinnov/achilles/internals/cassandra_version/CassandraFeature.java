@@ -26,5 +26,9 @@ public enum CassandraFeature {
     LITERAL_VALUES_IN_FUNCTION_CALL,
     DURATION_TYPE,
     DSE_SEARCH,
+    /**
+     * Schema statements on distinct objects can be sent concurrently (Cassandra 3.0+)
+     */
+    CONCURRENT_SCHEMA_CHANGES,
 
 }
@@ -32,7 +32,7 @@ public class DSE_5_0_0 extends V3_0 {
     protected DSE_5_0_0() {
     }
 
-    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, DSE_SEARCH);
+    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, DSE_SEARCH, CONCURRENT_SCHEMA_CHANGES);
 
     @Override
     public String version() {
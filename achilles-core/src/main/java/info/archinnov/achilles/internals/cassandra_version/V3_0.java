@@ -28,7 +28,7 @@ import info.archinnov.achilles.internals.parser.validator.BeanValidator;
 
 public class V3_0 extends V2_2 {
 
-    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW);
+    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, CONCURRENT_SCHEMA_CHANGES);
 
     public static V3_0 INSTANCE = new V3_0();
 
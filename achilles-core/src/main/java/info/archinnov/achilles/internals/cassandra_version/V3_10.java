@@ -31,7 +31,7 @@ import info.archinnov.achilles.internals.parser.validator.cassandra3_10.TypeVali
 
 public class V3_10 extends V3_9 {
 
-    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, SASI_INDEX, LITERAL_VALUES_IN_FUNCTION_CALL, DURATION_TYPE);
+    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, SASI_INDEX, LITERAL_VALUES_IN_FUNCTION_CALL, DURATION_TYPE, CONCURRENT_SCHEMA_CHANGES);
 
     public static V3_10 INSTANCE = new V3_10();
 
@@ -26,7 +26,7 @@ import info.archinnov.achilles.internals.codegen.function.FunctionsRegistryCodeG
 
 public class V3_2 extends V3_0 {
 
-    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW);
+    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, CONCURRENT_SCHEMA_CHANGES);
 
     public static V3_2 INSTANCE = new V3_2();
 
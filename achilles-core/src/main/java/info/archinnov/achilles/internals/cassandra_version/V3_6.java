@@ -28,7 +28,7 @@ import info.archinnov.achilles.internals.parser.validator.NestedTypesValidator;
 
 public class V3_6 extends V3_2 {
 
-    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW);
+    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, CONCURRENT_SCHEMA_CHANGES);
 
     public static V3_6 INSTANCE = new V3_6();
 
@@ -27,7 +27,7 @@ import info.archinnov.achilles.internals.parser.validator.FieldValidator;
 
 public class V3_7 extends V3_6 {
 
-    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, SASI_INDEX);
+    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, SASI_INDEX, CONCURRENT_SCHEMA_CHANGES);
 
     public static V3_7 INSTANCE = new V3_7();
 
@@ -26,7 +26,7 @@ import info.archinnov.achilles.internals.codegen.function.FunctionParameterTypes
 
 public class V3_8 extends V3_7 {
 
-    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, SASI_INDEX, LITERAL_VALUES_IN_FUNCTION_CALL);
+    private final Set<CassandraFeature> SUPPORTED_FEATURES = ImmutableSet.of(UDT, UDF_UDA, JSON, MATERIALIZED_VIEW, SASI_INDEX, LITERAL_VALUES_IN_FUNCTION_CALL, CONCURRENT_SCHEMA_CHANGES);
 
     public static V3_8 INSTANCE = new V3_8();
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.datastax.driver.core.CodecUtils;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+
+/**
+ * Base class of the driver codecs for the primitive collections of
+ * <em>info.archinnov.achilles.type.primitives</em>. Elements are read from and written to
+ * the native protocol representation of <strong>set</strong> and <strong>map</strong> directly,
+ * without going through boxed collections
+ */
+public abstract class AbstractPrimitiveCollectionCodec<T> extends TypeCodec<T> {
+
+    private final int[] componentWidths;
+
+    /**
+     * @param componentWidths serialized width of the element for a set, of the key and of the value for a map
+     */
+    protected AbstractPrimitiveCollectionCodec(DataType cqlType, Class<T> javaClass, int... componentWidths) {
+        super(cqlType, javaClass);
+        this.componentWidths = componentWidths;
+    }
+
+    @Override
+    public T deserialize(ByteBuffer bytes, ProtocolVersion protocolVersion) throws InvalidTypeException {
+        if (bytes == null || bytes.remaining() == 0) {
+            return newEmpty(0);
+        }
+        final ByteBuffer input = bytes.duplicate();
+        try {
+            final int size = CodecUtils.readSize(input, protocolVersion);
+            // Check the element count before allocating the collection for it
+            if (size < 0 || size > input.remaining() / elementSize(protocolVersion)) {
+                throw new InvalidTypeException(String.format("Invalid element count %s for %s, only %s bytes remaining",
+                        size, cqlType, input.remaining()));
+            }
+            final T collection = newEmpty(size);
+            for (int i = 0; i < size; i++) {
+                readElement(input, collection, protocolVersion);
+            }
+            return collection;
+        } catch (BufferUnderflowException e) {
+            throw new InvalidTypeException(String.format("Not enough bytes to deserialize %s", cqlType), e);
+        }
+    }
+
+    @Override
+    public T parse(String value) throws InvalidTypeException {
+        if (value == null || value.isEmpty() || value.equalsIgnoreCase("NULL")) {
+            return null;
+        }
+        final String trimmed = value.trim();
+        if (trimmed.length() < 2 || trimmed.charAt(0) != '{' || trimmed.charAt(trimmed.length() - 1) != '}') {
+            throw new InvalidTypeException(String.format("Cannot parse %s value from \"%s\", it should be enclosed in curly braces", cqlType, value));
+        }
+        final String content = trimmed.substring(1, trimmed.length() - 1).trim();
+        final List<String> elements = new ArrayList<>();
+        if (!content.isEmpty()) {
+            for (String element : content.split(",")) {
+                elements.add(element.trim());
+            }
+        }
+        final T collection = newEmpty(elements.size());
+        try {
+            for (String element : elements) {
+                parseElement(element, collection);
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidTypeException(String.format("Cannot parse %s value from \"%s\"", cqlType, value), e);
+        }
+        return collection;
+    }
+
+    protected abstract T newEmpty(int expectedSize);
+
+    protected abstract void readElement(ByteBuffer input, T collection, ProtocolVersion protocolVersion);
+
+    protected abstract void parseElement(String element, T collection);
+
+    protected static int sizeOfSize(ProtocolVersion protocolVersion) {
+        return protocolVersion.compareTo(ProtocolVersion.V3) >= 0 ? 4 : 2;
+    }
+
+    protected int serializedSize(int size, ProtocolVersion protocolVersion) {
+        return sizeOfSize(protocolVersion) + size * elementSize(protocolVersion);
+    }
+
+    /**
+     * Serialized size of one set element or map entry, including the size prefix of each component
+     */
+    private int elementSize(ProtocolVersion protocolVersion) {
+        int elementSize = 0;
+        for (int componentWidth : componentWidths) {
+            elementSize += sizeOfSize(protocolVersion) + componentWidth;
+        }
+        return elementSize;
+    }
+
+    protected void checkElementSize(ByteBuffer input, int expectedWidth, ProtocolVersion protocolVersion) {
+        final int elementSize = CodecUtils.readSize(input, protocolVersion);
+        if (elementSize != expectedWidth) {
+            throw new InvalidTypeException(String.format("Invalid element size for %s, expecting %s bytes but got %s",
+                    cqlType, expectedWidth, elementSize));
+        }
+    }
+
+    protected static String[] splitEntry(String entry) {
+        final String[] keyValue = entry.split(":");
+        if (keyValue.length != 2) {
+            throw new NumberFormatException(String.format("Invalid map entry \"%s\"", entry));
+        }
+        return new String[]{keyValue[0].trim(), keyValue[1].trim()};
+    }
+}
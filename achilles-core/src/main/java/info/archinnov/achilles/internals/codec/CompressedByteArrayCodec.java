@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+import info.archinnov.achilles.type.codec.Codec;
+
+/**
+ * Store a <strong>byte[]</strong> value as a <strong>blob</strong>, deflated when its size
+ * reaches the configured threshold. See {@link CompressionHelper} for the storage format
+ */
+public class CompressedByteArrayCodec implements Codec<byte[], ByteBuffer> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompressedByteArrayCodec.class);
+
+    private final int threshold;
+
+    public CompressedByteArrayCodec(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Class<byte[]> sourceType() {
+        return byte[].class;
+    }
+
+    @Override
+    public Class<ByteBuffer> targetType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public ByteBuffer encode(byte[] fromJava) throws AchillesTranscodingException {
+        if (fromJava == null) return null;
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Encoding byte[] of %s bytes with threshold %s", fromJava.length, threshold));
+        }
+        return CompressionHelper.compress(fromJava, 0, fromJava.length, threshold);
+    }
+
+    @Override
+    public byte[] decode(ByteBuffer fromCassandra) throws AchillesTranscodingException {
+        if (fromCassandra == null) return null;
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Decoding compressed byte[] of %s bytes", fromCassandra.remaining()));
+        }
+        return CompressionHelper.decompress(fromCassandra);
+    }
+}
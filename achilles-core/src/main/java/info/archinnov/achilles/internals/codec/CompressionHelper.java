@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+/**
+ * Compression primitives shared by the <strong>@Compressed</strong> codecs.
+ * <br/>
+ * <br/>
+ * Every encoded value starts with a 1-byte header:
+ * <ul>
+ *     <li><strong>0x00</strong>: the remaining bytes are the raw value</li>
+ *     <li><strong>0x01</strong>: a 4-byte uncompressed length follows, then a raw deflate stream</li>
+ * </ul>
+ * The {@link Deflater}, {@link Inflater} and scratch buffer are cached per thread
+ * because they are expensive to allocate and not thread-safe. Scratch buffers larger
+ * than {@link #MAX_RETAINED_SCRATCH_SIZE} are allocated for the call only and not retained
+ */
+final class CompressionHelper {
+
+    static final byte RAW = 0x00;
+    static final byte DEFLATE = 0x01;
+    static final int DEFLATE_HEADER_SIZE = 5;
+
+    /**
+     * Deflate cannot compress better than about 1032:1, a stored length above
+     * this ratio of the compressed payload is necessarily corrupt
+     */
+    static final int MAX_DEFLATE_RATIO = 1032;
+    static final int MAX_RETAINED_SCRATCH_SIZE = 256 * 1024;
+
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[1024]);
+
+    private CompressionHelper() {
+    }
+
+    static ByteBuffer compress(byte[] input, int offset, int length, int threshold) {
+        if (length < threshold) {
+            return raw(input, offset, length);
+        }
+
+        // Compressed output is only worth keeping if it is smaller than the raw value
+        final int maxOutput = DEFLATE_HEADER_SIZE + length;
+        final byte[] buffer = scratch(maxOutput);
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(input, offset, length);
+        deflater.finish();
+
+        int written = DEFLATE_HEADER_SIZE;
+        while (!deflater.finished()) {
+            if (written >= maxOutput) {
+                return raw(input, offset, length);
+            }
+            written += deflater.deflate(buffer, written, maxOutput - written);
+        }
+
+        if (written >= length + 1) {
+            return raw(input, offset, length);
+        }
+
+        final ByteBuffer output = ByteBuffer.wrap(Arrays.copyOf(buffer, written));
+        output.put(0, DEFLATE);
+        output.putInt(1, length);
+        return output;
+    }
+
+    static byte[] decompress(ByteBuffer fromCassandra) {
+        final ByteBuffer input = fromCassandra.duplicate();
+        if (!input.hasRemaining()) {
+            throw new AchillesTranscodingException("Cannot decode compressed value from an empty buffer");
+        }
+        final byte format = input.get();
+        if (format == RAW) {
+            final byte[] bytes = new byte[input.remaining()];
+            input.get(bytes);
+            return bytes;
+        } else if (format == DEFLATE) {
+            if (input.remaining() < DEFLATE_HEADER_SIZE - 1) {
+                throw new AchillesTranscodingException("Cannot decode compressed value, the uncompressed length is missing");
+            }
+            final int length = input.getInt();
+            if (length < 0 || length > (long) input.remaining() * MAX_DEFLATE_RATIO) {
+                throw new AchillesTranscodingException(String.format(
+                        "Invalid uncompressed length %s for a compressed value of %s bytes", length, input.remaining()));
+            }
+            final Inflater inflater = INFLATER.get();
+            inflater.reset();
+            if (input.hasArray()) {
+                inflater.setInput(input.array(), input.arrayOffset() + input.position(), input.remaining());
+            } else {
+                final int remaining = input.remaining();
+                final byte[] buffer = scratch(remaining);
+                input.get(buffer, 0, remaining);
+                inflater.setInput(buffer, 0, remaining);
+            }
+
+            final byte[] output = new byte[length];
+            try {
+                int read = 0;
+                while (read < length) {
+                    final int inflated = inflater.inflate(output, read, length - read);
+                    if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new AchillesTranscodingException(String.format(
+                                "Truncated compressed value, expected %s bytes but only got %s", length, read));
+                    }
+                    read += inflated;
+                }
+            } catch (DataFormatException e) {
+                throw new AchillesTranscodingException("Cannot inflate compressed value", e);
+            }
+            return output;
+        } else {
+            throw new AchillesTranscodingException(String.format("Unknown compression format header '%s'", format));
+        }
+    }
+
+    private static ByteBuffer raw(byte[] input, int offset, int length) {
+        final byte[] output = new byte[length + 1];
+        output[0] = RAW;
+        System.arraycopy(input, offset, output, 1, length);
+        return ByteBuffer.wrap(output);
+    }
+
+    private static byte[] scratch(int minSize) {
+        if (minSize > MAX_RETAINED_SCRATCH_SIZE) {
+            return new byte[minSize];
+        }
+        byte[] buffer = SCRATCH.get();
+        if (buffer.length < minSize) {
+            buffer = new byte[Math.min(MAX_RETAINED_SCRATCH_SIZE, Math.max(minSize, buffer.length * 2))];
+            SCRATCH.set(buffer);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.codec;
+
+import java.util.List;
+
+final class EnumCodecHelper {
+
+    private EnumCodecHelper() {
+    }
+
+    static <ENUM> int maxOrdinal(List<ENUM> enumValues) {
+        int maxOrdinal = -1;
+        for (ENUM enumValue : enumValues) {
+            maxOrdinal = Math.max(maxOrdinal, ((Enum<?>) enumValue).ordinal());
+        }
+        return maxOrdinal;
+    }
+}
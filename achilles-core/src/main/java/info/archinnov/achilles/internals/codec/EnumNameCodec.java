@@ -18,7 +18,9 @@ package info.archinnov.achilles.internals.codec;
 
 import static java.lang.String.format;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,16 +28,36 @@ import org.slf4j.LoggerFactory;
 import info.archinnov.achilles.exception.AchillesTranscodingException;
 import info.archinnov.achilles.type.codec.Codec;
 
+/**
+ * Encode an enum as its <strong>name()</strong>.
+ * <br/>
+ * The name of each enum constant is computed once when the codec is created
+ * and stored in an array indexed by ordinal, decoding uses a <strong>HashMap</strong>
+ * keyed by name so that neither operation scans the enum constants
+ */
 public class EnumNameCodec<ENUM> implements Codec<ENUM, String> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EnumNameCodec.class);
 
     private final List<ENUM> enumValues;
     private final Class<ENUM> sourceType;
+    private final Object[] valuesByOrdinal;
+    private final String[] namesByOrdinal;
+    private final Map<String, ENUM> valuesByName;
 
     public EnumNameCodec(List<ENUM> enumValues, Class<ENUM> sourceType) {
         this.enumValues = enumValues;
         this.sourceType = sourceType;
+        final int length = EnumCodecHelper.maxOrdinal(enumValues) + 1;
+        this.valuesByOrdinal = new Object[length];
+        this.namesByOrdinal = new String[length];
+        this.valuesByName = new HashMap<>(enumValues.size() * 2);
+        for (ENUM enumValue : enumValues) {
+            final Enum<?> constant = (Enum<?>) enumValue;
+            valuesByOrdinal[constant.ordinal()] = enumValue;
+            namesByOrdinal[constant.ordinal()] = constant.name();
+            valuesByName.put(constant.name(), enumValue);
+        }
     }
 
     public static <TYPE> EnumNameCodec<TYPE> create(List<TYPE> enumTypes, Class<TYPE> sourceType) {
@@ -58,13 +80,14 @@ public class EnumNameCodec<ENUM> implements Codec<ENUM, String> {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Encoding enum %s to String", fromJava));
         }
-        if (!fromJava.getClass().isEnum()) {
+        if (!(fromJava instanceof Enum)) {
             throw new AchillesTranscodingException(format("Object '%s' to be encoded should be an enum", fromJava));
         }
-        if (!enumValues.contains(fromJava)) {
+        final int ordinal = ((Enum<?>) fromJava).ordinal();
+        if (ordinal >= valuesByOrdinal.length || valuesByOrdinal[ordinal] != fromJava) {
             throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromJava, enumValues));
         }
-        return ((Enum<?>) fromJava).name();
+        return namesByOrdinal[ordinal];
     }
 
     @Override
@@ -73,10 +96,11 @@ public class EnumNameCodec<ENUM> implements Codec<ENUM, String> {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Decoding enum type %s from String %s", sourceType.getCanonicalName(), fromCassandra));
         }
-        for (ENUM enumValue : enumValues) {
-            if (((Enum<?>) enumValue).name().equals(fromCassandra)) return enumValue;
+        final ENUM enumValue = valuesByName.get(fromCassandra);
+        if (enumValue == null) {
+            throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromCassandra, enumValues));
         }
-        throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromCassandra, enumValues));
+        return enumValue;
     }
 
 
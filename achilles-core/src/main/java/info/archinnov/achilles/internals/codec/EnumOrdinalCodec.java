@@ -26,16 +26,32 @@ import org.slf4j.LoggerFactory;
 import info.archinnov.achilles.exception.AchillesTranscodingException;
 import info.archinnov.achilles.type.codec.Codec;
 
+/**
+ * Encode an enum as its position in the list of enum constants, which is
+ * the <strong>ordinal()</strong> for the list returned by <strong>values()</strong>.
+ * <br/>
+ * Both directions are resolved with arrays computed once when the codec is created
+ */
 public class EnumOrdinalCodec<ENUM> implements Codec<ENUM, Integer> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EnumOrdinalCodec.class);
 
     private final List<ENUM> enumValues;
     private final Class<ENUM> sourceType;
+    private final Object[] valuesByIndex;
+    private final Integer[] indicesByOrdinal;
 
     public EnumOrdinalCodec(List<ENUM> enumValues, Class<ENUM> sourceType) {
         this.enumValues = enumValues;
         this.sourceType = sourceType;
+        this.valuesByIndex = enumValues.toArray();
+        this.indicesByOrdinal = new Integer[EnumCodecHelper.maxOrdinal(enumValues) + 1];
+        for (int i = 0; i < valuesByIndex.length; i++) {
+            final int ordinal = ((Enum<?>) valuesByIndex[i]).ordinal();
+            if (indicesByOrdinal[ordinal] == null) {
+                indicesByOrdinal[ordinal] = i;
+            }
+        }
     }
 
     public static <TYPE> EnumOrdinalCodec<TYPE> create(List<TYPE> enumValues, Class<TYPE> sourceType) {
@@ -58,15 +74,15 @@ public class EnumOrdinalCodec<ENUM> implements Codec<ENUM, Integer> {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Encoding enum %s to int", fromJava));
         }
-        if (!fromJava.getClass().isEnum()) {
+        if (!(fromJava instanceof Enum)) {
             throw new AchillesTranscodingException(format("Object '%s' to be encoded should be an enum", fromJava));
         }
-        for (int i = 0; i < enumValues.size(); i++) {
-            if (enumValues.get(i) == fromJava) {
-                return i;
-            }
+        final int ordinal = ((Enum<?>) fromJava).ordinal();
+        final Integer index = ordinal < indicesByOrdinal.length ? indicesByOrdinal[ordinal] : null;
+        if (index == null || valuesByIndex[index] != fromJava) {
+            throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromJava, enumValues));
         }
-        throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromJava, enumValues));
+        return index;
     }
 
     @Override
@@ -75,9 +91,9 @@ public class EnumOrdinalCodec<ENUM> implements Codec<ENUM, Integer> {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Decoding enum type %s from int %s", sourceType.getCanonicalName(), fromCassandra));
         }
-        if (fromCassandra > enumValues.size() - 1 || fromCassandra < 0) {
+        if (fromCassandra > valuesByIndex.length - 1 || fromCassandra < 0) {
             throw new AchillesTranscodingException(format("Cannot find matching enum values for '%s' from possible enum constants '%s' ", fromCassandra, enumValues));
         }
-        return enumValues.get(fromCassandra);
+        return (ENUM) valuesByIndex[fromCassandra];
     }
 }
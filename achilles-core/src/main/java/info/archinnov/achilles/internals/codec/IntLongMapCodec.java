@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.CodecUtils;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+import info.archinnov.achilles.type.primitives.IntLongMap;
+
+public class IntLongMapCodec extends AbstractPrimitiveCollectionCodec<IntLongMap> {
+
+    public static final IntLongMapCodec instance = new IntLongMapCodec();
+
+    private static final int KEY_WIDTH = 4;
+    private static final int VALUE_WIDTH = 8;
+
+    private IntLongMapCodec() {
+        super(DataType.map(DataType.cint(), DataType.bigint()), IntLongMap.class, KEY_WIDTH, VALUE_WIDTH);
+    }
+
+    @Override
+    public ByteBuffer serialize(IntLongMap value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = ByteBuffer.allocate(serializedSize(value.size(), protocolVersion));
+        CodecUtils.writeSize(output, value.size(), protocolVersion);
+        value.forEach((key, val) -> {
+            CodecUtils.writeSize(output, KEY_WIDTH, protocolVersion);
+            output.putInt(key);
+            CodecUtils.writeSize(output, VALUE_WIDTH, protocolVersion);
+            output.putLong(val);
+        });
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public String format(IntLongMap value) {
+        if (value == null) return "NULL";
+        final StringBuilder sb = new StringBuilder("{");
+        value.forEach((key, val) -> {
+            if (sb.length() > 1) sb.append(',');
+            sb.append(key).append(':').append(val);
+        });
+        return sb.append('}').toString();
+    }
+
+    @Override
+    protected IntLongMap newEmpty(int expectedSize) {
+        return new IntLongMap(expectedSize);
+    }
+
+    @Override
+    protected void readElement(ByteBuffer input, IntLongMap collection, ProtocolVersion protocolVersion) {
+        checkElementSize(input, KEY_WIDTH, protocolVersion);
+        final int key = input.getInt();
+        checkElementSize(input, VALUE_WIDTH, protocolVersion);
+        collection.put(key, input.getLong());
+    }
+
+    @Override
+    protected void parseElement(String element, IntLongMap collection) {
+        final String[] keyValue = splitEntry(element);
+        collection.put(Integer.parseInt(keyValue[0]), Long.parseLong(keyValue[1]));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.CodecUtils;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+import info.archinnov.achilles.type.primitives.IntSet;
+
+public class IntSetCodec extends AbstractPrimitiveCollectionCodec<IntSet> {
+
+    public static final IntSetCodec instance = new IntSetCodec();
+
+    private static final int ELEMENT_WIDTH = 4;
+
+    private IntSetCodec() {
+        super(DataType.set(DataType.cint()), IntSet.class, ELEMENT_WIDTH);
+    }
+
+    @Override
+    public ByteBuffer serialize(IntSet value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = ByteBuffer.allocate(serializedSize(value.size(), protocolVersion));
+        CodecUtils.writeSize(output, value.size(), protocolVersion);
+        value.forEach(element -> {
+            CodecUtils.writeSize(output, ELEMENT_WIDTH, protocolVersion);
+            output.putInt(element);
+        });
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public String format(IntSet value) {
+        return value == null ? "NULL" : value.toString();
+    }
+
+    @Override
+    protected IntSet newEmpty(int expectedSize) {
+        return new IntSet(expectedSize);
+    }
+
+    @Override
+    protected void readElement(ByteBuffer input, IntSet collection, ProtocolVersion protocolVersion) {
+        checkElementSize(input, ELEMENT_WIDTH, protocolVersion);
+        collection.add(input.getInt());
+    }
+
+    @Override
+    protected void parseElement(String element, IntSet collection) {
+        collection.add(Integer.parseInt(element));
+    }
+}
@@ -24,11 +24,20 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
 import info.archinnov.achilles.exception.AchillesTranscodingException;
 import info.archinnov.achilles.type.codec.Codec;
 
+/**
+ * Encode an object as a JSON <strong>text</strong>.
+ * <br/>
+ * The {@link ObjectReader} for the exact Java type and the {@link ObjectWriter}
+ * are built once when the Jackson mapper is injected so that each encoding/decoding
+ * does not go through the mapper type resolution
+ */
 public class JSONCodec<TYPE> implements Codec<TYPE, String> {
 
     public static final TypeFactory TYPE_FACTORY_INSTANCE = TypeFactory.defaultInstance();
@@ -36,7 +45,8 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
     private final Class<?> sourceType;
     private final JavaType exactType;
 
-    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private ObjectWriter writer;
 
     public JSONCodec(Class<?> sourceType, JavaType exactType) {
         this.sourceType = sourceType;
@@ -44,7 +54,8 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
     }
 
     public void setObjectMapper(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+        this.reader = objectMapper.reader(exactType);
+        this.writer = objectMapper.writer();
     }
 
     @Override
@@ -64,7 +75,7 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
             LOGGER.trace(String.format("Encoding object %s to JSON", fromJava));
         }
         try {
-            return objectMapper.writeValueAsString(fromJava);
+            return writer.writeValueAsString(fromJava);
         } catch (JsonProcessingException e) {
             throw new AchillesTranscodingException(e);
         }
@@ -77,7 +88,7 @@ public class JSONCodec<TYPE> implements Codec<TYPE, String> {
             LOGGER.trace(String.format("Decoding object type %s from JSON %s", exactType, fromCassandra));
         }
         try {
-            return objectMapper.readValue(fromCassandra, exactType);
+            return reader.readValue(fromCassandra);
         } catch (IOException e) {
             throw new AchillesTranscodingException(e);
         }
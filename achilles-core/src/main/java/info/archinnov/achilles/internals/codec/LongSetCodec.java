@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.CodecUtils;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+import info.archinnov.achilles.type.primitives.LongSet;
+
+public class LongSetCodec extends AbstractPrimitiveCollectionCodec<LongSet> {
+
+    public static final LongSetCodec instance = new LongSetCodec();
+
+    private static final int ELEMENT_WIDTH = 8;
+
+    private LongSetCodec() {
+        super(DataType.set(DataType.bigint()), LongSet.class, ELEMENT_WIDTH);
+    }
+
+    @Override
+    public ByteBuffer serialize(LongSet value, ProtocolVersion protocolVersion) {
+        if (value == null) return null;
+        final ByteBuffer output = ByteBuffer.allocate(serializedSize(value.size(), protocolVersion));
+        CodecUtils.writeSize(output, value.size(), protocolVersion);
+        value.forEach(element -> {
+            CodecUtils.writeSize(output, ELEMENT_WIDTH, protocolVersion);
+            output.putLong(element);
+        });
+        output.flip();
+        return output;
+    }
+
+    @Override
+    public String format(LongSet value) {
+        return value == null ? "NULL" : value.toString();
+    }
+
+    @Override
+    protected LongSet newEmpty(int expectedSize) {
+        return new LongSet(expectedSize);
+    }
+
+    @Override
+    protected void readElement(ByteBuffer input, LongSet collection, ProtocolVersion protocolVersion) {
+        checkElementSize(input, ELEMENT_WIDTH, protocolVersion);
+        collection.add(input.getLong());
+    }
+
+    @Override
+    protected void parseElement(String element, LongSet collection) {
+        collection.add(Long.parseLong(element));
+    }
+}
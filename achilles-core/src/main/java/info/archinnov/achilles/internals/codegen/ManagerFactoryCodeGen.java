@@ -34,10 +34,12 @@ import info.archinnov.achilles.internals.parser.context.FunctionSignature;
 import info.archinnov.achilles.internals.parser.context.FunctionSignature.FunctionParamSignature;
 import info.archinnov.achilles.internals.parser.context.FunctionsContext;
 import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
+import info.archinnov.achilles.internals.parser.context.ProjectionSignature;
 
 public class ManagerFactoryCodeGen {
 
-    public static ManagersAndDSLClasses buildInstance(AptUtils aptUtils, List<EntityMetaSignature> signatures, FunctionsContext functionsContext,
+    public static ManagersAndDSLClasses buildInstance(AptUtils aptUtils, List<EntityMetaSignature> signatures,
+                                                      List<ProjectionSignature> projectionSignatures, FunctionsContext functionsContext,
                                                       GlobalParsingContext parsingContext) {
         List<TypeSpec> managerClasses = new ArrayList<>();
         List<TypeSpec> dslClasses = new ArrayList<>();
@@ -75,6 +77,10 @@ public class ManagerFactoryCodeGen {
 
         builder.addMethod(getUDTClassProperties(parsingContext, listOfUdtClassProperties));
 
+        if (!projectionSignatures.isEmpty()) {
+            builder.addMethod(getProjectionMappers(projectionSignatures));
+        }
+
         return new ManagersAndDSLClasses(builder.build(), managerClasses, dslClasses);
     }
 
@@ -137,6 +143,23 @@ public class ManagerFactoryCodeGen {
         return getUdtClassPropertiesBuilder.build();
     }
 
+    private static MethodSpec getProjectionMappers(List<ProjectionSignature> projectionSignatures) {
+        final TypeName listOfProjectionMappers = genericType(LIST, genericType(ABSTRACT_PROJECTION_MAPPER, WILDCARD, WILDCARD));
+        final MethodSpec.Builder getProjectionMappersBuilder = MethodSpec
+                .methodBuilder("getProjectionMappers")
+                .addModifiers(Modifier.PROTECTED, Modifier.FINAL)
+                .addAnnotation(Override.class)
+                .returns(listOfProjectionMappers)
+                .addStatement("final $T list = new $T<>()", listOfProjectionMappers, TypeUtils.ARRAY_LIST);
+
+        for (ProjectionSignature signature : projectionSignatures) {
+            getProjectionMappersBuilder.addStatement("list.add($T.INSTANCE)", signature.generatedType.nestedClass("Mapper"));
+        }
+
+        getProjectionMappersBuilder.addStatement("return list");
+        return getProjectionMappersBuilder.build();
+    }
+
     private static MethodSpec buildConstructor(List<EntityMetaSignature> signatures, FunctionsContext functionsContext) {
         final StringJoiner entityProperties = new StringJoiner(", ");
         final StringJoiner functionProperties = new StringJoiner(", ");
@@ -48,6 +48,10 @@ public abstract class CrudAPICodeGen {
                 .addMethod(buildWithSchemaNameProvider(signature))
                 .addMethod(buildFind(signature));
 
+        if (signature.hasLazyColumns()) {
+            crudClass.addMethod(buildLoadGroup(signature));
+        }
+
         // API for table
         if (signature.isTable()) {
             crudClass.addMethod(buildDeleteInstance(signature))
@@ -133,6 +137,20 @@ public abstract class CrudAPICodeGen {
         return builder.build();
     }
 
+    private static MethodSpec buildLoadGroup(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("loadGroup")
+                .addJavadoc("Load the columns of a @Lazy group into an existing entity instance\n\n")
+                .addJavadoc("@param instance an instance of $T whose primary key is set\n", signature.entityRawClass)
+                .addJavadoc("@param group name of the lazy group to load\n")
+                .addJavadoc("@return $T<$T>", LOAD_GROUP_WITH_OPTIONS, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addParameter(signature.entityRawClass, "instance", Modifier.FINAL)
+                .addParameter(STRING, "group", Modifier.FINAL)
+                .addStatement("return loadGroupInternal(instance, group, cassandraOptions)")
+                .returns(genericType(LOAD_GROUP_WITH_OPTIONS, signature.entityRawClass))
+                .build();
+    }
+
     private static MethodSpec buildInsert(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insert")
                 .addJavadoc("Insert this entity\n\n")
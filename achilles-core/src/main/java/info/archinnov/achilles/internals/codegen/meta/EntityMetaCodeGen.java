@@ -23,14 +23,10 @@ import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.*;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 import static info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy.inferNamingStrategy;
 import static info.archinnov.achilles.internals.utils.NamingHelper.upperCaseFirst;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.*;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.Optional;
-import java.util.StringJoiner;
+import java.util.*;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 
@@ -103,6 +99,7 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
         }
 
         beanValidator.validateComputed(aptUtils, rawClassTypeName, fieldMetaSignatures);
+        beanValidator.validateLazyColumns(aptUtils, rawClassTypeName, fieldMetaSignatures, customConstructorFieldMetaSignatures);
         beanValidator.validateCqlColumnNotReservedWords(aptUtils, rawClassTypeName, fieldMetaSignatures);
 
         fieldValidator.validateCorrectKeysOrder(aptUtils, rawClassTypeName, fieldMetaSignatures
@@ -175,6 +172,10 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
 
         builder.addMethod(buildNewInstanceFromCustomConstructor(customConstructorFieldMetaSignatures, rawClassTypeName));
 
+        if (fieldMetaSignatures.stream().anyMatch(x -> x.context.lazyGroup.isPresent())) {
+            builder.addMethod(buildLazyColumnGroups(fieldMetaSignatures, rawBeanType));
+        }
+
         for(FieldMetaSignature x: fieldMetaSignatures) {
             builder.addField(x.buildPropertyAsField());
         }
@@ -410,6 +411,26 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
                 .build();
     }
 
+    private MethodSpec buildLazyColumnGroups(List<FieldMetaSignature> parsingResults, TypeName rawClassType) {
+        final Map<String, List<Tuple2<String, String>>> groups = parsingResults
+                .stream()
+                .filter(x -> x.context.lazyGroup.isPresent())
+                .collect(groupingBy(x -> x.context.lazyGroup.get(), TreeMap::new,
+                        mapping(x -> Tuple2.of(x.context.cqlColumn, x.context.fieldName), toList())));
+
+        final ParameterizedTypeName returnType = genericType(MAP, STRING, propertyListType(rawClassType));
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("getLazyColumnGroups")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .returns(returnType)
+                .addStatement("final $T groups = new $T<>()", returnType, HASH_MAP);
+
+        groups.forEach((group, columns) -> builder.addStatement("groups.put($S, $T.asList($L))", group, ARRAYS,
+                columns.stream().sorted(BY_CQL_NAME_COLUMN_SORTER).map(Tuple2::_2).collect(joining(","))));
+
+        return builder.addStatement("return groups").build();
+    }
+
     private MethodSpec buildIsCounterTable(boolean isCounter) {
         return MethodSpec.methodBuilder("isCounterTable")
                 .addAnnotation(Override.class)
@@ -562,6 +583,10 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
             return fieldMetaSignatures.stream().filter(x -> x.context.columnType == STATIC || x.context.columnType == STATIC_COUNTER).count() > 0;
         }
 
+        public boolean hasLazyColumns() {
+            return fieldMetaSignatures.stream().anyMatch(x -> x.context.lazyGroup.isPresent());
+        }
+
         public boolean hasIndex() {
             return fieldMetaSignatures.stream().filter(x -> x.context.indexInfo.type != IndexType.NONE).count() >= 1;
         }
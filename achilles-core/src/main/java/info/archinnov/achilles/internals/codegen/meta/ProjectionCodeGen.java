@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codegen.meta;
+
+import static info.archinnov.achilles.internals.parser.TypeUtils.*;
+
+import java.util.List;
+import java.util.StringJoiner;
+import javax.lang.model.element.Modifier;
+
+import com.squareup.javapoet.*;
+
+import info.archinnov.achilles.internals.parser.context.ProjectionSignature;
+import info.archinnov.achilles.internals.parser.context.ProjectionSignature.ProjectionPropertySignature;
+
+public class ProjectionCodeGen {
+
+    public static TypeSpec buildProjectionClass(ProjectionSignature signature) {
+        final TypeSpec.Builder builder = TypeSpec.classBuilder(signature.className)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(signature.projectionType)
+                .addMethod(buildConstructor(signature.properties));
+
+        for (ProjectionPropertySignature property : signature.properties) {
+            builder.addField(FieldSpec.builder(property.returnType, property.fieldName(), Modifier.PRIVATE, Modifier.FINAL).build())
+                    .addMethod(buildAccessor(property));
+        }
+
+        return builder
+                .addMethod(buildToString(signature))
+                .addType(buildMapper(signature))
+                .build();
+    }
+
+    private static MethodSpec buildConstructor(List<ProjectionPropertySignature> properties) {
+        final MethodSpec.Builder builder = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC);
+        for (ProjectionPropertySignature property : properties) {
+            builder.addParameter(property.returnType, property.fieldName())
+                    .addStatement("this.$L = $L", property.fieldName(), property.fieldName());
+        }
+        return builder.build();
+    }
+
+    private static MethodSpec buildAccessor(ProjectionPropertySignature property) {
+        return MethodSpec.methodBuilder(property.methodName)
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(property.returnType)
+                .addStatement("return this.$L", property.fieldName())
+                .build();
+    }
+
+    private static MethodSpec buildToString(ProjectionSignature signature) {
+        final CodeBlock.Builder body = CodeBlock.builder();
+        for (int i = 0; i < signature.properties.size(); i++) {
+            final String fieldName = signature.properties.get(i).fieldName();
+            if (i == 0) {
+                body.add("return $S + $L", signature.className + "{" + fieldName + "=", fieldName);
+            } else {
+                body.add(" + $S + $L", ", " + fieldName + "=", fieldName);
+            }
+        }
+        body.add(" + $S", "}");
+        return MethodSpec.methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(STRING)
+                .addStatement("$L", body.build())
+                .build();
+    }
+
+    private static TypeSpec buildMapper(ProjectionSignature signature) {
+        final TypeName entityType = signature.entitySignature.entityRawClass;
+        final TypeName metaType = signature.entitySignature.typeName;
+        final ClassName mapperType = signature.generatedType.nestedClass("Mapper");
+
+        final StringJoiner properties = new StringJoiner(", ");
+        final CodeBlock.Builder constructorArgs = CodeBlock.builder();
+        for (int i = 0; i < signature.properties.size(); i++) {
+            final String fieldName = signature.properties.get(i).fieldName();
+            properties.add("$T." + fieldName);
+            constructorArgs.add(i == 0 ? "" : ", ").add("$T.$L.decodeFromGettable(row, indices[$L])", metaType, fieldName, i);
+        }
+
+        return TypeSpec.classBuilder("Mapper")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .superclass(genericType(ABSTRACT_PROJECTION_MAPPER, entityType, signature.projectionType))
+                .addField(FieldSpec.builder(mapperType, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("new $T()", mapperType)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getEntityClass")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(genericType(CLASS, entityType))
+                        .addStatement("return $T.class", entityType)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getProjectionClass")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(genericType(CLASS, signature.projectionType))
+                        .addStatement("return $T.class", signature.projectionType)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("getProperties")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PROTECTED)
+                        .returns(genericType(LIST, genericType(ABSTRACT_PROPERTY, entityType, WILDCARD, WILDCARD)))
+                        .addStatement("return $T.asList(" + properties.toString() + ")",
+                                buildTypeArgs(ARRAYS, metaType, signature.properties.size()))
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("mapRow")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PROTECTED)
+                        .addParameter(ROW, "row")
+                        .addParameter(INT_ARRAY, "indices")
+                        .returns(signature.projectionType)
+                        .addStatement("return new $T($L)", signature.generatedType, constructorArgs.build())
+                        .build())
+                .build();
+    }
+
+    private static Object[] buildTypeArgs(TypeName first, TypeName repeated, int count) {
+        final Object[] args = new Object[count + 1];
+        args[0] = first;
+        for (int i = 1; i <= count; i++) {
+            args[i] = repeated;
+        }
+        return args;
+    }
+}
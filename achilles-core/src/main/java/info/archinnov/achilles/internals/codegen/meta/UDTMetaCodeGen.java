@@ -210,8 +210,9 @@ public class UDTMetaCodeGen implements CommonBeanMetaCodeGen {
                 .addStatement("final $T dynamicUserType = this.getUserType($N, $N)", JAVA_DRIVER_USER_TYPE, "frozen", "cassandraOptions")
                 .addStatement("final $T udtValue = dynamicUserType.newValue()", JAVA_DRIVER_UDT_VALUE_TYPE);
 
-        for (FieldMetaSignature x : parsingResults) {
-            builder.addStatement("$L.encodeFieldToUdt(instance, udtValue, cassandraOptions)", x.context.fieldName);
+        // The fields of the UserType returned by getUserType() follow the declaration order of parsingResults
+        for (int i = 0; i < parsingResults.size(); i++) {
+            builder.addStatement("$L.encodeFieldToUdt(instance, udtValue, $L, cassandraOptions)", parsingResults.get(i).context.fieldName, i);
         }
 
         builder.addStatement("return udtValue");
@@ -224,17 +225,19 @@ public class UDTMetaCodeGen implements CommonBeanMetaCodeGen {
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
                 .addParameter(JAVA_DRIVER_UDT_VALUE_TYPE, "udtValue")
+                .addParameter(ArrayTypeName.of(TypeName.INT), "constructorIndices")
                 .returns(rawBeanType);
 
         if (customConstructorFieldMetaSignatures.size() > 0) {
 
-            customConstructorFieldMetaSignatures
-                    .forEach(field ->
-                            methodSpec.addStatement("final $T $L_value = $L.decodeFromGettable(udtValue)",
-                                    field.sourceType.box(),
-                                    field.context.fieldName,
-                                    field.context.fieldName)
-                    );
+            for (int i = 0; i < customConstructorFieldMetaSignatures.size(); i++) {
+                final FieldMetaSignature field = customConstructorFieldMetaSignatures.get(i);
+                methodSpec.addStatement("final $T $L_value = $L.decodeFromGettable(udtValue, constructorIndices[$L])",
+                        field.sourceType.box(),
+                        field.context.fieldName,
+                        field.context.fieldName,
+                        i);
+            }
 
             methodSpec.addStatement(customConstructorFieldMetaSignatures
                     .stream()
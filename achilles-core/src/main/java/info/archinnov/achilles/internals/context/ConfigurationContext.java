@@ -15,10 +15,12 @@
  */
 package info.archinnov.achilles.internals.context;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import javax.validation.Validator;
 
@@ -32,15 +34,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.interceptor.AsyncInterceptorInvoker;
 import info.archinnov.achilles.internals.interceptor.DefaultPostLoadBeanValidationInterceptor;
 import info.archinnov.achilles.internals.interceptor.DefaultPreMutateBeanValidationInterceptor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.runtime.BootstrapProfiler;
+import info.archinnov.achilles.internals.runtime.QueryTracingSampler;
+import info.archinnov.achilles.internals.runtime.SlowQueryDetector;
+import info.archinnov.achilles.internals.schema.SchemaValidationCache;
 import info.archinnov.achilles.json.JacksonMapperFactory;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.factory.BeanFactory;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
 import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.interceptor.InterceptorStats;
+import info.archinnov.achilles.type.metrics.MetricsRecorder;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.strategy.NamingStrategy;
 
@@ -52,8 +62,17 @@ public class ConfigurationContext {
     public static final ConsistencyLevel DEFAULT_SERIAL_CONSISTENCY_LEVEL = ConsistencyLevel.LOCAL_SERIAL;
 
     private boolean forceSchemaGeneration;
+
+    private boolean schemaMigration;
+    private boolean concurrentSchemaCreation;
     private boolean validateSchema = true;
 
+    private boolean bootstrapReportLogging = false;
+
+    private Optional<SchemaValidationCache> schemaValidationCache = Optional.empty();
+
+    private final BootstrapProfiler bootstrapProfiler = new BootstrapProfiler();
+
     private List<Class<?>> manageEntities;
 
     private JacksonMapperFactory jacksonMapperFactory;
@@ -71,6 +90,7 @@ public class ConfigurationContext {
     private Optional<DefaultPostLoadBeanValidationInterceptor> postLoadBeanValidationInterceptor = Optional.empty();
 
     private List<Interceptor<?>> interceptors;
+    private final Map<AsyncInterceptor<?>, InterceptorStats> asyncInterceptorStats = new ConcurrentHashMap<>();
 
     private int preparedStatementLRUCacheSize;
 
@@ -95,6 +115,12 @@ public class ConfigurationContext {
 
     private Integer DMLResultsDisplaySize;
 
+    private MetricsRecorder metricsRecorder = MetricsRecorder.NO_OP;
+
+    private SlowQueryDetector slowQueryDetector = SlowQueryDetector.DISABLED;
+
+    private QueryTracingSampler tracingSampler = QueryTracingSampler.DISABLED;
+
     public boolean isForceSchemaGeneration() {
         return forceSchemaGeneration;
     }
@@ -103,6 +129,22 @@ public class ConfigurationContext {
         this.forceSchemaGeneration = forceSchemaGeneration;
     }
 
+    public boolean isSchemaMigration() {
+        return schemaMigration;
+    }
+
+    public void setSchemaMigration(boolean schemaMigration) {
+        this.schemaMigration = schemaMigration;
+    }
+
+    public boolean isConcurrentSchemaCreation() {
+        return concurrentSchemaCreation;
+    }
+
+    public void setConcurrentSchemaCreation(boolean concurrentSchemaCreation) {
+        this.concurrentSchemaCreation = concurrentSchemaCreation;
+    }
+
     public boolean isValidateSchema() {
         return validateSchema;
     }
@@ -111,6 +153,26 @@ public class ConfigurationContext {
         this.validateSchema = validateSchema;
     }
 
+    public Optional<SchemaValidationCache> getSchemaValidationCache() {
+        return schemaValidationCache;
+    }
+
+    public void setSchemaValidationCache(Optional<SchemaValidationCache> schemaValidationCache) {
+        this.schemaValidationCache = schemaValidationCache;
+    }
+
+    public boolean isBootstrapReportLogging() {
+        return bootstrapReportLogging;
+    }
+
+    public void setBootstrapReportLogging(boolean bootstrapReportLogging) {
+        this.bootstrapReportLogging = bootstrapReportLogging;
+    }
+
+    public BootstrapProfiler getBootstrapProfiler() {
+        return bootstrapProfiler;
+    }
+
     public List<Class<?>> getManageEntities() {
         return manageEntities;
     }
@@ -160,6 +222,14 @@ public class ConfigurationContext {
         this.preMutateBeanValidationInterceptor = new DefaultPreMutateBeanValidationInterceptor(beanValidator);
     }
 
+    public Optional<DefaultPreMutateBeanValidationInterceptor> getPreMutateBeanValidationInterceptor() {
+        if (beanValidator != null) {
+            return Optional.ofNullable(preMutateBeanValidationInterceptor);
+        } else {
+            return Optional.empty();
+        }
+    }
+
     public void setPostLoadBeanValidationEnabled(boolean postLoadBeanValidationEnabled) {
         if (postLoadBeanValidationEnabled) {
             this.postLoadBeanValidationInterceptor = Optional.of(new DefaultPostLoadBeanValidationInterceptor(this.beanValidator));
@@ -174,6 +244,21 @@ public class ConfigurationContext {
         this.interceptors = interceptors;
     }
 
+    public Map<AsyncInterceptor<?>, InterceptorStats> getAsyncInterceptorStats() {
+        return Collections.unmodifiableMap(asyncInterceptorStats);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Interceptor wrapAsyncInterceptor(Interceptor<?> interceptor) {
+        if (interceptor instanceof AsyncInterceptor) {
+            final AsyncInterceptor<?> asyncInterceptor = (AsyncInterceptor<?>) interceptor;
+            final InterceptorStats stats = asyncInterceptorStats.computeIfAbsent(asyncInterceptor, x -> new InterceptorStats());
+            return new AsyncInterceptorInvoker(asyncInterceptor, stats);
+        } else {
+            return interceptor;
+        }
+    }
+
     public int getPreparedStatementLRUCacheSize() {
         return preparedStatementLRUCacheSize;
     }
@@ -318,7 +403,7 @@ public class ConfigurationContext {
             LOGGER.debug("Injecting bean interceptors");
             interceptors.stream()
                     .filter(x -> x.acceptEntity(entityClass))
-                    .map(x -> (Interceptor) x)
+                    .map(this::wrapAsyncInterceptor)
                     .forEach(entityProperty.interceptors::add);
         }
 
@@ -335,6 +420,9 @@ public class ConfigurationContext {
             }
         }
 
+        LOGGER.debug("Preparing interceptors dispatch table");
+        entityProperty.prepareInterceptorsDispatch();
+
         LOGGER.debug("Injecting global consistency levels");
         entityProperty.injectConsistencyLevels(session, this);
 
@@ -370,4 +458,28 @@ public class ConfigurationContext {
     public void setDMLResultsDisplaySize(Integer DMLResultsDisplaySize) {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
+
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    public SlowQueryDetector getSlowQueryDetector() {
+        return slowQueryDetector;
+    }
+
+    public void setSlowQueryDetector(SlowQueryDetector slowQueryDetector) {
+        this.slowQueryDetector = slowQueryDetector;
+    }
+
+    public QueryTracingSampler getTracingSampler() {
+        return tracingSampler;
+    }
+
+    public void setTracingSampler(QueryTracingSampler tracingSampler) {
+        this.tracingSampler = tracingSampler;
+    }
 }
@@ -31,11 +31,14 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.RowViewIteratorWrapper;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
+import info.archinnov.achilles.type.RowView;
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
-public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAware {
+public interface RawAndTypeMapDefaultImpl extends TypedMapAware, RowViewAware, StatementTypeAware {
 
     RuntimeEngine runtimeEngine();
 
@@ -47,28 +50,37 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
 
     CassandraOptions options();
 
+    MetricsOperation metricsOperation();
+
     @Override
     default CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getTypedMapsAsyncWithStats() {
         final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
-                meta(), boundStatement(), encodedBoundValues());
+                meta(), boundStatement(), encodedBoundValues())
+                .withMetricsOperation(metricsOperation());
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Select async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
-        CompletableFuture<ResultSet> futureRS = runtimeEngine().execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = runtimeEngine().executeWithMapping(statementWrapper);
 
         return futureRS
                 .thenApply(options()::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options().computeMaxDisplayedResults(runtimeEngine().configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
+                .thenApply(x -> {
+                    final long mappingStart = System.nanoTime();
+                    final List<TypedMap> typedMaps = mapResultSetToTypedMaps(x);
+                    runtimeEngine().recordMapping(statementWrapper, mappingStart, typedMaps.size());
+                    return Tuple2.of(typedMaps, x.getExecutionInfo());
+                });
     }
 
     @Override
     default CompletableFuture<Tuple2<TypedMap, ExecutionInfo>> getTypedMapAsyncWithStats() {
         final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
-                meta(), boundStatement(), encodedBoundValues());
+                meta(), boundStatement(), encodedBoundValues())
+                .withMetricsOperation(metricsOperation());
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Execute native query async with execution info : %s",
@@ -87,14 +99,15 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
     @Override
     default Iterator<TypedMap> typedMapIterator() {
         StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
-                meta(), boundStatement(), encodedBoundValues());
+                meta(), boundStatement(), encodedBoundValues())
+                .withMetricsOperation(metricsOperation());
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Generate iterator for typed query : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = runtimeEngine().execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = runtimeEngine().executeWithMapping(statementWrapper);
 
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, options());
     }
@@ -104,4 +117,75 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
         TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper) this.typedMapIterator();
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
+
+    @Override
+    default CompletableFuture<Tuple2<List<RowView>, ExecutionInfo>> getRowViewsAsyncWithStats() {
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+                meta(), boundStatement(), encodedBoundValues())
+                .withMetricsOperation(metricsOperation());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select row views async with execution info : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+        CompletableFuture<ResultSet> futureRS = runtimeEngine().executeWithMapping(statementWrapper);
+
+        return futureRS
+                .thenApply(options()::resultSetAsyncListener)
+                .thenApply(x -> statementWrapper.logReturnResults(x, options().computeMaxDisplayedResults(runtimeEngine().configContext)))
+                .thenApply(statementWrapper::logTrace)
+                .thenApply(x -> {
+                    final long mappingStart = System.nanoTime();
+                    final List<RowView> rowViews = mapResultSetToRowViews(x);
+                    runtimeEngine().recordMapping(statementWrapper, mappingStart, rowViews.size());
+                    return Tuple2.of(rowViews, x.getExecutionInfo());
+                });
+    }
+
+    @Override
+    default CompletableFuture<Tuple2<RowView, ExecutionInfo>> getRowViewAsyncWithStats() {
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+                meta(), boundStatement(), encodedBoundValues())
+                .withMetricsOperation(metricsOperation());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select row view async with execution info : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = runtimeEngine().executeWithMapping(statementWrapper);
+
+        return futureRS
+                .thenApply(options()::resultSetAsyncListener)
+                .thenApply(x -> statementWrapper.logReturnResults(x, options().computeMaxDisplayedResults(runtimeEngine().configContext)))
+                .thenApply(statementWrapper::logTrace)
+                .thenApply(x -> {
+                    final long mappingStart = System.nanoTime();
+                    final RowView rowView = mapRowToRowView(x.one());
+                    runtimeEngine().recordMapping(statementWrapper, mappingStart, rowView == null ? 0 : 1);
+                    return Tuple2.of(rowView, x.getExecutionInfo());
+                });
+    }
+
+    @Override
+    default Iterator<RowView> rowViewIterator() {
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+                meta(), boundStatement(), encodedBoundValues())
+                .withMetricsOperation(metricsOperation());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Generate row view iterator for query : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = runtimeEngine().executeWithMapping(statementWrapper);
+
+        return new RowViewIteratorWrapper(futureRS, statementWrapper, options());
+    }
+
+    @Override
+    default Tuple2<Iterator<RowView>, ExecutionInfo> rowViewIteratorWithExecutionInfo() {
+        RowViewIteratorWrapper iterator = (RowViewIteratorWrapper) this.rowViewIterator();
+        return Tuple2.of(iterator, iterator.getExecutionInfo());
+    }
 }
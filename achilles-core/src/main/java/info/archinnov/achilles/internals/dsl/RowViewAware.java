@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.type.RowView;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+public interface RowViewAware extends AsyncAware {
+
+    /**
+     * Execute the SELECT action and return an {@link java.util.Iterator}<{@link info.archinnov.achilles.type.RowView}>
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     */
+    Iterator<RowView> rowViewIterator();
+
+    /**
+     * Execute the SELECT action and return a {@link info.archinnov.achilles.type.tuples.Tuple2}&lt;{@link java.util.Iterator}&lt;{@link info.archinnov.achilles.type.RowView}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     */
+    Tuple2<Iterator<RowView>, ExecutionInfo> rowViewIteratorWithExecutionInfo();
+
+    /**
+     * Execute the SELECT action and return a {@link java.util.concurrent.CompletableFuture}&lt;{@link info.archinnov.achilles.type.tuples.Tuple2}&lt;
+     * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.RowView}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;&gt;
+     * <br/>
+     */
+    CompletableFuture<Tuple2<List<RowView>, ExecutionInfo>> getRowViewsAsyncWithStats();
+
+    /**
+     * Execute the SELECT action and return an {@link java.util.concurrent.CompletableFuture}&lt;
+     * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.RowView}&gt;&gt;
+     * <br/>
+     */
+    default CompletableFuture<List<RowView>> getRowViewsAsync() {
+        return getRowViewsAsyncWithStats()
+                .thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Execute the SELECT action and return a {@link info.archinnov.achilles.type.tuples.Tuple2}&lt;
+     * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.RowView}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;
+     * <br/>
+     */
+    default Tuple2<List<RowView>, ExecutionInfo> getRowViewsWithStats() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getRowViewsAsyncWithStats());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the SELECT action and return a
+     * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.RowView}&gt;
+     * <br/>
+     */
+    default List<RowView> getRowViews() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getRowViewsAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the SELECT action and return a {@link java.util.concurrent.CompletableFuture}&lt;{@link info.archinnov.achilles.type.tuples.Tuple2}&lt;
+     * {@link info.archinnov.achilles.type.RowView}, {@link com.datastax.driver.core.ExecutionInfo}&gt;&gt;
+     * <br/>
+     */
+    CompletableFuture<Tuple2<RowView, ExecutionInfo>> getRowViewAsyncWithStats();
+
+    default CompletableFuture<RowView> getRowViewAsync() {
+        return getRowViewAsyncWithStats()
+                .thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Execute the SELECT action and return a {@link info.archinnov.achilles.type.RowView}
+     * or null if no row is found
+     * <br/>
+     */
+    default RowView getRowView() {
+        try {
+            return Uninterruptibles.getUninterruptibly(getRowViewAsync());
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Map the fetched rows of a {@link com.datastax.driver.core.ResultSet} to a list
+     * of {@link info.archinnov.achilles.type.RowView} sharing the same column dictionary
+     */
+    default List<RowView> mapResultSetToRowViews(ResultSet resultSet) {
+        final RowView.Columns columns = RowView.Columns.from(resultSet.getColumnDefinitions());
+        final List<RowView> result = new ArrayList<>();
+
+        IntStream.range(0, resultSet.getAvailableWithoutFetching())
+                .forEach(index -> result.add(new RowView(columns, resultSet.one())));
+        return result;
+    }
+
+    /**
+     * Map the {@link com.datastax.driver.core.Row} object to an instance
+     * of {@link info.archinnov.achilles.type.RowView} or null if the row is null
+     */
+    default RowView mapRowToRowView(Row row) {
+        if (row == null) return null;
+        return new RowView(RowView.Columns.from(row.getColumnDefinitions()), row);
+    }
+}
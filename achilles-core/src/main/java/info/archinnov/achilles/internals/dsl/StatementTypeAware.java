@@ -26,6 +26,7 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.Statement;
 
 import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
 
 public interface StatementTypeAware {
 
@@ -50,4 +51,8 @@ public interface StatementTypeAware {
         }
         return foundType;
     }
+
+    default MetricsOperation getMetricsOperation(Statement statement, MetricsOperation defaultOperation) {
+        return isBatchStatement(statement) ? MetricsOperation.BATCH : defaultOperation;
+    }
 }
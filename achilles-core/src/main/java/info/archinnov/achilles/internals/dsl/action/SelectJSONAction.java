@@ -16,15 +16,19 @@
 
 package info.archinnov.achilles.internals.dsl.action;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import com.datastax.driver.core.ExecutionInfo;
 import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.type.JsonArrayFraming;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface SelectJSONAction extends AsyncAware {
@@ -129,4 +133,118 @@ public interface SelectJSONAction extends AsyncAware {
      * a list of entity instances with {@link com.datastax.driver.core.ExecutionInfo}
      */
     CompletableFuture<Tuple2<List<String>, ExecutionInfo>> getListJSONAsyncWithStats();
+
+    /**
+     * Execute the SELECT JSON * action asynchronously and stream all the rows
+     * as UTF-8 JSON to the given {@link java.io.OutputStream}, fetching the next page
+     * only once the current one has been written.
+     * <br/>
+     * The output stream is flushed after each page and every <em>flushInterval</em> rows if strictly positive.
+     * It is not closed
+     * <br/>
+     * WARNING: <strong>the writes run on the Achilles executor</strong>. If the output stream may block
+     * (slow network client ...), use {@link #writeJsonToAsync(OutputStream, JsonArrayFraming, int, Executor)}
+     * with a dedicated executor so that other asynchronous queries are not delayed
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} of the number of rows written
+     */
+    CompletableFuture<Long> writeJsonToAsync(OutputStream outputStream, JsonArrayFraming framing, int flushInterval);
+
+    /**
+     * Execute the SELECT JSON * action asynchronously and stream all the rows
+     * as UTF-8 JSON to the given {@link java.io.OutputStream}, fetching the next page
+     * only once the current one has been written.
+     * <br/>
+     * The output stream is flushed after each page and every <em>flushInterval</em> rows if strictly positive.
+     * It is not closed
+     *
+     * @param writeExecutor executor running the possibly blocking writes to the output stream
+     * @return a {@link java.util.concurrent.CompletableFuture} of the number of rows written
+     */
+    CompletableFuture<Long> writeJsonToAsync(OutputStream outputStream, JsonArrayFraming framing, int flushInterval, Executor writeExecutor);
+
+    /**
+     * Execute the SELECT JSON * action asynchronously and stream all the rows
+     * as JSON to the given {@link java.io.Writer}, fetching the next page
+     * only once the current one has been written.
+     * <br/>
+     * The writer is flushed after each page and every <em>flushInterval</em> rows if strictly positive.
+     * It is not closed
+     * <br/>
+     * WARNING: <strong>the writes run on the Achilles executor</strong>. If the writer may block
+     * (slow network client ...), use {@link #writeJsonToAsync(Writer, JsonArrayFraming, int, Executor)}
+     * with a dedicated executor so that other asynchronous queries are not delayed
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} of the number of rows written
+     */
+    CompletableFuture<Long> writeJsonToAsync(Writer writer, JsonArrayFraming framing, int flushInterval);
+
+    /**
+     * Execute the SELECT JSON * action asynchronously and stream all the rows
+     * as JSON to the given {@link java.io.Writer}, fetching the next page
+     * only once the current one has been written.
+     * <br/>
+     * The writer is flushed after each page and every <em>flushInterval</em> rows if strictly positive.
+     * It is not closed
+     *
+     * @param writeExecutor executor running the possibly blocking writes to the writer
+     * @return a {@link java.util.concurrent.CompletableFuture} of the number of rows written
+     */
+    CompletableFuture<Long> writeJsonToAsync(Writer writer, JsonArrayFraming framing, int flushInterval, Executor writeExecutor);
+
+    /**
+     * Execute the SELECT JSON * action and stream all the rows
+     * as UTF-8 JSON to the given {@link java.io.OutputStream}
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     *
+     * @return the number of rows written
+     */
+    default long writeJsonTo(OutputStream outputStream, JsonArrayFraming framing) {
+        return writeJsonTo(outputStream, framing, 0);
+    }
+
+    /**
+     * Execute the SELECT JSON * action and stream all the rows
+     * as UTF-8 JSON to the given {@link java.io.OutputStream}, flushing every <em>flushInterval</em> rows
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     *
+     * @return the number of rows written
+     */
+    default long writeJsonTo(OutputStream outputStream, JsonArrayFraming framing, int flushInterval) {
+        try {
+            return Uninterruptibles.getUninterruptibly(writeJsonToAsync(outputStream, framing, flushInterval));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the SELECT JSON * action and stream all the rows
+     * as JSON to the given {@link java.io.Writer}
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     *
+     * @return the number of rows written
+     */
+    default long writeJsonTo(Writer writer, JsonArrayFraming framing) {
+        return writeJsonTo(writer, framing, 0);
+    }
+
+    /**
+     * Execute the SELECT JSON * action and stream all the rows
+     * as JSON to the given {@link java.io.Writer}, flushing every <em>flushInterval</em> rows
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     *
+     * @return the number of rows written
+     */
+    default long writeJsonTo(Writer writer, JsonArrayFraming framing, int flushInterval) {
+        try {
+            return Uninterruptibles.getUninterruptibly(writeJsonToAsync(writer, framing, flushInterval));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
 }
@@ -19,6 +19,7 @@ package info.archinnov.achilles.internals.dsl.crud;
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.DELETE;
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.DELETE_IF_EXISTS;
 import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListeners;
+import static info.archinnov.achilles.internals.futures.FutureUtils.resumeOn;
 import static info.archinnov.achilles.type.interceptor.Event.POST_DELETE;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_DELETE;
 import static java.lang.String.format;
@@ -80,10 +81,15 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
         if (this.instance.isPresent()) {
-            final ENTITY entity = this.instance.get();
-            meta.triggerInterceptorsForEvent(PRE_DELETE, entity);
+            final CompletableFuture<Void> preInterception = meta.triggerInterceptorsForEventAsync(PRE_DELETE, instance.get());
+            if (!preInterception.isDone() || preInterception.isCompletedExceptionally()) {
+                return preInterception.thenComposeAsync(x -> executeAsyncAfterInterception(), rte.executor);
+            }
         }
+        return executeAsyncAfterInterception();
+    }
 
+    private CompletableFuture<ExecutionInfo> executeAsyncAfterInterception() {
         final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
         final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
@@ -98,10 +104,9 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
                 .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    if (this.instance.isPresent()) meta.triggerInterceptorsForEvent(POST_DELETE, instance.get());
-                    return x;
-                });
+                .thenCompose(x -> this.instance.isPresent()
+                        ? resumeOn(meta.triggerInterceptorsForEventAsync(POST_DELETE, instance.get()), rte.executor).thenApply(y -> x)
+                        : CompletableFuture.completedFuture(x));
     }
 
     @Override
@@ -17,11 +17,11 @@
 package info.archinnov.achilles.internals.dsl.crud;
 
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.FIND;
+import static info.archinnov.achilles.internals.futures.FutureUtils.resumeOn;
+import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.generateSelectQuery;
 import static java.lang.String.format;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -42,7 +42,9 @@ import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOptions<ENTITY>>
         implements StatementProvider, AsyncAware {
@@ -55,6 +57,7 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
     private final Object[] primaryKeyValues;
     private final Object[] encodedPrimaryKeyValues;
     private final CassandraOptions options;
+    private final Set<String> lazyGroups = new LinkedHashSet<>();
 
     public FindWithOptions(Class<ENTITY> entityClass, AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte,
                            Object[] primaryKeyValues, Object[] encodedPrimaryKeyValues, Optional<CassandraOptions> cassandraOptions) {
@@ -66,6 +69,21 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
         this.options = cassandraOptions.orElse(new CassandraOptions());
     }
 
+    /**
+     * Also fetch the columns of the given @Lazy groups, which are excluded by default
+     *
+     * @param groups names of the lazy groups to fetch
+     * @return FindWithOptions
+     */
+    public FindWithOptions<ENTITY> withGroups(String... groups) {
+        for (String group : groups) {
+            Validator.validateTrue(meta.lazyColumnGroups.containsKey(group),
+                    "Unknown lazy group '%s' for entity '%s'", group, entityClass.getCanonicalName());
+            lazyGroups.add(group);
+        }
+        return this;
+    }
+
     public ENTITY get() {
         try {
             return Uninterruptibles.getUninterruptibly(getAsync());
@@ -93,21 +111,21 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
             LOGGER.trace(format("Find async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeWithMapping(statementWrapper);
 
         return futureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(rs -> {
+                    final long mappingStart = System.nanoTime();
                     final Row row = rs.one();
                     options.rowAsyncListener(row);
-                    return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
+                    final ENTITY entity = meta.createEntityFrom(row);
+                    rte.recordMapping(statementWrapper, mappingStart, row == null ? 0 : 1);
+                    return Tuple2.of(entity, rs.getExecutionInfo());
                 })
-                .thenApply(tuple2 -> {
-                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, tuple2._1());
-                    return tuple2;
-                });
+                .thenCompose(tuple2 -> resumeOn(meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, tuple2._1()), rte.executor).thenApply(x -> tuple2));
     }
 
     @Override
@@ -122,7 +140,10 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
 
     @Override
     public String getStatementAsString() {
-        return rte.getStaticCache(new CacheKey(entityClass, FIND)).getQueryString();
+        if (lazyGroups.isEmpty()) {
+            return rte.getStaticCache(new CacheKey(entityClass, FIND)).getQueryString();
+        }
+        return generateSelectQuery(meta, lazyGroups, options.getSchemaNameProvider()).getQueryString();
     }
 
 
@@ -146,8 +167,11 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = FIND.getPreparedStatement(rte, meta, options);
-        StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, primaryKeyValues, encodedPrimaryKeyValues);
+        final PreparedStatement ps = lazyGroups.isEmpty()
+                ? FIND.getPreparedStatement(rte, meta, options)
+                : rte.prepareDynamicQuery(generateSelectQuery(meta, lazyGroups, options.getSchemaNameProvider()));
+        StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, primaryKeyValues, encodedPrimaryKeyValues)
+                .withMetricsOperation(MetricsOperation.FIND);
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
@@ -18,8 +18,11 @@ package info.archinnov.achilles.internals.dsl.crud;
 
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.*;
 import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListeners;
+import static info.archinnov.achilles.internals.futures.FutureUtils.resumeOn;
+import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.generateInsertWithoutLazyGroups;
 import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
+import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
@@ -65,9 +68,16 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
 
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        meta.triggerInterceptorsForEvent(PRE_INSERT, instance);
+        final CompletableFuture<Void> preInterception = meta.triggerInterceptorsForEventAsync(PRE_INSERT, instance);
 
+        if (preInterception.isDone() && !preInterception.isCompletedExceptionally()) {
+            return executeAsyncAfterInterception();
+        } else {
+            return preInterception.thenComposeAsync(x -> executeAsyncAfterInterception(), rte.executor);
+        }
+    }
 
+    private CompletableFuture<ExecutionInfo> executeAsyncAfterInterception() {
         final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
         final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
@@ -82,10 +92,7 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
                 .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    meta.triggerInterceptorsForEvent(POST_INSERT, instance);
-                    return x;
-                });
+                .thenCompose(x -> resumeOn(meta.triggerInterceptorsForEventAsync(POST_INSERT, instance), rte.executor).thenApply(y -> x));
     }
 
     @Override
@@ -101,22 +108,18 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
 
     @Override
     public String getStatementAsString() {
-        return getInternalPreparedStatement().getQueryString();
+        return getInternalPreparedStatement(extractBoundValues()).getQueryString();
     }
 
     @Override
     public List<Object> getBoundValues() {
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
+        BoundValuesWrapper wrapper = extractBoundValues();
         return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
     }
 
     @Override
     public List<Object> getEncodedBoundValues() {
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
+        BoundValuesWrapper wrapper = extractBoundValues();
         return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
     }
 
@@ -130,18 +133,31 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
-        BoundValuesWrapper wrapper = insertStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
+        BoundValuesWrapper wrapper = extractBoundValues();
+        final PreparedStatement ps = getInternalPreparedStatement(wrapper);
 
         StatementWrapper statementWrapper = wrapper.bindWithInsertStrategy(ps, getOverridenStrategy(meta));
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
 
-    private PreparedStatement getInternalPreparedStatement() {
-        if (ifNotExists.isPresent() && ifNotExists.get() == true) {
+    private BoundValuesWrapper extractBoundValues() {
+        BoundValuesWrapper wrapper = insertStatic == true
+                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
+                : meta.extractAllValuesFromEntity(instance, options);
+        return getOverridenStrategy(meta) == ALL_FIELDS
+                ? wrapper.withoutUnloadedLazyGroups()
+                : wrapper;
+    }
+
+    private PreparedStatement getInternalPreparedStatement(BoundValuesWrapper wrapper) {
+        final boolean insertIfNotExists = ifNotExists.isPresent() && ifNotExists.get() == true;
+        if (!wrapper.excludedLazyGroups.isEmpty()) {
+            return rte.prepareDynamicQuery(generateInsertWithoutLazyGroups(meta, wrapper.excludedLazyGroups,
+                    insertStatic, insertIfNotExists, options.getSchemaNameProvider()));
+        }
+
+        if (insertIfNotExists) {
             return insertStatic == true
                     ? INSERT_STATIC_IF_NOT_EXISTS.getPreparedStatement(rte, meta, options)
                     : INSERT_IF_NOT_EXISTS.getPreparedStatement(rte, meta, options);
@@ -17,6 +17,7 @@
 package info.archinnov.achilles.internals.dsl.crud;
 
 import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListeners;
+import static info.archinnov.achilles.internals.futures.FutureUtils.resumeOn;
 import static info.archinnov.achilles.type.interceptor.Event.POST_UPDATE;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_UPDATE;
 import static java.lang.String.format;
@@ -65,9 +66,16 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
 
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        meta.triggerInterceptorsForEvent(PRE_UPDATE, instance);
+        final CompletableFuture<Void> preInterception = meta.triggerInterceptorsForEventAsync(PRE_UPDATE, instance);
 
+        if (preInterception.isDone() && !preInterception.isCompletedExceptionally()) {
+            return executeAsyncAfterInterception();
+        } else {
+            return preInterception.thenComposeAsync(x -> executeAsyncAfterInterception(), rte.executor);
+        }
+    }
 
+    private CompletableFuture<ExecutionInfo> executeAsyncAfterInterception() {
         final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
         final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
@@ -82,10 +90,7 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
                 .thenApply(statementWrapper::logTrace)
                 .thenApply(x -> triggerLWTListeners(lwtResultListeners, x, queryString))
                 .thenApply(x -> x.getExecutionInfo())
-                .thenApply(x -> {
-                    meta.triggerInterceptorsForEvent(POST_UPDATE, instance);
-                    return x;
-                });
+                .thenCompose(x -> resumeOn(meta.triggerInterceptorsForEventAsync(POST_UPDATE, instance), rte.executor).thenApply(y -> x));
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.dsl.query.select;
 
+import static info.archinnov.achilles.internals.futures.FutureUtils.resumeOn;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
@@ -35,6 +36,7 @@ import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.action.SelectAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProjectionMapper;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
@@ -45,6 +47,7 @@ import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTITY>, ENTITY>
         extends AbstractOptionsForSelect<T>
@@ -84,7 +87,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeWithMapping(statementWrapper);
         return new EntityIteratorWrapper<>(futureRS, meta, statementWrapper, cassandraOptions);
     }
 
@@ -107,26 +110,45 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeWithMapping(statementWrapper);
 
         return futureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
+                .thenApply(rs -> {
+                    final long mappingStart = System.nanoTime();
+                    final List<ENTITY> entities = IntStream.range(0, rs.getAvailableWithoutFetching())
                             .mapToObj(index -> {
                                 final Row row = rs.one();
                                 options.rowAsyncListener(row);
                                 return meta.createEntityFrom(row);
                             })
-                            .collect(toList()),
-                            rs.getExecutionInfo()))
-                .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
-                    }
-                    return tuple2;
-                });
+                            .collect(toList());
+                    rte.recordMapping(statementWrapper, mappingStart, entities.size());
+                    return Tuple2.of(entities, rs.getExecutionInfo());
+                })
+                .thenCompose(tuple2 -> resumeOn(meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, tuple2._1()), rte.executor).thenApply(x -> tuple2));
+    }
+
+    /***************************************************************************************
+     * Projection API                                                                      *
+     ***************************************************************************************/
+
+    /**
+     * Map the selected rows into instances of the given {@literal @}Projection type.
+     * All the columns read by the projection should be selected
+     *
+     * @param projectionClass interface annotated by {@literal @}Projection for the current entity
+     * @return a SELECT terminal producing projection instances
+     */
+    public <PROJECTION> SelectAction<PROJECTION> as(Class<PROJECTION> projectionClass) {
+        final AbstractProjectionMapper<?, PROJECTION> mapper = getRte().projectionMapperFor(projectionClass);
+        Validator.validateTrue(mapper.getEntityClass().equals(getEntityClass()),
+                "Projection '%s' is declared for entity '%s' and cannot be used to select from entity '%s'",
+                projectionClass.getCanonicalName(), mapper.getEntityClass().getCanonicalName(),
+                getEntityClass().getCanonicalName());
+        return new SelectProjection<>(getRte(), mapper, this::getInternalBoundStatementWrapper, getOptions());
     }
 
     /***************************************************************************************
@@ -185,7 +207,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeWithMapping(statementWrapper);
 
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, cassandraOptions);
     }
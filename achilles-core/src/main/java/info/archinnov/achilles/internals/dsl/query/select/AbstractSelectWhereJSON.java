@@ -18,9 +18,12 @@ package info.archinnov.achilles.internals.dsl.query.select;
 
 import static java.lang.String.format;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -43,7 +46,10 @@ import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.JSONIteratorWrapper;
+import info.archinnov.achilles.internals.types.JSONStreamWriter;
+import info.archinnov.achilles.type.JsonArrayFraming;
 import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
 
 public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<T, ENTITY>, ENTITY>
         extends AbstractOptionsForSelect<T>
@@ -119,6 +125,48 @@ public abstract class AbstractSelectWhereJSON<T extends AbstractSelectWhereJSON<
         return Tuple2.of(iterator, iterator.getExecutionInfo());
     }
 
+    @Override
+    public CompletableFuture<Long> writeJsonToAsync(OutputStream outputStream, JsonArrayFraming framing, int flushInterval) {
+        return writeJsonToAsync(outputStream, framing, flushInterval, getRte().executor);
+    }
+
+    @Override
+    public CompletableFuture<Long> writeJsonToAsync(OutputStream outputStream, JsonArrayFraming framing, int flushInterval, Executor writeExecutor) {
+        Validator.validateNotNull(outputStream, "The output stream to write JSON rows to should not be null");
+        return writeJsonToAsync(JSONStreamWriter.Sink.of(outputStream), framing, flushInterval, writeExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Long> writeJsonToAsync(Writer writer, JsonArrayFraming framing, int flushInterval) {
+        return writeJsonToAsync(writer, framing, flushInterval, getRte().executor);
+    }
+
+    @Override
+    public CompletableFuture<Long> writeJsonToAsync(Writer writer, JsonArrayFraming framing, int flushInterval, Executor writeExecutor) {
+        Validator.validateNotNull(writer, "The writer to write JSON rows to should not be null");
+        return writeJsonToAsync(JSONStreamWriter.Sink.of(writer), framing, flushInterval, writeExecutor);
+    }
+
+    private CompletableFuture<Long> writeJsonToAsync(JSONStreamWriter.Sink sink, JsonArrayFraming framing, int flushInterval, Executor writeExecutor) {
+        Validator.validateNotNull(framing, "The JSON framing should not be null");
+        Validator.validateNotNull(writeExecutor, "The executor to write JSON rows with should not be null");
+        Validator.validateTrue(flushInterval >= 0, "The flush interval '%s' should be positive or 0", flushInterval);
+
+        final RuntimeEngine rte = getRte();
+        final CassandraOptions options = getOptions();
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Stream JSON rows for query : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+        return new JSONStreamWriter(sink, framing, flushInterval, statementWrapper, options, writeExecutor)
+                .write(futureRS);
+    }
+
     /***************************************************************************************
      * Utility API                                                                         *
      ***************************************************************************************/
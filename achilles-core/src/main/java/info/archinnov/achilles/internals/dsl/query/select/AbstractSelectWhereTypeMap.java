@@ -124,7 +124,7 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeWithMapping(statementWrapper);
 
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, cassandraOptions);
     }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.query.select;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.dsl.action.SelectAction;
+import info.archinnov.achilles.internals.metamodel.AbstractProjectionMapper;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ProjectionIteratorWrapper;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * SELECT terminal mapping each row into a generated {@literal @}Projection instance,
+ * bypassing both entity instantiation and {@link info.archinnov.achilles.type.TypedMap} creation
+ */
+public class SelectProjection<PROJECTION> implements SelectAction<PROJECTION> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SelectProjection.class);
+
+    private final RuntimeEngine rte;
+    private final AbstractProjectionMapper<?, PROJECTION> mapper;
+    private final Supplier<StatementWrapper> statementWrapperSupplier;
+    private final CassandraOptions options;
+
+    public SelectProjection(RuntimeEngine rte, AbstractProjectionMapper<?, PROJECTION> mapper,
+                            Supplier<StatementWrapper> statementWrapperSupplier, CassandraOptions options) {
+        this.rte = rte;
+        this.mapper = mapper;
+        this.statementWrapperSupplier = statementWrapperSupplier;
+        this.options = options;
+    }
+
+    @Override
+    public Iterator<PROJECTION> iterator() {
+        final StatementWrapper statementWrapper = statementWrapperSupplier.get();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Generate projection iterator for select : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        return new ProjectionIteratorWrapper<>(futureRS, mapper, statementWrapper, options);
+    }
+
+    @Override
+    public Tuple2<Iterator<PROJECTION>, ExecutionInfo> iteratorWithExecutionInfo() {
+        final ProjectionIteratorWrapper<PROJECTION> iterator = (ProjectionIteratorWrapper<PROJECTION>) this.iterator();
+        return Tuple2.of(iterator, iterator.getExecutionInfo());
+    }
+
+    @Override
+    public CompletableFuture<Tuple2<List<PROJECTION>, ExecutionInfo>> getListAsyncWithStats() {
+        final StatementWrapper statementWrapper = statementWrapperSupplier.get();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select projection async with execution info : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+
+        return futureRS
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                .thenApply(statementWrapper::logTrace)
+                .thenApply(rs -> Tuple2.of(mapResultSet(rs), rs.getExecutionInfo()));
+    }
+
+    private List<PROJECTION> mapResultSet(ResultSet rs) {
+        final int[] indices = mapper.resolveIndices(rs.getColumnDefinitions());
+        final int available = rs.getAvailableWithoutFetching();
+        final List<PROJECTION> projections = new ArrayList<>(available);
+        for (int i = 0; i < available; i++) {
+            final Row row = rs.one();
+            options.rowAsyncListener(row);
+            projections.add(mapper.map(row, indices));
+        }
+        return projections;
+    }
+}
@@ -40,6 +40,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.NativeStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
 
 /**
  * Native query
@@ -170,7 +171,8 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
     @Override
     public CompletableFuture<ExecutionInfo> executeAsyncWithStats() {
 
-        final StatementWrapper statementWrapper = new NativeStatementWrapper(getOperationType(boundStatement), meta, boundStatement, encodedBoundValues);
+        final StatementWrapper statementWrapper = new NativeStatementWrapper(getOperationType(boundStatement), meta, boundStatement, encodedBoundValues)
+                .withMetricsOperation(metricsOperation());
         final String queryString = statementWrapper.getBoundStatement().preparedStatement().getQueryString();
 
         if (LOGGER.isTraceEnabled()) {
@@ -212,4 +214,9 @@ public class NativeQuery implements MutationAction, RawAndTypeMapDefaultImpl {
     public CassandraOptions options() {
         return options;
     }
+
+    @Override
+    public MetricsOperation metricsOperation() {
+        return getMetricsOperation(boundStatement, MetricsOperation.NATIVE);
+    }
 }
@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.dsl.raw;
 
+import static info.archinnov.achilles.internals.futures.FutureUtils.resumeOn;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
@@ -43,6 +44,7 @@ import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 /**
@@ -164,14 +166,15 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
     public Iterator<ENTITY> iterator() {
 
         StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
-                boundStatement, encodedBoundValues);
+                boundStatement, encodedBoundValues)
+                .withMetricsOperation(metricsOperation());
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Generate iterator for typed query : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeWithMapping(statementWrapper);
         return new EntityIteratorWrapper<>(futureRS, meta, statementWrapper, options);
     }
 
@@ -194,33 +197,33 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
     public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats() {
 
         StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
-                boundStatement, encodedBoundValues);
+                boundStatement, encodedBoundValues)
+                .withMetricsOperation(metricsOperation());
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(String.format("Select async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
-        CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> futureRS = rte.executeWithMapping(statementWrapper);
 
         return futureRS
                 .thenApply(options::resultSetAsyncListener)
                 .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
                 .thenApply(statementWrapper::logTrace)
-                .thenApply(rs -> Tuple2.of(IntStream.range(0, rs.getAvailableWithoutFetching())
-                                .mapToObj(index -> {
-                                    final Row row = rs.one();
-                                    options.rowAsyncListener(row);
-                                    return meta.createEntityFrom(row);
-                                })
-                                .collect(toList()),
-                        rs.getExecutionInfo()))
-                .thenApply(tuple2 -> {
-                    for (ENTITY entity : tuple2._1()) {
-                        meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
-                    }
-                    return tuple2;
-                });
+                .thenApply(rs -> {
+                    final long mappingStart = System.nanoTime();
+                    final List<ENTITY> entities = IntStream.range(0, rs.getAvailableWithoutFetching())
+                            .mapToObj(index -> {
+                                final Row row = rs.one();
+                                options.rowAsyncListener(row);
+                                return meta.createEntityFrom(row);
+                            })
+                            .collect(toList());
+                    rte.recordMapping(statementWrapper, mappingStart, entities.size());
+                    return Tuple2.of(entities, rs.getExecutionInfo());
+                })
+                .thenCompose(tuple2 -> resumeOn(meta.triggerInterceptorsForEventAsync(Event.POST_LOAD, tuple2._1()), rte.executor).thenApply(x -> tuple2));
     }
 
     @Override
@@ -247,4 +250,9 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
     public CassandraOptions options() {
         return options;
     }
+
+    @Override
+    public MetricsOperation metricsOperation() {
+        return getMetricsOperation(boundStatement, MetricsOperation.TYPED_QUERY);
+    }
 }
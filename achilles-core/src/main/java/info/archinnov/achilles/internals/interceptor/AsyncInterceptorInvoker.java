@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.interceptor;
+
+import static java.lang.String.format;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.interceptor.InterceptorStats;
+
+/**
+ * Wrap an {@link AsyncInterceptor} to record its latency and apply its failure policy
+ */
+public class AsyncInterceptorInvoker<T> implements Interceptor<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncInterceptorInvoker.class);
+
+    private final AsyncInterceptor<T> delegate;
+    private final InterceptorStats stats;
+
+    public AsyncInterceptorInvoker(AsyncInterceptor<T> delegate, InterceptorStats stats) {
+        this.delegate = delegate;
+        this.stats = stats;
+    }
+
+    public CompletableFuture<Void> invoke(T entity, Event event) {
+        final long start = System.nanoTime();
+        CompletableFuture<Void> future;
+        try {
+            future = delegate.onEventAsync(entity, event).toCompletableFuture();
+        } catch (Throwable throwable) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(throwable);
+        }
+
+        return future.handle((result, throwable) -> {
+            stats.record(System.nanoTime() - start, throwable != null);
+            if (throwable == null) {
+                return null;
+            } else if (delegate.failurePolicy() == AsyncInterceptor.FailurePolicy.FAIL_OPEN) {
+                LOGGER.warn(format("Async interceptor %s failed on event %s, ignoring the failure (fail open)",
+                        delegate, event.name()), throwable);
+                return null;
+            } else if (throwable instanceof CompletionException) {
+                throw (CompletionException) throwable;
+            } else {
+                throw new CompletionException(throwable);
+            }
+        });
+    }
+
+    /**
+     * Blocking invocation, used on synchronous code paths like entity iterators
+     */
+    @Override
+    public void onEvent(T entity, Event event) {
+        try {
+            invoke(entity, event).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean acceptEntity(Class<?> entityClass) {
+        return delegate.acceptEntity(entityClass);
+    }
+
+    @Override
+    public List<Event> interceptOnEvents() {
+        return delegate.interceptOnEvents();
+    }
+
+    public AsyncInterceptor<T> getDelegate() {
+        return delegate;
+    }
+}
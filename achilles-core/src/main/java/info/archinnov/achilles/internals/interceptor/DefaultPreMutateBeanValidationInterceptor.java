@@ -23,13 +23,17 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.lang.annotation.Annotation;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 import javax.validation.ConstraintViolation;
+import javax.validation.GroupSequence;
 import javax.validation.Path;
 import javax.validation.Validator;
+import javax.validation.metadata.BeanDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,7 +47,7 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
     private static final String LOGGER_NAME = "info.archinnov.achilles.internals.interceptor.DefaultBeanValidatorInterceptor";
     private static final Logger LOGGER = LoggerFactory.getLogger(LOGGER_NAME);
 
-    private final Map<Class<?>, Boolean> constrainedClasses = new HashMap<>();
+    private final ConcurrentMap<Class<?>, ValidationPlan> validationPlans = new ConcurrentHashMap<>();
     private Validator validator;
 
     public DefaultPreMutateBeanValidationInterceptor(Validator validator) {
@@ -53,10 +57,7 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
 
     @Override
     public boolean acceptEntity(Class<?> entityClass) {
-        if (!constrainedClasses.containsKey(entityClass)) {
-            constrainedClasses.put(entityClass, validator.getConstraintsForClass(entityClass).isBeanConstrained());
-        }
-        final Boolean acceptEntity = constrainedClasses.get(entityClass);
+        final boolean acceptEntity = validationPlanFor(entityClass).constrained;
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Accept entity %s for bean validation ? %s", entityClass.getCanonicalName(), acceptEntity));
         }
@@ -70,7 +71,56 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
             LOGGER.debug(format("Trigger bean validation interceptor for entity of class %s and event %s",
                     entity.getClass().getCanonicalName(), event.name()));
         }
-        Set<ConstraintViolation<Object>> violations = validator.validate(entity);
+        throwIfViolations(validate(entity), event);
+    }
+
+    /**
+     * Validate all the given entities in parallel on the common fork-join pool
+     * and raise a single {@link AchillesBeanValidationException} listing all the violations
+     */
+    public void validateAll(Collection<?> entities, Event event) {
+        info.archinnov.achilles.validation.Validator.validateNotNull(entities, "Entities passed to bean validation should not be null on event %s", event.name());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Trigger bean validation for %s entities and event %s", entities.size(), event.name()));
+        }
+        final List<ConstraintViolation<Object>> violations = entities
+                .parallelStream()
+                .flatMap(entity -> {
+                    info.archinnov.achilles.validation.Validator.validateNotNull(entity, "Entity passed to bean validation should not be null on event %s", event.name());
+                    return validate(entity).stream();
+                })
+                .collect(Collectors.toList());
+        throwIfViolations(violations, event);
+    }
+
+    @Override
+    public List<Event> interceptOnEvents() {
+        return asList(PRE_INSERT, PRE_UPDATE);
+    }
+
+
+    private Set<ConstraintViolation<Object>> validate(Object entity) {
+        final ValidationPlan plan = validationPlanFor(entity.getClass());
+        if (!plan.constrained) {
+            return Collections.emptySet();
+        } else if (plan.fullValidation) {
+            return validator.validate(entity);
+        } else if (plan.properties.length == 1) {
+            return validator.validateProperty(entity, plan.properties[0]);
+        } else {
+            Set<ConstraintViolation<Object>> violations = Collections.emptySet();
+            for (String property : plan.properties) {
+                final Set<ConstraintViolation<Object>> propertyViolations = validator.validateProperty(entity, property);
+                if (propertyViolations.size() > 0) {
+                    if (violations.isEmpty()) violations = new LinkedHashSet<>();
+                    violations.addAll(propertyViolations);
+                }
+            }
+            return violations;
+        }
+    }
+
+    private void throwIfViolations(Collection<ConstraintViolation<Object>> violations, Event event) {
         if (violations.size() > 0) {
             StringBuilder errorMessage = new StringBuilder("Bean validation error on event '" + event.name() + "' : \n");
             for (ConstraintViolation<Object> violation : violations) {
@@ -80,11 +130,33 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
         }
     }
 
-    @Override
-    public List<Event> interceptOnEvents() {
-        return asList(PRE_INSERT, PRE_UPDATE);
+    private ValidationPlan validationPlanFor(Class<?> entityClass) {
+        return validationPlans.computeIfAbsent(entityClass, this::buildValidationPlan);
     }
 
+    private ValidationPlan buildValidationPlan(Class<?> entityClass) {
+        final BeanDescriptor descriptor = validator.getConstraintsForClass(entityClass);
+        final Set<PropertyDescriptor> properties = descriptor.getConstrainedProperties();
+        final boolean fullValidation = descriptor.hasConstraints()
+                || hasGroupSequence(entityClass)
+                || properties.stream().anyMatch(PropertyDescriptor::isCascaded);
+        final ValidationPlan plan = new ValidationPlan(descriptor.isBeanConstrained(), fullValidation,
+                properties.stream().map(PropertyDescriptor::getPropertyName).toArray(String[]::new));
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Bean validation plan for entity %s : %s", entityClass.getCanonicalName(), plan));
+        }
+        return plan;
+    }
+
+    private boolean hasGroupSequence(Class<?> entityClass) {
+        for (Annotation annotation : entityClass.getAnnotations()) {
+            final Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (annotationType.equals(GroupSequence.class) || annotationType.getSimpleName().equals("GroupSequenceProvider")) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     private void buildValidationErrorMessage(StringBuilder errorMessage, ConstraintViolation<Object> violation) {
         if (LOGGER.isTraceEnabled()) {
@@ -102,5 +174,28 @@ public class DefaultPreMutateBeanValidationInterceptor implements AchillesIntern
         }
     }
 
+    /**
+     * Properties to validate for a given entity class. When the class has class-level
+     * constraints, cascaded properties or a group sequence, the whole bean is validated
+     */
+    private static final class ValidationPlan {
+        private final boolean constrained;
+        private final boolean fullValidation;
+        private final String[] properties;
+
+        private ValidationPlan(boolean constrained, boolean fullValidation, String[] properties) {
+            this.constrained = constrained;
+            this.fullValidation = fullValidation;
+            this.properties = properties;
+        }
 
+        @Override
+        public String toString() {
+            return "ValidationPlan{" +
+                    "constrained=" + constrained +
+                    ", fullValidation=" + fullValidation +
+                    ", properties=" + Arrays.toString(properties) +
+                    '}';
+        }
+    }
 }
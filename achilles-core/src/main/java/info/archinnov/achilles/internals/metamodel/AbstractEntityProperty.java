@@ -23,6 +23,7 @@ import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,11 +38,13 @@ import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.injectable.*;
+import info.archinnov.achilles.internals.interceptor.AsyncInterceptorInvoker;
 import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.BeanValueExtractor;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.schema.SchemaCreator;
+import info.archinnov.achilles.internals.schema.SchemaMetadataSnapshot;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
 import info.archinnov.achilles.internals.types.OverridingOptional;
@@ -87,7 +90,11 @@ public abstract class AbstractEntityProperty<T> implements
     public final List<AbstractProperty<T, ?, ?>> constructorInjectedColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumnsWithComputed;
+    public final Map<String, List<AbstractProperty<T, ?, ?>>> lazyColumnGroups;
+    public final Set<AbstractProperty<T, ?, ?>> lazyColumns;
+    public final List<AbstractProperty<T, ?, ?>> eagerColumns;
     public final List<Interceptor<T>> interceptors = new ArrayList<>();
+    private volatile InterceptorsDispatch<T> interceptorsDispatch = new InterceptorsDispatch<>(new EnumMap<>(Event.class), EnumSet.noneOf(Event.class));
     protected BeanFactory beanFactory;
     protected Optional<String> keyspace = Optional.empty();
     protected ConsistencyLevel readConsistencyLevel;
@@ -95,6 +102,12 @@ public abstract class AbstractEntityProperty<T> implements
     protected ConsistencyLevel serialConsistencyLevel;
     protected InsertStrategy insertStrategy;
     public Optional<SchemaNameProvider> schemaStrategy = Optional.empty();
+    /**
+     * Keyspace and table name resolved from the static annotations and the injected global keyspace,
+     * used as long as no global schema name provider is injected
+     */
+    private Optional<String> resolvedKeyspace;
+    private String resolvedTableOrViewName;
 
 
     public AbstractEntityProperty() {
@@ -120,6 +133,10 @@ public abstract class AbstractEntityProperty<T> implements
         counterColumns = getCounterColumns();
         allColumns = getAllColumns();
         allColumnsWithComputed = getAllColumnsWithComputed();
+        lazyColumnGroups = getLazyColumnGroups();
+        lazyColumns = getLazyColumns();
+        eagerColumns = getEagerColumns();
+        resolveSchemaNames();
     }
 
     protected abstract Class<T> getEntityClass();
@@ -160,15 +177,20 @@ public abstract class AbstractEntityProperty<T> implements
 
     protected abstract List<AbstractProperty<T, ?, ?>> getConstructorInjectedColumns();
 
+    /**
+     * Columns annotated with @Lazy, by group name. Overridden by the generated meta class
+     * only when the entity has lazy columns
+     */
+    protected Map<String, List<AbstractProperty<T, ?, ?>>> getLazyColumnGroups() {
+        return Collections.emptyMap();
+    }
+
     protected EntityType getType() {
         return EntityType.TABLE;
     }
 
     public ConsistencyLevel readConsistency(Optional<ConsistencyLevel> runtimeConsistency) {
-        final ConsistencyLevel consistencyLevel = OverridingOptional
-                .from(runtimeConsistency)
-                .defaultValue(readConsistencyLevel)
-                .get();
+        final ConsistencyLevel consistencyLevel = runtimeConsistency.orElse(readConsistencyLevel);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Determining runtime read consistency level for entity %s : %s",
                     entityClass.getCanonicalName(), consistencyLevel.name()));
@@ -177,10 +199,7 @@ public abstract class AbstractEntityProperty<T> implements
     }
 
     public ConsistencyLevel writeConsistency(Optional<ConsistencyLevel> runtimeConsistency) {
-        final ConsistencyLevel consistencyLevel = OverridingOptional
-                .from(runtimeConsistency)
-                .defaultValue(writeConsistencyLevel)
-                .get();
+        final ConsistencyLevel consistencyLevel = runtimeConsistency.orElse(writeConsistencyLevel);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Determining runtime write consistency level for entity %s : %s",
                     entityClass.getCanonicalName(), consistencyLevel.name()));
@@ -189,10 +208,7 @@ public abstract class AbstractEntityProperty<T> implements
     }
 
     public ConsistencyLevel serialConsistency(Optional<ConsistencyLevel> runtimeConsistency) {
-        final ConsistencyLevel consistencyLevel = OverridingOptional
-                .from(runtimeConsistency)
-                .defaultValue(serialConsistencyLevel)
-                .get();
+        final ConsistencyLevel consistencyLevel = runtimeConsistency.orElse(serialConsistencyLevel);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Determining runtime serial consistency level for entity %s : %s",
                     entityClass.getCanonicalName(), consistencyLevel.name()));
@@ -217,14 +233,88 @@ public abstract class AbstractEntityProperty<T> implements
     }
 
     public void triggerInterceptorsForEvent(Event event, T instance) {
+        final Interceptor<T>[] eventInterceptors = interceptorsDispatch.interceptorsByEvent.get(event);
+        if (eventInterceptors == null) return;
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Trigger interceptors for entity %s on event %s",
                     instance, event.name()));
         }
-        interceptors
+        for (Interceptor<T> interceptor : eventInterceptors) {
+            interceptor.onEvent(instance, event);
+        }
+    }
+
+    /**
+     * Trigger the interceptors of the given event, composing the stages returned by
+     * asynchronous interceptors. When no asynchronous interceptor is registered for
+     * this event, interceptors are triggered synchronously and a completed future is returned
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<Void> triggerInterceptorsForEventAsync(Event event, T instance) {
+        final InterceptorsDispatch<T> dispatch = interceptorsDispatch;
+        if (!dispatch.asyncInterceptedEvents.contains(event)) {
+            triggerInterceptorsForEvent(event, instance);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Trigger async interceptors for entity %s on event %s",
+                    instance, event.name()));
+        }
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (Interceptor<T> interceptor : dispatch.interceptorsByEvent.get(event)) {
+            if (interceptor instanceof AsyncInterceptorInvoker) {
+                chain = chain.thenCompose(x -> ((AsyncInterceptorInvoker<T>) interceptor).invoke(instance, event));
+            } else {
+                chain = chain.thenRun(() -> interceptor.onEvent(instance, event));
+            }
+        }
+        return chain;
+    }
+
+    /**
+     * Trigger the interceptors of the given event for all the instances, see {@link #triggerInterceptorsForEventAsync(Event, Object)}
+     */
+    public CompletableFuture<Void> triggerInterceptorsForEventAsync(Event event, List<T> instances) {
+        if (!interceptorsDispatch.asyncInterceptedEvents.contains(event)) {
+            for (T instance : instances) {
+                triggerInterceptorsForEvent(event, instance);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.allOf(instances
                 .stream()
-                .filter(x -> x.interceptOnEvents().contains(event))
-                .forEach(x -> x.onEvent(instance, event));
+                .map(instance -> triggerInterceptorsForEventAsync(event, instance))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Build the per event dispatch table from the current list of interceptors.
+     * Must be called once all the interceptors have been added, events without
+     * any interceptor are left empty so that triggering them is a no-op
+     */
+    @SuppressWarnings("unchecked")
+    public void prepareInterceptorsDispatch() {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Preparing interceptors dispatch table for entity meta of %s",
+                    entityClass.getCanonicalName()));
+        }
+        final Map<Event, Interceptor<T>[]> dispatch = new EnumMap<>(Event.class);
+        final Set<Event> asyncEvents = EnumSet.noneOf(Event.class);
+        for (Event event : Event.values()) {
+            final Interceptor<T>[] eventInterceptors = interceptors
+                    .stream()
+                    .filter(x -> x.interceptOnEvents().contains(event))
+                    .toArray(Interceptor[]::new);
+            if (eventInterceptors.length > 0) {
+                dispatch.put(event, eventInterceptors);
+            }
+            if (Arrays.stream(eventInterceptors).anyMatch(x -> x instanceof AsyncInterceptorInvoker)) {
+                asyncEvents.add(event);
+            }
+        }
+        this.interceptorsDispatch = new InterceptorsDispatch<>(dispatch, asyncEvents);
     }
 
     protected abstract T newInstanceFromCustomConstructor(Row row, List<String> cqlColumns);
@@ -252,6 +342,7 @@ public abstract class AbstractEntityProperty<T> implements
                 allColumnsWithComputed
                         .stream()
                         .filter(x -> !constructorInjectedColumns.contains(x))
+                        .filter(x -> cqlColumns.contains(x.getColumnForSelect()))
                         .forEach(x -> x.decodeField(row, newInstance));
                 return newInstance;
             }
@@ -267,12 +358,26 @@ public abstract class AbstractEntityProperty<T> implements
         return BeanValueExtractor.extractPartitionKeysAndStaticValues(instance, this, cassandraOptions);
     }
 
+    public Optional<String> lazyGroupOf(AbstractProperty<T, ?, ?> column) {
+        if (!lazyColumns.contains(column)) {
+            return Optional.empty();
+        }
+        return lazyColumnGroups
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().contains(column))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
     public Optional<String> getKeyspace() {
-        final Optional<String> keyspace = OverridingOptional
-                .from(staticKeyspace)
-                .andThen(schemaStrategy.map(x -> x.keyspaceFor(entityClass)))
-                .andThen(this.keyspace)
-                .getOptional();
+        final Optional<String> keyspace = !schemaStrategy.isPresent()
+                ? resolvedKeyspace
+                : OverridingOptional
+                    .from(staticKeyspace)
+                    .andThen(schemaStrategy.map(x -> x.keyspaceFor(entityClass)))
+                    .andThen(this.keyspace)
+                    .getOptional();
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Determine runtime keyspace for entity of type %s : %s",
                     entityClass.getCanonicalName(), keyspace));
@@ -281,11 +386,13 @@ public abstract class AbstractEntityProperty<T> implements
     }
 
     public String getTableOrViewName() {
-        final String tableName = OverridingOptional
-                .from(staticTableOrViewName)
-                .andThen(schemaStrategy.map(x -> x.tableNameFor(entityClass)))
-                .defaultValue(derivedTableOrViewName)
-                .get();
+        final String tableName = !schemaStrategy.isPresent()
+                ? resolvedTableOrViewName
+                : OverridingOptional
+                    .from(staticTableOrViewName)
+                    .andThen(schemaStrategy.map(x -> x.tableNameFor(entityClass)))
+                    .defaultValue(derivedTableOrViewName)
+                    .get();
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Determine runtime table name for entity of type %s : %s",
                     entityClass.getCanonicalName(), tableName));
@@ -293,6 +400,11 @@ public abstract class AbstractEntityProperty<T> implements
         return tableName;
     }
 
+    private void resolveSchemaNames() {
+        resolvedKeyspace = staticKeyspace.isPresent() ? staticKeyspace : keyspace;
+        resolvedTableOrViewName = staticTableOrViewName.orElse(derivedTableOrViewName);
+    }
+
     public void prepareStaticStatements(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing static statements for entity of type %s",
@@ -316,6 +428,25 @@ public abstract class AbstractEntityProperty<T> implements
                 clusteringColumns, normalColumns, counterColumns, computedColumns);
     }
 
+    protected Set<AbstractProperty<T, ?, ?>> getLazyColumns() {
+        if (lazyColumnGroups.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<AbstractProperty<T, ?, ?>> lazyColumns = new HashSet<>();
+        lazyColumnGroups.values().forEach(lazyColumns::addAll);
+        return lazyColumns;
+    }
+
+    protected List<AbstractProperty<T, ?, ?>> getEagerColumns() {
+        if (lazyColumns.isEmpty()) {
+            return allColumns;
+        }
+        return allColumns
+                .stream()
+                .filter(x -> !lazyColumns.contains(x))
+                .collect(toList());
+    }
+
     public String generateSchema(SchemaContext context) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generating DDL script for entity of type %s",
@@ -328,6 +459,11 @@ public abstract class AbstractEntityProperty<T> implements
     }
 
     public void validateSchema(ConfigurationContext configContext) {
+        validateSchema(configContext, new SchemaMetadataSnapshot(configContext.getSession().getCluster().getMetadata(),
+                configContext.getBootstrapProfiler()));
+    }
+
+    public void validateSchema(ConfigurationContext configContext, SchemaMetadataSnapshot metadataSnapshot) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Validating schema for entity of type %s",
                     entityClass.getCanonicalName()));
@@ -337,11 +473,7 @@ public abstract class AbstractEntityProperty<T> implements
         Validator.validateNotBlank(keyspace,
                 "Current keyspace not provided neither in configuration nor on entity '%s' annotation", entityClass.getCanonicalName());
 
-        final KeyspaceMetadata keyspaceMetadata = configContext
-                .getSession()
-                .getCluster()
-                .getMetadata()
-                .getKeyspace(keyspace);
+        final KeyspaceMetadata keyspaceMetadata = metadataSnapshot.getKeyspace(keyspace);
 
         validateNotNull(keyspaceMetadata,"The keyspace %s defined on entity %s does not exist in Cassandra",
                 keyspace, entityClass.getCanonicalName());
@@ -350,6 +482,7 @@ public abstract class AbstractEntityProperty<T> implements
 
         final TableMetadata tableMetadata = keyspaceMetadata
                 .getTable(tableName);
+        configContext.getBootstrapProfiler().recordMetadataLookup();
 
         validateNotNull(tableMetadata,"The table %s defined on entity %s does not exist in Cassandra",
                 tableName, entityClass.getCanonicalName());
@@ -373,6 +506,7 @@ public abstract class AbstractEntityProperty<T> implements
                     keyspace, entityClass.getCanonicalName()));
         }
         this.keyspace = Optional.of(keyspace);
+        resolveSchemaNames();
 
         allColumns.stream().forEach(x -> x.injectKeyspace(keyspace));
     }
@@ -509,4 +643,18 @@ public abstract class AbstractEntityProperty<T> implements
     public enum EntityType {
         TABLE, VIEW
     }
+
+    /**
+     * Interceptors by event and events having at least one asynchronous interceptor,
+     * published together through a single volatile field
+     */
+    private static final class InterceptorsDispatch<T> {
+        final Map<Event, Interceptor<T>[]> interceptorsByEvent;
+        final Set<Event> asyncInterceptedEvents;
+
+        InterceptorsDispatch(Map<Event, Interceptor<T>[]> interceptorsByEvent, Set<Event> asyncInterceptedEvents) {
+            this.interceptorsByEvent = interceptorsByEvent;
+            this.asyncInterceptedEvents = asyncInterceptedEvents;
+        }
+    }
 }
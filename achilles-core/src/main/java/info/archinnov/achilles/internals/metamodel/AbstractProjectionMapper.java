@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.List;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.utils.NamingHelper;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Base class of the mappers generated for each {@literal @}Projection interface.
+ * <br/>
+ * The column indices are resolved once per result set with {@link #resolveIndices(ColumnDefinitions)}
+ * then each row is decoded by index straight into the generated immutable projection
+ */
+public abstract class AbstractProjectionMapper<ENTITY, PROJECTION> {
+
+    public abstract Class<ENTITY> getEntityClass();
+
+    public abstract Class<PROJECTION> getProjectionClass();
+
+    /**
+     * Properties of the entity read by the projection, in the order expected by {@link #mapRow(Row, int[])}
+     */
+    protected abstract List<AbstractProperty<ENTITY, ?, ?>> getProperties();
+
+    protected abstract PROJECTION mapRow(Row row, int[] indices);
+
+    public int[] resolveIndices(ColumnDefinitions columnDefinitions) {
+        final List<AbstractProperty<ENTITY, ?, ?>> properties = getProperties();
+        final int[] indices = new int[properties.size()];
+        for (int i = 0; i < indices.length; i++) {
+            final String column = NamingHelper.maybeQuote(properties.get(i).getColumnForSelect());
+            indices[i] = columnDefinitions.getIndexOf(column);
+            Validator.validateTrue(indices[i] >= 0,
+                    "Column '%s' required by projection '%s' is not selected", column, getProjectionClass().getCanonicalName());
+        }
+        return indices;
+    }
+
+    public PROJECTION map(Row row, int[] indices) {
+        if (row == null) return null;
+        return mapRow(row, indices);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.GettableByIndexData;
 import com.datastax.driver.core.GettableData;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
@@ -134,6 +135,18 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
 
     abstract VALUEFROM decodeFromGettableInternal(GettableData gettableData);
 
+    /**
+     * Decode the value at the given index of the GettableByIndexData (UDTValue, TupleValue, ...) to Java value
+     * using Achilles codec system. Unlike {@link #decodeFromGettable(GettableData)}, there is no column name lookup
+     * @param gettableData
+     * @param index
+     * @return
+     */
+    public VALUEFROM decodeFromGettable(GettableByIndexData gettableData, int index) {
+        if (gettableData.isNull(index)) return decodeFromRaw(null);
+        return decodeFromRaw(gettableData.get(index, valueToTypeToken));
+    }
+
     /**
      * Decode the given raw object to Java value value using Achilles codec system
      * @param o
@@ -228,6 +241,18 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
      */
     public abstract void encodeFieldToUdt(ENTITY entity, UDTValue udtValue, Optional<CassandraOptions> cassandraOptions);
 
+    /**
+     * Same as {@link #encodeFieldToUdt(Object, UDTValue, Optional)} but set the encoded value
+     * at the given index of the UDTValue instead of looking up the field by name
+     * @param entity
+     * @param udtValue
+     * @param index
+     * @param cassandraOptions
+     */
+    public void encodeFieldToUdt(ENTITY entity, UDTValue udtValue, int index, Optional<CassandraOptions> cassandraOptions) {
+        udtValue.set(index, encodeField(entity, cassandraOptions), valueToTypeToken);
+    }
+
     public abstract boolean containsUDTProperty();
 
     public abstract List<AbstractUDTClassProperty<?>> getUDTClassProperties();
@@ -245,6 +270,17 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         fieldInfo.setter.set(entity, valuefrom);
     }
 
+    /**
+     * Same as {@link #decodeField(GettableData, Object)} but read the value at the given index
+     * @param gettableData
+     * @param index
+     * @param entity
+     */
+    public void decodeField(GettableByIndexData gettableData, int index, ENTITY entity) {
+        final VALUEFROM valuefrom = decodeFromGettable(gettableData, index);
+        fieldInfo.setter.set(entity, valuefrom);
+    }
+
     /**
      * Call the getter on the given entity to get the value
      * @param entity
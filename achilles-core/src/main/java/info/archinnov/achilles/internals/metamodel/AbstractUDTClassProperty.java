@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.metamodel;
 
 import static java.lang.String.format;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,6 +54,7 @@ public abstract class AbstractUDTClassProperty<A>
         InjectJacksonMapper, InjectRuntimeCodecs, InjectSchemaStrategy {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractUDTClassProperty.class);
+    private static final int MAX_DECODE_PLANS = 8;
 
     public final Optional<String> staticKeyspace;
     public final Optional<InternalNamingStrategy> staticNamingStrategy;
@@ -61,10 +63,13 @@ public abstract class AbstractUDTClassProperty<A>
     public final String udtName;
     public final List<AbstractProperty<A, ?, ?>> componentsProperty;
     public final List<AbstractProperty<A, ?, ?>> constructorInjectedProperty;
+    public final List<AbstractProperty<A, ?, ?>> setterInjectedProperty;
     public final Class<?> parentEntityClass;
     protected BeanFactory udtFactory;
     protected UserTypeFactory userTypeFactory;
-    protected UserType userType;
+    protected volatile UserType userType;
+    protected volatile UserType frozenUserType;
+    private volatile UDTDecodePlan[] decodePlans = new UDTDecodePlan[0];
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
     String keyspace;
 
@@ -76,6 +81,10 @@ public abstract class AbstractUDTClassProperty<A>
         this.udtClass = getUdtClass();
         this.componentsProperty = getComponentsProperty();
         this.constructorInjectedProperty = getConstructorInjectedProperty();
+        this.setterInjectedProperty = componentsProperty
+                .stream()
+                .filter(x -> !constructorInjectedProperty.contains(x))
+                .collect(Collectors.toList());
         this.parentEntityClass = getParentEntityClass();
     }
 
@@ -97,36 +106,99 @@ public abstract class AbstractUDTClassProperty<A>
 
     protected abstract UDTValue createUDTFromBean(A instance, boolean frozen, Optional<CassandraOptions> cassandraOptions);
 
-    protected abstract A newInstanceFromCustomConstructor(UDTValue udtValue);
+    /**
+     * Instantiate the UDT class using the custom constructor
+     * @param udtValue
+     * @param constructorIndices index in the UDTValue of each constructor-injected property, in order
+     * @return
+     */
+    protected abstract A newInstanceFromCustomConstructor(UDTValue udtValue, int[] constructorIndices);
 
     protected A createBeanFromUDT(UDTValue udtValue) {
         if (udtValue != null) {
+            final UDTDecodePlan plan = getDecodePlan(udtValue.getType());
             final A instance;
             if (constructorInjectedProperty.size() == 0) {
                 instance = udtFactory.newInstance(udtClass);
-                componentsProperty
-                        .stream()
-                        .forEach(x -> x.decodeField(udtValue, instance));
             } else {
-                instance = newInstanceFromCustomConstructor(udtValue);
+                instance = newInstanceFromCustomConstructor(udtValue, plan.constructorIndices);
+            }
 
-                // Call setters for remaining fields not injected by constructor
-                componentsProperty
-                        .stream()
-                        .filter(x -> !constructorInjectedProperty.contains(x))
-                        .forEach(x -> x.decodeField(udtValue, instance));
+            // Call setters for remaining fields not injected by constructor
+            final int[] setterIndices = plan.setterIndices;
+            for (int i = 0; i < setterIndices.length; i++) {
+                setterInjectedProperty.get(i).decodeField(udtValue, setterIndices[i], instance);
             }
             return instance;
         }
         return null;
     }
 
+    /**
+     * The field order of a UserType read from Cassandra may differ from the declaration order
+     * of the UDT class (fields added by ALTER TYPE for example) so the index of each property
+     * is resolved once per UserType and re-used for every UDTValue of this type.
+     * <br/>
+     * The same UDT class can be decoded against several UserTypes (frozen and non-frozen, or
+     * one per keyspace) so up to {@link #MAX_DECODE_PLANS} plans are kept, the oldest being evicted first
+     */
+    UDTDecodePlan getDecodePlan(UserType type) {
+        final UDTDecodePlan[] plans = decodePlans;
+        for (UDTDecodePlan plan : plans) {
+            if (plan.userType == type) return plan;
+        }
+        for (UDTDecodePlan plan : plans) {
+            if (plan.userType.equals(type)) return plan;
+        }
+
+        final UDTDecodePlan plan = new UDTDecodePlan(type,
+                indicesOf(type, constructorInjectedProperty),
+                indicesOf(type, setterInjectedProperty));
+        final int kept = Math.min(plans.length, MAX_DECODE_PLANS - 1);
+        final UDTDecodePlan[] newPlans = new UDTDecodePlan[kept + 1];
+        System.arraycopy(plans, plans.length - kept, newPlans, 0, kept);
+        newPlans[kept] = plan;
+        decodePlans = newPlans;
+        return plan;
+    }
+
+    private int[] indicesOf(UserType type, List<AbstractProperty<A, ?, ?>> properties) {
+        final List<String> fieldNames = new ArrayList<>(type.getFieldNames());
+        final int[] indices = new int[properties.size()];
+        for (int i = 0; i < indices.length; i++) {
+            final String cqlColumn = properties.get(i).fieldInfo.cqlColumn;
+            indices[i] = fieldNames.indexOf(cqlColumn);
+            Validator.validateTrue(indices[i] >= 0, "Cannot find field '%s' of UDT class '%s' in the user type %s",
+                    cqlColumn, udtClass.getCanonicalName(), type);
+        }
+        return indices;
+    }
+
+    /**
+     * The UserType is built once per frozen/non-frozen usage, unless a runtime SchemaNameProvider
+     * is given. The fields of this UserType are in the same order as {@link #componentsProperty}
+     * so the generated <em>createUDTFromBean</em> method can set them by index
+     */
     protected UserType getUserType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
-        if (cassandraOptions.isPresent() || userType == null) {
+        if (cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider).isPresent()) {
             return buildType(frozen, cassandraOptions);
-        } else {
-            return userType;
         }
+
+        UserType cached = frozen ? frozenUserType : userType;
+        if (cached == null) {
+            cached = buildType(frozen, Optional.empty());
+            if (frozen) {
+                frozenUserType = cached;
+            } else {
+                userType = cached;
+            }
+        }
+        return cached;
+    }
+
+    private void resetUserTypes() {
+        userType = null;
+        frozenUserType = null;
     }
 
     public UserType buildType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
@@ -183,7 +255,7 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.inject(userTypeFactory, tupleTypeFactory);
         }
-        //userType = this.buildType(frozen, schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
+        resetUserTypes();
     }
 
     @Override
@@ -206,11 +278,13 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.injectKeyspace(keyspace);
         }
+        resetUserTypes();
     }
 
     @Override
     public void inject(SchemaNameProvider schemaNameProvider) {
         this.schemaNameProvider = Optional.ofNullable(schemaNameProvider);
+        resetUserTypes();
     }
 
     @Override
@@ -240,4 +314,16 @@ public abstract class AbstractUDTClassProperty<A>
     public int hashCode() {
         return Objects.hash(staticKeyspace, staticNamingStrategy, staticUdtName, udtClass, udtName, keyspace);
     }
+
+    static final class UDTDecodePlan {
+        final UserType userType;
+        final int[] constructorIndices;
+        final int[] setterIndices;
+
+        UDTDecodePlan(UserType userType, int[] constructorIndices, int[] setterIndices) {
+            this.userType = userType;
+            this.constructorIndices = constructorIndices;
+            this.setterIndices = setterIndices;
+        }
+    }
 }
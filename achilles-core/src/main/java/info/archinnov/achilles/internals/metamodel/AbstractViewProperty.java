@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +42,7 @@ import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
 import info.archinnov.achilles.internals.schema.SchemaContext;
 import info.archinnov.achilles.internals.schema.SchemaCreator;
+import info.archinnov.achilles.internals.schema.SchemaMetadataSnapshot;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
 import info.archinnov.achilles.type.interceptor.Event;
@@ -80,7 +82,7 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
     }
 
     @Override
-    public void validateSchema(ConfigurationContext configContext) {
+    public void validateSchema(ConfigurationContext configContext, SchemaMetadataSnapshot metadataSnapshot) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Validating schema for entity of type %s",
                     entityClass.getCanonicalName()));
@@ -90,11 +92,7 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
         Validator.validateNotBlank(keyspace,
                 "Current keyspace not provided neither in configuration nor on entity '%s' annotation", entityClass.getCanonicalName());
 
-        final KeyspaceMetadata keyspaceMetadata = configContext
-                .getSession()
-                .getCluster()
-                .getMetadata()
-                .getKeyspace(keyspace);
+        final KeyspaceMetadata keyspaceMetadata = metadataSnapshot.getKeyspace(keyspace);
 
         validateNotNull(keyspaceMetadata,"The keyspace {} defined on entity {} does not exist in Cassandra",
                 keyspace, entityClass.getCanonicalName());
@@ -103,6 +101,7 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
 
         final MaterializedViewMetadata viewMetadata = keyspaceMetadata
                 .getMaterializedView(tableName);
+        configContext.getBootstrapProfiler().recordMetadataLookup();
 
         validateNotNull(viewMetadata,"The view {} defined on entity {} does not exist in Cassandra",
                 tableName, entityClass.getCanonicalName());
@@ -166,6 +165,14 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
         super.triggerInterceptorsForEvent(event, instance);
     }
 
+    @Override
+    public CompletableFuture<Void> triggerInterceptorsForEventAsync(Event event, T instance) {
+        if (event != Event.POST_LOAD) {
+            throw new RuntimeException("Cannot execute mutation for the materialized view " + getDerivedTableOrViewName());
+        }
+        return super.triggerInterceptorsForEventAsync(event, instance);
+    }
+
     @Override
     public InsertStrategy insertStrategy() {
         throw new RuntimeException("Cannot execute mutation for the materialized view " + getDerivedTableOrViewName());
@@ -117,6 +117,11 @@ public class ComputedProperty<ENTITY, VALUEFROM, VALUETO> extends AbstractProper
         throw new UnsupportedOperationException(format("No UDT encoding for computed field '%s'", fieldInfo.fieldName));
     }
 
+    @Override
+    public void encodeFieldToUdt(ENTITY entity, UDTValue udtValue, int index, Optional<CassandraOptions> cassandraOptions) {
+        throw new UnsupportedOperationException(format("No UDT encoding for computed field '%s'", fieldInfo.fieldName));
+    }
+
     @Override
     public boolean containsUDTProperty() {
         return false;
@@ -26,6 +26,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.GettableByIndexData;
 import com.datastax.driver.core.GettableData;
 import com.datastax.driver.core.SettableData;
 import com.datastax.driver.core.UDTValue;
@@ -107,6 +108,21 @@ public class JdkOptionalProperty<ENTITY, FROM, TO> extends AbstractProperty<ENTI
         }
     }
 
+    @Override
+    public Optional<FROM> decodeFromGettable(GettableByIndexData gettableData, int index) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Decode '%s' optional from index %s of gettable object %s", fieldName, index, gettableData));
+        }
+
+        final TO raw = gettableData.get(index, valueToTypeToken);
+        final FROM decoded = raw == null ? null : aProperty.decodeFromRawInternal(raw);
+        if (decoded == null) {
+            return Optional.empty();
+        } else {
+            return Optional.of(decoded);
+        }
+    }
+
     @Override
     Optional<FROM> decodeFromRawInternal(Object o) {
         if (LOGGER.isTraceEnabled()) {
@@ -133,6 +149,14 @@ public class JdkOptionalProperty<ENTITY, FROM, TO> extends AbstractProperty<ENTI
         }
     }
 
+    @Override
+    public void encodeFieldToUdt(ENTITY entity, UDTValue udtValue, int index, Optional<CassandraOptions> cassandraOptions) {
+        final TO encoded = aProperty.encodeField(entity, cassandraOptions);
+        if (encoded != null) {
+            udtValue.set(index, encoded, valueToTypeToken);
+        }
+    }
+
     @Override
     public boolean containsUDTProperty() {
         return aProperty.containsUDTProperty();
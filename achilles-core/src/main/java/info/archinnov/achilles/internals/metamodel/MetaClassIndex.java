@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.util.*;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+/**
+ * Index of the meta classes generated by the annotation processor, written to
+ * <strong>META-INF/achilles/meta.index</strong> of the compiled classes.
+ * <br/>
+ * Each line holds a kind and a fully qualified class name separated by a space. Lines starting with '#' are comments.
+ * Besides the generated classes, the index records as <strong>SOURCE</strong> the annotated classes
+ * (entities, views, projections, registries and compile-time config) they were generated from,
+ * so that the annotation processor can resolve them again when only some of them are recompiled.
+ * All index resources visible from the class loader are merged so each module of a multi-module
+ * project can ship its own index. When building a shaded jar, the index resources should be appended
+ * (e.g. with the Maven shade <em>AppendingTransformer</em>) rather than overwritten
+ */
+public class MetaClassIndex {
+
+    public static final String INDEX_RESOURCE = "META-INF/achilles/meta.index";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetaClassIndex.class);
+
+    public enum Kind {
+        ENTITY,
+        VIEW,
+        UDT,
+        FUNCTION,
+        SOURCE
+    }
+
+    private final SortedMap<String, Kind> entries;
+
+    public MetaClassIndex(SortedMap<String, Kind> entries) {
+        this.entries = entries;
+    }
+
+    public static MetaClassIndex empty() {
+        return new MetaClassIndex(new TreeMap<>());
+    }
+
+    /**
+     * Read and merge all index resources visible from the given class loader
+     */
+    public static MetaClassIndex load(ClassLoader classLoader) {
+        final MetaClassIndex index = empty();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Reading meta class index %s", url));
+                }
+                try (Reader reader = new InputStreamReader(url.openStream(), UTF_8)) {
+                    index.read(reader);
+                }
+            }
+        } catch (IOException e) {
+            throw new AchillesException(format("Cannot read meta class index '%s'", INDEX_RESOURCE), e);
+        }
+        return index;
+    }
+
+    /**
+     * Merge the entries of the given reader into this index
+     */
+    public MetaClassIndex read(Reader reader) throws IOException {
+        final BufferedReader bufferedReader = new BufferedReader(reader);
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            final String[] kindAndClassName = line.split("\\s+");
+            final Optional<Kind> kind = kindAndClassName.length == 2
+                    ? Arrays.stream(Kind.values()).filter(x -> x.name().equals(kindAndClassName[0])).findFirst()
+                    : Optional.empty();
+            if (kind.isPresent()) {
+                entries.put(kindAndClassName[1], kind.get());
+            } else {
+                LOGGER.warn(format("Ignoring malformed line '%s' in meta class index", line));
+            }
+        }
+        return this;
+    }
+
+    public MetaClassIndex add(Kind kind, String className) {
+        entries.put(className, kind);
+        return this;
+    }
+
+    /**
+     * Remove the entries whose class name does not match the given predicate,
+     * e.g. generated classes which no longer exist after an incremental build
+     */
+    public MetaClassIndex retain(Predicate<String> classNameFilter) {
+        entries.keySet().removeIf(classNameFilter.negate());
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public List<String> getClassNames(Kind kind) {
+        final List<String> classNames = new ArrayList<>();
+        entries.forEach((className, entryKind) -> {
+            if (entryKind == kind) {
+                classNames.add(className);
+            }
+        });
+        return classNames;
+    }
+
+    /**
+     * Load the indexed classes of the given kinds. Classes which cannot be found are skipped
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<Class<? extends T>> loadClasses(ClassLoader classLoader, Class<T> superType, Kind... kinds) {
+        final List<Class<? extends T>> classes = new ArrayList<>();
+        for (Kind kind : kinds) {
+            for (String className : getClassNames(kind)) {
+                try {
+                    final Class<?> clazz = Class.forName(className, false, classLoader);
+                    if (superType.isAssignableFrom(clazz)) {
+                        classes.add((Class<? extends T>) clazz);
+                    } else {
+                        LOGGER.warn(format("Ignoring indexed class %s which is not a sub-type of %s",
+                                className, superType.getCanonicalName()));
+                    }
+                } catch (ClassNotFoundException e) {
+                    LOGGER.warn(format("Ignoring indexed class %s which cannot be found", className));
+                }
+            }
+        }
+        return classes;
+    }
+
+    public String toIndexContent() {
+        final StringBuilder builder = new StringBuilder("# Generated by Achilles annotation processor, do not edit\n");
+        entries.forEach((className, kind) -> builder.append(kind.name()).append(" ").append(className).append("\n"));
+        return builder.toString();
+    }
+}
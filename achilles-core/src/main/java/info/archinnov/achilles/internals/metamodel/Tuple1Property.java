@@ -16,7 +16,6 @@
 
 package info.archinnov.achilles.internals.metamodel;
 
-import static info.archinnov.achilles.internals.cql.TupleExtractor.extractType;
 import static java.lang.String.format;
 
 import java.util.Arrays;
@@ -26,7 +25,6 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
 import com.datastax.driver.core.TupleType;
 import com.datastax.driver.core.TupleValue;
@@ -83,8 +81,8 @@ public class Tuple1Property<ENTITY, A> extends AbstractTupleProperty<ENTITY, Tup
             LOGGER.trace(format("Decode '%s' tuple1 raw object %s", fieldName, o));
         }
         Validator.validateTrue(TupleValue.class.isAssignableFrom(o.getClass()), "The class of object %s to decode should be %s", o, TupleValue.class.getCanonicalName());
-        final List<DataType> types = tupleType.getComponentTypes();
-        return new Tuple1<>(aProperty.decodeFromRaw(extractType((TupleValue) o, types.get(0), aProperty, 0)));
+        final TupleValue tupleValue = (TupleValue) o;
+        return new Tuple1<>(aProperty.decodeFromGettable(tupleValue, 0));
     }
 
     @Override
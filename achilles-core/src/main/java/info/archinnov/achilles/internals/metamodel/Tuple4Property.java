@@ -16,7 +16,6 @@
 
 package info.archinnov.achilles.internals.metamodel;
 
-import static info.archinnov.achilles.internals.cql.TupleExtractor.extractType;
 import static java.lang.String.format;
 
 import java.util.Arrays;
@@ -26,7 +25,6 @@ import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.GettableData;
 import com.datastax.driver.core.TupleType;
 import com.datastax.driver.core.TupleValue;
@@ -94,12 +92,12 @@ public class Tuple4Property<ENTITY, A, B, C, D> extends AbstractTupleProperty<EN
         }
 
         Validator.validateTrue(TupleValue.class.isAssignableFrom(o.getClass()), "The class of object %s to decode should be %s", o, TupleValue.class.getCanonicalName());
-        final List<DataType> types = tupleType.getComponentTypes();
+        final TupleValue tupleValue = (TupleValue) o;
         return new Tuple4<>(
-                aProperty.decodeFromRaw(extractType((TupleValue) o, types.get(0), aProperty, 0)),
-                bProperty.decodeFromRaw(extractType((TupleValue) o, types.get(1), bProperty, 1)),
-                cProperty.decodeFromRaw(extractType((TupleValue) o, types.get(2), cProperty, 2)),
-                dProperty.decodeFromRaw(extractType((TupleValue) o, types.get(3), dProperty, 3)));
+                aProperty.decodeFromGettable(tupleValue, 0),
+                bProperty.decodeFromGettable(tupleValue, 1),
+                cProperty.decodeFromGettable(tupleValue, 2),
+                dProperty.decodeFromGettable(tupleValue, 3));
     }
 
     @Override
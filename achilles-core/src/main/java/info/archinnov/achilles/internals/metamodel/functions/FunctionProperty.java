@@ -23,9 +23,9 @@ import java.util.stream.Collectors;
 
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.KeyspaceMetadata;
-import com.datastax.driver.core.Metadata;
 
 import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.schema.SchemaMetadataSnapshot;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.validation.Validator;
 
@@ -43,7 +43,11 @@ public class FunctionProperty {
     }
 
     public void validate(ConfigurationContext configContext) {
-        final Metadata metadata = configContext.getSession().getCluster().getMetadata();
+        validate(configContext, new SchemaMetadataSnapshot(configContext.getSession().getCluster().getMetadata(),
+                configContext.getBootstrapProfiler()));
+    }
+
+    public void validate(ConfigurationContext configContext, SchemaMetadataSnapshot metadataSnapshot) {
 
         final Optional<String> definedKeyspace = OverridingOptional
                 .from(keyspace)
@@ -53,7 +57,7 @@ public class FunctionProperty {
         Validator.validateTrue(definedKeyspace.isPresent(), "No keyspace value defined on function '%s' annotation " +
                 "nor at Achilles runtime", this.toString());
 
-        final KeyspaceMetadata keyspaceMetadata = metadata.getKeyspace(definedKeyspace.get());
+        final KeyspaceMetadata keyspaceMetadata = metadataSnapshot.getKeyspace(definedKeyspace.get());
 
         final long matchingUDF = keyspaceMetadata
                 .getFunctions()
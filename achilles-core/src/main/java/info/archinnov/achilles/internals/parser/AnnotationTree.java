@@ -110,6 +110,7 @@ public class AnnotationTree {
                                 Counter.class.getCanonicalName().equals(annotationName) ||
                                 TimeUUID.class.getCanonicalName().equals(annotationName) ||
                                 ASCII.class.getCanonicalName().equals(annotationName) ||
+                                Compressed.class.getCanonicalName().equals(annotationName) ||
                                 Codec.class.getCanonicalName().equals(annotationName) ||
                                 RuntimeCodec.class.getCanonicalName().equals(annotationName) ||
                                 Index.class.getCanonicalName().equals(annotationName) ||
@@ -187,6 +188,7 @@ public class AnnotationTree {
                                     Counter.class.getCanonicalName().equals(annotationName) ||
                                     TimeUUID.class.getCanonicalName().equals(annotationName) ||
                                     ASCII.class.getCanonicalName().equals(annotationName) ||
+                                    Compressed.class.getCanonicalName().equals(annotationName) ||
                                     Codec.class.getCanonicalName().equals(annotationName) ||
                                     RuntimeCodec.class.getCanonicalName().equals(annotationName) ||
                                     Index.class.getCanonicalName().equals(annotationName) ||
@@ -228,9 +230,10 @@ public class AnnotationTree {
         final Counter counter = varElm.getAnnotation(Counter.class);
         final TimeUUID timeUUID = varElm.getAnnotation(TimeUUID.class);
         final ASCII ascii = varElm.getAnnotation(ASCII.class);
+        final Compressed compressed = varElm.getAnnotation(Compressed.class);
 
         parsingContext.fieldValidator().validateCompatibleCodecAnnotationsOnField(aptUtils, fieldName, className, frozen,
-                json, enumerated, codec, runtimeCodec, computed, counter, timeUUID, ascii);
+                json, enumerated, codec, runtimeCodec, computed, counter, timeUUID, ascii, compressed);
 
         final List<? extends TypeMirror> nestedTypes = currentType.getKind() == TypeKind.DECLARED ?
                 MoreTypes.asDeclared(currentType).getTypeArguments() : Arrays.asList();
@@ -252,6 +255,7 @@ public class AnnotationTree {
                             Counter.class.getCanonicalName().equals(annotationName) ||
                             TimeUUID.class.getCanonicalName().equals(annotationName) ||
                             ASCII.class.getCanonicalName().equals(annotationName) ||
+                            Compressed.class.getCanonicalName().equals(annotationName) ||
                             Codec.class.getCanonicalName().equals(annotationName) ||
                             RuntimeCodec.class.getCanonicalName().equals(annotationName) ||
                             Index.class.getCanonicalName().equals(annotationName) ||
@@ -283,6 +287,7 @@ public class AnnotationTree {
                                     areSameByClass(x, Counter.class) ||
                                     areSameByClass(x, TimeUUID.class) ||
                                     areSameByClass(x, ASCII.class) ||
+                                    areSameByClass(x, Compressed.class) ||
                                     areSameByClass(x, Codec.class) ||
                                     areSameByClass(x, RuntimeCodec.class) ||
                                     areSameByClass(x, Index.class) ||
@@ -517,7 +522,10 @@ public class AnnotationTree {
 
     private static TypedMap inspectSupportedAnnotation_Javac(AptUtils aptUtils, TypeMirror currentType, AnnotationMirror annotation) {
         final TypedMap typedMap = new TypedMap();
-        if(areSameByClass(annotation, Enumerated.class)){
+        if (areSameByClass(annotation, Compressed.class)) {
+            final int threshold = getElementValue(annotation, "threshold", Integer.class, true);
+            return TypedMap.of("threshold", threshold);
+        } else if(areSameByClass(annotation, Enumerated.class)){
             final Enumerated.Encoding encoding = getElementValueEnum(annotation, "value", Enumerated.Encoding.class, true);
             return TypedMap.of("value", encoding);
         } else if (areSameByClass(annotation, Codec.class)) {
@@ -588,6 +596,8 @@ public class AnnotationTree {
             return TimeUUID.class;
         } else if (areSameByClass(annotationMirror, ASCII.class)) {
             return ASCII.class;
+        } else if (areSameByClass(annotationMirror, Compressed.class)) {
+            return Compressed.class;
         } else if (areSameByClass(annotationMirror, Codec.class)) {
             return Codec.class;
         } else if (areSameByClass(annotationMirror, RuntimeCodec.class)) {
@@ -680,6 +690,14 @@ public class AnnotationTree {
             return Tuple2.of(TimeUUID.class, typedMap);
         } else if (ASCII.class.getCanonicalName().equals(annotationName)) {
             return Tuple2.of(ASCII.class, typedMap);
+        } else if (Compressed.class.getCanonicalName().equals(annotationName)) {
+            final Integer threshold = Arrays.asList(annotationBinding.getElementValuePairs())
+                    .stream()
+                    .filter(pair -> new String(pair.getName()).equals("threshold"))
+                    .map(pair -> ((IntConstant) pair.getValue()).intValue())
+                    .findFirst().orElse(Compressed.DEFAULT_THRESHOLD);
+            typedMap.put("threshold", threshold);
+            return Tuple2.of(Compressed.class, typedMap);
         } else if (Codec.class.getCanonicalName().equals(annotationName)) {
             final Optional<String> codecClassName = Arrays.asList(annotationBinding.getElementValuePairs())
                     .stream()
@@ -19,6 +19,7 @@ package info.archinnov.achilles.internals.parser;
 import static com.google.auto.common.MoreTypes.asDeclared;
 import static info.archinnov.achilles.internals.apt.AptUtils.*;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
+import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 
@@ -121,6 +122,7 @@ public class CodecFactory {
         final Optional<TypedMap> enumerated = extractTypedMap(annotationTree, Enumerated.class);
         final Optional<TypedMap> codecFromType = extractTypedMap(annotationTree, Codec.class);
         final Optional<TypedMap> runtimeCodec = extractTypedMap(annotationTree, RuntimeCodec.class);
+        final Optional<TypedMap> compressed = extractTypedMap(annotationTree, Compressed.class);
         final Optional<TypedMap> computed = extractTypedMap(annotationTree, Computed.class);
         final Optional<TypeName> computedCQLClass = computed
                 .map(x -> x.<Class<?>>getTyped("cqlClass"))
@@ -148,6 +150,9 @@ public class CodecFactory {
             codec = tuple2._2();
             targetType = tuple2._1();
             return new CodecInfo(codec, sourceType, targetType);
+        } else if (compressed.isPresent()) {
+            codec = compressedCodecCodeGen(compressed.get(), sourceType, fieldName, className);
+            return new CodecInfo(codec, sourceType, BYTE_BUFFER);
         } else if (typeMirror.getKind() == TypeKind.ARRAY && typeMirror.toString().equals("byte[]")) {
             if (codecFromRegistry.isPresent()) {
                 return codecFromRegistry.get();
@@ -185,6 +190,7 @@ public class CodecFactory {
         TypeMirror typeMirror = annotationTree.getCurrentType();
 
         final Optional<TypedMap> jsonTransform = extractTypedMap(annotationTree, JSON.class);
+        final Optional<TypedMap> compressed = extractTypedMap(annotationTree, Compressed.class);
         final Optional<TypedMap> enumerated = extractTypedMap(annotationTree, Enumerated.class);
         final Optional<TypedMap> codecFromType = extractTypedMap(annotationTree, Codec.class);
         final Optional<TypedMap> runtimeCodec = extractTypedMap(annotationTree, RuntimeCodec.class);
@@ -196,6 +202,9 @@ public class CodecFactory {
 
         if (jsonTransform.isPresent()) {
             return ClassName.get(String.class);
+        } else if (compressed.isPresent()) {
+            validateCompressedSourceType(sourceType, format("param '%s' of method '%s' in class '%s'", paramName, methodName, parentType));
+            return BYTE_BUFFER;
         } else if (codecFromType.isPresent()) {
             final CodecContext codecContext = codecFromType.get().getTyped("codecContext");
             context.fieldValidator().validateCodec(aptUtils, typeValidator, codecContext, sourceType, computedCQLClass, isCounter);
@@ -285,6 +294,27 @@ public class CodecFactory {
         }
     }
 
+    private CodeBlock compressedCodecCodeGen(TypedMap annotationInfo, TypeName sourceType, String fieldName, String className) {
+        final int threshold = annotationInfo.getTyped("threshold");
+        aptUtils.validateTrue(threshold >= 0, "The compression threshold on field '%s' in class '%s' should be positive or zero",
+                fieldName, className);
+        validateCompressedSourceType(sourceType, format("field '%s' in class '%s'", fieldName, className));
+        if (sourceType.equals(STRING)) {
+            return CodeBlock.builder().add("new $T($L)", COMPRESSED_STRING_CODEC, threshold).build();
+        } else if (sourceType.equals(NATIVE_BYTE_ARRAY)) {
+            return CodeBlock.builder().add("new $T($L)", COMPRESSED_BYTE_ARRAY_CODEC, threshold).build();
+        } else {
+            return CodeBlock.builder().add("new $T($L)", COMPRESSED_BYTE_BUFFER_CODEC, threshold).build();
+        }
+    }
+
+    private void validateCompressedSourceType(TypeName sourceType, String location) {
+        aptUtils.validateTrue(sourceType.equals(STRING) || sourceType.equals(NATIVE_BYTE_ARRAY) || sourceType.equals(BYTE_BUFFER),
+                "Incorrect use of @Compressed annotation on %s because its type '%s' " +
+                "is not mapped to a blob column. Only java.lang.String, byte[] and java.nio.ByteBuffer are supported",
+                location, sourceType);
+    }
+
     CodeBlock buildJavaTypeForJackson(TypeName sourceType) {
         if (sourceType instanceof ClassName) {
             final ClassName className = (ClassName) sourceType;
@@ -18,10 +18,13 @@ package info.archinnov.achilles.internals.parser;
 
 import static info.archinnov.achilles.internals.parser.TypeUtils.getRawType;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.TypeElement;
 
 import com.google.auto.common.MoreElements;
 import com.squareup.javapoet.TypeName;
@@ -43,10 +46,15 @@ public class CodecRegistryParser extends AbstractBeanParser{
     }
 
     public void parseCodecs(RoundEnvironment roundEnv, GlobalParsingContext parsingContext) {
+        parseCodecs(roundEnv.getElementsAnnotatedWith(CodecRegistry.class)
+                .stream()
+                .map(MoreElements::asType)
+                .collect(Collectors.toList()), parsingContext);
+    }
+
+    public void parseCodecs(Collection<TypeElement> codecRegistryTypes, GlobalParsingContext parsingContext) {
         Map<TypeName, CodecInfo> map = new HashMap<>();
-        roundEnv.getElementsAnnotatedWith(CodecRegistry.class)
-            .stream()
-            .map(MoreElements::asType)
+        codecRegistryTypes
             .forEach(typeElm -> {
                 final String className = typeElm.getQualifiedName().toString();
                 extractCandidateFields(typeElm, FieldFilter.CODEC_RELATED_ANNOTATIONS).forEach(varElm -> {
@@ -77,6 +77,8 @@ public class FieldInfoParser {
         final Tuple2<CodeBlock, ColumnType> columnTypeCode = buildColumnType(context.globalContext, elm, fieldName, rawEntityClass);
         final Tuple2<CodeBlock, ColumnInfo> columnInfoCode = buildColumnInfo(context.globalContext, annotationTree, elm, fieldName, rawEntityClass);
 
+        final Optional<String> lazyGroup = ofNullable(elm.getAnnotation(Lazy.class)).map(Lazy::group);
+
         final Optional<TypedMap> sasiAnnot = extractTypedMap(annotationTree, SASI.class);
         final Optional<TypedMap> dseSearchAnnot = extractTypedMap(annotationTree, DSE_Search.class);
 
@@ -140,7 +142,7 @@ public class FieldInfoParser {
         return new FieldInfoContext(CodeBlock.builder()
                 .add("new $T<>($L, $L, $S, $S, $L, $L, $L)", FIELD_INFO, getterLambda, setterLambda,
                         fieldName, cqlColumn, columnTypeCode._1(), columnInfoCode._1(), indexInfoCode._1())
-                .build(), fieldName, cqlColumn, columnTypeCode._2(), columnInfoCode._2(), indexInfoCode._2());
+                .build(), fieldName, cqlColumn, columnTypeCode._2(), columnInfoCode._2(), indexInfoCode._2(), lazyGroup);
     }
 
     protected List<String> deriveGetterName(VariableElement elm) {
@@ -60,6 +60,10 @@ public class FunctionParamParser {
 
         if (containsAnnotation(annotationTree, JSON.class)) {
             return new FunctionParamSignature(paramName, sourceType, STRING, "text");
+        } else if (containsAnnotation(annotationTree, Compressed.class)) {
+            final TypeName targetType = codecFactory.determineTargetCQLType(context, annotationTree, parentType, sourceType,
+                    methodName, paramName, Optional.empty());
+            return new FunctionParamSignature(paramName, sourceType, targetType, "blob");
         } else if (containsAnnotation(annotationTree, Computed.class)) {
             throw new AchillesBeanMappingException(format("Cannot have @Computed annotation on param '%s' of method '%s''", paramName, methodName));
         } else if (aptUtils.isAssignableFrom(Tuple1.class, currentTypeMirror)) {
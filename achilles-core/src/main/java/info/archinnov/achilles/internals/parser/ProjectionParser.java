@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.parser;
+
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.StringUtils.capitalize;
+
+import java.util.List;
+import java.util.Optional;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+import com.squareup.javapoet.TypeName;
+
+import info.archinnov.achilles.annotations.Projection;
+import info.archinnov.achilles.internals.apt.AptUtils;
+import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
+import info.archinnov.achilles.internals.parser.FieldParser.FieldMetaSignature;
+import info.archinnov.achilles.internals.parser.context.ProjectionSignature;
+import info.archinnov.achilles.internals.parser.context.ProjectionSignature.ProjectionPropertySignature;
+
+public class ProjectionParser {
+
+    public static ProjectionSignature parseProjection(AptUtils aptUtils, TypeElement elm, List<EntityMetaSignature> entitySignatures) {
+        final String projectionName = elm.getQualifiedName().toString();
+
+        aptUtils.validateTrue(elm.getKind() == ElementKind.INTERFACE,
+                "@Projection type '%s' should be an interface", projectionName);
+
+        final TypeName entityType = extractEntityType(elm);
+
+        final Optional<EntityMetaSignature> entitySignature = entitySignatures
+                .stream()
+                .filter(x -> x.entityRawClass.equals(entityType))
+                .findFirst();
+
+        aptUtils.validateTrue(entitySignature.isPresent(),
+                "The entity '%s' of @Projection type '%s' should be annotated by @Table or @MaterializedView",
+                entityType, projectionName);
+
+        final List<ProjectionPropertySignature> properties = ElementFilter.methodsIn(aptUtils.elementUtils.getAllMembers(elm))
+                .stream()
+                .filter(method -> method.getModifiers().contains(Modifier.ABSTRACT))
+                .map(method -> parseAccessor(aptUtils, projectionName, method, entitySignature.get()))
+                .collect(toList());
+
+        aptUtils.validateFalse(properties.isEmpty(),
+                "@Projection type '%s' should declare at least one accessor", projectionName);
+
+        return new ProjectionSignature(TypeName.get(aptUtils.erasure(elm)), elm.getSimpleName().toString(),
+                entitySignature.get(), properties);
+    }
+
+    private static ProjectionPropertySignature parseAccessor(AptUtils aptUtils, String projectionName, ExecutableElement method,
+                                                             EntityMetaSignature entitySignature) {
+        final String methodName = method.getSimpleName().toString();
+        final TypeMirror returnType = method.getReturnType();
+
+        aptUtils.validateTrue(method.getParameters().isEmpty(),
+                "Method '%s' of @Projection type '%s' should not have any parameter", methodName, projectionName);
+        aptUtils.validateFalse(returnType.getKind() == TypeKind.VOID,
+                "Method '%s' of @Projection type '%s' should not return void", methodName, projectionName);
+
+        final Optional<FieldMetaSignature> fieldMeta = entitySignature.fieldMetaSignatures
+                .stream()
+                .filter(x -> matchAccessor(methodName, x.context.fieldName))
+                .findFirst();
+
+        aptUtils.validateTrue(fieldMeta.isPresent(),
+                "Method '%s' of @Projection type '%s' does not match any field of entity '%s'",
+                methodName, projectionName, entitySignature.entityRawClass);
+
+        final TypeName returnTypeName = TypeName.get(returnType);
+        aptUtils.validateTrue(returnTypeName.box().equals(fieldMeta.get().sourceType.box()),
+                "Method '%s' of @Projection type '%s' should return '%s' to match field '%s' of entity '%s'",
+                methodName, projectionName, fieldMeta.get().sourceType, fieldMeta.get().context.fieldName,
+                entitySignature.entityRawClass);
+
+        return new ProjectionPropertySignature(methodName, returnTypeName, fieldMeta.get());
+    }
+
+    private static boolean matchAccessor(String methodName, String fieldName) {
+        return methodName.equals(fieldName)
+                || methodName.equals("get" + capitalize(fieldName))
+                || methodName.equals("is" + capitalize(fieldName));
+    }
+
+    public static TypeName extractEntityType(TypeElement elm) {
+        try {
+            final Class<?> entityClass = elm.getAnnotation(Projection.class).entity();
+            return TypeName.get(entityClass);
+        } catch (MirroredTypeException e) {
+            return TypeName.get(e.getTypeMirror());
+        }
+    }
+}
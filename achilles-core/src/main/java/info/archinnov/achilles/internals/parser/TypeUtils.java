@@ -72,6 +72,7 @@ import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.internals.types.RuntimeCodecWrapper;
 import info.archinnov.achilles.internals.utils.TypeNameHelper;
 import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.primitives.*;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 import info.archinnov.achilles.type.tuples.*;
 import info.archinnov.achilles.validation.Validator;
@@ -113,12 +114,14 @@ public class TypeUtils {
     public static final String RAW_QUERY_SUFFIX = "_RAW_QUERY";
     public static final String FUNCTION_TYPE_SUFFIX = "_Type";
     public static final String FUNCTION_PROPERTY_SUFFIX = "_FunctionProperty";
+    public static final String PROJECTION_SUFFIX = "_Projection";
     public static final String GENERATED_PACKAGE = "info.archinnov.achilles.generated";
     public static final String ENTITY_META_PACKAGE = "info.archinnov.achilles.generated.meta.entity";
     public static final String UDT_META_PACKAGE = "info.archinnov.achilles.generated.meta.udt";
     public static final String MANAGER_PACKAGE = "info.archinnov.achilles.generated.manager";
     public static final String FUNCTION_PACKAGE = "info.archinnov.achilles.generated.function";
     public static final String DSL_PACKAGE = "info.archinnov.achilles.generated.dsl";
+    public static final String PROJECTION_PACKAGE = "info.archinnov.achilles.generated.projection";
     public static final String MANAGER_FACTORY_BUILDER_CLASS_NAME = "ManagerFactoryBuilder";
     public static final String MANAGER_FACTORY_CLASS_NAME = "ManagerFactory";
     public static final String FUNCTIONS_REGISTRY_CLASS = "FunctionsRegistry";
@@ -129,6 +132,9 @@ public class TypeUtils {
 
     // Codecs
     public static final ClassName JSON_CODEC = ClassName.get(JSONCodec.class);
+    public static final ClassName COMPRESSED_STRING_CODEC = ClassName.get(CompressedStringCodec.class);
+    public static final ClassName COMPRESSED_BYTE_ARRAY_CODEC = ClassName.get(CompressedByteArrayCodec.class);
+    public static final ClassName COMPRESSED_BYTE_BUFFER_CODEC = ClassName.get(CompressedByteBufferCodec.class);
     public static final ClassName ENUM_NAME_CODEC = ClassName.get(EnumNameCodec.class);
 
     public static final ClassName ENUM_ORDINAL_CODEC = ClassName.get(EnumOrdinalCodec.class);
@@ -169,6 +175,7 @@ public class TypeUtils {
     public static final ClassName SASI_NORMALIZATION = ClassName.get(Normalization.class);
 
     public static final ClassName ABSTRACT_PROPERTY = ClassName.get(AbstractProperty.class);
+    public static final ClassName ABSTRACT_PROJECTION_MAPPER = ClassName.get(AbstractProjectionMapper.class);
     public static final ClassName ABSTRACT_UDT_CLASS_PROPERTY = ClassName.get(AbstractUDTClassProperty.class);
     public static final ClassName FUNCTION_PROPERTY = ClassName.get(FunctionProperty.class);
 
@@ -232,6 +239,7 @@ public class TypeUtils {
     public static final ClassName UPDATE_WITH_OPTIONS = ClassName.get(UpdateWithOptions.class);
     public static final ClassName INSERT_JSON_WITH_OPTIONS = ClassName.get(InsertJSONWithOptions.class);
     public static final ClassName FIND_WITH_OPTIONS = ClassName.get(FindWithOptions.class);
+    public static final ClassName LOAD_GROUP_WITH_OPTIONS = ClassName.get(LoadGroupWithOptions.class);
     public static final ClassName DELETE_WITH_OPTIONS = ClassName.get(DeleteWithOptions.class);
     public static final ClassName DELETE_BY_PARTITION_WITH_OPTIONS = ClassName.get(DeleteByPartitionWithOptions.class);
     public static final ClassName INTERNAL_CASSANDRA_VERSION = ClassName.get(InternalCassandraVersion.class);
@@ -248,6 +256,7 @@ public class TypeUtils {
     public static final ClassName CLASS = ClassName.get(Class.class);
     public static final ClassName ARRAYS_UTILS = ClassName.get(ArrayUtils.class);
     public static final ClassName ARRAY_LIST = ClassName.get(ArrayList.class);
+    public static final ClassName HASH_MAP = ClassName.get(HashMap.class);
     public static final ClassName ARRAYS = ClassName.get(Arrays.class);
     public static final ClassName COLLECTORS = ClassName.get(Collectors.class);
     public static final ClassName SETS = ClassName.get(Sets.class);
@@ -275,6 +284,13 @@ public class TypeUtils {
     public static final TypeName FLOAT_ARRAY = TypeName.get(float[].class);
     public static final TypeName INT_ARRAY = TypeName.get(int[].class);
     public static final TypeName LONG_ARRAY = TypeName.get(long[].class);
+    public static final TypeName INT_SET = ClassName.get(IntSet.class);
+    public static final TypeName LONG_SET = ClassName.get(LongSet.class);
+    public static final TypeName INT_INT_MAP = ClassName.get(IntIntMap.class);
+    public static final TypeName INT_LONG_MAP = ClassName.get(IntLongMap.class);
+    public static final TypeName INT_DOUBLE_MAP = ClassName.get(IntDoubleMap.class);
+    public static final TypeName LONG_LONG_MAP = ClassName.get(LongLongMap.class);
+    public static final TypeName LONG_DOUBLE_MAP = ClassName.get(LongDoubleMap.class);
     public static final TypeName NATIVE_BOOLEAN = TypeName.get(boolean.class);
     public static final TypeName OBJECT_BOOLEAN = ClassName.get(Boolean.class);
     public static final TypeName NATIVE_BYTE = TypeName.get(byte.class);
@@ -385,6 +401,31 @@ public class TypeUtils {
 //        NATIVE_TYPES_MAPPING.put(INT_ARRAY, genericType(LIST, OBJECT_INT));
 //        NATIVE_TYPES_MAPPING.put(LONG_ARRAY, genericType(LIST, OBJECT_LONG));
 
+        // Primitive collections
+        ALLOWED_TYPES_2_1.add(INT_SET);
+        ALLOWED_TYPES_2_1.add(LONG_SET);
+        ALLOWED_TYPES_2_1.add(INT_INT_MAP);
+        ALLOWED_TYPES_2_1.add(INT_LONG_MAP);
+        ALLOWED_TYPES_2_1.add(INT_DOUBLE_MAP);
+        ALLOWED_TYPES_2_1.add(LONG_LONG_MAP);
+        ALLOWED_TYPES_2_1.add(LONG_DOUBLE_MAP);
+
+        DRIVER_TYPES_MAPPING.put(INT_SET, "set(DataType.cint())");
+        DRIVER_TYPES_MAPPING.put(LONG_SET, "set(DataType.bigint())");
+        DRIVER_TYPES_MAPPING.put(INT_INT_MAP, "map(DataType.cint(), DataType.cint())");
+        DRIVER_TYPES_MAPPING.put(INT_LONG_MAP, "map(DataType.cint(), DataType.bigint())");
+        DRIVER_TYPES_MAPPING.put(INT_DOUBLE_MAP, "map(DataType.cint(), DataType.cdouble())");
+        DRIVER_TYPES_MAPPING.put(LONG_LONG_MAP, "map(DataType.bigint(), DataType.bigint())");
+        DRIVER_TYPES_MAPPING.put(LONG_DOUBLE_MAP, "map(DataType.bigint(), DataType.cdouble())");
+
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(INT_SET, "set<int>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(LONG_SET, "set<bigint>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(INT_INT_MAP, "map<int, int>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(INT_LONG_MAP, "map<int, bigint>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(INT_DOUBLE_MAP, "map<int, double>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(LONG_LONG_MAP, "map<bigint, bigint>");
+        DRIVER_TYPES_FUNCTION_PARAM_MAPPING.put(LONG_DOUBLE_MAP, "map<bigint, double>");
+
         // Boolean
         ALLOWED_TYPES_2_1.add(NATIVE_BOOLEAN);
         ALLOWED_TYPES_2_1.add(OBJECT_BOOLEAN);
@@ -16,6 +16,8 @@
 
 package info.archinnov.achilles.internals.parser.context;
 
+import java.util.Optional;
+
 import com.squareup.javapoet.CodeBlock;
 
 import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
@@ -32,8 +34,13 @@ public class FieldInfoContext {
     public final ColumnType columnType;
     public final ColumnInfo columnInfo;
     public final IndexInfo indexInfo;
+    public final Optional<String> lazyGroup;
 
     public FieldInfoContext(CodeBlock codeBlock, String fieldName, String cqlColumn, ColumnType columnType, ColumnInfo columnInfo, IndexInfo indexInfo) {
+        this(codeBlock, fieldName, cqlColumn, columnType, columnInfo, indexInfo, Optional.empty());
+    }
+
+    public FieldInfoContext(CodeBlock codeBlock, String fieldName, String cqlColumn, ColumnType columnType, ColumnInfo columnInfo, IndexInfo indexInfo, Optional<String> lazyGroup) {
         this.codeBlock = codeBlock;
         this.fieldName = fieldName;
         this.cqlColumn = cqlColumn;
@@ -41,5 +48,6 @@ public class FieldInfoContext {
         this.quotedCqlColumn = NamingHelper.maybeQuote(cqlColumn);
         this.columnType = columnType;
         this.columnInfo = columnInfo;
+        this.lazyGroup = lazyGroup;
     }
 }
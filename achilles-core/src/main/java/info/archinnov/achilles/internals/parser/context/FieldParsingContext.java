@@ -20,6 +20,7 @@ import static info.archinnov.achilles.internals.parser.TypeUtils.FIELD_INFO;
 
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Optional;
 import javax.lang.model.element.TypeElement;
 
 import com.squareup.javapoet.CodeBlock;
@@ -47,6 +48,7 @@ public class FieldParsingContext {
     public final ColumnType columnType;
     public final ColumnInfo columnInfo;
     public final IndexInfo indexInfo;
+    public final Optional<String> lazyGroup;
     public boolean buildExtractor;
 
     public static FieldParsingContext forConfig(GlobalParsingContext parsingContext, TypeElement typeElement, TypeName typeName, String className, String fieldName) {
@@ -61,6 +63,7 @@ public class FieldParsingContext {
         this.columnType = null;
         this.columnInfo = null;
         this.indexInfo = null;
+        this.lazyGroup = Optional.empty();
         this.cqlColumn = null;
         this.quotedCqlColumn = null;
         this.entityRawType = null;
@@ -76,6 +79,7 @@ public class FieldParsingContext {
         this.columnType = fieldInfoContext.columnType;
         this.columnInfo = fieldInfoContext.columnInfo;
         this.indexInfo = fieldInfoContext.indexInfo;
+        this.lazyGroup = fieldInfoContext.lazyGroup;
         this.className = entityContext.className;
         this.simpleClassName = className.replaceAll("([^.]+\\.)" ,"");
         this.cqlColumn = fieldInfoContext.cqlColumn;
@@ -92,14 +96,14 @@ public class FieldParsingContext {
         return new FieldParsingContext(entityContext, entityRawType, new FieldInfoContext(
                 CodeBlock.builder().add("$T.<$T, $T> of($S, $S, true)", FIELD_INFO, entityType, sourceType,
                         fieldName, cqlColumn).build(),
-                fieldName, cqlColumn, columnType, columnInfo, indexInfo), false);
+                fieldName, cqlColumn, columnType, columnInfo, indexInfo, lazyGroup), false);
     }
 
     public FieldParsingContext forOptionalType(TypeName entityType, TypeName nestedType, boolean frozen) {
         return new FieldParsingContext(entityContext, entityRawType, new FieldInfoContext(
                 CodeBlock.builder().add("$T.<$T, $T> of($S, $S, $L)", FIELD_INFO, entityType, nestedType,
                     cqlColumn, fieldName, frozen).build(),
-                fieldName, cqlColumn, columnType, columnInfo, indexInfo), true);
+                fieldName, cqlColumn, columnType, columnInfo, indexInfo, lazyGroup), true);
     }
 
     @Override
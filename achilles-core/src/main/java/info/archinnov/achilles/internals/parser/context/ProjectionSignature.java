@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.parser.context;
+
+import static info.archinnov.achilles.internals.parser.TypeUtils.PROJECTION_PACKAGE;
+import static info.archinnov.achilles.internals.parser.TypeUtils.PROJECTION_SUFFIX;
+
+import java.util.List;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
+import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
+import info.archinnov.achilles.internals.parser.FieldParser.FieldMetaSignature;
+
+public class ProjectionSignature {
+    public final TypeName projectionType;
+    public final String className;
+    public final ClassName generatedType;
+    public final EntityMetaSignature entitySignature;
+    public final List<ProjectionPropertySignature> properties;
+
+    public ProjectionSignature(TypeName projectionType, String simpleName, EntityMetaSignature entitySignature,
+                               List<ProjectionPropertySignature> properties) {
+        this.projectionType = projectionType;
+        this.className = simpleName + PROJECTION_SUFFIX;
+        this.generatedType = ClassName.get(PROJECTION_PACKAGE, className);
+        this.entitySignature = entitySignature;
+        this.properties = properties;
+    }
+
+    public static class ProjectionPropertySignature {
+        public final String methodName;
+        public final TypeName returnType;
+        public final FieldMetaSignature fieldMetaSignature;
+
+        public ProjectionPropertySignature(String methodName, TypeName returnType, FieldMetaSignature fieldMetaSignature) {
+            this.methodName = methodName;
+            this.returnType = returnType;
+            this.fieldMetaSignature = fieldMetaSignature;
+        }
+
+        public String fieldName() {
+            return fieldMetaSignature.context.fieldName;
+        }
+    }
+}
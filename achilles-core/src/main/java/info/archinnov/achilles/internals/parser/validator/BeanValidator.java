@@ -18,6 +18,7 @@ package info.archinnov.achilles.internals.parser.validator;
 
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import java.util.*;
 import javax.lang.model.element.*;
@@ -241,6 +242,30 @@ public abstract class BeanValidator {
                 });
     }
 
+    public void validateLazyColumns(AptUtils aptUtils, TypeName rawClassType, List<FieldMetaSignature> parsingResults,
+                                    List<FieldMetaSignature> constructorInjectedResults) {
+        final List<String> constructorInjectedFields = constructorInjectedResults
+                .stream()
+                .map(x -> x.context.fieldName)
+                .collect(toList());
+
+        parsingResults
+                .stream()
+                .filter(x -> x.context.lazyGroup.isPresent())
+                .forEach(x -> {
+                    final ColumnType columnType = x.context.columnType;
+                    aptUtils.validateFalse(columnType == ColumnType.PARTITION || columnType == ColumnType.CLUSTERING || columnType == ColumnType.COMPUTED,
+                            "Field '%s' of class '%s' cannot be @Lazy because it is a %s column",
+                            x.context.fieldName, rawClassType, columnType.name().toLowerCase());
+                    aptUtils.validateFalse(constructorInjectedFields.contains(x.context.fieldName),
+                            "Field '%s' of class '%s' cannot be @Lazy because it is injected by the custom constructor",
+                            x.context.fieldName, rawClassType);
+                    aptUtils.validateFalse(isBlank(x.context.lazyGroup.get()),
+                            "The group of @Lazy annotation on field '%s' of class '%s' should not be blank",
+                            x.context.fieldName, rawClassType);
+                });
+    }
+
     public void validateViewsAgainstBaseTable(AptUtils aptUtils, List<EntityMetaSignature> viewSignatures, List<EntityMetaSignature> entitySignatures) {
         // No op by default
     }
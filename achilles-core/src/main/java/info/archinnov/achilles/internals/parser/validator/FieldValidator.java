@@ -119,7 +119,7 @@ public abstract class FieldValidator {
                                                                  Frozen frozen, JSON json, Enumerated enumerated, Codec codec,
                                                                  RuntimeCodec runtimeCodec,
                                                                  Computed computed, Counter counter,
-                                                                 TimeUUID timeUUID, ASCII ascii) {
+                                                                 TimeUUID timeUUID, ASCII ascii, Compressed compressed) {
 
         checkNoMutuallyExclusiveCodecAnnotations(aptUtils, fieldName, className, asList(json, codec, runtimeCodec, enumerated, frozen));
 
@@ -127,6 +127,7 @@ public abstract class FieldValidator {
         checkNoMutuallyExclusiveCodecAnnotations(aptUtils, fieldName, className, counter, asList(frozen, json, enumerated, computed));
         checkNoMutuallyExclusiveCodecAnnotations(aptUtils, fieldName, className, timeUUID, asList(frozen, json, enumerated, codec, runtimeCodec, computed, counter, ascii));
         checkNoMutuallyExclusiveCodecAnnotations(aptUtils, fieldName, className, ascii, asList(frozen, json, enumerated, codec, runtimeCodec, computed, counter, timeUUID));
+        checkNoMutuallyExclusiveCodecAnnotations(aptUtils, fieldName, className, compressed, asList(frozen, json, enumerated, codec, runtimeCodec, computed, counter, timeUUID, ascii));
 
     }
 
@@ -22,6 +22,7 @@ import static info.archinnov.achilles.internals.statement.StatementHelper.isSele
 import static info.archinnov.achilles.validation.Validator.*;
 import static java.lang.String.format;
 
+import java.util.Collection;
 import java.util.Optional;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -33,11 +34,13 @@ import com.datastax.driver.core.*;
 import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertJSONWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.LoadGroupWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.UpdateWithOptions;
 import info.archinnov.achilles.internals.dsl.raw.NativeQuery;
 import info.archinnov.achilles.internals.dsl.raw.TypedQuery;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractManager<ENTITY> {
@@ -94,6 +97,27 @@ public abstract class AbstractManager<ENTITY> {
         return rte.getCluster();
     }
 
+    /**
+     * Run the bean validation (JSR 303) on all the given entities in parallel, before submitting them
+     * in a batch or a bulk write. All the constraint violations are reported in a single
+     * {@link info.archinnov.achilles.exception.AchillesBeanValidationException}.
+     * This method is a no-op if bean validation is not enabled
+     *
+     * @param instances entities to be validated
+     * @param event     mutation event reported in the validation error message, usually PRE_INSERT or PRE_UPDATE
+     */
+    public void validateAll(Collection<ENTITY> instances, Event event) {
+        validateNotNull(instances, "Entities to be validated should not be null");
+        validateNotNull(event, "Event for bean validation should not be null");
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Validate %s entities of type %s for event %s", instances.size(),
+                    entityClass.getCanonicalName(), event.name()));
+        }
+        rte.configContext
+                .getPreMutateBeanValidationInterceptor()
+                .ifPresent(interceptor -> interceptor.validateAll(instances, event));
+    }
+
     protected InsertWithOptions<ENTITY> insertInternal(ENTITY instance, boolean insertStatic, Optional<CassandraOptions> cassandraOptions) {
 
         validateNotNull(instance, "Entity to be inserted should not be null");
@@ -151,6 +175,20 @@ public abstract class AbstractManager<ENTITY> {
         return new DeleteWithOptions<>(entityClass, meta_internal, rte, tuple._1(), tuple._2(), Optional.of(instance), cassandraOptions);
     }
 
+    protected LoadGroupWithOptions<ENTITY> loadGroupInternal(ENTITY instance, String group, Optional<CassandraOptions> cassandraOptions) {
+        validateNotNull(instance, "Entity to load the lazy group into should not be null");
+        validateTrue(meta_internal.lazyColumnGroups.containsKey(group), "Unknown lazy group '%s' for entity '%s'",
+                group, entityClass.getCanonicalName());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create load lazy group '%s' CRUD for entity %s", group, instance));
+        }
+
+        validatePrimaryKey(instance, meta_internal, cassandraOptions);
+        final Tuple2<Object[], Object[]> tuple = BeanValueExtractor.extractPrimaryKeyValues(instance, meta_internal, cassandraOptions);
+        return new LoadGroupWithOptions<>(meta_internal, rte, instance, group, tuple._1(), tuple._2(), cassandraOptions);
+    }
+
     protected TypedQuery<ENTITY> typedQueryForSelectInternal(BoundStatement boundStatement) {
         validateTrue(isSelectStatement(boundStatement), "Statement provided for typed query should be an SELECT statement");
 
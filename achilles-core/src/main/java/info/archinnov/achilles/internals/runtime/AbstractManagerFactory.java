@@ -16,13 +16,10 @@
 
 package info.archinnov.achilles.internals.runtime;
 
-import static info.archinnov.achilles.internals.schema.SchemaCreator.generateSchemaAtRuntime;
-import static info.archinnov.achilles.internals.schema.SchemaCreator.generateUDTAtRuntime;
 import static java.lang.String.format;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import javax.annotation.PreDestroy;
 
@@ -39,15 +36,30 @@ import com.datastax.driver.extras.codecs.jdk8.LocalDateCodec;
 import com.datastax.driver.extras.codecs.jdk8.LocalTimeCodec;
 import com.datastax.driver.extras.codecs.jdk8.ZonedDateTimeCodec;
 
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.exception.AchillesSchemaValidationException;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
+import info.archinnov.achilles.internals.codec.*;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProjectionMapper;
 import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
 import info.archinnov.achilles.internals.metamodel.functions.FunctionProperty;
+import info.archinnov.achilles.internals.schema.SchemaCreationPlanner;
+import info.archinnov.achilles.internals.schema.SchemaMetadataSnapshot;
+import info.archinnov.achilles.internals.schema.SchemaValidationCache;
 import info.archinnov.achilles.internals.utils.CodecRegistryHelper;
+import info.archinnov.achilles.internals.utils.ParallelTasksHelper;
+import info.archinnov.achilles.type.bootstrap.BootstrapPhase;
+import info.archinnov.achilles.type.bootstrap.BootstrapReport;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
+import info.archinnov.achilles.type.interceptor.InterceptorStats;
+import info.archinnov.achilles.type.metrics.MetricsRecorder;
+import info.archinnov.achilles.type.metrics.TraceStageSummary;
+import info.archinnov.achilles.type.primitives.*;
 
 public abstract class AbstractManagerFactory {
 
@@ -70,6 +82,14 @@ public abstract class AbstractManagerFactory {
     protected abstract InternalCassandraVersion getCassandraVersion();
     protected abstract List<AbstractUDTClassProperty<?>> getUdtClassProperties();
 
+    /**
+     * Mappers generated for the {@literal @}Projection types, overridden by the generated ManagerFactory
+     * when the compilation unit declares projections
+     */
+    protected List<AbstractProjectionMapper<?, ?>> getProjectionMappers() {
+        return Collections.emptyList();
+    }
+
     /**
      * Provide the statically computed table name with keyspace (if defined) for a given entity class
      *
@@ -92,6 +112,34 @@ public abstract class AbstractManagerFactory {
         return tableName;
     }
 
+    /**
+     * Provide the invocation statistics (count, failures, latency) of each registered {@link AsyncInterceptor}
+     *
+     * @return live statistics per async interceptor
+     */
+    public Map<AsyncInterceptor<?>, InterceptorStats> getAsyncInterceptorStats() {
+        return configContext.getAsyncInterceptorStats();
+    }
+
+    /**
+     * Provide the {@link MetricsRecorder} configured for this manager factory
+     *
+     * @return the configured metrics recorder, {@link MetricsRecorder#NO_OP} if none
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return configContext.getMetricsRecorder();
+    }
+
+    /**
+     * Provide the server-side timings aggregated per tracing stage for the statements
+     * sampled by the tracing sampler, sorted by descending total duration
+     *
+     * @return per-stage timing summaries, empty if tracing sampling is not configured
+     */
+    public List<TraceStageSummary> getTraceStageSummaries() {
+        return rte.tracingSampler.getStageSummaries();
+    }
+
     /**
      * Shutdown the manager factory and the related session and executor service (if they are created by Achilles).
      * If the Java driver Session object and/or the executor service were provided as bootstrap parameter, Achilles
@@ -101,6 +149,8 @@ public abstract class AbstractManagerFactory {
     public void shutDown() {
         LOGGER.info("Calling shutdown on ManagerFactory");
 
+        rte.tracingSampler.shutDown();
+
         if (!configContext.isProvidedSession()) {
             LOGGER.info(format("Closing built Session object %s", rte.session));
             rte.session.close();
@@ -111,16 +161,42 @@ public abstract class AbstractManagerFactory {
         }
     }
 
+    /**
+     * Provide the time spent, round trips, prepared statements and metadata lookups
+     * of each bootstrap phase and of each entity class within a phase
+     *
+     * @return bootstrap report
+     */
+    public BootstrapReport getBootstrapReport() {
+        return configContext.getBootstrapProfiler().getReport();
+    }
+
     protected void bootstrap() {
-        addNativeCodecs();
-        injectDependencies();
-        if (configContext.isForceSchemaGeneration()) {
-            createSchema();
+        final BootstrapProfiler profiler = configContext.getBootstrapProfiler();
+        profiler.start();
+        try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.ADD_NATIVE_CODECS)) {
+            addNativeCodecs();
+        }
+        try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.INJECT_DEPENDENCIES)) {
+            injectDependencies();
+        }
+        if (configContext.isForceSchemaGeneration() || configContext.isSchemaMigration()) {
+            try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.CREATE_SCHEMA)) {
+                createSchema();
+            }
         }
         if (configContext.isValidateSchema()) {
-            validateSchema();
+            try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.VALIDATE_SCHEMA)) {
+                validateSchema();
+            }
+        }
+        try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.PREPARE_STATIC_STATEMENTS)) {
+            prepareStaticStatements();
+        }
+        final BootstrapReport report = profiler.finish();
+        if (configContext.isBootstrapReportLogging()) {
+            LOGGER.info(report.toSummary(10));
         }
-        prepareStaticStatements();
     }
 
     protected void addNativeCodecs() {
@@ -148,6 +224,34 @@ public abstract class AbstractManagerFactory {
             codecRegistry.register(LongArrayCodec.instance);
         }
 
+        if (!codecRegistryHelper.hasCodecFor(DataType.set(DataType.cint()), IntSet.class)) {
+            codecRegistry.register(IntSetCodec.instance);
+        }
+
+        if (!codecRegistryHelper.hasCodecFor(DataType.set(DataType.bigint()), LongSet.class)) {
+            codecRegistry.register(LongSetCodec.instance);
+        }
+
+        if (!codecRegistryHelper.hasCodecFor(DataType.map(DataType.cint(), DataType.cint()), IntIntMap.class)) {
+            codecRegistry.register(IntIntMapCodec.instance);
+        }
+
+        if (!codecRegistryHelper.hasCodecFor(DataType.map(DataType.cint(), DataType.bigint()), IntLongMap.class)) {
+            codecRegistry.register(IntLongMapCodec.instance);
+        }
+
+        if (!codecRegistryHelper.hasCodecFor(DataType.map(DataType.cint(), DataType.cdouble()), IntDoubleMap.class)) {
+            codecRegistry.register(IntDoubleMapCodec.instance);
+        }
+
+        if (!codecRegistryHelper.hasCodecFor(DataType.map(DataType.bigint(), DataType.bigint()), LongLongMap.class)) {
+            codecRegistry.register(LongLongMapCodec.instance);
+        }
+
+        if (!codecRegistryHelper.hasCodecFor(DataType.map(DataType.bigint(), DataType.cdouble()), LongDoubleMap.class)) {
+            codecRegistry.register(LongDoubleMapCodec.instance);
+        }
+
         if (!codecRegistryHelper.hasCodecFor(DataType.timestamp(), java.time.Instant.class)) {
             codecRegistry.register(InstantCodec.instance);
         }
@@ -173,27 +277,81 @@ public abstract class AbstractManagerFactory {
         rte.tupleTypeFactory = tupleTypeFactory;
         rte.userTypeFactory = userTypeFactory;
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
+        final BootstrapProfiler profiler = configContext.getBootstrapProfiler();
         entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> configContext.injectDependencies(tupleTypeFactory, userTypeFactory, x));
+                .forEach(x -> {
+                    try (BootstrapProfiler.Step step = profiler.startStep(BootstrapPhase.INJECT_DEPENDENCIES, x.entityClass)) {
+                        configContext.injectDependencies(tupleTypeFactory, userTypeFactory, x);
+                    }
+                });
+        getProjectionMappers().forEach(rte::registerProjectionMapper);
     }
 
+    /**
+     * Validate all entities and functions in parallel against a single metadata snapshot.
+     * A single problem is rethrown as is, several problems are aggregated into
+     * an {@link AchillesSchemaValidationException}
+     */
     protected void validateSchema() {
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
+        final BootstrapProfiler profiler = configContext.getBootstrapProfiler();
+        final Metadata metadata = configContext.getSession().getCluster().getMetadata();
+        final SchemaMetadataSnapshot metadataSnapshot = new SchemaMetadataSnapshot(metadata, profiler);
+        final Optional<SchemaValidationCache> validationCache = configContext.getSchemaValidationCache();
+        final Map<String, String> validatedHashes = new ConcurrentHashMap<>();
+        final List<Runnable> validations = new ArrayList<>();
+
         entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.validateSchema(configContext));
+                .forEach(x -> validations.add(() -> {
+                    try (BootstrapProfiler.Step step = profiler.startStep(BootstrapPhase.VALIDATE_SCHEMA, x.entityClass)) {
+                        final String cacheKey = SchemaValidationCache.cacheKey(metadata,
+                                x.getKeyspace().orElseGet(configContext.getSession()::getLoggedKeyspace), x.entityClass);
+                        final Optional<String> schemaHash = validationCache.flatMap(cache -> SchemaValidationCache.schemaHash(x));
+                        if (schemaHash.isPresent() && validationCache.get().isUnchanged(cacheKey, schemaHash.get())) {
+                            if (LOGGER.isDebugEnabled()) {
+                                LOGGER.debug(format("Skipping schema validation for entity of type %s, its schema did not change",
+                                        x.entityClass.getCanonicalName()));
+                            }
+                            return;
+                        }
+                        x.validateSchema(configContext, metadataSnapshot);
+                        schemaHash.ifPresent(hash -> validatedHashes.put(cacheKey, hash));
+                    }
+                }));
 
         functionProperties
                 .stream()
-                .forEach(x -> x.validate(configContext));
+                .forEach(x -> validations.add(() -> x.validate(configContext, metadataSnapshot)));
+
+        final List<Throwable> problems = Arrays
+                .stream(ParallelTasksHelper.runAll(validations, configContext.getExecutorService()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        validationCache.ifPresent(cache -> cache.markValidated(validatedHashes));
+
+        if (problems.size() == 1) {
+            final Throwable problem = problems.get(0);
+            if (problem instanceof RuntimeException) throw (RuntimeException) problem;
+            if (problem instanceof Error) throw (Error) problem;
+            throw new AchillesException(problem);
+        } else if (problems.size() > 1) {
+            throw new AchillesSchemaValidationException(problems
+                    .stream()
+                    .map(Throwable::getMessage)
+                    .collect(Collectors.toList()), problems.get(0));
+        }
     }
 
 
     protected void createSchema() {
-        final Session session = configContext.getSession();
+        final SchemaCreationPlanner planner = new SchemaCreationPlanner(configContext.getSession(),
+                getCassandraVersion(), configContext.getBootstrapProfiler(), configContext.isSchemaMigration(),
+                configContext.isConcurrentSchemaCreation());
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
         for (AbstractUDTClassProperty<?> x : getUdtClassProperties()) {
             final long udtCountForClass = entityProperties
@@ -204,8 +362,9 @@ public abstract class AbstractManagerFactory {
                     .filter(property -> property.getUDTClassProperties().contains(x))
                     .count();
 
-            if(udtCountForClass>0)
-                generateUDTAtRuntime(session, x);
+            if(udtCountForClass>0) {
+                planner.addUDT(x);
+            }
         }
 
 
@@ -231,17 +390,24 @@ public abstract class AbstractManagerFactory {
         entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> generateSchemaAtRuntime(session, x));
-
+                .forEach(planner::addEntity);
 
+        planner.execute();
     }
 
     protected void prepareStaticStatements() {
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
+        final BootstrapProfiler profiler = configContext.getBootstrapProfiler();
         entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache));
+                .forEach(x -> {
+                    try (BootstrapProfiler.Step step = profiler.startStep(BootstrapPhase.PREPARE_STATIC_STATEMENTS, x.entityClass)) {
+                        final long cachedStatements = rte.cache.getStaticCacheSize();
+                        x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache);
+                        step.addStatementsPrepared(rte.cache.getStaticCacheSize() - cachedStatements);
+                    }
+                });
     }
 
 
@@ -65,7 +65,8 @@ public class BeanValueExtractor {
                 .stream()
                 .map(x -> {
                     final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
+                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)),
+                            entityProperty.lazyGroupOf(x));
                 })
                 .collect(toList()));
 
@@ -81,7 +82,8 @@ public class BeanValueExtractor {
                 .stream()
                 .map(x -> {
                     final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
+                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)),
+                            entityProperty.lazyGroupOf(x));
                 })
                 .collect(toList()));
 
@@ -156,7 +158,8 @@ public class BeanValueExtractor {
                 .stream()
                 .map(x -> {
                     final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
+                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)),
+                            entityProperty.lazyGroupOf(x));
                 })
                 .collect(toList()));
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import info.archinnov.achilles.type.bootstrap.BootstrapPhase;
+import info.archinnov.achilles.type.bootstrap.BootstrapReport;
+import info.archinnov.achilles.type.bootstrap.BootstrapStep;
+
+/**
+ * Record wall-clock time and Cassandra interactions of each bootstrap phase and of each
+ * entity class within a phase. Entity steps may run on other threads than their phase,
+ * their counters are added to the enclosing phase when they are closed
+ */
+public class BootstrapProfiler {
+
+    private final List<BootstrapStep> phases = new ArrayList<>();
+    private final Queue<BootstrapStep> targetSteps = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Step> currentStep = new ThreadLocal<>();
+    private volatile Step currentPhase;
+    private long startNanos;
+    private volatile BootstrapReport report = BootstrapReport.EMPTY;
+
+    public void start() {
+        startNanos = System.nanoTime();
+    }
+
+    public Step startPhase(BootstrapPhase phase) {
+        final Step step = new Step(phase, Optional.empty(), null);
+        currentPhase = step;
+        return step;
+    }
+
+    public Step startStep(BootstrapPhase phase, Class<?> targetClass) {
+        return new Step(phase, Optional.of(targetClass), currentPhase);
+    }
+
+    /**
+     * Count one lookup in the cluster metadata for the step running on the current thread,
+     * or for the current phase if the current thread runs no step
+     */
+    public void recordMetadataLookup() {
+        Step step = currentStep.get();
+        if (step == null) {
+            step = currentPhase;
+        }
+        if (step != null) {
+            step.metadataLookups.increment();
+        }
+    }
+
+    /**
+     * Record the step of an entity class whose work did not run as a single block on one thread,
+     * like schema statements sent concurrently. The counters are added to the current phase
+     */
+    public void recordStep(BootstrapPhase phase, Class<?> targetClass, long durationNanos, long roundTrips) {
+        targetSteps.add(new BootstrapStep(phase, Optional.of(targetClass), durationNanos, roundTrips, 0L, 0L));
+        final Step phaseStep = currentPhase;
+        if (phaseStep != null) {
+            phaseStep.roundTrips.add(roundTrips);
+        }
+    }
+
+    public BootstrapReport finish() {
+        final List<BootstrapStep> phasesCopy;
+        synchronized (phases) {
+            phasesCopy = new ArrayList<>(phases);
+        }
+        report = new BootstrapReport(System.nanoTime() - startNanos, phasesCopy, new ArrayList<>(targetSteps));
+        return report;
+    }
+
+    public BootstrapReport getReport() {
+        return report;
+    }
+
+    public class Step implements AutoCloseable {
+        private final BootstrapPhase phase;
+        private final Optional<Class<?>> targetClass;
+        private final Step parent;
+        private final Step previous;
+        private final long stepStartNanos = System.nanoTime();
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAdder statementsPrepared = new LongAdder();
+        private final LongAdder metadataLookups = new LongAdder();
+
+        private Step(BootstrapPhase phase, Optional<Class<?>> targetClass, Step parent) {
+            this.phase = phase;
+            this.targetClass = targetClass;
+            this.parent = parent;
+            this.previous = currentStep.get();
+            currentStep.set(this);
+        }
+
+        public void addRoundTrips(long count) {
+            roundTrips.add(count);
+        }
+
+        /**
+         * Count prepared statements, each of them being also a round trip
+         */
+        public void addStatementsPrepared(long count) {
+            statementsPrepared.add(count);
+            roundTrips.add(count);
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                currentStep.remove();
+            } else {
+                currentStep.set(previous);
+            }
+            final BootstrapStep bootstrapStep = new BootstrapStep(phase, targetClass, System.nanoTime() - stepStartNanos,
+                    roundTrips.sum(), statementsPrepared.sum(), metadataLookups.sum());
+            if (targetClass.isPresent()) {
+                targetSteps.add(bootstrapStep);
+                if (parent != null) {
+                    parent.roundTrips.add(bootstrapStep.getRoundTrips());
+                    parent.statementsPrepared.add(bootstrapStep.getStatementsPrepared());
+                    parent.metadataLookups.add(bootstrapStep.getMetadataLookups());
+                }
+            } else {
+                synchronized (phases) {
+                    phases.add(bootstrapStep);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.net.InetAddress;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.QueryTrace;
+
+import info.archinnov.achilles.type.metrics.MetricsOperation;
+import info.archinnov.achilles.type.metrics.TraceStageSummary;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Enable server-side tracing on a random sample of statements, per entity class and operation.
+ * <br/>
+ * Trace events of sampled statements are fetched from <strong>system_traces</strong> on a dedicated
+ * background thread once the statement completes, so the caller never blocks on trace retrieval.
+ * The events are then aggregated into per-stage timing summaries
+ */
+public class QueryTracingSampler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryTracingSampler.class);
+
+    public static final QueryTracingSampler DISABLED = new QueryTracingSampler(0d, new HashMap<>());
+
+    static final long DEFAULT_FETCH_DELAY_MILLIS = 100L;
+    static final int MAX_PENDING_FETCHES = 1024;
+
+    private static final Pattern ADDRESS_PATTERN = Pattern.compile("/?\\d{1,3}(\\.\\d{1,3}){3}(:\\d+)?");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+");
+
+    private final double defaultSamplingRate;
+    private final Map<Class<?>, Map<MetricsOperation, Double>> samplingRates = new HashMap<>();
+    private final long fetchDelayMillis;
+    private final boolean enabled;
+
+    private final ConcurrentMap<StageKey, StageStats> stages = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingFetches = new AtomicInteger();
+    private final LongAdder sampledCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedFetchCount = new LongAdder();
+    private volatile ScheduledExecutorService fetcher;
+
+    public QueryTracingSampler(double defaultSamplingRate, Map<Class<?>, Map<MetricsOperation, Double>> samplingRates) {
+        this(defaultSamplingRate, samplingRates, DEFAULT_FETCH_DELAY_MILLIS);
+    }
+
+    QueryTracingSampler(double defaultSamplingRate, Map<Class<?>, Map<MetricsOperation, Double>> samplingRates, long fetchDelayMillis) {
+        validateRate(defaultSamplingRate, "default");
+        samplingRates.forEach((entityClass, rates) -> {
+            final Map<MetricsOperation, Double> ratesCopy = new EnumMap<>(MetricsOperation.class);
+            rates.forEach((operation, rate) -> {
+                validateRate(rate, format("%s on entity '%s'", operation, entityClass.getCanonicalName()));
+                ratesCopy.put(operation, rate);
+            });
+            this.samplingRates.put(entityClass, ratesCopy);
+        });
+        this.defaultSamplingRate = defaultSamplingRate;
+        this.fetchDelayMillis = fetchDelayMillis;
+        this.enabled = defaultSamplingRate > 0d || this.samplingRates
+                .values()
+                .stream()
+                .flatMap(rates -> rates.values().stream())
+                .anyMatch(rate -> rate > 0d);
+    }
+
+    private static void validateRate(Double rate, String label) {
+        Validator.validateTrue(rate != null && rate >= 0d && rate <= 1d,
+                "The tracing sampling rate '%s' for %s should be between 0 and 1", rate, label);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Decide whether a statement of the given entity class and operation should be traced
+     *
+     * @param entityClass entity class of the statement
+     * @param operation   operation of the statement
+     * @return true if tracing should be enabled for this statement
+     */
+    public boolean sample(Class<?> entityClass, MetricsOperation operation) {
+        if (!enabled) {
+            return false;
+        }
+        final double rate = samplingRateFor(entityClass, operation);
+        if (rate <= 0d || (rate < 1d && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            return false;
+        }
+        sampledCount.increment();
+        return true;
+    }
+
+    double samplingRateFor(Class<?> entityClass, MetricsOperation operation) {
+        final Map<MetricsOperation, Double> rates = samplingRates.get(entityClass);
+        if (rates != null) {
+            final Double rate = rates.get(operation);
+            if (rate != null) {
+                return rate;
+            }
+        }
+        return defaultSamplingRate;
+    }
+
+    /**
+     * Schedule the retrieval of the trace events of a completed sampled statement. Retrievals are
+     * dropped rather than queued without bound when the background fetcher falls behind
+     *
+     * @param entityClass   entity class of the statement
+     * @param operation     operation of the statement
+     * @param executionInfo execution info of the completed statement
+     */
+    public void collect(Class<?> entityClass, MetricsOperation operation, ExecutionInfo executionInfo) {
+        final QueryTrace queryTrace = executionInfo.getQueryTrace();
+        if (queryTrace == null) {
+            return;
+        }
+        if (pendingFetches.incrementAndGet() > MAX_PENDING_FETCHES) {
+            pendingFetches.decrementAndGet();
+            droppedCount.increment();
+            return;
+        }
+        try {
+            fetcher().schedule(() -> {
+                try {
+                    aggregate(entityClass, operation, queryTrace.getEvents());
+                } catch (RuntimeException ex) {
+                    failedFetchCount.increment();
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(format("Cannot retrieve trace %s : %s", queryTrace.getTraceId(), ex.getMessage()));
+                    }
+                } finally {
+                    pendingFetches.decrementAndGet();
+                }
+            }, fetchDelayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            pendingFetches.decrementAndGet();
+            droppedCount.increment();
+        }
+    }
+
+    void aggregate(Class<?> entityClass, MetricsOperation operation, List<QueryTrace.Event> events) {
+        final Map<String, List<QueryTrace.Event>> eventsBySource = events
+                .stream()
+                .collect(Collectors.groupingBy(event -> toSource(event.getSource())));
+
+        eventsBySource.forEach((source, sourceEvents) -> {
+            sourceEvents.sort(Comparator.comparingInt(QueryTrace.Event::getSourceElapsedMicros));
+            int previousElapsedMicros = 0;
+            for (QueryTrace.Event event : sourceEvents) {
+                final int elapsedMicros = event.getSourceElapsedMicros();
+                final StageKey key = new StageKey(entityClass, operation, source, normalizeStage(event.getDescription()));
+                stages.computeIfAbsent(key, k -> new StageStats()).record(Math.max(0, elapsedMicros - previousElapsedMicros));
+                previousElapsedMicros = elapsedMicros;
+            }
+        });
+    }
+
+    static String normalizeStage(String description) {
+        if (description == null) {
+            return "";
+        }
+        final String withoutAddresses = ADDRESS_PATTERN.matcher(description).replaceAll("/<host>");
+        return NUMBER_PATTERN.matcher(withoutAddresses).replaceAll("N");
+    }
+
+    private static String toSource(InetAddress source) {
+        return source == null ? "unknown" : source.getHostAddress();
+    }
+
+    /**
+     * Snapshot of the aggregated stages, sorted by descending total duration
+     *
+     * @return per-stage timing summaries
+     */
+    public List<TraceStageSummary> getStageSummaries() {
+        return stages.entrySet()
+                .stream()
+                .map(entry -> entry.getValue().toSummary(entry.getKey()))
+                .sorted(Comparator.comparingLong(TraceStageSummary::getTotalMicros).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return number of statements for which tracing has been enabled
+     */
+    public long getSampledCount() {
+        return sampledCount.sum();
+    }
+
+    /**
+     * @return number of trace retrievals skipped because too many were pending
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return number of trace retrievals which failed, generally because the trace was not yet available
+     */
+    public long getFailedFetchCount() {
+        return failedFetchCount.sum();
+    }
+
+    public void shutDown() {
+        final ScheduledExecutorService current = fetcher;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    private ScheduledExecutorService fetcher() {
+        ScheduledExecutorService current = fetcher;
+        if (current == null) {
+            synchronized (this) {
+                current = fetcher;
+                if (current == null) {
+                    current = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        final Thread thread = new Thread(runnable, "achilles-trace-fetcher");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    fetcher = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static final class StageKey {
+        private final Class<?> entityClass;
+        private final MetricsOperation operation;
+        private final String source;
+        private final String stage;
+
+        private StageKey(Class<?> entityClass, MetricsOperation operation, String source, String stage) {
+            this.entityClass = entityClass;
+            this.operation = operation;
+            this.source = source;
+            this.stage = stage;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            StageKey that = (StageKey) o;
+            return Objects.equals(entityClass, that.entityClass) &&
+                    operation == that.operation &&
+                    Objects.equals(source, that.source) &&
+                    Objects.equals(stage, that.stage);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(entityClass, operation, source, stage);
+        }
+    }
+
+    private static final class StageStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Long::max, 0L);
+
+        private void record(long micros) {
+            count.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulate(micros);
+        }
+
+        private TraceStageSummary toSummary(StageKey key) {
+            return new TraceStageSummary(key.entityClass, key.operation, key.source, key.stage,
+                    count.sum(), totalMicros.sum(), maxMicros.get());
+        }
+    }
+}
@@ -19,8 +19,10 @@ package info.archinnov.achilles.internals.runtime;
 import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
 import static java.lang.String.format;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
@@ -28,15 +30,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.SchemaNameCacheKey;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProjectionMapper;
+import info.archinnov.achilles.internals.statements.SlowQueryProbe;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.metrics.ExecutionOutcome;
+import info.archinnov.achilles.type.metrics.MetricsRecorder;
+import info.archinnov.achilles.validation.Validator;
 
 public class RuntimeEngine {
 
@@ -47,16 +61,24 @@ public class RuntimeEngine {
     public final Session session;
     public final String currentKeyspace;
     public final ExecutorService executor;
+    public final MetricsRecorder metricsRecorder;
+    public final SlowQueryDetector slowQueryDetector;
+    public final QueryTracingSampler tracingSampler;
 
     public TupleTypeFactory tupleTypeFactory;
     public UserTypeFactory userTypeFactory;
 
+    private final Map<Class<?>, AbstractProjectionMapper<?, ?>> projectionMappers = new ConcurrentHashMap<>();
+
     public RuntimeEngine(ConfigurationContext configContext) {
         this.configContext = configContext;
         this.session = configContext.getSession();
         this.cache = configContext.getStatementsCache();
         this.currentKeyspace = configContext.getCurrentKeyspace().orElseGet(session::getLoggedKeyspace);
         this.executor = configContext.getExecutorService();
+        this.metricsRecorder = Optional.ofNullable(configContext.getMetricsRecorder()).orElse(MetricsRecorder.NO_OP);
+        this.slowQueryDetector = Optional.ofNullable(configContext.getSlowQueryDetector()).orElse(SlowQueryDetector.DISABLED);
+        this.tracingSampler = Optional.ofNullable(configContext.getTracingSampler()).orElse(QueryTracingSampler.DISABLED);
     }
 
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
@@ -64,12 +86,91 @@ public class RuntimeEngine {
     }
 
     public CompletableFuture<ResultSet> execute(StatementWrapper wrapper) {
+        return execute(wrapper, false);
+    }
+
+    /**
+     * Execute a statement whose returned rows are mapped by the caller, which reports
+     * mapping through {@link #recordMapping(StatementWrapper, long, int)} or by exhausting
+     * a result iterator
+     *
+     * @param wrapper statement to execute
+     * @return future result set
+     */
+    public CompletableFuture<ResultSet> executeWithMapping(StatementWrapper wrapper) {
+        return execute(wrapper, true);
+    }
+
+    private CompletableFuture<ResultSet> execute(StatementWrapper wrapper, boolean mappedByCaller) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing statement %s", wrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
 
         wrapper.logDML();
-        return toCompletableFuture(session.executeAsync(wrapper.getBoundStatement()), executor);
+        final boolean traceSampled = tracingSampler.isEnabled()
+                && !wrapper.getBoundStatement().isTracing()
+                && tracingSampler.sample(wrapper.getEntityClass(), wrapper.getMetricsOperation());
+        if (traceSampled) {
+            wrapper.getBoundStatement().enableTracing();
+        }
+        if (metricsRecorder == MetricsRecorder.NO_OP && !slowQueryDetector.isEnabled() && !traceSampled) {
+            return toCompletableFuture(session.executeAsync(wrapper.getBoundStatement()), executor);
+        }
+
+        final long startNanos = System.nanoTime();
+        final SlowQueryProbe probe = slowQueryDetector.newProbe(wrapper, startNanos, mappedByCaller);
+        wrapper.setSlowQueryProbe(probe);
+        final ResultSetFuture resultSetFuture = session.executeAsync(wrapper.getBoundStatement());
+        // Registered before the CompletableFuture conversion so that metrics are recorded before any dependent stage runs
+        Futures.addCallback(resultSetFuture, new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet result) {
+                if (metricsRecorder != MetricsRecorder.NO_OP) {
+                    metricsRecorder.recordExecution(wrapper.getEntityClass(), wrapper.getMetricsOperation(),
+                            System.nanoTime() - startNanos, ExecutionOutcome.SUCCESS);
+                }
+                if (probe != null) {
+                    probe.onResponse(result);
+                }
+                if (traceSampled) {
+                    tracingSampler.collect(wrapper.getEntityClass(), wrapper.getMetricsOperation(), result.getExecutionInfo());
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                if (metricsRecorder != MetricsRecorder.NO_OP) {
+                    metricsRecorder.recordExecution(wrapper.getEntityClass(), wrapper.getMetricsOperation(),
+                            System.nanoTime() - startNanos, toExecutionOutcome(throwable));
+                }
+                if (probe != null) {
+                    probe.onFailure(throwable);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return toCompletableFuture(resultSetFuture, executor);
+    }
+
+    /**
+     * Record the time spent mapping rows returned by the given statement
+     *
+     * @param wrapper    executed statement
+     * @param startNanos {@link System#nanoTime()} taken before mapping
+     * @param rowsMapped number of mapped rows
+     */
+    public void recordMapping(StatementWrapper wrapper, long startNanos, int rowsMapped) {
+        final SlowQueryProbe probe = wrapper.getSlowQueryProbe();
+        if (metricsRecorder == MetricsRecorder.NO_OP && probe == null) {
+            return;
+        }
+        final long mappingNanos = System.nanoTime() - startNanos;
+        if (metricsRecorder != MetricsRecorder.NO_OP) {
+            metricsRecorder.recordMapping(wrapper.getEntityClass(), wrapper.getMetricsOperation(), mappingNanos, rowsMapped);
+        }
+        if (probe != null) {
+            probe.addMapping(mappingNanos, rowsMapped);
+            probe.complete();
+        }
     }
 
     public CompletableFuture<ResultSet> execute(BoundStatement boundStatement) {
@@ -101,26 +202,40 @@ public class RuntimeEngine {
         return cache.getDynamicCache(queryString, session);
     }
 
-    public Optional<PreparedStatement> maybePrepareIfDifferentSchemaNameFromCache(AbstractEntityProperty<?> entityProperty,
-                                                                                  PreparedStatement psFromCache,
-                                                                                  Optional<SchemaNameProvider> schemaNameProvider,
-                                                                                  Supplier<RegularStatement> lambda) {
+    public Optional<PreparedStatement> maybePrepareForSchemaNameProvider(AbstractEntityProperty<?> entityProperty,
+                                                                         CacheKey.Operation operation,
+                                                                         Optional<SchemaNameProvider> schemaNameProvider,
+                                                                         Supplier<RegularStatement> lambda) {
         if (schemaNameProvider.isPresent()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(format("Preparing statement %s using optional schema name provider %s",
-                        psFromCache.getQueryString(), schemaNameProvider));
-            }
             final SchemaNameProvider provider = schemaNameProvider.get();
-            final String tableNameWithKeyspace = provider.keyspaceFor(entityProperty.entityClass) + "." + provider.tableNameFor(entityProperty.entityClass);
-            if (!psFromCache.getQueryString().toLowerCase().contains("from " + tableNameWithKeyspace)) {
-                return Optional.of(prepareDynamicQuery(lambda.get()));
-            }
+            final SchemaNameCacheKey cacheKey = new SchemaNameCacheKey(entityProperty.entityClass, operation,
+                    provider.keyspaceFor(entityProperty.entityClass), provider.tableNameFor(entityProperty.entityClass));
+            return Optional.of(cache.getSchemaNameCache(cacheKey, () -> session.prepare(lambda.get().getQueryString())));
         }
         return Optional.empty();
-
     }
 
     public Cluster getCluster() {
         return session.getCluster();
     }
+
+    public void registerProjectionMapper(AbstractProjectionMapper<?, ?> mapper) {
+        projectionMappers.put(mapper.getProjectionClass(), mapper);
+    }
+
+    public <PROJECTION> AbstractProjectionMapper<?, PROJECTION> projectionMapperFor(Class<PROJECTION> projectionClass) {
+        final AbstractProjectionMapper<?, ?> mapper = projectionMappers.get(projectionClass);
+        Validator.validateNotNull(mapper, "Cannot find any mapper for class '%s', is it annotated by @Projection ?",
+                projectionClass.getCanonicalName());
+        return (AbstractProjectionMapper<?, PROJECTION>) mapper;
+    }
+
+    private static ExecutionOutcome toExecutionOutcome(Throwable throwable) {
+        if (throwable instanceof OperationTimedOutException
+                || throwable instanceof ReadTimeoutException
+                || throwable instanceof WriteTimeoutException) {
+            return ExecutionOutcome.TIMEOUT;
+        }
+        return ExecutionOutcome.ERROR;
+    }
 }
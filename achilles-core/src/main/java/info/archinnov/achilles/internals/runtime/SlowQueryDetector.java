@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.internals.statements.SlowQueryProbe;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Decide whether a statement should be tracked for the slow query log,
+ * based on the per-entity or default threshold and the sampling rate
+ */
+public class SlowQueryDetector {
+
+    public static final SlowQueryDetector DISABLED = new SlowQueryDetector(Optional.empty(), new HashMap<>(), 1.0d, false);
+
+    private final long defaultThresholdNanos;
+    private final Map<Class<?>, Long> thresholdNanosByEntity = new HashMap<>();
+    private final double samplingRate;
+    private final boolean logBoundValues;
+    private final boolean enabled;
+
+    public SlowQueryDetector(Optional<Long> defaultThresholdMillis, Map<Class<?>, Long> thresholdMillisByEntity,
+                             double samplingRate, boolean logBoundValues) {
+        Validator.validateTrue(samplingRate >= 0d && samplingRate <= 1d,
+                "The slow query sampling rate '%s' should be between 0 and 1", samplingRate);
+        defaultThresholdMillis.ifPresent(threshold -> Validator.validateTrue(threshold >= 0,
+                "The default slow query threshold '%s' should be positive", threshold));
+        thresholdMillisByEntity.forEach((entityClass, threshold) -> {
+            Validator.validateTrue(threshold != null && threshold >= 0,
+                    "The slow query threshold '%s' for entity '%s' should be positive", threshold, entityClass.getCanonicalName());
+            thresholdNanosByEntity.put(entityClass, TimeUnit.MILLISECONDS.toNanos(threshold));
+        });
+        this.defaultThresholdNanos = defaultThresholdMillis.map(TimeUnit.MILLISECONDS::toNanos).orElse(Long.MAX_VALUE);
+        this.samplingRate = samplingRate;
+        this.logBoundValues = logBoundValues;
+        this.enabled = samplingRate > 0d && (defaultThresholdMillis.isPresent() || !thresholdNanosByEntity.isEmpty());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Create a probe for the given statement if it should be tracked
+     *
+     * @param wrapper      statement to be executed
+     * @param startNanos   {@link System#nanoTime()} at submission
+     * @param awaitMapping whether the caller maps the returned rows and completes the probe itself
+     * @return a probe or null if the statement is not tracked
+     */
+    public SlowQueryProbe newProbe(StatementWrapper wrapper, long startNanos, boolean awaitMapping) {
+        if (!enabled) {
+            return null;
+        }
+        final Long entityThreshold = thresholdNanosByEntity.get(wrapper.getEntityClass());
+        final long thresholdNanos = entityThreshold != null ? entityThreshold : defaultThresholdNanos;
+        if (thresholdNanos == Long.MAX_VALUE) {
+            return null;
+        }
+        if (samplingRate < 1d && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return null;
+        }
+        return new SlowQueryProbe(wrapper, thresholdNanos, startNanos, awaitMapping, logBoundValues);
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.schema;
+
+import static info.archinnov.achilles.internals.schema.SchemaCreator.ACHILLES_DML_LOGGER;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.internals.cassandra_version.CassandraFeature;
+import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
+import info.archinnov.achilles.internals.runtime.BootstrapProfiler;
+import info.archinnov.achilles.type.bootstrap.BootstrapPhase;
+
+/**
+ * Plan the creation of the schema at runtime in dependency order:
+ * <ol>
+ *     <li>UDTs, nested UDTs first</li>
+ *     <li>tables</li>
+ *     <li>indices</li>
+ *     <li>materialized views</li>
+ * </ol>
+ * Objects already present in the cluster metadata are skipped without sending any DDL or, when
+ * migrating the existing schema, only receive the minimal ALTER statements computed by {@link SchemaDiff}.
+ * <br/>
+ * By default the statements are sent one after the other and the driver waits for the schema agreement after
+ * each of them, as the previous creation did. The saving then only comes from the skipped objects and the
+ * minimal ALTER statements, the per-statement agreement wait is still paid for every executed statement.
+ * <br/>
+ * Statements of the same stage do not depend on each other. When concurrent schema creation is enabled
+ * (Cassandra 3.0+ only), statements targeting distinct objects are sent concurrently so that the agreement waits
+ * done by the driver for each of them overlap, while the statements targeting the same table or UDT
+ * (e.g. several ALTER TABLE) are sent one after the other, in planning order. Since concurrent schema changes
+ * may leave the nodes in schema disagreement, the agreement is checked once at the end of each stage, before
+ * sending the statements depending on it. This mode is opt-in because of this risk
+ */
+public class SchemaCreationPlanner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaCreationPlanner.class);
+
+    static final int MAX_CONCURRENT_STATEMENTS = 16;
+    private static final long SCHEMA_AGREEMENT_POLL_MILLIS = 200L;
+
+    private final Session session;
+    private final BootstrapProfiler profiler;
+    private final boolean concurrentStatements;
+    private final boolean migrateExistingSchema;
+    private final Map<String, Optional<KeyspaceMetadata>> keyspaces = new HashMap<>();
+    private final SortedMap<Integer, List<PlannedStatement>> udtStages = new TreeMap<>();
+    private final Set<Class<?>> plannedUDTs = new HashSet<>();
+    private final Set<Class<?>> targetClasses = new LinkedHashSet<>();
+    private final List<PlannedStatement> tables = new ArrayList<>();
+    private final List<PlannedStatement> indices = new ArrayList<>();
+    private final List<PlannedStatement> views = new ArrayList<>();
+    private int skippedCount = 0;
+
+    public SchemaCreationPlanner(Session session, InternalCassandraVersion cassandraVersion, BootstrapProfiler profiler,
+                                 boolean migrateExistingSchema, boolean concurrentSchemaCreation) {
+        this.session = session;
+        this.profiler = profiler;
+        this.migrateExistingSchema = migrateExistingSchema;
+        this.concurrentStatements = concurrentSchemaCreation
+                && cassandraVersion.supportsFeature(CassandraFeature.CONCURRENT_SCHEMA_CHANGES);
+        if (concurrentSchemaCreation && !concurrentStatements) {
+            LOGGER.warn("Concurrent schema creation requires Cassandra 3.0+, schema statements will be sent one after the other");
+        }
+    }
+
+    /**
+     * @return whether the statements of a stage are sent concurrently
+     */
+    public boolean isConcurrentStatements() {
+        return concurrentStatements;
+    }
+
+    /**
+     * Plan the creation of the given UDT and of the UDTs it depends on
+     */
+    public SchemaCreationPlanner addUDT(AbstractUDTClassProperty<?> udtClassProperty) {
+        targetClasses.add(udtClassProperty.udtClass);
+        planUDT(udtClassProperty);
+        return this;
+    }
+
+    /**
+     * Plan the creation of the table (and indices) or the materialized view of the given entity.
+     * The base table property should have been injected into view properties
+     */
+    public SchemaCreationPlanner addEntity(AbstractEntityProperty<?> entityProperty) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Planning schema for entity of type %s",
+                    entityProperty.entityClass.getCanonicalName()));
+        }
+
+        targetClasses.add(entityProperty.entityClass);
+        final String keyspace = entityProperty.getKeyspace().orElseGet(session::getLoggedKeyspace);
+        final String tableName = entityProperty.getTableOrViewName();
+        final SchemaContext schemaContext = new SchemaContext(keyspace, true, false);
+        final Optional<KeyspaceMetadata> keyspaceMeta = keyspaceMetadata(keyspace);
+
+        if (entityProperty.isTable()) {
+            final Optional<TableMetadata> tableMeta = keyspaceMeta.map(x -> x.getTable(tableName));
+            if (!tableMeta.isPresent()) {
+                SchemaCreator.generateTable_And_Indices(schemaContext, entityProperty)
+                        .forEach(x -> tables.add(new PlannedStatement(entityProperty.entityClass, x)));
+            } else if (migrateExistingSchema) {
+                final List<String> alterations = SchemaDiff.alterTable(schemaContext, entityProperty, tableMeta.get());
+                alterations.forEach(x -> tables.add(new PlannedStatement(entityProperty.entityClass, x)));
+                if (alterations.isEmpty()) {
+                    skippedCount++;
+                }
+            } else {
+                skippedCount++;
+            }
+
+            SchemaDiff.missingIndices(new SchemaContext(keyspace, true, true), entityProperty, tableMeta)
+                    .forEach(x -> indices.add(new PlannedStatement(entityProperty.entityClass, x)));
+        } else {
+            if (keyspaceMeta.map(x -> x.getMaterializedView(tableName)).isPresent()) {
+                skippedCount++;
+            } else {
+                SchemaCreator.generateView(schemaContext, (AbstractViewProperty<?>) entityProperty)
+                        .forEach(x -> views.add(new PlannedStatement(entityProperty.entityClass, x)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Statements to execute, grouped by stage. Statements of a stage
+     * only depend on statements of previous stages
+     */
+    public List<List<PlannedStatement>> getStages() {
+        final List<List<PlannedStatement>> stages = new ArrayList<>(udtStages.values());
+        stages.add(tables);
+        stages.add(indices);
+        stages.add(views);
+        stages.removeIf(List::isEmpty);
+        return stages;
+    }
+
+    /**
+     * @return number of existing tables, views and UDTs for which no statement is planned
+     */
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Execute the planned statements stage by stage, checking the schema agreement at the
+     * end of each stage in concurrent mode, and record one bootstrap step per planned entity or UDT class
+     *
+     * @return number of executed schema statements
+     */
+    public int execute() {
+        final List<List<PlannedStatement>> stages = getStages();
+        int executedCount = 0;
+        for (List<PlannedStatement> stage : stages) {
+            if (concurrentStatements) {
+                executeConcurrently(stage);
+                waitForSchemaAgreement();
+            } else {
+                stage.forEach(PlannedStatement::executeSync);
+            }
+            executedCount += stage.size();
+        }
+
+        final Map<Class<?>, long[]> statsByClass = new LinkedHashMap<>();
+        targetClasses.forEach(x -> statsByClass.put(x, new long[2]));
+        stages.stream()
+                .flatMap(List::stream)
+                .forEach(x -> {
+                    final long[] stats = statsByClass.computeIfAbsent(x.targetClass, key -> new long[2]);
+                    stats[0] += x.durationNanos;
+                    stats[1]++;
+                });
+        statsByClass.forEach((targetClass, stats) ->
+                profiler.recordStep(BootstrapPhase.CREATE_SCHEMA, targetClass, stats[0], stats[1]));
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Executed %s schema statement(s) in %s stage(s), skipped %s existing object(s)",
+                    executedCount, stages.size(), skippedCount));
+        }
+        return executedCount;
+    }
+
+    private int planUDT(AbstractUDTClassProperty<?> udtClassProperty) {
+        final int level = udtClassProperty.componentsProperty
+                .stream()
+                .flatMap(x -> x.getUDTClassProperties().stream())
+                .mapToInt(x -> planUDT(x) + 1)
+                .max()
+                .orElse(0);
+
+        if (plannedUDTs.add(udtClassProperty.udtClass)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Planning schema for udt of type %s",
+                        udtClassProperty.udtClass.getCanonicalName()));
+            }
+            final String udtKeyspace = udtClassProperty.staticKeyspace.orElseGet(session::getLoggedKeyspace);
+            final SchemaContext schemaContext = new SchemaContext(udtKeyspace, true, true);
+            final Optional<UserType> liveType = keyspaceMetadata(udtKeyspace)
+                    .map(x -> x.getUserType(udtClassProperty.udtName));
+            final List<String> schemas;
+            if (!liveType.isPresent()) {
+                schemas = Arrays.asList(udtClassProperty.generateSchema(schemaContext));
+            } else if (migrateExistingSchema) {
+                schemas = SchemaDiff.alterUDT(schemaContext, udtClassProperty, liveType.get());
+            } else {
+                schemas = Collections.emptyList();
+            }
+
+            if (schemas.isEmpty()) {
+                skippedCount++;
+            }
+            schemas.forEach(x -> udtStages.computeIfAbsent(level, key -> new ArrayList<>())
+                    .add(new PlannedStatement(udtClassProperty.udtClass, x)));
+        }
+        return level;
+    }
+
+    private Optional<KeyspaceMetadata> keyspaceMetadata(String keyspace) {
+        if (keyspace == null) {
+            return Optional.empty();
+        }
+        return keyspaces.computeIfAbsent(keyspace, key -> {
+            profiler.recordMetadataLookup();
+            return Optional.ofNullable(session.getCluster().getMetadata().getKeyspace(key));
+        });
+    }
+
+    /**
+     * Execute the stage in rounds: round N sends concurrently the N-th statement of each
+     * target object, so that concurrent schema changes never hit the same table or UDT
+     */
+    private void executeConcurrently(List<PlannedStatement> stage) {
+        for (List<PlannedStatement> round : roundsByTarget(stage)) {
+            executeRound(round);
+        }
+    }
+
+    static List<List<PlannedStatement>> roundsByTarget(List<PlannedStatement> stage) {
+        final Map<Class<?>, Integer> statementCountByTarget = new HashMap<>();
+        final List<List<PlannedStatement>> rounds = new ArrayList<>();
+        for (PlannedStatement statement : stage) {
+            final int roundIndex = statementCountByTarget.merge(statement.targetClass, 1, Integer::sum) - 1;
+            if (roundIndex == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(roundIndex).add(statement);
+        }
+        return rounds;
+    }
+
+    private void executeRound(List<PlannedStatement> round) {
+        final Semaphore permits = new Semaphore(MAX_CONCURRENT_STATEMENTS);
+        final List<ResultSetFuture> futures = new ArrayList<>(round.size());
+        for (PlannedStatement statement : round) {
+            permits.acquireUninterruptibly();
+            final ResultSetFuture future = statement.executeAsync();
+            future.addListener(permits::release, MoreExecutors.directExecutor());
+            futures.add(future);
+        }
+
+        RuntimeException firstFailure = null;
+        for (ResultSetFuture future : futures) {
+            try {
+                future.getUninterruptibly();
+            } catch (RuntimeException ex) {
+                if (firstFailure == null) {
+                    firstFailure = ex;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    private void waitForSchemaAgreement() {
+        final Cluster cluster = session.getCluster();
+        final int maxWaitSeconds = cluster.getConfiguration().getProtocolOptions().getMaxSchemaAgreementWaitSeconds();
+        final long deadline = System.nanoTime() + SECONDS.toNanos(maxWaitSeconds);
+        while (!cluster.getMetadata().checkSchemaAgreement()) {
+            if (System.nanoTime() >= deadline) {
+                LOGGER.warn(format("Schema agreement not reached after %s seconds, the schema may not be visible on all nodes yet",
+                        maxWaitSeconds));
+                return;
+            }
+            Uninterruptibles.sleepUninterruptibly(SCHEMA_AGREEMENT_POLL_MILLIS, MILLISECONDS);
+        }
+    }
+
+    public class PlannedStatement {
+        public final Class<?> targetClass;
+        public final String schema;
+        private volatile long durationNanos;
+
+        PlannedStatement(Class<?> targetClass, String schema) {
+            this.targetClass = targetClass;
+            this.schema = schema;
+        }
+
+        private void executeSync() {
+            executeAsync().getUninterruptibly();
+        }
+
+        private ResultSetFuture executeAsync() {
+            if (ACHILLES_DML_LOGGER.isDebugEnabled()) {
+                ACHILLES_DML_LOGGER.debug(schema + "\n");
+            }
+            final long startNanos = System.nanoTime();
+            final ResultSetFuture future = session.executeAsync(schema);
+            future.addListener(() -> durationNanos = System.nanoTime() - startNanos, MoreExecutors.directExecutor());
+            return future;
+        }
+
+        @Override
+        public String toString() {
+            return schema;
+        }
+    }
+}
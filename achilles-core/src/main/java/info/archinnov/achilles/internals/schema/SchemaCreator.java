@@ -35,6 +35,7 @@ import info.archinnov.achilles.internals.metamodel.AbstractProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
 import info.archinnov.achilles.internals.metamodel.columns.ClusteringColumnInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
 import info.archinnov.achilles.internals.metamodel.index.IndexType;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.logger.AchillesLoggers;
@@ -115,16 +116,28 @@ public class SchemaCreator {
         schemas.add(builder.toString());
 
         if (context.createIndex) {
-            entityProperty.allColumns
-                    .stream()
-                    .filter(x -> x.fieldInfo.indexInfo.type != IndexType.NONE)
-                    .map(x -> Tuple2.of(x.fieldInfo.quotedCqlColumn, x.fieldInfo.indexInfo))
-                    .forEach(tuple -> schemas.add(tuple._2().generate(keyspace, tableName, tuple._1())));
+            generateIndices(keyspace, tableName, entityProperty)
+                    .forEach(tuple -> schemas.add(tuple._2()));
         }
 
         return schemas;
     }
 
+    /**
+     * Generate the index creation scripts of the given entity
+     *
+     * @return list of tuples (index info, index creation script)
+     */
+    static List<Tuple2<IndexInfo, String>> generateIndices(Optional<String> keyspace, String tableName, AbstractEntityProperty<?> entityProperty) {
+        final List<Tuple2<IndexInfo, String>> indices = new ArrayList<>();
+        entityProperty.allColumns
+                .stream()
+                .filter(x -> x.fieldInfo.indexInfo.type != IndexType.NONE)
+                .map(x -> Tuple2.of(x.fieldInfo.quotedCqlColumn, x.fieldInfo.indexInfo))
+                .forEach(tuple -> indices.add(Tuple2.of(tuple._2(), tuple._2().generate(keyspace, tableName, tuple._1()))));
+        return indices;
+    }
+
     public static List<String> generateView(SchemaContext context, AbstractViewProperty<?> viewProperty) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generating materialized view for entity of type %s",
@@ -203,7 +216,12 @@ public class SchemaCreator {
         return Arrays.asList(viewScript.append(";").toString());
     }
 
-    public static void generateSchemaAtRuntime(final Session session, AbstractEntityProperty<?> entityProperty) {
+    /**
+     * Create the table (and indices) or the materialized view of the given entity
+     *
+     * @return number of executed schema statements
+     */
+    public static int generateSchemaAtRuntime(final Session session, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generating schema for entity of type %s",
@@ -228,18 +246,25 @@ public class SchemaCreator {
             final ResultSet resultSet = session.execute(schema);
             resultSet.getExecutionInfo().isSchemaInAgreement();
         }
+        return schemas.size();
     }
 
-    public static void generateUDTAtRuntime(final Session session, AbstractUDTClassProperty<?> udtClassProperty) {
+    /**
+     * Create the given UDT and the UDTs it depends on
+     *
+     * @return number of executed schema statements
+     */
+    public static int generateUDTAtRuntime(final Session session, AbstractUDTClassProperty<?> udtClassProperty) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generating schema for udt of type %s",
                     udtClassProperty.udtClass.getCanonicalName()));
         }
 
-        udtClassProperty.componentsProperty
+        final int nestedUDTStatements = udtClassProperty.componentsProperty
                 .stream()
                 .flatMap(x -> x.getUDTClassProperties().stream())
-                .forEach(x -> generateUDTAtRuntime(session, x));
+                .mapToInt(x -> generateUDTAtRuntime(session, x))
+                .sum();
 
         final String udtKeyspace = udtClassProperty.staticKeyspace.orElseGet(session::getLoggedKeyspace);
         final SchemaContext schemaContext = new SchemaContext(udtKeyspace, true, true);
@@ -251,5 +276,6 @@ public class SchemaCreator {
 
         final ResultSet resultSet = session.execute(udtSchema);
         resultSet.getExecutionInfo().isSchemaInAgreement();
+        return nestedUDTStatements + 1;
     }
 }
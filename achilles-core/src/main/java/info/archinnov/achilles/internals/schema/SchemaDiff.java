@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.schema;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.UserType;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.types.OverridingOptional;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+/**
+ * Compute the minimal DDL migrating a live table or UDT to the schema of its entity or UDT class.
+ * <br/>
+ * Only additive changes are generated: new columns, new UDT fields, missing indices and the default TTL.
+ * Changes that Cassandra cannot apply in place (primary key, column type) are left to schema validation
+ */
+public class SchemaDiff {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaDiff.class);
+
+    /**
+     * Generate ALTER TABLE statements for columns and options of the entity missing from the live table
+     */
+    public static List<String> alterTable(SchemaContext context, AbstractEntityProperty<?> entityProperty, TableMetadata liveTable) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Computing schema diff of table %s for entity of type %s",
+                    liveTable.getName(), entityProperty.entityClass.getCanonicalName()));
+        }
+
+        final List<String> schemas = new ArrayList<>();
+        final String qualifiedTable = qualifiedName(entityKeyspace(context, entityProperty), entityProperty.getTableOrViewName());
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.staticColumns) {
+            addMissingColumn(schemas, qualifiedTable, liveTable, x, " static");
+        }
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.normalColumns) {
+            addMissingColumn(schemas, qualifiedTable, liveTable, x, "");
+        }
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.counterColumns) {
+            addMissingColumn(schemas, qualifiedTable, liveTable, x, "");
+        }
+
+        if (entityProperty.staticTTL.isPresent()
+                && entityProperty.staticTTL.get() != liveTable.getOptions().getDefaultTimeToLive()) {
+            schemas.add(format("ALTER TABLE %s WITH default_time_to_live = %s;",
+                    qualifiedTable, entityProperty.staticTTL.get()));
+        }
+
+        return schemas;
+    }
+
+    /**
+     * Generate index creation scripts for indices of the entity missing from the live table
+     */
+    public static List<String> missingIndices(SchemaContext context, AbstractEntityProperty<?> entityProperty, Optional<TableMetadata> liveTable) {
+        final List<String> schemas = new ArrayList<>();
+        if (!context.createIndex) {
+            return schemas;
+        }
+
+        final List<Tuple2<IndexInfo, String>> indices = SchemaCreator.generateIndices(entityKeyspace(context, entityProperty),
+                entityProperty.getTableOrViewName(), entityProperty);
+        for (Tuple2<IndexInfo, String> index : indices) {
+            final String indexName = index._1().name;
+            final boolean exists = StringUtils.isNotBlank(indexName) && liveTable
+                    .map(x -> x.getIndex(indexName) != null)
+                    .orElse(false);
+            if (!exists && StringUtils.isNotBlank(index._2())) {
+                schemas.add(index._2());
+            }
+        }
+        return schemas;
+    }
+
+    /**
+     * Generate ALTER TYPE statements for fields of the UDT class missing from the live user type
+     */
+    public static List<String> alterUDT(SchemaContext context, AbstractUDTClassProperty<?> udtClassProperty, UserType liveType) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Computing schema diff of type %s for udt of type %s",
+                    liveType.getTypeName(), udtClassProperty.udtClass.getCanonicalName()));
+        }
+
+        final List<String> schemas = new ArrayList<>();
+        final Optional<String> keyspace = Optional.ofNullable(context.keyspace.orElse(udtClassProperty.staticKeyspace.orElse(null)));
+        final String qualifiedType = qualifiedName(keyspace, udtClassProperty.udtName);
+
+        for (AbstractProperty<?, ?, ?> x : udtClassProperty.componentsProperty) {
+            if (!liveType.contains(x.fieldInfo.quotedCqlColumn)) {
+                schemas.add(format("ALTER TYPE %s ADD %s %s;",
+                        qualifiedType, x.fieldInfo.quotedCqlColumn, x.buildType(Optional.empty())));
+            }
+        }
+        return schemas;
+    }
+
+    private static void addMissingColumn(List<String> schemas, String qualifiedTable, TableMetadata liveTable,
+                                         AbstractProperty<?, ?, ?> property, String staticModifier) {
+        if (liveTable.getColumn(property.fieldInfo.quotedCqlColumn) == null) {
+            schemas.add(format("ALTER TABLE %s ADD %s %s%s;",
+                    qualifiedTable, property.fieldInfo.quotedCqlColumn, property.buildType(Optional.empty()), staticModifier));
+        }
+    }
+
+    private static Optional<String> entityKeyspace(SchemaContext context, AbstractEntityProperty<?> entityProperty) {
+        return OverridingOptional
+                .from(entityProperty.getKeyspace())
+                .andThen(Optional.ofNullable(context.keyspace.orElse(entityProperty.staticKeyspace.orElse(null))))
+                .getOptional();
+    }
+
+    private static String qualifiedName(Optional<String> keyspace, String name) {
+        return keyspace.map(x -> x + "." + name).orElse(name);
+    }
+}
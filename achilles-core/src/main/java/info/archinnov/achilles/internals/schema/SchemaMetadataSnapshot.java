@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.schema;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+
+import info.archinnov.achilles.internals.runtime.BootstrapProfiler;
+
+/**
+ * Keyspace metadata shared by all the schema validations of one bootstrap, so that
+ * each keyspace is looked up only once in the cluster metadata
+ */
+public class SchemaMetadataSnapshot {
+
+    private final Metadata metadata;
+    private final BootstrapProfiler profiler;
+    private final ConcurrentMap<String, Optional<KeyspaceMetadata>> keyspaces = new ConcurrentHashMap<>();
+
+    public SchemaMetadataSnapshot(Metadata metadata, BootstrapProfiler profiler) {
+        this.metadata = metadata;
+        this.profiler = profiler;
+    }
+
+    /**
+     * @param keyspace keyspace name
+     * @return the keyspace metadata or null if the keyspace does not exist
+     */
+    public KeyspaceMetadata getKeyspace(String keyspace) {
+        return keyspaces
+                .computeIfAbsent(keyspace, name -> {
+                    profiler.recordMetadataLookup();
+                    return Optional.ofNullable(metadata.getKeyspace(name));
+                })
+                .orElse(null);
+    }
+}
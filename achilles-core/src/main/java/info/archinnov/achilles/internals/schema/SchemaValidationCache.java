@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.schema;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Metadata;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
+
+/**
+ * Local cache of the generated schema hash of each entity which passed the schema validation.
+ * <br/>
+ * Entries are keyed by cluster (name and hosts), keyspace and entity class, the hash covers
+ * the table, its indices and the user types it references
+ * <br/>
+ * Entities whose generated schema did not change since the last successful validation
+ * can skip the validation. Changes made directly on the live schema are not detected for them.
+ * Views are always validated
+ */
+public class SchemaValidationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaValidationCache.class);
+
+    private final Path cacheFile;
+    private final Properties hashes = new Properties();
+
+    public SchemaValidationCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+        if (Files.isRegularFile(cacheFile)) {
+            try (InputStream input = Files.newInputStream(cacheFile)) {
+                hashes.load(input);
+            } catch (IOException e) {
+                LOGGER.warn(format("Cannot read the schema validation cache file %s, all entities will be validated : %s",
+                        cacheFile, e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Compute the hash of the schema generated for the given entity
+     *
+     * @param entityProperty entity meta data, with dependencies injected
+     * @return the hash or empty for a materialized view
+     */
+    public static Optional<String> schemaHash(AbstractEntityProperty<?> entityProperty) {
+        if (!entityProperty.isTable()) {
+            return Optional.empty();
+        }
+        final String keyspace = entityProperty.getKeyspace().orElse("");
+        final SchemaContext schemaContext = new SchemaContext(keyspace, true, true);
+        final List<String> schemas = new ArrayList<>(SchemaCreator.generateTable_And_Indices(schemaContext, entityProperty));
+        schemas.addAll(referencedUDTSchemas(entityProperty.allColumns, keyspace));
+        return Optional.of(sha256(String.join("\n", schemas)));
+    }
+
+    /**
+     * Generate the creation script of every UDT referenced by the given columns, nested UDTs included,
+     * once per UDT class and sorted by class name so that the result does not depend on the columns order
+     */
+    static List<String> referencedUDTSchemas(Collection<? extends AbstractProperty<?, ?, ?>> columns, String keyspace) {
+        final Map<String, AbstractUDTClassProperty<?>> referencedUDTs = new TreeMap<>();
+        columns.stream()
+                .flatMap(x -> x.getUDTClassProperties().stream())
+                .forEach(x -> referencedUDTs.putIfAbsent(x.udtClass.getCanonicalName(), x));
+        return referencedUDTs.values()
+                .stream()
+                .map(x -> x.generateSchema(new SchemaContext(x.staticKeyspace.orElse(keyspace), true, true)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Compute the cache key of an entity. The cluster name alone is not enough to tell
+     * clusters apart (it defaults to the same value on every fresh install), the addresses
+     * of the known hosts and the keyspace are part of the key
+     *
+     * @param metadata    cluster meta data
+     * @param keyspace    keyspace of the entity
+     * @param entityClass entity class
+     * @return cache key
+     */
+    public static String cacheKey(Metadata metadata, String keyspace, Class<?> entityClass) {
+        final String hosts = metadata.getAllHosts()
+                .stream()
+                .map(host -> host.getSocketAddress().toString())
+                .sorted()
+                .collect(Collectors.joining(","));
+        return format("%s@%s/%s/%s", metadata.getClusterName(), sha256(hosts).substring(0, 12),
+                keyspace, entityClass.getCanonicalName());
+    }
+
+    public boolean isUnchanged(String key, String hash) {
+        return hash.equals(hashes.getProperty(key));
+    }
+
+    /**
+     * Record the hashes of the successfully validated entities and write the cache file.
+     * Failing to write the file does not fail the bootstrap
+     *
+     * @param validatedHashes hash of each validated entity, by cache key
+     */
+    public synchronized void markValidated(Map<String, String> validatedHashes) {
+        if (validatedHashes.isEmpty()) {
+            return;
+        }
+        validatedHashes.forEach(hashes::setProperty);
+        try {
+            final Path parent = cacheFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            final Path tempFile = Files.createTempFile(parent, "achilles-schema-validation", ".tmp");
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
+                hashes.store(output, "Achilles schema validation cache");
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn(format("Cannot write the schema validation cache file %s : %s", cacheFile, e.getMessage()));
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new AchillesException(e);
+        }
+    }
+}
@@ -18,8 +18,6 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
-import java.util.UUID;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +29,7 @@ import com.datastax.driver.core.Row;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
 
 public class BoundStatementWrapper implements StatementWrapper {
 
@@ -42,7 +41,9 @@ public class BoundStatementWrapper implements StatementWrapper {
     private final Object[] encodedBoundValues;
     private final Logger actualLogger;
     private BoundStatement bs;
-    private UUID queryId;
+    private String queryId;
+    private SlowQueryProbe slowQueryProbe;
+    private MetricsOperation metricsOperation;
 
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, PreparedStatement ps,
@@ -63,6 +64,7 @@ public class BoundStatementWrapper implements StatementWrapper {
         this.boundValues = boundValues;
         this.encodedBoundValues = encodedBoundValues;
         this.actualLogger = meta.entityLogger.isDebugEnabled() ? meta.entityLogger : DML_LOGGER;
+        this.metricsOperation = defaultMetricsOperation(operationType);
     }
 
     @Override
@@ -75,6 +77,32 @@ public class BoundStatementWrapper implements StatementWrapper {
         return bs;
     }
 
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public MetricsOperation getMetricsOperation() {
+        return metricsOperation;
+    }
+
+    @Override
+    public BoundStatementWrapper withMetricsOperation(MetricsOperation metricsOperation) {
+        this.metricsOperation = metricsOperation;
+        return this;
+    }
+
+    @Override
+    public SlowQueryProbe getSlowQueryProbe() {
+        return slowQueryProbe;
+    }
+
+    @Override
+    public void setSlowQueryProbe(SlowQueryProbe slowQueryProbe) {
+        this.slowQueryProbe = slowQueryProbe;
+    }
+
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, bs);
@@ -86,9 +114,8 @@ public class BoundStatementWrapper implements StatementWrapper {
             LOGGER.trace(format("Maybe log DML query %s", bs.preparedStatement().getQueryString()));
         }
 
-        queryId = UUID.randomUUID();
         if (actualLogger.isDebugEnabled()) {
-            writeDMLStatementLog(actualLogger, queryId, bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), boundValues, encodedBoundValues);
+            writeDMLStatementLog(actualLogger, queryId(), bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), boundValues, encodedBoundValues);
         }
     }
 
@@ -100,7 +127,7 @@ public class BoundStatementWrapper implements StatementWrapper {
 
         if (actualLogger.isDebugEnabled()) {
             final ResultSetWrapper wrapper = new ResultSetWrapper(originalResultSet);
-            logReturnedResultsInternal(actualLogger, queryId, wrapper, maxDisplayedRows);
+            logReturnedResultsInternal(actualLogger, queryId(), wrapper, maxDisplayedRows);
             return wrapper;
         } else {
             return originalResultSet;
@@ -114,7 +141,7 @@ public class BoundStatementWrapper implements StatementWrapper {
         }
 
         if (actualLogger.isDebugEnabled()) {
-            logReturnedRowInternal(actualLogger, queryId, row);
+            logReturnedRowInternal(actualLogger, queryId(), row);
         }
         return row;
     }
@@ -124,7 +151,31 @@ public class BoundStatementWrapper implements StatementWrapper {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Maybe display tracing for query %s", bs.preparedStatement().getQueryString()));
         }
-        tracingInternal(actualLogger, queryId, resultSet);
+        if (actualLogger.isTraceEnabled()) {
+            tracingInternal(actualLogger, queryId(), resultSet);
+        }
         return resultSet;
     }
+
+    private String queryId() {
+        if (queryId == null) {
+            queryId = QueryIdGenerator.nextId();
+        }
+        return queryId;
+    }
+
+    private static MetricsOperation defaultMetricsOperation(OperationType operationType) {
+        switch (operationType) {
+            case INSERT:
+                return MetricsOperation.INSERT;
+            case UPDATE:
+                return MetricsOperation.UPDATE;
+            case DELETE:
+                return MetricsOperation.DELETE;
+            case SELECT:
+                return MetricsOperation.DSL_SELECT;
+            default:
+                return MetricsOperation.NATIVE;
+        }
+    }
 }
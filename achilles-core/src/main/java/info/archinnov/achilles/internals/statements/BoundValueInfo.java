@@ -16,6 +16,7 @@
 
 package info.archinnov.achilles.internals.statements;
 
+import java.util.Optional;
 import java.util.function.BiConsumer;
 
 import com.datastax.driver.core.SettableData;
@@ -25,15 +26,25 @@ public class BoundValueInfo {
     public final BiConsumer<Object, SettableData> setter;
     public final Object boundValue;
     public final Object encodedValue;
+    /**
+     * Group of a @Lazy column. On INSERT, the columns of a group whose values are all null
+     * are left out of the statement since the group has usually not been loaded
+     */
+    public final Optional<String> lazyGroup;
 
-    private BoundValueInfo(BiConsumer<Object, SettableData> setter, Object boundValue, Object encodedValue) {
+    private BoundValueInfo(BiConsumer<Object, SettableData> setter, Object boundValue, Object encodedValue, Optional<String> lazyGroup) {
         this.setter = setter;
         this.boundValue = boundValue;
         this.encodedValue = encodedValue;
+        this.lazyGroup = lazyGroup;
     }
 
     public static BoundValueInfo of(BiConsumer<Object, SettableData> setter, Object boundValue, Object encodedValue) {
-        return new BoundValueInfo(setter, boundValue, encodedValue);
+        return new BoundValueInfo(setter, boundValue, encodedValue, Optional.empty());
+    }
+
+    public static BoundValueInfo of(BiConsumer<Object, SettableData> setter, Object boundValue, Object encodedValue, Optional<String> lazyGroup) {
+        return new BoundValueInfo(setter, boundValue, encodedValue, lazyGroup);
     }
 
     @Override
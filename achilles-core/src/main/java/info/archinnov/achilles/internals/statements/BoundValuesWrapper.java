@@ -18,8 +18,9 @@ package info.archinnov.achilles.internals.statements;
 
 import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.*;
 
-import java.util.List;
+import java.util.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,10 +38,56 @@ public class BoundValuesWrapper {
 
     public final List<BoundValueInfo> boundValuesInfo;
     public final AbstractEntityProperty<?> meta;
+    public final Set<String> excludedLazyGroups;
 
     public BoundValuesWrapper(AbstractEntityProperty<?> meta, List<BoundValueInfo> boundValuesInfo) {
+        this(meta, boundValuesInfo, Collections.emptySet());
+    }
+
+    private BoundValuesWrapper(AbstractEntityProperty<?> meta, List<BoundValueInfo> boundValuesInfo, Set<String> excludedLazyGroups) {
         this.meta = meta;
         this.boundValuesInfo = boundValuesInfo;
+        this.excludedLazyGroups = excludedLazyGroups;
+    }
+
+    /**
+     * Remove the values of the lazy groups whose columns are all null, since such a group has usually
+     * not been loaded. The INSERT statement must then be generated without the columns of
+     * {@link #excludedLazyGroups} so that their stored values are kept. A partially loaded
+     * group is kept entirely and its null columns are bound as null
+     */
+    public BoundValuesWrapper withoutUnloadedLazyGroups() {
+        if (meta.lazyColumns.isEmpty()) {
+            return this;
+        }
+
+        final Map<String, List<BoundValueInfo>> valuesByGroup = boundValuesInfo
+                .stream()
+                .filter(x -> x.lazyGroup.isPresent())
+                .collect(groupingBy(x -> x.lazyGroup.get()));
+
+        final Set<String> unloadedGroups = valuesByGroup
+                .entrySet()
+                .stream()
+                .filter(entry -> entry.getValue().stream().allMatch(x -> x.encodedValue == null))
+                .map(Map.Entry::getKey)
+                .collect(toCollection(TreeSet::new));
+
+        if (unloadedGroups.isEmpty()) {
+            return this;
+        }
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Leave unloaded lazy groups %s out of the INSERT for entity %s",
+                    unloadedGroups, meta.entityClass.getCanonicalName()));
+        }
+
+        final List<BoundValueInfo> loadedValues = boundValuesInfo
+                .stream()
+                .filter(x -> !x.lazyGroup.isPresent() || !unloadedGroups.contains(x.lazyGroup.get()))
+                .collect(toList());
+
+        return new BoundValuesWrapper(meta, loadedValues, Collections.unmodifiableSet(unloadedGroups));
     }
 
     public StatementWrapper bindWithInsertStrategy(PreparedStatement ps, InsertStrategy insertStrategy) {
@@ -0,0 +1,209 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Hand DML log formatting over to a single background thread.
+ * <br/>
+ * Log tasks are published into a bounded lock-free ring buffer
+ * (multi-producers, single consumer) and drained by a daemon thread
+ * so that formatting bound values and returned rows does not happen
+ * on the request thread.
+ * <br/>
+ * When the ring buffer is full, the task is executed synchronously
+ * by the caller so that no DML log is lost. Such a task is written
+ * <strong>before</strong> the tasks still queued in the ring buffer, DML logs
+ * are therefore not strictly ordered when the dispatcher is saturated;
+ * rely on the query ID rather than on the log order to correlate them
+ * <br/>
+ * The caller's MDC is copied into each queued task and restored on the
+ * background thread while the task runs
+ */
+public class DMLLogDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DMLLogDispatcher.class);
+
+    static final int DEFAULT_CAPACITY = 8192;
+    static final String THREAD_NAME = "achilles-dml-logger";
+    private static final long MAX_PARK_NANOS = 100_000_000L;
+
+    private final RingBuffer ringBuffer;
+    private final LongAdder synchronousFallbacks = new LongAdder();
+    private final Thread drainer;
+    private volatile boolean parked = false;
+
+    DMLLogDispatcher(int capacity, String threadName) {
+        this.ringBuffer = new RingBuffer(capacity);
+        this.drainer = new Thread(this::drainLoop, threadName);
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    public static DMLLogDispatcher instance() {
+        return Holder.INSTANCE;
+    }
+
+    public void dispatch(Runnable logTask) {
+        final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+        final Runnable queuedTask = contextMap == null || contextMap.isEmpty()
+                ? logTask
+                : new MDCAwareTask(contextMap, logTask);
+        if (ringBuffer.offer(queuedTask)) {
+            if (parked) {
+                LockSupport.unpark(drainer);
+            }
+        } else {
+            synchronousFallbacks.increment();
+            runSafely(logTask);
+        }
+    }
+
+    public long getSynchronousFallbackCount() {
+        return synchronousFallbacks.sum();
+    }
+
+    boolean isDrained() {
+        return ringBuffer.isEmpty();
+    }
+
+    private void drainLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Runnable logTask = ringBuffer.poll();
+            if (logTask != null) {
+                runSafely(logTask);
+            } else {
+                parked = true;
+                if (ringBuffer.isEmpty()) {
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                }
+                parked = false;
+            }
+        }
+    }
+
+    private static void runSafely(Runnable logTask) {
+        try {
+            logTask.run();
+        } catch (Throwable throwable) {
+            LOGGER.warn("Fail writing DML log : " + throwable.getMessage(), throwable);
+        }
+    }
+
+    /**
+     * Run the log task with the MDC of the thread which dispatched it
+     */
+    static final class MDCAwareTask implements Runnable {
+        private final Map<String, String> contextMap;
+        private final Runnable delegate;
+
+        MDCAwareTask(Map<String, String> contextMap, Runnable delegate) {
+            this.contextMap = contextMap;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void run() {
+            MDC.setContextMap(contextMap);
+            try {
+                delegate.run();
+            } finally {
+                MDC.clear();
+            }
+        }
+    }
+
+    private static final class Holder {
+        private static final DMLLogDispatcher INSTANCE = new DMLLogDispatcher(DEFAULT_CAPACITY, THREAD_NAME);
+    }
+
+    /**
+     * Bounded array queue, each slot carrying a sequence number
+     * to coordinate concurrent producers without lock
+     */
+    static final class RingBuffer {
+        private final int mask;
+        private final AtomicReferenceArray<Runnable> slots;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong(0);
+        private volatile long head = 0;
+
+        RingBuffer(int capacity) {
+            final int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+            this.mask = size - 1;
+            this.slots = new AtomicReferenceArray<>(size);
+            this.sequences = new AtomicLongArray(size);
+            for (int i = 0; i < size; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        boolean offer(Runnable task) {
+            long position = tail.get();
+            while (true) {
+                final int index = (int) (position & mask);
+                final long difference = sequences.get(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        slots.lazySet(index, task);
+                        sequences.set(index, position + 1);
+                        return true;
+                    }
+                    position = tail.get();
+                } else if (difference < 0) {
+                    return false;
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        /**
+         * Must be called by a single consumer thread
+         */
+        Runnable poll() {
+            final long position = head;
+            final int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                return null;
+            }
+            final Runnable task = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.set(index, position + mask + 1);
+            head = position + 1;
+            return task;
+        }
+
+        boolean isEmpty() {
+            return sequences.get((int) (head & mask)) != head + 1;
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+    }
+}
@@ -20,7 +20,7 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.*;
 import static java.lang.String.format;
 
-import java.util.Optional;
+import java.util.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,17 +52,27 @@ public class PreparedStatementGenerator {
     }
 
     public static RegularStatement generateSelectQuery( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
+        return generateSelectQuery(entityProperty, Collections.emptySet(), schemaNameProvider);
+    }
+
+    public static RegularStatement generateSelectQuery(AbstractEntityProperty<?> entityProperty, Collection<String> lazyGroups,
+                                                       Optional<SchemaNameProvider> schemaNameProvider) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate SELECT query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
         final Select.Selection select = QueryBuilder.select();
-        final Optional<String> keyspace = entityProperty.getKeyspace();
 
-        for (AbstractProperty<?, ?, ?> x : entityProperty.allColumns) {
+        for (AbstractProperty<?, ?, ?> x : entityProperty.eagerColumns) {
             select.column(x.fieldInfo.quotedCqlColumn);
         }
 
+        for (String lazyGroup : lazyGroups) {
+            for (AbstractProperty<?, ?, ?> x : entityProperty.lazyColumnGroups.get(lazyGroup)) {
+                select.column(x.fieldInfo.quotedCqlColumn);
+            }
+        }
+
         entityProperty
                 .computedColumns
                 .stream()
@@ -77,6 +87,28 @@ public class PreparedStatementGenerator {
                     select.fcall(columnInfo.functionName, args).as(columnInfo.alias);
                 });
 
+        return selectByPrimaryKey(entityProperty, schemaNameProvider, select);
+    }
+
+    public static RegularStatement generateSelectLazyGroupQuery(AbstractEntityProperty<?> entityProperty, String lazyGroup,
+                                                                Optional<SchemaNameProvider> schemaNameProvider) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generate SELECT query for lazy group '%s' of entity of type %s",
+                    lazyGroup, entityProperty.entityClass.getCanonicalName()));
+        }
+
+        final Select.Selection select = QueryBuilder.select();
+
+        for (AbstractProperty<?, ?, ?> x : entityProperty.lazyColumnGroups.get(lazyGroup)) {
+            select.column(x.fieldInfo.quotedCqlColumn);
+        }
+
+        return selectByPrimaryKey(entityProperty, schemaNameProvider, select);
+    }
+
+    private static RegularStatement selectByPrimaryKey(AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider,
+                                                       Select.Selection select) {
+        final Optional<String> keyspace = entityProperty.getKeyspace();
         final Select from;
 
         if (schemaNameProvider.isPresent()) {
@@ -359,6 +391,42 @@ public class PreparedStatementGenerator {
         return insert.ifNotExists().using(ttl(bindMarker("ttl")));
     }
 
+    public static RegularStatement generateInsertWithoutLazyGroups(AbstractEntityProperty<?> entityProperty, Collection<String> excludedLazyGroups,
+                                                                   boolean staticValuesOnly, boolean ifNotExists,
+                                                                   Optional<SchemaNameProvider> schemaNameProvider) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generate INSERT query without lazy groups %s for entity of type %s",
+                    excludedLazyGroups, entityProperty.entityClass.getCanonicalName()));
+        }
+
+        final Set<AbstractProperty<?, ?, ?>> excludedColumns = new HashSet<>();
+        for (String lazyGroup : excludedLazyGroups) {
+            excludedColumns.addAll(entityProperty.lazyColumnGroups.get(lazyGroup));
+        }
+
+        final List<AbstractProperty<?, ?, ?>> columns = new ArrayList<>();
+        if (staticValuesOnly) {
+            columns.addAll(entityProperty.partitionKeys);
+            columns.addAll(entityProperty.staticColumns);
+        } else {
+            columns.addAll(entityProperty.allColumns);
+        }
+
+        final Insert insert = getInsertWithTableName(entityProperty, schemaNameProvider);
+
+        for (AbstractProperty<?, ?, ?> x : columns) {
+            if (!excludedColumns.contains(x)) {
+                insert.value(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn));
+            }
+        }
+
+        if (ifNotExists) {
+            insert.ifNotExists();
+        }
+
+        return insert.using(ttl(bindMarker("ttl")));
+    }
+
     private static Insert getInsertWithTableName( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         final Optional<String> keyspace = entityProperty.getKeyspace();
         final Insert insert;
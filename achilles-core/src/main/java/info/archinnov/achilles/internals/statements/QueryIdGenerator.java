@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generate cheap, process-unique query ids for DML logs and tracing.
+ * <br/>
+ * An id is made of a prefix computed once per JVM from the
+ * process name (<em>pid@host</em>) and start time, followed by
+ * a monotonic counter. Unlike <em>UUID.randomUUID()</em> there is
+ * no <em>SecureRandom</em> call so id generation does not contend
+ * across threads
+ */
+public final class QueryIdGenerator {
+
+    static final String NODE_PREFIX = computeNodePrefix();
+    private static final AtomicLong COUNTER = new AtomicLong(0);
+
+    private QueryIdGenerator() {
+    }
+
+    public static String nextId() {
+        return NODE_PREFIX + "-" + Long.toHexString(COUNTER.incrementAndGet());
+    }
+
+    private static String computeNodePrefix() {
+        String processName;
+        try {
+            processName = ManagementFactory.getRuntimeMXBean().getName();
+        } catch (Throwable throwable) {
+            processName = "unknown";
+        }
+        final int hash = processName.hashCode() * 31 + Long.hashCode(System.currentTimeMillis());
+        return String.format("%08x", hash);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import static info.archinnov.achilles.internals.utils.LoggerHelper.snapshotForLog;
+import static java.lang.String.format;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+
+import info.archinnov.achilles.logger.AchillesLoggers;
+
+/**
+ * Track the execution of one statement, from submission to completion, and log it
+ * on the <strong>ACHILLES_SLOW_QUERY</strong> logger when it exceeds its threshold.
+ * <br/>
+ * Completion happens when Cassandra responds, or, for statements whose rows are mapped
+ * by the caller, once mapping is done or the iterator is exhausted so that paging
+ * fetches and mapping time are included. A result iterator also completes the probe
+ * as soon as the statement exceeds its threshold or when fetching a page fails, so that
+ * an iterator which is never fully consumed is still logged with the rows mapped so far
+ */
+public class SlowQueryProbe {
+
+    static final Logger SLOW_QUERY_LOGGER = LoggerFactory.getLogger(AchillesLoggers.ACHILLES_SLOW_QUERY);
+
+    private final StatementWrapper wrapper;
+    private final long thresholdNanos;
+    private final long startNanos;
+    private final boolean awaitMapping;
+    private final boolean logBoundValues;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private long cassandraNanos;
+    private long mappingNanos;
+    private int mappedRows;
+    private boolean mapped;
+    private ResultSet resultSet;
+    private Throwable failure;
+
+    public SlowQueryProbe(StatementWrapper wrapper, long thresholdNanos, long startNanos, boolean awaitMapping, boolean logBoundValues) {
+        this.wrapper = wrapper;
+        this.thresholdNanos = thresholdNanos;
+        this.startNanos = startNanos;
+        this.awaitMapping = awaitMapping;
+        this.logBoundValues = logBoundValues;
+    }
+
+    public void onResponse(ResultSet resultSet) {
+        this.cassandraNanos = System.nanoTime() - startNanos;
+        this.resultSet = resultSet;
+        if (!awaitMapping) {
+            complete();
+        }
+    }
+
+    public void onFailure(Throwable failure) {
+        this.cassandraNanos = System.nanoTime() - startNanos;
+        this.failure = failure;
+        complete();
+    }
+
+    public void addMapping(long mappingNanos, int rows) {
+        this.mappingNanos += mappingNanos;
+        this.mappedRows += rows;
+        this.mapped = true;
+    }
+
+    /**
+     * Report one iteration step over the result of the statement, completing the probe
+     * when the iterator is exhausted or when the statement already exceeds its threshold
+     *
+     * @param hasNext whether the iterator has more rows
+     */
+    public void onIteration(boolean hasNext) {
+        if (completed.get()) {
+            return;
+        }
+        if (!hasNext || System.nanoTime() - startNanos >= thresholdNanos) {
+            complete();
+        }
+    }
+
+    boolean isCompleted() {
+        return completed.get();
+    }
+
+    public void complete() {
+        if (!completed.compareAndSet(false, true)) {
+            return;
+        }
+        final long totalNanos = System.nanoTime() - startNanos;
+        if (totalNanos < thresholdNanos) {
+            return;
+        }
+
+        final String entityName = wrapper.getEntityClass().getCanonicalName();
+        final String queryString = wrapper.getBoundStatement().preparedStatement().getQueryString();
+        final Object consistencyLevel = wrapper.getBoundStatement().getConsistencyLevel();
+        final Object[] boundValues = wrapper.getBoundValues();
+        final int pages = resultSet == null ? 0 : resultSet.getAllExecutionInfo().size();
+        final ExecutionInfo executionInfo = resultSet == null ? null : resultSet.getExecutionInfo();
+        final Object coordinator = executionInfo == null ? null : executionInfo.getQueriedHost();
+        final int rows = mapped ? mappedRows : (resultSet == null ? 0 : resultSet.getAvailableWithoutFetching());
+        final long cassandraMillis = TimeUnit.NANOSECONDS.toMillis(cassandraNanos);
+        final long mappingMillis = TimeUnit.NANOSECONDS.toMillis(mappingNanos);
+        final Throwable error = failure;
+        final Object boundValuesForLog = logBoundValues
+                ? (boundValues == null ? "[]" : snapshotForLog(boundValues))
+                : format("<%d redacted>", boundValues == null ? 0 : boundValues.length);
+
+        DMLLogDispatcher.instance().dispatch(() -> {
+            final String boundValuesAsString = boundValuesForLog.toString();
+            final StringBuilder log = new StringBuilder(format("Slow query on entity %s took %d ms (threshold %d ms) : [%s]",
+                    entityName, TimeUnit.NANOSECONDS.toMillis(totalNanos), TimeUnit.NANOSECONDS.toMillis(thresholdNanos), queryString));
+            log.append(format("\n\t cassandra %d ms, mapping %d ms, %d page(s), %d row(s)", cassandraMillis, mappingMillis, pages, rows));
+            log.append(format("\n\t consistency level %s, coordinator %s, bound values %s", consistencyLevel, coordinator, boundValuesAsString));
+            if (error != null) {
+                log.append(format("\n\t failed with %s : %s", error.getClass().getCanonicalName(), error.getMessage()));
+            }
+            SLOW_QUERY_LOGGER.warn(log.toString());
+        });
+    }
+}
@@ -17,7 +17,7 @@
 package info.archinnov.achilles.internals.statements;
 
 import static info.archinnov.achilles.internals.cql.TypeMapper.toJavaType;
-import static info.archinnov.achilles.internals.utils.LoggerHelper.replaceByteBuffersByHexString;
+import static info.archinnov.achilles.internals.utils.LoggerHelper.snapshotForLog;
 import static java.lang.String.format;
 
 import java.util.*;
@@ -33,6 +33,7 @@ import com.datastax.driver.core.exceptions.TraceRetrievalException;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
 import info.archinnov.achilles.logger.AchillesLoggers;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
 
 public interface StatementWrapper {
     Logger LOGGER = LoggerFactory.getLogger(StatementWrapper.class);
@@ -44,6 +45,16 @@ public interface StatementWrapper {
 
     BoundStatement getBoundStatement();
 
+    Class<?> getEntityClass();
+
+    MetricsOperation getMetricsOperation();
+
+    StatementWrapper withMetricsOperation(MetricsOperation metricsOperation);
+
+    SlowQueryProbe getSlowQueryProbe();
+
+    void setSlowQueryProbe(SlowQueryProbe slowQueryProbe);
+
     void applyOptions(CassandraOptions cassandraOptions);
 
     void logDML();
@@ -54,39 +65,54 @@ public interface StatementWrapper {
 
     ResultSet logTrace(ResultSet resultSet);
 
-    default void writeDMLStatementLog(Logger actualLogger, UUID queryId, String queryString, ConsistencyLevel consistencyLevel, Object[] boundValues, Object[] encodedValues) {
+    default void writeDMLStatementLog(Logger actualLogger, String queryId, String queryString, ConsistencyLevel consistencyLevel, Object[] boundValues, Object[] encodedValues) {
         if (actualLogger.isDebugEnabled()) {
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(format("Writing DML log for query %s with id %s", queryString, queryId));
-            }
-            StringBuilder logBuilder = new StringBuilder("\n");
-            logBuilder.append(String.format("Query ID %s : [%s] with CONSISTENCY LEVEL [%s]",
-                    queryId.toString(), queryString, consistencyLevel));
-            if (ArrayUtils.isNotEmpty(boundValues)) {
-                logBuilder.append(String.format("\n\t Java bound values : %s", replaceByteBuffersByHexString(boundValues)));
-                logBuilder.append(String.format("\n\t Encoded bound values : %s", replaceByteBuffersByHexString(encodedValues)));
-            }
-            actualLogger.debug(logBuilder.toString());
+            // Bound values are owned by the caller and may be mutated once the statement is executed,
+            // snapshot them on the caller thread before handing the formatting over to the DML log thread
+            final boolean hasBoundValues = ArrayUtils.isNotEmpty(boundValues);
+            final List<Object> boundValuesSnapshot = hasBoundValues ? snapshotForLog(boundValues) : null;
+            final List<Object> encodedValuesSnapshot = hasBoundValues ? snapshotForLog(encodedValues) : null;
+            DMLLogDispatcher.instance().dispatch(() -> {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Writing DML log for query %s with id %s", queryString, queryId));
+                }
+                StringBuilder logBuilder = new StringBuilder("\n");
+                logBuilder.append(String.format("Query ID %s : [%s] with CONSISTENCY LEVEL [%s]",
+                        queryId, queryString, consistencyLevel));
+                if (hasBoundValues) {
+                    logBuilder.append(String.format("\n\t Java bound values : %s", boundValuesSnapshot));
+                    logBuilder.append(String.format("\n\t Encoded bound values : %s", encodedValuesSnapshot));
+                }
+                actualLogger.debug(logBuilder.toString());
+            });
         }
     }
 
-    default void logReturnedResultsInternal(Logger actualLogger, UUID queryId, ResultSetWrapper resultSet, int maxDisplayedRows) {
+    default void logReturnedResultsInternal(Logger actualLogger, String queryId, ResultSetWrapper resultSet, int maxDisplayedRows) {
         if (maxDisplayedRows > 0) {
             final int availableWithoutFetching = resultSet.getAvailableWithoutFetching();
-            StringBuilder results = new StringBuilder(format("Query ID %s results : \n", queryId));
-            actualLogger.debug(resultSet.toString());
+            final String resultSetDescription = resultSet.toString();
+            final List<Row> rows = new ArrayList<>();
             for (int i = 0; i < Integer.min(availableWithoutFetching, maxDisplayedRows); i++) {
-                final Row row = resultSet.peek();
-                appendRowDataToBuilder(row, row.getColumnDefinitions().asList(), results);
+                rows.add(resultSet.peek());
             }
-            actualLogger.debug(results.toString());
+            DMLLogDispatcher.instance().dispatch(() -> {
+                StringBuilder results = new StringBuilder(format("Query ID %s results : \n", queryId));
+                actualLogger.debug(resultSetDescription);
+                for (Row row : rows) {
+                    appendRowDataToBuilder(row, row.getColumnDefinitions().asList(), results);
+                }
+                actualLogger.debug(results.toString());
+            });
         }
     }
 
-    default void logReturnedRowInternal(Logger actualLogger, UUID queryId, Row row) {
-        StringBuilder results = new StringBuilder(format("Query ID %s row : \n", queryId));
-        appendRowDataToBuilder(row, row.getColumnDefinitions().asList(), results);
-        actualLogger.debug(results.toString());
+    default void logReturnedRowInternal(Logger actualLogger, String queryId, Row row) {
+        DMLLogDispatcher.instance().dispatch(() -> {
+            StringBuilder results = new StringBuilder(format("Query ID %s row : \n", queryId));
+            appendRowDataToBuilder(row, row.getColumnDefinitions().asList(), results);
+            actualLogger.debug(results.toString());
+        });
     }
 
     default void appendRowDataToBuilder(Row row, List<ColumnDefinitions.Definition> columnsDef, StringBuilder builder) {
@@ -114,12 +140,12 @@ public interface StatementWrapper {
         }
     }
 
-    default void tracingInternal(Logger actualLogger, UUID queryId, ResultSet resultSet) {
+    default void tracingInternal(Logger actualLogger, String queryId, ResultSet resultSet) {
         StringBuilder trace = new StringBuilder();
         if (actualLogger.isTraceEnabled()) {
             for (ExecutionInfo executionInfo : resultSet.getAllExecutionInfo()) {
 
-                trace.append(format("\n\nTracing for Query ID %s at host %s with achieved consistency level %s \n", queryId.toString(), executionInfo.getQueriedHost(), executionInfo.getAchievedConsistencyLevel()));
+                trace.append(format("\n\nTracing for Query ID %s at host %s with achieved consistency level %s \n", queryId, executionInfo.getQueriedHost(), executionInfo.getAchievedConsistencyLevel()));
                 trace.append("****************************\n");
                 trace.append(format("%1$-80s | %2$-16s | %3$-24s | %4$-20s\n", "Description", "Source", "Source elapsed in micros", "Thread name"));
                 try {
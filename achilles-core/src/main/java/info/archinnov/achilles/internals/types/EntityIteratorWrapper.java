@@ -28,6 +28,7 @@ import com.google.common.util.concurrent.Uninterruptibles;
 import info.archinnov.achilles.internals.dsl.AsyncAware;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.SlowQueryProbe;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.interceptor.Event;
 
@@ -37,6 +38,7 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
     private final AbstractEntityProperty<ENTITY> meta;
     private final StatementWrapper statementWrapper;
     private final CassandraOptions options;
+    private final SlowQueryProbe slowQueryProbe;
     private ExecutionInfo executionInfo;
 
     public EntityIteratorWrapper(CompletableFuture<ResultSet> futureRS, AbstractEntityProperty<ENTITY> meta,
@@ -44,6 +46,7 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
         this.meta = meta;
         this.statementWrapper = statementWrapper;
         this.options = cassandraOptions;
+        this.slowQueryProbe = statementWrapper.getSlowQueryProbe();
         try {
             this.delegate = Uninterruptibles.getUninterruptibly(futureRS
                     .thenApply(cassandraOptions::resultSetAsyncListener)
@@ -56,6 +59,9 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
+        if (slowQueryProbe != null) {
+            slowQueryProbe.onIteration(true);
+        }
     }
 
     public ExecutionInfo getExecutionInfo() {
@@ -64,20 +70,39 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
 
     @Override
     public boolean hasNext() {
-        return delegate.hasNext();
+        final boolean hasNext = delegateHasNext();
+        if (slowQueryProbe != null) {
+            slowQueryProbe.onIteration(hasNext);
+        }
+        return hasNext;
     }
 
     @Override
     public ENTITY next() {
-        if (delegate.hasNext()) {
+        if (delegateHasNext()) {
             final Row row = delegate.next();
             statementWrapper.logReturnedRow(row);
             options.rowAsyncListener(row);
+            final long mappingStart = slowQueryProbe != null ? System.nanoTime() : 0L;
             final ENTITY instance = meta.createEntityFrom(row);
             meta.triggerInterceptorsForEvent(Event.POST_LOAD, instance);
+            if (slowQueryProbe != null) {
+                slowQueryProbe.addMapping(System.nanoTime() - mappingStart, 1);
+            }
             return instance;
         } else {
             return null;
         }
     }
+
+    private boolean delegateHasNext() {
+        try {
+            return delegate.hasNext();
+        } catch (RuntimeException e) {
+            if (slowQueryProbe != null) {
+                slowQueryProbe.onFailure(e);
+            }
+            throw e;
+        }
+    }
 }
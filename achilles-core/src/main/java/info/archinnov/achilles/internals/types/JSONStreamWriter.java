@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.JsonArrayFraming;
+
+/**
+ * Stream the <strong>[json]</strong> column of a SELECT JSON result set to a sink, page by page.
+ * <br/>
+ * <br/>
+ * The raw UTF-8 bytes of each cell are written as is, without building a String per row. The next
+ * page is only requested once the current one has been written and flushed, so at most one page
+ * is held in memory and a slow output naturally slows down the fetching.
+ * <br/>
+ * <br/>
+ * Writing to the sink may block, all the pages are written on the given executor
+ */
+public class JSONStreamWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JSONStreamWriter.class);
+    private static final byte[] NULL_JSON = "null".getBytes(UTF_8);
+    private static final int JSON_COLUMN_INDEX = 0;
+
+    private final Sink sink;
+    private final byte[] begin;
+    private final byte[] separator;
+    private final byte[] terminator;
+    private final byte[] end;
+    private final int flushInterval;
+    private final StatementWrapper statementWrapper;
+    private final CassandraOptions options;
+    private final Executor executor;
+
+    private long rowCount = 0L;
+    private int rowsSinceFlush = 0;
+
+    /**
+     * @param flushInterval number of rows written between two flushes of the sink,
+     *                      0 to flush only once per fetched page
+     * @param executor executor running the writes to the sink
+     */
+    public JSONStreamWriter(Sink sink, JsonArrayFraming framing, int flushInterval,
+                            StatementWrapper statementWrapper, CassandraOptions options, Executor executor) {
+        this.sink = sink;
+        this.begin = framing.begin();
+        this.separator = framing.separator();
+        this.terminator = framing.terminator();
+        this.end = framing.end();
+        this.flushInterval = flushInterval;
+        this.statementWrapper = statementWrapper;
+        this.options = options;
+        this.executor = executor;
+    }
+
+    /**
+     * @return a future of the number of rows written
+     */
+    public CompletableFuture<Long> write(CompletableFuture<ResultSet> futureRS) {
+        return futureRS
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(statementWrapper::logTrace)
+                .thenComposeAsync(rs -> {
+                    sink.write(begin);
+                    return writePages(rs);
+                }, executor);
+    }
+
+    private CompletableFuture<Long> writePages(ResultSet resultSet) {
+        final int available = resultSet.getAvailableWithoutFetching();
+        for (int i = 0; i < available; i++) {
+            writeRow(resultSet.one());
+        }
+
+        if (resultSet.isFullyFetched()) {
+            sink.write(end);
+            sink.flush();
+            if (LOGGER.isTraceEnabled()) {
+                LOGGER.trace(String.format("Streamed %s JSON rows for query : %s", rowCount,
+                        statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+            }
+            return CompletableFuture.completedFuture(rowCount);
+        } else {
+            sink.flush();
+            rowsSinceFlush = 0;
+            return toCompletableFuture(resultSet.fetchMoreResults(), executor)
+                    .thenCompose(this::writePages);
+        }
+    }
+
+    private void writeRow(Row row) {
+        statementWrapper.logReturnedRow(row);
+        options.rowAsyncListener(row);
+
+        if (rowCount > 0) {
+            sink.write(separator);
+        }
+        final ByteBuffer json = row.getBytesUnsafe(JSON_COLUMN_INDEX);
+        if (json == null) {
+            sink.write(NULL_JSON);
+        } else {
+            sink.write(json.duplicate());
+        }
+        sink.write(terminator);
+
+        rowCount++;
+        if (flushInterval > 0 && ++rowsSinceFlush >= flushInterval) {
+            sink.flush();
+            rowsSinceFlush = 0;
+        }
+    }
+
+    /**
+     * Byte oriented destination of the streamed JSON
+     */
+    public static abstract class Sink {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        public static Sink of(OutputStream outputStream) {
+            return new OutputStreamSink(outputStream);
+        }
+
+        public static Sink of(Writer writer) {
+            return new WriterSink(writer);
+        }
+
+        void write(byte[] bytes) {
+            if (bytes.length > 0) {
+                write(ByteBuffer.wrap(bytes));
+            }
+        }
+
+        abstract void write(ByteBuffer bytes);
+
+        abstract void flush();
+    }
+
+    private static class OutputStreamSink extends Sink {
+        private final OutputStream outputStream;
+        private byte[] chunk;
+
+        private OutputStreamSink(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        void write(ByteBuffer bytes) {
+            try {
+                if (bytes.hasArray()) {
+                    outputStream.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+                } else {
+                    if (chunk == null) chunk = new byte[Sink.BUFFER_SIZE];
+                    while (bytes.hasRemaining()) {
+                        final int length = Math.min(chunk.length, bytes.remaining());
+                        bytes.get(chunk, 0, length);
+                        outputStream.write(chunk, 0, length);
+                    }
+                }
+            } catch (IOException e) {
+                throw new AchillesException("Cannot write JSON rows to the output stream", e);
+            }
+        }
+
+        @Override
+        void flush() {
+            try {
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new AchillesException("Cannot flush JSON rows to the output stream", e);
+            }
+        }
+    }
+
+    private static class WriterSink extends Sink {
+        private final Writer writer;
+        private final CharsetDecoder decoder = UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final CharBuffer chars = CharBuffer.allocate(Sink.BUFFER_SIZE);
+
+        private WriterSink(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        void write(ByteBuffer bytes) {
+            try {
+                decoder.reset();
+                CoderResult result = decoder.decode(bytes, chars, true);
+                while (result.isOverflow()) {
+                    drain();
+                    result = decoder.decode(bytes, chars, true);
+                }
+                result = decoder.flush(chars);
+                while (result.isOverflow()) {
+                    drain();
+                    result = decoder.flush(chars);
+                }
+                drain();
+            } catch (IOException e) {
+                throw new AchillesException("Cannot write JSON rows to the writer", e);
+            }
+        }
+
+        private void drain() throws IOException {
+            chars.flip();
+            writer.write(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+            chars.clear();
+        }
+
+        @Override
+        void flush() {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                throw new AchillesException("Cannot flush JSON rows to the writer", e);
+            }
+        }
+    }
+}
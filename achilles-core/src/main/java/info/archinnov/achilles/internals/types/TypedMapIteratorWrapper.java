@@ -20,7 +20,6 @@ import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
-import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
@@ -28,7 +27,9 @@ import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
 import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.SlowQueryProbe;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.RowView;
 import info.archinnov.achilles.type.TypedMap;
 
 public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
@@ -36,24 +37,31 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
     private final Iterator<Row> delegate;
     private final StatementWrapper statementWrapper;
     private final CassandraOptions options;
+    private final SlowQueryProbe slowQueryProbe;
     private ExecutionInfo executionInfo;
+    private RowView.Columns columns;
 
 
     public TypedMapIteratorWrapper(CompletableFuture<ResultSet> futureRS, StatementWrapper statementWrapper, CassandraOptions cassandraOptions) {
         this.statementWrapper = statementWrapper;
         this.options = cassandraOptions;
+        this.slowQueryProbe = statementWrapper.getSlowQueryProbe();
         try {
             this.delegate = Uninterruptibles.getUninterruptibly(futureRS
                     .thenApply(cassandraOptions::resultSetAsyncListener)
                     .thenApply(statementWrapper::logTrace)
                     .thenApply(rs -> {
                         TypedMapIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
+                        TypedMapIteratorWrapper.this.columns = RowView.Columns.from(rs.getColumnDefinitions());
                         return rs;
                     })
                     .thenApply(rs -> rs.iterator()));
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
+        if (slowQueryProbe != null) {
+            slowQueryProbe.onIteration(true);
+        }
     }
 
     public ExecutionInfo getExecutionInfo() {
@@ -62,29 +70,38 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
 
     @Override
     public boolean hasNext() {
-        return delegate.hasNext();
+        final boolean hasNext = delegateHasNext();
+        if (slowQueryProbe != null) {
+            slowQueryProbe.onIteration(hasNext);
+        }
+        return hasNext;
     }
 
     @Override
     public TypedMap next() {
-        if (delegate.hasNext()) {
+        if (delegateHasNext()) {
             final Row row = delegate.next();
             statementWrapper.logReturnedRow(row);
             options.rowAsyncListener(row);
-            return mapRowToTypedMap(row);
+            final long mappingStart = slowQueryProbe != null ? System.nanoTime() : 0L;
+            final TypedMap typedMap = new RowView(columns, row).toTypedMap();
+            if (slowQueryProbe != null) {
+                slowQueryProbe.addMapping(System.nanoTime() - mappingStart, 1);
+            }
+            return typedMap;
         } else {
             return null;
         }
     }
 
-    private TypedMap mapRowToTypedMap(Row row) {
-        final TypedMap typedMap = new TypedMap();
-        if (row != null) {
-            for (ColumnDefinitions.Definition def : row.getColumnDefinitions().asList()) {
-                final String cqlColumn = def.getName();
-                typedMap.put(cqlColumn, row.getObject(cqlColumn));
+    private boolean delegateHasNext() {
+        try {
+            return delegate.hasNext();
+        } catch (RuntimeException e) {
+            if (slowQueryProbe != null) {
+                slowQueryProbe.onFailure(e);
             }
+            throw e;
         }
-        return typedMap;
     }
 }
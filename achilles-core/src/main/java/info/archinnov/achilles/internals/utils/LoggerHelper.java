@@ -18,9 +18,7 @@ package info.archinnov.achilles.internals.utils;
 import static java.lang.Math.min;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
 
 import com.datastax.driver.core.utils.Bytes;
 
@@ -35,7 +33,7 @@ public abstract class LoggerHelper {
             if (boundValue instanceof ByteBuffer) {
                 ByteBuffer bbBoundedValue = (ByteBuffer) boundValue;
                 byte[] firstBytes = new byte[min(bbBoundedValue.remaining(), HEX_STRING_LOG_LIMIT)];
-                bbBoundedValue.get(firstBytes).rewind();
+                bbBoundedValue.duplicate().get(firstBytes);
                 boundValues.set(valuePos, toHexString(firstBytes, bbBoundedValue.remaining()));
             } else if (boundValue instanceof byte[]) {
                 byte[] baBoundedValue = (byte[]) boundValue;
@@ -46,6 +44,26 @@ public abstract class LoggerHelper {
         return boundValues;
     }
 
+    /**
+     * Copy values to be formatted later by another thread: byte buffers and byte arrays
+     * are turned into their hex string right away, lists, sets and maps are shallow-copied
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Object> snapshotForLog(Object... values) {
+        final List<Object> snapshot = replaceByteBuffersByHexString(values);
+        for (int valuePos = 0; valuePos < snapshot.size(); valuePos++) {
+            Object value = snapshot.get(valuePos);
+            if (value instanceof List) {
+                snapshot.set(valuePos, new ArrayList<>((List<Object>) value));
+            } else if (value instanceof Set) {
+                snapshot.set(valuePos, new LinkedHashSet<>((Set<Object>) value));
+            } else if (value instanceof Map) {
+                snapshot.set(valuePos, new LinkedHashMap<>((Map<Object, Object>) value));
+            }
+        }
+        return snapshot;
+    }
+
     public static String toHexString(byte[] firstBytes, int originalLength) {
         return Bytes.toHexString(firstBytes) + more(originalLength);
     }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.utils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+/**
+ * Run independent tasks in parallel on an executor, the calling thread running itself
+ * every task not yet picked by the executor. The caller therefore never waits on queued
+ * tasks, even when it is itself a thread of a saturated executor
+ */
+public class ParallelTasksHelper {
+
+    /**
+     * Run all the tasks and wait for their completion
+     *
+     * @param tasks    independent tasks
+     * @param executor executor used to run tasks in parallel with the calling thread
+     * @return the failure of each task, at the task index, or null if it succeeded
+     */
+    public static Throwable[] runAll(List<Runnable> tasks, Executor executor) {
+        final int taskCount = tasks.size();
+        final Throwable[] failures = new Throwable[taskCount];
+        final AtomicBoolean[] claims = new AtomicBoolean[taskCount];
+        final CountDownLatch completion = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            claims[i] = new AtomicBoolean(false);
+        }
+
+        for (int i = 0; i < taskCount; i++) {
+            final int index = i;
+            try {
+                executor.execute(() -> runIfNotClaimed(tasks.get(index), claims[index], failures, index, completion));
+            } catch (RejectedExecutionException ex) {
+                break;
+            }
+        }
+
+        for (int i = 0; i < taskCount; i++) {
+            runIfNotClaimed(tasks.get(i), claims[i], failures, i, completion);
+        }
+
+        try {
+            completion.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AchillesException(ex);
+        }
+        return failures;
+    }
+
+    private static void runIfNotClaimed(Runnable task, AtomicBoolean claim, Throwable[] failures, int index, CountDownLatch completion) {
+        if (claim.compareAndSet(false, true)) {
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                failures[index] = throwable;
+            } finally {
+                completion.countDown();
+            }
+        }
+    }
+}
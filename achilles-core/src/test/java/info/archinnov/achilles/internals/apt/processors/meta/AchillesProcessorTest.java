@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.apt.processors.meta;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.*;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * The partial compilation reads the meta class index and the class files of the previous
+ * compilation, which requires real output folders instead of the in-memory ones of compile-testing
+ */
+public class AchillesProcessorTest {
+
+    private static final String SAMPLE_PACKAGE = "info.archinnov.achilles.sample";
+
+    private static final String USER_ENTITY = "@Table(table = \"user\")\n" +
+            "public class UserEntity {\n" +
+            "    @PartitionKey private Long id;\n" +
+            "    @Column private String name;\n" +
+            "    public Long getId() { return id; }\n" +
+            "    public void setId(Long id) { this.id = id; }\n" +
+            "    public String getName() { return name; }\n" +
+            "    public void setName(String name) { this.name = name; }\n" +
+            "}";
+
+    private static final String ACCOUNT_ENTITY = "@Table(table = \"account\")\n" +
+            "public class AccountEntity {\n" +
+            "    @PartitionKey private Long id;\n" +
+            "    @Column private Double balance;\n" +
+            "    public Long getId() { return id; }\n" +
+            "    public void setId(Long id) { this.id = id; }\n" +
+            "    public Double getBalance() { return balance; }\n" +
+            "    public void setBalance(Double balance) { this.balance = balance; }\n" +
+            "}";
+
+    private static final String NEW_ENTITY = "@Table(table = \"new_entity\")\n" +
+            "public class NewEntity {\n" +
+            "    @PartitionKey private Long id;\n" +
+            "    public Long getId() { return id; }\n" +
+            "    public void setId(Long id) { this.id = id; }\n" +
+            "}";
+
+    private static final String CODEC_REGISTRY = "@CodecRegistry\n" +
+            "public class SampleCodecRegistry {\n" +
+            "    @Enumerated(Enumerated.Encoding.NAME) private java.util.concurrent.TimeUnit unit;\n" +
+            "}";
+
+    private static final String COMPILE_TIME_CONFIG = "@CompileTimeConfig(cassandraVersion = CassandraVersion.CASSANDRA_3_0_X)\n" +
+            "public interface SampleConfig {\n" +
+            "}";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File sourceFolder;
+    private File classesFolder;
+    private File generatedFolder;
+
+    @Before
+    public void setUp() throws IOException {
+        sourceFolder = temporaryFolder.newFolder("src");
+        classesFolder = temporaryFolder.newFolder("classes");
+        generatedFolder = temporaryFolder.newFolder("generated");
+    }
+
+    @Test
+    public void should_keep_generated_sources_of_other_tables_when_recompiling_one_table() throws Exception {
+        //Given
+        final File userEntity = writeSource("UserEntity", USER_ENTITY);
+        final File accountEntity = writeSource("AccountEntity", ACCOUNT_ENTITY);
+        final File accountMeta = generatedFile("meta/entity/AccountEntity_AchillesMeta.java");
+        final File accountManager = generatedFile("manager/AccountEntity_Manager.java");
+        final File managerFactory = generatedFile("ManagerFactory.java");
+        assertThat(compile(userEntity, accountEntity)).isEmpty();
+        final String accountMetaSource = readFile(accountMeta);
+
+        //When
+        final List<String> errors = compile(userEntity);
+
+        //Then
+        assertThat(errors).isEmpty();
+        assertThat(generatedFile("meta/entity/UserEntity_AchillesMeta.java")).exists();
+        assertThat(accountMeta).exists();
+        assertThat(readFile(accountMeta)).isEqualTo(accountMetaSource);
+        assertThat(accountManager).exists();
+        assertThat(managerFactory).exists();
+        assertThat(readFile(metaClassIndex())).contains(
+                "ENTITY info.archinnov.achilles.generated.meta.entity.AccountEntity_AchillesMeta",
+                "ENTITY info.archinnov.achilles.generated.meta.entity.UserEntity_AchillesMeta",
+                "SOURCE " + SAMPLE_PACKAGE + ".AccountEntity",
+                "SOURCE " + SAMPLE_PACKAGE + ".UserEntity");
+    }
+
+    @Test
+    public void should_remove_deleted_types_from_meta_class_index_when_recompiling_one_table() throws Exception {
+        //Given
+        final File userEntity = writeSource("UserEntity", USER_ENTITY);
+        final File accountEntity = writeSource("AccountEntity", ACCOUNT_ENTITY);
+        final File newEntity = writeSource("NewEntity", NEW_ENTITY);
+        assertThat(compile(userEntity, accountEntity, newEntity)).isEmpty();
+        assertThat(readFile(metaClassIndex())).contains("SOURCE " + SAMPLE_PACKAGE + ".AccountEntity");
+        accountEntity.delete();
+        new File(classesFolder, SAMPLE_PACKAGE.replace('.', '/') + "/AccountEntity.class").delete();
+        new File(classesFolder, "info/archinnov/achilles/generated/meta/entity/AccountEntity_AchillesMeta.class").delete();
+
+        //When
+        final List<String> errors = compile(userEntity);
+
+        //Then
+        assertThat(errors).isEmpty();
+        assertThat(readFile(metaClassIndex()))
+                .contains("SOURCE " + SAMPLE_PACKAGE + ".NewEntity", "SOURCE " + SAMPLE_PACKAGE + ".UserEntity")
+                .doesNotContain("AccountEntity");
+    }
+
+    @Test
+    public void should_fail_recompiling_codec_registry_separately() throws Exception {
+        //Given
+        final File userEntity = writeSource("UserEntity", USER_ENTITY);
+        final File codecRegistry = writeSource("SampleCodecRegistry", CODEC_REGISTRY);
+        assertThat(compile(userEntity, codecRegistry)).isEmpty();
+
+        //When
+        final List<String> errors = compile(codecRegistry);
+
+        //Then
+        assertThat(errors.stream().collect(joining("\n")))
+                .contains("@CodecRegistry types cannot be compiled separately from other annotated types, please rebuild the whole module");
+    }
+
+    @Test
+    public void should_fail_recompiling_compile_time_config_separately() throws Exception {
+        //Given
+        final File userEntity = writeSource("UserEntity", USER_ENTITY);
+        final File config = writeSource("SampleConfig", COMPILE_TIME_CONFIG);
+        assertThat(compile(userEntity, config)).isEmpty();
+
+        //When
+        final List<String> errors = compile(config);
+
+        //Then
+        assertThat(errors.stream().collect(joining("\n")))
+                .contains("@CompileTimeConfig types cannot be compiled separately from other annotated types, please rebuild the whole module");
+    }
+
+    @Test
+    public void should_fail_compiling_new_entity_separately() throws Exception {
+        //Given
+        final File userEntity = writeSource("UserEntity", USER_ENTITY);
+        final File newEntity = writeSource("NewEntity", NEW_ENTITY);
+        assertThat(compile(userEntity)).isEmpty();
+
+        //When
+        final List<String> errors = compile(newEntity);
+
+        //Then
+        assertThat(errors.stream().collect(joining("\n")))
+                .contains("New entity '" + SAMPLE_PACKAGE + ".NewEntity' cannot be compiled separately from other annotated types, please rebuild the whole module");
+    }
+
+    private File writeSource(String className, String body) throws IOException {
+        final File packageFolder = new File(sourceFolder, SAMPLE_PACKAGE.replace('.', '/'));
+        packageFolder.mkdirs();
+        final File sourceFile = new File(packageFolder, className + ".java");
+        final String source = "package " + SAMPLE_PACKAGE + ";\n\n" +
+                "import info.archinnov.achilles.annotations.*;\n" +
+                "import info.archinnov.achilles.type.CassandraVersion;\n\n" +
+                body;
+        Files.write(sourceFile.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        return sourceFile;
+    }
+
+    private File generatedFile(String path) {
+        return new File(generatedFolder, "info/archinnov/achilles/generated/" + path);
+    }
+
+    private File metaClassIndex() {
+        return new File(classesFolder, "META-INF/achilles/meta.index");
+    }
+
+    private String readFile(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compile the given sources into the shared output folders, as a build tool recompiling only
+     * the changed sources would do, and return the error messages
+     */
+    private List<String> compile(File... sources) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classesFolder));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(generatedFolder));
+            final List<File> classpath = new ArrayList<>();
+            classpath.add(classesFolder);
+            for (String path : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                classpath.add(new File(path));
+            }
+            fileManager.setLocation(StandardLocation.CLASS_PATH, classpath);
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, null, null,
+                    fileManager.getJavaFileObjects(sources));
+            task.setProcessors(Collections.singletonList(new AchillesProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics()
+                .stream()
+                .filter(x -> x.getKind() == Diagnostic.Kind.ERROR)
+                .map(x -> x.getMessage(null))
+                .collect(toList());
+    }
+}
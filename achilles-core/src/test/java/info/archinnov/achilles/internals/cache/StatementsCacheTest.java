@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.PreparedStatement;
+
+import info.archinnov.achilles.internals.cache.CacheKey.Operation;
+
+public class StatementsCacheTest {
+
+    @Test
+    public void should_prepare_once_per_entity_operation_and_schema_name() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10, 10);
+        final AtomicInteger prepareCount = new AtomicInteger(0);
+
+        //When
+        final PreparedStatement ps1 = cache.getSchemaNameCache(new SchemaNameCacheKey(String.class, Operation.FIND, "tenant1", "user"),
+                () -> countPrepare(prepareCount));
+        final PreparedStatement ps2 = cache.getSchemaNameCache(new SchemaNameCacheKey(String.class, Operation.FIND, "tenant1", "user"),
+                () -> countPrepare(prepareCount));
+        final PreparedStatement ps3 = cache.getSchemaNameCache(new SchemaNameCacheKey(String.class, Operation.FIND, "tenant2", "user"),
+                () -> countPrepare(prepareCount));
+        cache.getSchemaNameCache(new SchemaNameCacheKey(String.class, Operation.INSERT, "tenant1", "user"),
+                () -> countPrepare(prepareCount));
+
+        //Then
+        assertThat(ps1).isSameAs(ps2);
+        assertThat(ps3).isNotSameAs(ps1);
+        assertThat(prepareCount.get()).isEqualTo(3);
+        assertThat(cache.getSchemaNameCacheSize()).isEqualTo(3L);
+    }
+
+    @Test
+    public void should_size_schema_name_cache_independently_from_dynamic_cache() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(100, 2);
+
+        //When
+        for (int i = 0; i < 10; i++) {
+            cache.getSchemaNameCache(new SchemaNameCacheKey(String.class, Operation.FIND, "tenant" + i, "user"),
+                    () -> mock(PreparedStatement.class));
+        }
+
+        //Then
+        assertThat(cache.getSchemaNameCacheSize()).isLessThanOrEqualTo(2L);
+    }
+
+    private PreparedStatement countPrepare(AtomicInteger prepareCount) {
+        prepareCount.incrementAndGet();
+        return mock(PreparedStatement.class);
+    }
+}
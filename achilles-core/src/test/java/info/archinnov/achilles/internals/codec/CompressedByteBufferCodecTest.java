@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class CompressedByteBufferCodecTest {
+
+    private final CompressedByteBufferCodec codec = new CompressedByteBufferCodec(16);
+
+    @Test
+    public void should_encode_remaining_bytes_only() throws Exception {
+        //Given
+        final byte[] bytes = new byte[256];
+        Arrays.fill(bytes, (byte) 7);
+        final ByteBuffer value = ByteBuffer.wrap(bytes, 10, 100).slice();
+
+        //When
+        final ByteBuffer encoded = codec.encode(value);
+
+        //Then
+        assertThat(encoded.get(0)).isEqualTo(CompressionHelper.DEFLATE);
+        assertThat(value.remaining()).isEqualTo(100);
+        final ByteBuffer decoded = codec.decode(encoded);
+        assertThat(decoded.remaining()).isEqualTo(100);
+        assertThat(decoded).isEqualTo(ByteBuffer.wrap(bytes, 0, 100));
+    }
+
+    @Test
+    public void should_keep_raw_value_when_not_compressible() throws Exception {
+        //Given
+        final byte[] bytes = new byte[64];
+        for (int i = 0; i < bytes.length; i++) bytes[i] = (byte) (i * 37 + 11);
+
+        //When
+        final ByteBuffer encoded = codec.encode(ByteBuffer.wrap(bytes));
+
+        //Then
+        assertThat(encoded.get(0)).isEqualTo(CompressionHelper.RAW);
+        assertThat(codec.decode(encoded)).isEqualTo(ByteBuffer.wrap(bytes));
+    }
+}
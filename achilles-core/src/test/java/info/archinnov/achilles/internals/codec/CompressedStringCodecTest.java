@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+public class CompressedStringCodecTest {
+
+    private final CompressedStringCodec codec = new CompressedStringCodec(64);
+
+    @Test
+    public void should_store_small_value_raw() throws Exception {
+        //Given
+        final String value = "small text";
+
+        //When
+        final ByteBuffer encoded = codec.encode(value);
+
+        //Then
+        assertThat(encoded.get(0)).isEqualTo(CompressionHelper.RAW);
+        assertThat(encoded.remaining()).isEqualTo(value.length() + 1);
+        assertThat(codec.decode(encoded)).isEqualTo(value);
+    }
+
+    @Test
+    public void should_deflate_large_value() throws Exception {
+        //Given
+        final String value = StringUtils.repeat("compressible text éàü ", 500);
+
+        //When
+        final ByteBuffer encoded = codec.encode(value);
+
+        //Then
+        assertThat(encoded.get(0)).isEqualTo(CompressionHelper.DEFLATE);
+        assertThat(encoded.remaining()).isLessThan(value.length() / 10);
+        assertThat(codec.decode(encoded)).isEqualTo(value);
+    }
+
+    @Test
+    public void should_decode_values_written_with_another_threshold() throws Exception {
+        //Given
+        final String value = StringUtils.repeat("a", 200);
+        final ByteBuffer rawEncoded = new CompressedStringCodec(Integer.MAX_VALUE).encode(value);
+        final ByteBuffer deflateEncoded = new CompressedStringCodec(0).encode(value);
+
+        //When
+        //Then
+        assertThat(rawEncoded.get(0)).isEqualTo(CompressionHelper.RAW);
+        assertThat(deflateEncoded.get(0)).isEqualTo(CompressionHelper.DEFLATE);
+        assertThat(codec.decode(rawEncoded)).isEqualTo(value);
+        assertThat(codec.decode(deflateEncoded)).isEqualTo(value);
+    }
+
+    @Test
+    public void should_decode_from_direct_buffer() throws Exception {
+        //Given
+        final String value = StringUtils.repeat("direct buffer ", 100);
+        final ByteBuffer encoded = codec.encode(value);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(encoded.remaining());
+        direct.put(encoded.duplicate());
+        direct.flip();
+
+        //When
+        final String decoded = codec.decode(direct);
+
+        //Then
+        assertThat(decoded).isEqualTo(value);
+        assertThat(direct.position()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_encode_and_decode_null() throws Exception {
+        assertThat(codec.encode(null)).isNull();
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_unknown_format() throws Exception {
+        codec.decode(ByteBuffer.wrap(new byte[]{0x7F, 0x01}));
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_truncated_value() throws Exception {
+        //Given
+        final ByteBuffer encoded = codec.encode(StringUtils.repeat("truncated ", 100));
+        encoded.limit(encoded.limit() - 4);
+
+        //When
+        codec.decode(encoded);
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_missing_length() throws Exception {
+        codec.decode(ByteBuffer.wrap(new byte[]{CompressionHelper.DEFLATE, 0x01}));
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_negative_length() throws Exception {
+        //Given
+        final ByteBuffer encoded = codec.encode(StringUtils.repeat("negative ", 100));
+        encoded.putInt(1, -1);
+
+        //When
+        codec.decode(encoded);
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_length_above_max_deflate_ratio() throws Exception {
+        //Given
+        final ByteBuffer encoded = codec.encode(StringUtils.repeat("oversized ", 100));
+        encoded.putInt(1, Integer.MAX_VALUE);
+
+        //When
+        codec.decode(encoded);
+    }
+
+    @Test
+    public void should_encode_and_decode_value_larger_than_retained_scratch() throws Exception {
+        //Given
+        final String value = StringUtils.repeat("x", CompressionHelper.MAX_RETAINED_SCRATCH_SIZE * 2);
+
+        //When
+        final ByteBuffer encoded = codec.encode(value);
+
+        //Then
+        assertThat(encoded.get(0)).isEqualTo(CompressionHelper.DEFLATE);
+        assertThat(codec.decode(encoded)).isEqualTo(value);
+    }
+}
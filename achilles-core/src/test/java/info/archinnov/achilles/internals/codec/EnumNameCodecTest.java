@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+public class EnumNameCodecTest {
+
+    private final EnumNameCodec<ConsistencyLevel> codec = new EnumNameCodec<>(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+
+    @Test
+    public void should_encode_and_decode_all_constants() throws Exception {
+        for (ConsistencyLevel consistencyLevel : ConsistencyLevel.values()) {
+            //When
+            final String encoded = codec.encode(consistencyLevel);
+
+            //Then
+            assertThat(encoded).isEqualTo(consistencyLevel.name());
+            assertThat(codec.decode(encoded)).isSameAs(consistencyLevel);
+        }
+    }
+
+    @Test
+    public void should_encode_and_decode_null() throws Exception {
+        assertThat(codec.encode(null)).isNull();
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_unknown_name() throws Exception {
+        codec.decode("UNKNOWN");
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_encoding_constant_not_in_list() throws Exception {
+        //Given
+        final EnumNameCodec<ConsistencyLevel> partialCodec = new EnumNameCodec<>(Arrays.asList(ConsistencyLevel.ONE), ConsistencyLevel.class);
+
+        //When
+        partialCodec.encode(ConsistencyLevel.QUORUM);
+    }
+
+    @Test
+    public void should_encode_and_decode_constants_with_body() throws Exception {
+        //Given
+        final EnumNameCodec<Operation> operationCodec = new EnumNameCodec<>(Arrays.asList(Operation.values()), Operation.class);
+
+        for (Operation operation : Operation.values()) {
+            //When
+            final String encoded = operationCodec.encode(operation);
+
+            //Then
+            assertThat(operation.getClass().isEnum()).isFalse();
+            assertThat(encoded).isEqualTo(operation.name());
+            assertThat(operationCodec.decode(encoded)).isSameAs(operation);
+        }
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    @SuppressWarnings("unchecked")
+    public void should_fail_encoding_non_enum_value() throws Exception {
+        ((EnumNameCodec) codec).encode("ONE");
+    }
+
+    /**
+     * Constants with a body are instances of anonymous sub-classes of the enum
+     */
+    private enum Operation {
+        PLUS {
+            @Override
+            int apply(int left, int right) {
+                return left + right;
+            }
+        },
+        MINUS {
+            @Override
+            int apply(int left, int right) {
+                return left - right;
+            }
+        };
+
+        abstract int apply(int left, int right);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+public class EnumOrdinalCodecTest {
+
+    private final EnumOrdinalCodec<ConsistencyLevel> codec = new EnumOrdinalCodec<>(Arrays.asList(ConsistencyLevel.values()), ConsistencyLevel.class);
+
+    @Test
+    public void should_encode_and_decode_all_constants() throws Exception {
+        for (ConsistencyLevel consistencyLevel : ConsistencyLevel.values()) {
+            //When
+            final Integer encoded = codec.encode(consistencyLevel);
+
+            //Then
+            assertThat(encoded).isEqualTo(consistencyLevel.ordinal());
+            assertThat(codec.decode(encoded)).isSameAs(consistencyLevel);
+        }
+    }
+
+    @Test
+    public void should_encode_and_decode_null() throws Exception {
+        assertThat(codec.encode(null)).isNull();
+        assertThat(codec.decode(null)).isNull();
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_out_of_range_ordinal() throws Exception {
+        codec.decode(ConsistencyLevel.values().length);
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    public void should_fail_decoding_negative_ordinal() throws Exception {
+        codec.decode(-1);
+    }
+
+    @Test
+    public void should_encode_and_decode_constants_with_body() throws Exception {
+        //Given
+        final EnumOrdinalCodec<Operation> operationCodec = new EnumOrdinalCodec<>(Arrays.asList(Operation.values()), Operation.class);
+
+        for (Operation operation : Operation.values()) {
+            //When
+            final Integer encoded = operationCodec.encode(operation);
+
+            //Then
+            assertThat(operation.getClass().isEnum()).isFalse();
+            assertThat(encoded).isEqualTo(operation.ordinal());
+            assertThat(operationCodec.decode(encoded)).isSameAs(operation);
+        }
+    }
+
+    @Test(expected = AchillesTranscodingException.class)
+    @SuppressWarnings("unchecked")
+    public void should_fail_encoding_non_enum_value() throws Exception {
+        ((EnumOrdinalCodec) codec).encode("ONE");
+    }
+
+    /**
+     * Constants with a body are instances of anonymous sub-classes of the enum
+     */
+    private enum Operation {
+        PLUS {
+            @Override
+            int apply(int left, int right) {
+                return left + right;
+            }
+        },
+        MINUS {
+            @Override
+            int apply(int left, int right) {
+                return left - right;
+            }
+        };
+
+        abstract int apply(int left, int right);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.TypeCodec;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+
+import info.archinnov.achilles.type.primitives.IntDoubleMap;
+import info.archinnov.achilles.type.primitives.IntSet;
+import info.archinnov.achilles.type.primitives.LongSet;
+
+public class PrimitiveCollectionCodecTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void should_serialize_int_set_like_driver_set_codec() throws Exception {
+        //Given
+        final IntSet set = IntSet.of(3, 0, -12);
+
+        //When
+        final ByteBuffer bytes = IntSetCodec.instance.serialize(set, ProtocolVersion.V4);
+
+        //Then
+        assertThat(TypeCodec.set(TypeCodec.cint()).deserialize(bytes, ProtocolVersion.V4)).containsOnly(3, 0, -12);
+        assertThat(IntSetCodec.instance.deserialize(bytes, ProtocolVersion.V4)).isEqualTo(set);
+    }
+
+    @Test
+    public void should_deserialize_long_set_written_by_driver_with_protocol_v2() throws Exception {
+        //Given
+        final ByteBuffer bytes = TypeCodec.set(TypeCodec.bigint()).serialize(Sets.newHashSet(1L, Long.MAX_VALUE), ProtocolVersion.V2);
+
+        //When
+        final LongSet actual = LongSetCodec.instance.deserialize(bytes, ProtocolVersion.V2);
+
+        //Then
+        assertThat(actual).isEqualTo(LongSet.of(1L, Long.MAX_VALUE));
+        assertThat(LongSetCodec.instance.serialize(actual, ProtocolVersion.V2).remaining()).isEqualTo(bytes.remaining());
+    }
+
+    @Test
+    public void should_round_trip_int_double_map() throws Exception {
+        //Given
+        final ByteBuffer bytes = TypeCodec.map(TypeCodec.cint(), TypeCodec.cdouble())
+                .serialize(ImmutableMap.of(1, 1.5, 0, -2.0), ProtocolVersion.V4);
+
+        //When
+        final IntDoubleMap map = IntDoubleMapCodec.instance.deserialize(bytes, ProtocolVersion.V4);
+        final Map<Integer, Double> roundTrip = TypeCodec.map(TypeCodec.cint(), TypeCodec.cdouble())
+                .deserialize(IntDoubleMapCodec.instance.serialize(map, ProtocolVersion.V4), ProtocolVersion.V4);
+
+        //Then
+        assertThat(map.getOrDefault(1, 0)).isEqualTo(1.5);
+        assertThat(map.getOrDefault(0, 0)).isEqualTo(-2.0);
+        assertThat(roundTrip).isEqualTo(new HashMap<>(ImmutableMap.of(1, 1.5, 0, -2.0)));
+    }
+
+    @Test
+    public void should_deserialize_null_as_empty_collection() throws Exception {
+        //Given
+        //When
+        //Then
+        assertThat(IntSetCodec.instance.deserialize(null, ProtocolVersion.V4).isEmpty()).isTrue();
+        assertThat(IntDoubleMapCodec.instance.deserialize(ByteBuffer.allocate(0), ProtocolVersion.V4).isEmpty()).isTrue();
+    }
+
+    @Test(expected = InvalidTypeException.class)
+    public void should_reject_element_of_wrong_size() throws Exception {
+        //Given
+        final ByteBuffer bytes = TypeCodec.set(TypeCodec.bigint()).serialize(Sets.newHashSet(1L), ProtocolVersion.V4);
+
+        //When
+        IntSetCodec.instance.deserialize(bytes, ProtocolVersion.V4);
+    }
+
+    @Test
+    public void should_reject_element_count_larger_than_remaining_bytes() throws Exception {
+        //Given
+        final ByteBuffer bytes = ByteBuffer.allocate(4 + 8 + 8);
+        bytes.putInt(Integer.MAX_VALUE).putInt(4).putInt(1).putInt(4).putInt(2);
+        bytes.flip();
+        exception.expect(InvalidTypeException.class);
+        exception.expectMessage("Invalid element count 2147483647 for map<int, int>, only 16 bytes remaining");
+
+        //When
+        IntIntMapCodec.instance.deserialize(bytes, ProtocolVersion.V4);
+    }
+
+    @Test(expected = InvalidTypeException.class)
+    public void should_reject_negative_element_count() throws Exception {
+        //Given
+        final ByteBuffer bytes = ByteBuffer.allocate(4);
+        bytes.putInt(-1);
+        bytes.flip();
+
+        //When
+        LongSetCodec.instance.deserialize(bytes, ProtocolVersion.V4);
+    }
+
+    @Test
+    public void should_parse_and_format() throws Exception {
+        //Given
+        final IntDoubleMap map = IntDoubleMapCodec.instance.parse("{1:2.5, 3 : 4.0}");
+
+        //When
+        final String formatted = IntDoubleMapCodec.instance.format(map);
+
+        //Then
+        assertThat(IntDoubleMapCodec.instance.parse(formatted)).isEqualTo(map);
+        assertThat(IntSetCodec.instance.parse("{}").isEmpty()).isTrue();
+        assertThat(IntSetCodec.instance.parse("{1, 2}")).isEqualTo(IntSet.of(1, 2));
+        assertThat(IntSetCodec.instance.parse("NULL")).isNull();
+    }
+}
@@ -163,6 +163,22 @@ public class EntityMetaCodeGenTest extends AbstractTestProcessor
         launchTest(TestEntityWithComputedColumn.class);
     }
 
+    @Test
+    public void should_build_entity_with_lazy_columns() throws Exception {
+        setExec(aptUtils -> {
+            final String className = TestEntityWithLazyColumns.class.getCanonicalName();
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(className);
+
+            final EntityMetaCodeGen builder = new EntityMetaCodeGen(aptUtils);
+            final List<FieldParser.FieldMetaSignature> parsingResults = getTypeParsingResults(aptUtils, typeElement, context);
+            final TypeSpec typeSpec = builder.buildEntityMeta(EntityType.TABLE, typeElement, context, parsingResults, emptyList()).sourceCode;
+
+            assertThat(buildSource(typeSpec)).isEqualTo(
+                    readCodeBlockFromFile("expected_code/entity_meta_builder/should_build_entity_with_lazy_columns.txt"));
+        });
+        launchTest(TestEntityWithLazyColumns.class);
+    }
+
     @Test
     public void should_build_inherited_entity() throws Exception {
         setExec(aptUtils -> {
@@ -396,6 +412,21 @@ public class EntityMetaCodeGenTest extends AbstractTestProcessor
                 TestEntityWithStaticWithoutClustering.class);
     }
 
+    @Test
+    public void should_fail_building_class_with_lazy_partition_key() throws Exception {
+        setExec(aptUtils -> {
+            final String className = TestEntityWithLazyPartitionKey.class.getCanonicalName();
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(className);
+
+            final EntityMetaCodeGen builder = new EntityMetaCodeGen(aptUtils);
+            final List<FieldParser.FieldMetaSignature> parsingResults = getTypeParsingResults(aptUtils, typeElement, context);
+            builder.buildEntityMeta(EntityType.TABLE, typeElement, context, parsingResults, emptyList());
+        });
+        failTestWithMessage(
+                "Field 'id' of class 'info.archinnov.achilles.internals.sample_classes.parser.entity.TestEntityWithLazyPartitionKey' cannot be @Lazy because it is a partition column",
+                TestEntityWithLazyPartitionKey.class);
+    }
+
     @Test
     public void should_fail_building_class_with_wrong_computed_column() throws Exception {
         setExec(aptUtils -> {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.codegen.meta;
+
+import static info.archinnov.achilles.internals.codegen.TypeParsingResultConsumer.getTypeParsingResults;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import javax.lang.model.element.TypeElement;
+
+import org.junit.Test;
+
+import com.squareup.javapoet.TypeSpec;
+
+import info.archinnov.achilles.internals.apt.AptUtils;
+import info.archinnov.achilles.internals.apt_utils.AbstractTestProcessor;
+import info.archinnov.achilles.internals.codegen.TypeParsingResultConsumer;
+import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty.EntityType;
+import info.archinnov.achilles.internals.parser.FieldParser;
+import info.archinnov.achilles.internals.parser.ProjectionParser;
+import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
+import info.archinnov.achilles.internals.parser.context.ProjectionSignature;
+import info.archinnov.achilles.internals.sample_classes.parser.entity.TestEntityWithLazyColumns;
+import info.archinnov.achilles.internals.sample_classes.parser.projection.TestProjectionOfLazyColumns;
+import info.archinnov.achilles.internals.sample_classes.parser.projection.TestProjectionWithUnknownField;
+import info.archinnov.achilles.internals.sample_classes.parser.projection.TestProjectionWithWrongType;
+
+public class ProjectionCodeGenTest extends AbstractTestProcessor
+        implements TypeParsingResultConsumer {
+
+    private static final GlobalParsingContext context = GlobalParsingContext.defaultContext();
+
+    @Test
+    public void should_build_projection_class() throws Exception {
+        setExec(aptUtils -> {
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestProjectionOfLazyColumns.class.getCanonicalName());
+
+            final ProjectionSignature signature = ProjectionParser.parseProjection(aptUtils, typeElement, buildEntitySignatures(aptUtils));
+            final TypeSpec typeSpec = ProjectionCodeGen.buildProjectionClass(signature);
+
+            assertThat(buildSource(typeSpec)).isEqualTo(
+                    readCodeBlockFromFile("expected_code/projection/should_build_projection_class.txt"));
+        });
+        launchTest(TestProjectionOfLazyColumns.class);
+    }
+
+    @Test
+    public void should_fail_building_projection_with_wrong_return_type() throws Exception {
+        setExec(aptUtils -> {
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestProjectionWithWrongType.class.getCanonicalName());
+
+            ProjectionParser.parseProjection(aptUtils, typeElement, buildEntitySignatures(aptUtils));
+        });
+        failTestWithMessage(
+                "Method 'getId' of @Projection type 'info.archinnov.achilles.internals.sample_classes.parser.projection.TestProjectionWithWrongType' should return 'java.lang.Long' to match field 'id' of entity 'info.archinnov.achilles.internals.sample_classes.parser.entity.TestEntityWithLazyColumns'",
+                TestProjectionWithWrongType.class);
+    }
+
+    @Test
+    public void should_fail_building_projection_with_unknown_field() throws Exception {
+        setExec(aptUtils -> {
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestProjectionWithUnknownField.class.getCanonicalName());
+
+            ProjectionParser.parseProjection(aptUtils, typeElement, buildEntitySignatures(aptUtils));
+        });
+        failTestWithMessage(
+                "Method 'getLogin' of @Projection type 'info.archinnov.achilles.internals.sample_classes.parser.projection.TestProjectionWithUnknownField' does not match any field of entity 'info.archinnov.achilles.internals.sample_classes.parser.entity.TestEntityWithLazyColumns'",
+                TestProjectionWithUnknownField.class);
+    }
+
+    private List<EntityMetaSignature> buildEntitySignatures(AptUtils aptUtils) {
+        final TypeElement entityElement = aptUtils.elementUtils.getTypeElement(TestEntityWithLazyColumns.class.getCanonicalName());
+        final List<FieldParser.FieldMetaSignature> parsingResults = getTypeParsingResults(aptUtils, entityElement, context);
+        return singletonList(new EntityMetaCodeGen(aptUtils).buildEntityMeta(EntityType.TABLE, entityElement, context, parsingResults, emptyList()));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.InterceptorStats;
+
+public class AsyncInterceptorInvokerTest {
+
+    @Test
+    public void should_record_stats_on_success() throws Exception {
+        //Given
+        final InterceptorStats stats = new InterceptorStats();
+        final AsyncInterceptorInvoker<String> invoker = new AsyncInterceptorInvoker<>(
+                new TestAsyncInterceptor(CompletableFuture.completedFuture(null), AsyncInterceptor.FailurePolicy.FAIL_CLOSED), stats);
+
+        //When
+        invoker.invoke("entity", Event.POST_INSERT).get();
+
+        //Then
+        assertThat(stats.getInvocationCount()).isEqualTo(1L);
+        assertThat(stats.getFailureCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_ignore_failure_when_fail_open() throws Exception {
+        //Given
+        final InterceptorStats stats = new InterceptorStats();
+        final CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("boom"));
+        final AsyncInterceptorInvoker<String> invoker = new AsyncInterceptorInvoker<>(
+                new TestAsyncInterceptor(failed, AsyncInterceptor.FailurePolicy.FAIL_OPEN), stats);
+
+        //When
+        invoker.onEvent("entity", Event.POST_INSERT);
+
+        //Then
+        assertThat(stats.getInvocationCount()).isEqualTo(1L);
+        assertThat(stats.getFailureCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_propagate_failure_when_fail_closed() throws Exception {
+        //Given
+        final InterceptorStats stats = new InterceptorStats();
+        final CompletableFuture<Void> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new AchillesException("boom"));
+        final AsyncInterceptorInvoker<String> invoker = new AsyncInterceptorInvoker<>(
+                new TestAsyncInterceptor(failed, AsyncInterceptor.FailurePolicy.FAIL_CLOSED), stats);
+
+        //When
+        final CompletableFuture<Void> future = invoker.invoke("entity", Event.PRE_INSERT);
+
+        //Then
+        assertThat(future.isCompletedExceptionally()).isTrue();
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            assertThat(e.getCause()).isInstanceOf(AchillesException.class).hasMessage("boom");
+        }
+        assertThat(stats.getFailureCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_convert_synchronous_exception_to_failed_future() throws Exception {
+        //Given
+        final InterceptorStats stats = new InterceptorStats();
+        final AsyncInterceptorInvoker<String> invoker = new AsyncInterceptorInvoker<>(
+                new TestAsyncInterceptor(null, AsyncInterceptor.FailurePolicy.FAIL_CLOSED), stats);
+
+        //When
+        final CompletableFuture<Void> future = invoker.invoke("entity", Event.PRE_INSERT);
+
+        //Then
+        assertThat(future.isCompletedExceptionally()).isTrue();
+        assertThat(stats.getFailureCount()).isEqualTo(1L);
+    }
+
+    private static class TestAsyncInterceptor implements AsyncInterceptor<String> {
+        private final CompletableFuture<Void> result;
+        private final FailurePolicy failurePolicy;
+
+        private TestAsyncInterceptor(CompletableFuture<Void> result, FailurePolicy failurePolicy) {
+            this.result = result;
+            this.failurePolicy = failurePolicy;
+        }
+
+        @Override
+        public CompletionStage<Void> onEventAsync(String entity, Event event) {
+            if (result == null) throw new IllegalStateException("synchronous failure");
+            return result;
+        }
+
+        @Override
+        public FailurePolicy failurePolicy() {
+            return failurePolicy;
+        }
+
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return true;
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return Collections.singletonList(Event.PRE_INSERT);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static info.archinnov.achilles.type.interceptor.Event.*;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.Row;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+
+import info.archinnov.achilles.internals.interceptor.AsyncInterceptorInvoker;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.Interceptor;
+import info.archinnov.achilles.type.interceptor.InterceptorStats;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+public class AbstractEntityPropertyTest {
+
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void should_trigger_interceptors_of_event_in_registration_order() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        meta.interceptors.add(new RecordingInterceptor("first", PRE_INSERT, POST_INSERT));
+        meta.interceptors.add(new RecordingInterceptor("second", PRE_INSERT));
+        meta.interceptors.add(new RecordingInterceptor("third", POST_INSERT, PRE_INSERT));
+        meta.prepareInterceptorsDispatch();
+
+        //When
+        meta.triggerInterceptorsForEvent(PRE_INSERT, "entity");
+
+        //Then
+        assertThat(calls).containsExactly("first:PRE_INSERT", "second:PRE_INSERT", "third:PRE_INSERT");
+    }
+
+    @Test
+    public void should_do_nothing_for_event_without_interceptor() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        meta.interceptors.add(new RecordingInterceptor("first", PRE_INSERT));
+        meta.prepareInterceptorsDispatch();
+
+        //When
+        meta.triggerInterceptorsForEvent(POST_LOAD, "entity");
+        final CompletableFuture<Void> future = meta.triggerInterceptorsForEventAsync(PRE_DELETE, "entity");
+
+        //Then
+        assertThat(future.isDone()).isTrue();
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void should_do_nothing_before_dispatch_is_prepared() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        meta.interceptors.add(new RecordingInterceptor("first", PRE_INSERT));
+
+        //When
+        meta.triggerInterceptorsForEvent(PRE_INSERT, "entity");
+
+        //Then
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void should_chain_sync_and_async_interceptors_in_registration_order() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        final CompletableFuture<Void> asyncCompletion = new CompletableFuture<>();
+        final AsyncInterceptor<String> async = new AsyncInterceptor<String>() {
+            @Override
+            public boolean acceptEntity(Class<?> entityClass) {
+                return true;
+            }
+
+            @Override
+            public List<Event> interceptOnEvents() {
+                return asList(PRE_UPDATE);
+            }
+
+            @Override
+            public CompletableFuture<Void> onEventAsync(String entity, Event event) {
+                calls.add("async:" + event.name());
+                return asyncCompletion;
+            }
+        };
+        meta.interceptors.add(new RecordingInterceptor("first", PRE_UPDATE));
+        meta.interceptors.add(new AsyncInterceptorInvoker<>(async, new InterceptorStats()));
+        meta.interceptors.add(new RecordingInterceptor("last", PRE_UPDATE));
+        meta.prepareInterceptorsDispatch();
+
+        //When
+        final CompletableFuture<Void> future = meta.triggerInterceptorsForEventAsync(PRE_UPDATE, "entity");
+
+        //Then
+        assertThat(future.isDone()).isFalse();
+        assertThat(calls).containsExactly("first:PRE_UPDATE", "async:PRE_UPDATE");
+
+        asyncCompletion.complete(null);
+        future.get();
+        assertThat(calls).containsExactly("first:PRE_UPDATE", "async:PRE_UPDATE", "last:PRE_UPDATE");
+    }
+
+    @Test
+    public void should_resolve_static_keyspace_and_table_name() throws Exception {
+        //Given
+        final StaticSchemaEntityProperty meta = new StaticSchemaEntityProperty();
+
+        //When
+        meta.injectKeyspace("global_ks");
+
+        //Then
+        assertThat(meta.getKeyspace()).isEqualTo(Optional.of("static_ks"));
+        assertThat(meta.getTableOrViewName()).isEqualTo("static_table");
+    }
+
+    @Test
+    public void should_resolve_injected_global_keyspace() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        assertThat(meta.getKeyspace()).isEqualTo(Optional.empty());
+
+        //When
+        meta.injectKeyspace("global_ks");
+
+        //Then
+        assertThat(meta.getKeyspace()).isEqualTo(Optional.of("global_ks"));
+        assertThat(meta.getTableOrViewName()).isEqualTo("derived_table");
+    }
+
+    @Test
+    public void should_use_schema_name_provider_injected_after_construction() throws Exception {
+        //Given
+        final TestEntityProperty meta = new TestEntityProperty();
+        meta.injectKeyspace("global_ks");
+        assertThat(meta.getKeyspace()).isEqualTo(Optional.of("global_ks"));
+
+        //When
+        meta.inject(new TestSchemaNameProvider());
+
+        //Then
+        assertThat(meta.getKeyspace()).isEqualTo(Optional.of("provider_ks"));
+        assertThat(meta.getTableOrViewName()).isEqualTo("provider_table");
+    }
+
+    @Test
+    public void should_keep_static_schema_names_over_schema_name_provider() throws Exception {
+        //Given
+        final StaticSchemaEntityProperty meta = new StaticSchemaEntityProperty();
+
+        //When
+        meta.inject(new TestSchemaNameProvider());
+
+        //Then
+        assertThat(meta.getKeyspace()).isEqualTo(Optional.of("static_ks"));
+        assertThat(meta.getTableOrViewName()).isEqualTo("static_table");
+    }
+
+    private static class TestSchemaNameProvider implements SchemaNameProvider {
+
+        @Override
+        public <T> String keyspaceFor(Class<T> entityClass) {
+            return "provider_ks";
+        }
+
+        @Override
+        public <T> String tableNameFor(Class<T> entityClass) {
+            return "provider_table";
+        }
+    }
+
+    private static class StaticSchemaEntityProperty extends TestEntityProperty {
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.of("static_ks");
+        }
+
+        @Override
+        protected Optional<String> getStaticTableOrViewName() {
+            return Optional.of("static_table");
+        }
+    }
+
+    private class RecordingInterceptor implements Interceptor<String> {
+        private final String name;
+        private final List<Event> events;
+
+        RecordingInterceptor(String name, Event... events) {
+            this.name = name;
+            this.events = asList(events);
+        }
+
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return true;
+        }
+
+        @Override
+        public void onEvent(String entity, Event event) {
+            calls.add(name + ":" + event.name());
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return events;
+        }
+    }
+
+    static class TestEntityProperty extends AbstractEntityProperty<String> {
+
+        @Override
+        protected Class<String> getEntityClass() {
+            return String.class;
+        }
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticTableOrViewName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected String getDerivedTableOrViewName() {
+            return "derived_table";
+        }
+
+        @Override
+        protected BiMap<String, String> fieldNameToCqlColumn() {
+            return HashBiMap.create();
+        }
+
+        @Override
+        protected boolean isCounterTable() {
+            return false;
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticReadConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticWriteConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticSerialConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<Integer> getStaticTTL() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InsertStrategy> getStaticInsertStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getPartitionKeys() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getClusteringColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getStaticColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getNormalColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getComputedColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getCounterColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getConstructorInjectedColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected String newInstanceFromCustomConstructor(Row row, List<String> cqlColumns) {
+            return null;
+        }
+    }
+}
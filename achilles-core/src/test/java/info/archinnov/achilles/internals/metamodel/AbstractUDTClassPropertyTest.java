@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+
+public class AbstractUDTClassPropertyTest {
+
+    private final TestUDTProperty property = new TestUDTProperty();
+
+    @Test
+    public void should_keep_one_decode_plan_per_user_type() throws Exception {
+        //Given
+        final UserType frozen = mock(UserType.class);
+        final UserType notFrozen = mock(UserType.class);
+
+        //When
+        final AbstractUDTClassProperty.UDTDecodePlan frozenPlan = property.getDecodePlan(frozen);
+        final AbstractUDTClassProperty.UDTDecodePlan notFrozenPlan = property.getDecodePlan(notFrozen);
+
+        //Then
+        assertThat(frozenPlan.userType).isSameAs(frozen);
+        assertThat(notFrozenPlan.userType).isSameAs(notFrozen);
+        assertThat(property.getDecodePlan(frozen)).isSameAs(frozenPlan);
+        assertThat(property.getDecodePlan(notFrozen)).isSameAs(notFrozenPlan);
+    }
+
+    @Test
+    public void should_evict_oldest_decode_plan_when_full() throws Exception {
+        //Given
+        final List<UserType> userTypes = new ArrayList<>();
+        final List<AbstractUDTClassProperty.UDTDecodePlan> plans = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            final UserType userType = mock(UserType.class);
+            userTypes.add(userType);
+            plans.add(property.getDecodePlan(userType));
+        }
+
+        //When
+        final AbstractUDTClassProperty.UDTDecodePlan rebuilt = property.getDecodePlan(userTypes.get(0));
+
+        //Then
+        assertThat(rebuilt).isNotSameAs(plans.get(0));
+        assertThat(property.getDecodePlan(userTypes.get(8))).isSameAs(plans.get(8));
+    }
+
+    private static class TestUDTProperty extends AbstractUDTClassProperty<String> {
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticUdtName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected String getUdtName() {
+            return "test_udt";
+        }
+
+        @Override
+        protected Class<String> getUdtClass() {
+            return String.class;
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getComponentsProperty() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getConstructorInjectedProperty() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected Class<?> getParentEntityClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected UDTValue createUDTFromBean(String instance, boolean frozen, Optional<CassandraOptions> cassandraOptions) {
+            return null;
+        }
+
+        @Override
+        protected String newInstanceFromCustomConstructor(UDTValue udtValue, int[] constructorIndices) {
+            return null;
+        }
+    }
+}
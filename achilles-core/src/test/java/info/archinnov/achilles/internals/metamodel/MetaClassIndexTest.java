@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.internals.metamodel.MetaClassIndex.Kind;
+
+public class MetaClassIndexTest {
+
+    @Test
+    public void should_merge_index_contents_and_retain_existing_classes() throws Exception {
+        //Given
+        final MetaClassIndex index = MetaClassIndex.empty();
+
+        //When
+        index.read(new StringReader("# comment\nENTITY com.test.User_AchillesMeta\nUDT com.test.Address_AchillesMeta\n\nmalformed\n"));
+        index.read(new StringReader("VIEW com.test.UserByName_AchillesMeta\nENTITY com.test.Deleted_AchillesMeta\nSOURCE com.test.User\n"));
+        index.retain(className -> !className.contains("Deleted"));
+
+        //Then
+        assertThat(index.getClassNames(Kind.ENTITY)).containsExactly("com.test.User_AchillesMeta");
+        assertThat(index.getClassNames(Kind.VIEW)).containsExactly("com.test.UserByName_AchillesMeta");
+        assertThat(index.getClassNames(Kind.UDT)).containsExactly("com.test.Address_AchillesMeta");
+        assertThat(index.getClassNames(Kind.SOURCE)).containsExactly("com.test.User");
+        assertThat(index.toIndexContent()).endsWith("UDT com.test.Address_AchillesMeta\n" +
+                "SOURCE com.test.User\n" +
+                "VIEW com.test.UserByName_AchillesMeta\n" +
+                "ENTITY com.test.User_AchillesMeta\n");
+    }
+
+    @Test
+    public void should_load_indexed_classes_and_skip_missing_ones() throws Exception {
+        //Given
+        final MetaClassIndex index = MetaClassIndex.empty()
+                .add(Kind.FUNCTION, String.class.getName())
+                .add(Kind.FUNCTION, Integer.class.getName())
+                .add(Kind.FUNCTION, "com.test.Missing");
+
+        //When
+        final List<Class<? extends CharSequence>> classes = index.loadClasses(getClass().getClassLoader(), CharSequence.class, Kind.FUNCTION);
+
+        //Then
+        assertThat(classes).containsExactly(String.class);
+    }
+}
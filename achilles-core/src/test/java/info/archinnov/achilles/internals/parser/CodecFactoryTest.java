@@ -211,6 +211,42 @@ public class CodecFactoryTest extends AbstractTestProcessor {
         launchTest();
     }
 
+    @Test
+    public void should_create_codec_for_compressed_text() throws Exception {
+        setExec(aptUtils -> {
+            final CodecFactory codecFactory = new CodecFactory(aptUtils);
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestEntityForCodecs.class.getCanonicalName());
+            final FieldParsingContext context = getFieldParsingContext(aptUtils, typeElement);
+
+            // @Compressed(threshold = 1024) private String compressedText
+            final VariableElement elm = findFieldInType(typeElement, "compressedText");
+            final AnnotationTree tree = AnnotationTree.buildFrom(aptUtils, context.entityContext.globalContext, elm);
+            final CodecInfo codecInfo = codecFactory.createCodec(ClassName.get(String.class), tree, context, Optional.empty());
+
+            assertThat(codecInfo.sourceType.toString()).isEqualTo(String.class.getCanonicalName());
+            assertThat(codecInfo.targetType.toString()).isEqualTo(ByteBuffer.class.getCanonicalName());
+            assertThat(codecInfo.codecCode.toString()).isEqualTo("new info.archinnov.achilles.internals.codec.CompressedStringCodec(1024)");
+        });
+        launchTest();
+    }
+
+    @Test
+    public void should_fail_creating_compressed_codec_for_non_blob_type() throws Exception {
+        setExec(aptUtils -> {
+            final CodecFactory codecFactory = new CodecFactory(aptUtils);
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestEntityForCodecs.class.getCanonicalName());
+            final FieldParsingContext context = getFieldParsingContext(aptUtils, typeElement);
+
+            // @Compressed private Integer compressedInteger
+            final VariableElement elm = findFieldInType(typeElement, "compressedInteger");
+            final AnnotationTree tree = AnnotationTree.buildFrom(aptUtils, context.entityContext.globalContext, elm);
+            codecFactory.createCodec(ClassName.get(Integer.class), tree, context, Optional.empty());
+        });
+        failTestWithMessage("Incorrect use of @Compressed annotation on field 'field' in class " +
+                "'info.archinnov.achilles.internals.sample_classes.parser.field.TestEntityForCodecs' because its type " +
+                "'java.lang.Integer' is not mapped to a blob column");
+    }
+
     @Test
     public void should_create_codec_for_enumerated() throws Exception {
         setExec(aptUtils -> {
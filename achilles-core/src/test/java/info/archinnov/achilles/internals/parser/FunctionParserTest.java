@@ -247,6 +247,45 @@ public class FunctionParserTest extends AbstractTestProcessor {
 
     }
 
+    @Test
+    public void should_parse_functions_with_compressed_params() throws Exception {
+        setExec(aptUtils -> {
+            final String className = TestFunctionRegistryWithCompressedParams.class.getCanonicalName();
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(className);
+
+            final List<FunctionSignature> udfSignatures = FunctionParser.parseFunctionRegistryAndValidateTypes(aptUtils, typeElement, context);
+
+            assertThat(udfSignatures).hasSize(3);
+            final FunctionSignature compressedText = udfSignatures.get(0);
+            assertThat(compressedText.parameterSignatures.get(0).sourceTypeName).isEqualTo(STRING);
+            assertThat(compressedText.parameterSignatures.get(0).targetCQLTypeName).isEqualTo(BYTE_BUFFER);
+            assertThat(compressedText.parameterSignatures.get(0).targetCQLDataType).isEqualTo("blob");
+
+            final FunctionSignature compressedBytes = udfSignatures.get(1);
+            assertThat(compressedBytes.parameterSignatures.get(0).sourceTypeName).isEqualTo(NATIVE_BYTE_ARRAY);
+            assertThat(compressedBytes.parameterSignatures.get(0).targetCQLTypeName).isEqualTo(BYTE_BUFFER);
+            assertThat(compressedBytes.parameterSignatures.get(0).targetCQLDataType).isEqualTo("blob");
+
+            final FunctionSignature compressedBuffer = udfSignatures.get(2);
+            assertThat(compressedBuffer.parameterSignatures.get(0).sourceTypeName).isEqualTo(BYTE_BUFFER);
+            assertThat(compressedBuffer.parameterSignatures.get(0).targetCQLTypeName).isEqualTo(BYTE_BUFFER);
+            assertThat(compressedBuffer.parameterSignatures.get(0).targetCQLDataType).isEqualTo("blob");
+        });
+        launchTest();
+    }
+
+    @Test
+    public void should_fail_parsing_function_with_unsupported_compressed_param() throws Exception {
+        setExec(aptUtils -> {
+            final String className = TestFunctionRegistryWithUnsupportedCompressedParam.class.getCanonicalName();
+            final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(className);
+            FunctionParser.parseFunctionRegistryAndValidateTypes(aptUtils, typeElement, context);
+        });
+        failTestWithMessage("of method 'compressedInteger' in class " +
+                "'info.archinnov.achilles.internals.sample_classes.functions.TestFunctionRegistryWithUnsupportedCompressedParam' " +
+                "because its type 'java.lang.Integer' is not mapped to a blob column");
+    }
+
     @Ignore
     @Test
     public void should_parse_functions_with_complex_types_ecj() throws Exception {
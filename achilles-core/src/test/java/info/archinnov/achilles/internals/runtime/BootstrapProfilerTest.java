@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.type.bootstrap.BootstrapPhase;
+import info.archinnov.achilles.type.bootstrap.BootstrapReport;
+import info.archinnov.achilles.type.bootstrap.BootstrapStep;
+
+public class BootstrapProfilerTest {
+
+    @Test
+    public void should_add_entity_steps_counters_to_enclosing_phase() throws Exception {
+        //Given
+        final BootstrapProfiler profiler = new BootstrapProfiler();
+        profiler.start();
+
+        //When
+        try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.CREATE_SCHEMA)) {
+            try (BootstrapProfiler.Step step = profiler.startStep(BootstrapPhase.CREATE_SCHEMA, String.class)) {
+                step.addRoundTrips(2);
+            }
+            try (BootstrapProfiler.Step step = profiler.startStep(BootstrapPhase.CREATE_SCHEMA, Long.class)) {
+                step.addRoundTrips(1);
+                Thread.sleep(5);
+            }
+        }
+        try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.PREPARE_STATIC_STATEMENTS)) {
+            try (BootstrapProfiler.Step step = profiler.startStep(BootstrapPhase.PREPARE_STATIC_STATEMENTS, String.class)) {
+                step.addStatementsPrepared(4);
+            }
+        }
+        final BootstrapReport report = profiler.finish();
+
+        //Then
+        assertThat(report).isSameAs(profiler.getReport());
+        assertThat(report.getPhases()).extracting("phase")
+                .containsExactly(BootstrapPhase.CREATE_SCHEMA, BootstrapPhase.PREPARE_STATIC_STATEMENTS);
+        assertThat(report.getPhase(BootstrapPhase.CREATE_SCHEMA).get().getRoundTrips()).isEqualTo(3L);
+        assertThat(report.getPhase(BootstrapPhase.PREPARE_STATIC_STATEMENTS).get().getStatementsPrepared()).isEqualTo(4L);
+        assertThat(report.getPhase(BootstrapPhase.VALIDATE_SCHEMA).isPresent()).isFalse();
+        assertThat(report.getRoundTrips()).isEqualTo(7L);
+        assertThat(report.getStatementsPrepared()).isEqualTo(4L);
+        assertThat(report.getTargetSteps(String.class)).hasSize(2);
+        assertThat(report.getSlowestTargetSteps(1).get(0).getTargetClass()).isEqualTo(Optional.of(Long.class));
+        assertThat(report.getTotalDuration(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(5L);
+    }
+
+    @Test
+    public void should_record_metadata_lookups_on_the_step_of_the_current_thread() throws Exception {
+        //Given
+        final BootstrapProfiler profiler = new BootstrapProfiler();
+        profiler.start();
+
+        //When
+        try (BootstrapProfiler.Step phase = profiler.startPhase(BootstrapPhase.VALIDATE_SCHEMA)) {
+            final Thread thread = new Thread(() -> {
+                try (BootstrapProfiler.Step step = profiler.startStep(BootstrapPhase.VALIDATE_SCHEMA, String.class)) {
+                    profiler.recordMetadataLookup();
+                    profiler.recordMetadataLookup();
+                }
+            });
+            thread.start();
+            thread.join();
+            profiler.recordMetadataLookup();
+        }
+        profiler.recordMetadataLookup();
+        final BootstrapReport report = profiler.finish();
+
+        //Then
+        final List<BootstrapStep> entitySteps = report.getTargetSteps(String.class);
+        assertThat(entitySteps).hasSize(1);
+        assertThat(entitySteps.get(0).getMetadataLookups()).isEqualTo(2L);
+        assertThat(report.getMetadataLookups()).isEqualTo(3L);
+        assertThat(report.toSummary(5)).contains("Bootstrap took", "VALIDATE_SCHEMA", "String");
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.util.*;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.datastax.driver.core.QueryTrace;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
+import info.archinnov.achilles.type.metrics.TraceStageSummary;
+
+public class QueryTracingSamplerTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void should_never_sample_when_disabled() throws Exception {
+        //Given
+        final QueryTracingSampler sampler = QueryTracingSampler.DISABLED;
+
+        //When
+        final boolean sampled = sampler.sample(String.class, MetricsOperation.FIND);
+
+        //Then
+        assertThat(sampler.isEnabled()).isFalse();
+        assertThat(sampled).isFalse();
+        assertThat(sampler.getSampledCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_use_entity_and_operation_rate_before_default_rate() throws Exception {
+        //Given
+        final Map<Class<?>, Map<MetricsOperation, Double>> rates = new HashMap<>();
+        final Map<MetricsOperation, Double> stringRates = new EnumMap<>(MetricsOperation.class);
+        stringRates.put(MetricsOperation.FIND, 1d);
+        rates.put(String.class, stringRates);
+        final QueryTracingSampler sampler = new QueryTracingSampler(0d, rates);
+
+        //When
+        final boolean findSampled = sampler.sample(String.class, MetricsOperation.FIND);
+        final boolean insertSampled = sampler.sample(String.class, MetricsOperation.INSERT);
+        final boolean otherEntitySampled = sampler.sample(Long.class, MetricsOperation.FIND);
+
+        //Then
+        assertThat(sampler.isEnabled()).isTrue();
+        assertThat(findSampled).isTrue();
+        assertThat(insertSampled).isFalse();
+        assertThat(otherEntitySampled).isFalse();
+        assertThat(sampler.getSampledCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_fail_on_invalid_sampling_rate() throws Exception {
+        //Given
+        exception.expect(AchillesException.class);
+        exception.expectMessage("The tracing sampling rate '2.0' for default should be between 0 and 1");
+
+        //When
+        new QueryTracingSampler(2d, new HashMap<>());
+    }
+
+    @Test
+    public void should_normalize_stage_description() throws Exception {
+        //Given
+        final String description = "Sending READ message to /192.168.1.12:7000 after reading 25 live rows";
+
+        //When
+        final String stage = QueryTracingSampler.normalizeStage(description);
+
+        //Then
+        assertThat(stage).isEqualTo("Sending READ message to /<host> after reading N live rows");
+    }
+
+    @Test
+    public void should_aggregate_stage_durations_per_source() throws Exception {
+        //Given
+        final QueryTracingSampler sampler = new QueryTracingSampler(1d, new HashMap<>());
+        final InetAddress coordinator = InetAddress.getByName("127.0.0.1");
+        final InetAddress replica = InetAddress.getByName("127.0.0.2");
+        final List<QueryTrace.Event> events = Arrays.asList(
+                event("Parsing statement", coordinator, 100),
+                event("Read 3 live rows", replica, 400),
+                event("Executing single-partition query", coordinator, 250),
+                event("Merging memtable contents", replica, 150));
+
+        //When
+        sampler.aggregate(String.class, MetricsOperation.FIND, events);
+        sampler.aggregate(String.class, MetricsOperation.FIND, events);
+
+        //Then
+        final List<TraceStageSummary> summaries = sampler.getStageSummaries();
+        assertThat(summaries).hasSize(4);
+
+        final TraceStageSummary first = summaries.get(0);
+        assertThat(first.getSource()).isEqualTo("127.0.0.2");
+        assertThat(first.getStage()).isEqualTo("Read N live rows");
+        assertThat(first.getCount()).isEqualTo(2L);
+        assertThat(first.getTotalMicros()).isEqualTo(500L);
+        assertThat(first.getMaxMicros()).isEqualTo(250L);
+        assertThat(first.getMeanMicros()).isEqualTo(250d);
+
+        final Optional<TraceStageSummary> execution = summaries
+                .stream()
+                .filter(summary -> summary.getStage().equals("Executing single-partition query"))
+                .findFirst();
+        assertThat(execution.isPresent()).isTrue();
+        assertThat(execution.get().getTotalMicros()).isEqualTo(300L);
+    }
+
+    private QueryTrace.Event event(String description, InetAddress source, int sourceElapsedMicros) {
+        final QueryTrace.Event event = mock(QueryTrace.Event.class);
+        when(event.getDescription()).thenReturn(description);
+        when(event.getSource()).thenReturn(source);
+        when(event.getSourceElapsedMicros()).thenReturn(sourceElapsedMicros);
+        return event;
+    }
+}
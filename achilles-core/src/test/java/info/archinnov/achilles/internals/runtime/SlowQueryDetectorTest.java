@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SlowQueryDetectorTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Mock
+    private StatementWrapper wrapper;
+
+    @Test
+    public void should_not_create_probe_when_disabled() throws Exception {
+        //Given
+        final SlowQueryDetector detector = SlowQueryDetector.DISABLED;
+
+        //When
+        final boolean enabled = detector.isEnabled();
+
+        //Then
+        assertThat(enabled).isFalse();
+        assertThat(detector.newProbe(wrapper, System.nanoTime(), false)).isNull();
+    }
+
+    @Test
+    public void should_use_entity_threshold_before_default_threshold() throws Exception {
+        //Given
+        final Map<Class<?>, Long> thresholds = new HashMap<>();
+        thresholds.put(String.class, 10L);
+        final SlowQueryDetector entityOnly = new SlowQueryDetector(Optional.empty(), thresholds, 1.0d, false);
+        final SlowQueryDetector withDefault = new SlowQueryDetector(Optional.of(100L), thresholds, 1.0d, false);
+
+        //When
+        when(wrapper.getEntityClass()).thenReturn((Class) Long.class);
+
+        //Then
+        assertThat(entityOnly.isEnabled()).isTrue();
+        assertThat(entityOnly.newProbe(wrapper, System.nanoTime(), false)).isNull();
+        assertThat(withDefault.newProbe(wrapper, System.nanoTime(), false)).isNotNull();
+
+        when(wrapper.getEntityClass()).thenReturn((Class) String.class);
+        assertThat(entityOnly.newProbe(wrapper, System.nanoTime(), false)).isNotNull();
+    }
+
+    @Test
+    public void should_not_track_any_statement_with_zero_sampling_rate() throws Exception {
+        //Given
+        final SlowQueryDetector detector = new SlowQueryDetector(Optional.of(0L), new HashMap<>(), 0d, false);
+
+        //When
+        final boolean enabled = detector.isEnabled();
+
+        //Then
+        assertThat(enabled).isFalse();
+        assertThat(detector.newProbe(wrapper, System.nanoTime(), false)).isNull();
+    }
+
+    @Test
+    public void should_fail_on_invalid_sampling_rate() throws Exception {
+        //Given
+        exception.expect(AchillesException.class);
+        exception.expectMessage("The slow query sampling rate '1.5' should be between 0 and 1");
+
+        //When
+        new SlowQueryDetector(Optional.of(10L), new HashMap<>(), 1.5d, false);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.sample_classes.parser.entity;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import info.archinnov.achilles.annotations.Column;
+import info.archinnov.achilles.annotations.Lazy;
+import info.archinnov.achilles.annotations.PartitionKey;
+import info.archinnov.achilles.annotations.Table;
+import info.archinnov.achilles.internals.sample_classes.APUnitTest;
+
+@APUnitTest
+@Table
+public class TestEntityWithLazyColumns {
+
+    @PartitionKey
+    private Long id;
+
+    @Column
+    private String name;
+
+    @Lazy(group = "payload")
+    @Column
+    private ByteBuffer avatar;
+
+    @Lazy(group = "payload")
+    @Column
+    private List<String> history;
+
+    @Lazy
+    @Column
+    private String notes;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public ByteBuffer getAvatar() {
+        return avatar;
+    }
+
+    public void setAvatar(ByteBuffer avatar) {
+        this.avatar = avatar;
+    }
+
+    public List<String> getHistory() {
+        return history;
+    }
+
+    public void setHistory(List<String> history) {
+        this.history = history;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+}
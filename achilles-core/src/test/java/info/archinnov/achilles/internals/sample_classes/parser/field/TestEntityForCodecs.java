@@ -45,6 +45,12 @@ public class TestEntityForCodecs {
 
     private @JSON Date time;
 
+    @Compressed(threshold = 1024)
+    private String compressedText;
+
+    @Compressed
+    private Integer compressedInteger;
+
     private String value;
 
     private boolean primitiveBoolean;
@@ -270,6 +276,22 @@ public class TestEntityForCodecs {
         this.time = time;
     }
 
+    public String getCompressedText() {
+        return compressedText;
+    }
+
+    public void setCompressedText(String compressedText) {
+        this.compressedText = compressedText;
+    }
+
+    public Integer getCompressedInteger() {
+        return compressedInteger;
+    }
+
+    public void setCompressedInteger(Integer compressedInteger) {
+        this.compressedInteger = compressedInteger;
+    }
+
     public String getValue() {
         return value;
     }
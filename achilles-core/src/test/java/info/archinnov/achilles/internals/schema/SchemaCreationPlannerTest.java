@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.schema;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.internals.cassandra_version.V2_1;
+import info.archinnov.achilles.internals.cassandra_version.V3_0;
+import info.archinnov.achilles.internals.runtime.BootstrapProfiler;
+import info.archinnov.achilles.internals.schema.SchemaCreationPlanner.PlannedStatement;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SchemaCreationPlannerTest {
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private BootstrapProfiler profiler;
+
+    @Test
+    public void should_serialize_statements_of_same_target_across_rounds() throws Exception {
+        //Given
+        final SchemaCreationPlanner planner = new SchemaCreationPlanner(session, V3_0.INSTANCE, profiler, true, true);
+        final PlannedStatement alterTable1 = planner.new PlannedStatement(String.class, "ALTER TABLE table1 ADD a text;");
+        final PlannedStatement alterTable2 = planner.new PlannedStatement(Integer.class, "ALTER TABLE table2 ADD a text;");
+        final PlannedStatement alterTable1Again = planner.new PlannedStatement(String.class, "ALTER TABLE table1 ADD b text;");
+        final PlannedStatement alterTable3 = planner.new PlannedStatement(Long.class, "ALTER TABLE table3 ADD a text;");
+        final PlannedStatement alterTable1Last = planner.new PlannedStatement(String.class, "ALTER TABLE table1 ADD c text;");
+
+        //When
+        final List<List<PlannedStatement>> rounds = SchemaCreationPlanner.roundsByTarget(
+                asList(alterTable1, alterTable2, alterTable1Again, alterTable3, alterTable1Last));
+
+        //Then
+        assertThat(rounds).hasSize(3);
+        assertThat(rounds.get(0)).containsExactly(alterTable1, alterTable2, alterTable3);
+        assertThat(rounds.get(1)).containsExactly(alterTable1Again);
+        assertThat(rounds.get(2)).containsExactly(alterTable1Last);
+    }
+
+    @Test
+    public void should_send_statements_one_after_the_other_by_default() throws Exception {
+        //Given
+        final SchemaCreationPlanner planner = new SchemaCreationPlanner(session, V3_0.INSTANCE, profiler, false, false);
+
+        //When
+        final boolean actual = planner.isConcurrentStatements();
+
+        //Then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void should_not_send_statements_concurrently_before_cassandra_3_0() throws Exception {
+        //Given
+        final SchemaCreationPlanner planner = new SchemaCreationPlanner(session, V2_1.INSTANCE, profiler, false, true);
+
+        //When
+        final boolean actual = planner.isConcurrentStatements();
+
+        //Then
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void should_send_statements_concurrently_when_enabled() throws Exception {
+        //Given
+        final SchemaCreationPlanner planner = new SchemaCreationPlanner(session, V3_0.INSTANCE, profiler, false, true);
+
+        //When
+        final boolean actual = planner.isConcurrentStatements();
+
+        //Then
+        assertThat(actual).isTrue();
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.schema;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.*;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
+import info.archinnov.achilles.internals.metamodel.SimpleProperty;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexType;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SchemaDiffTest {
+
+    private static final SimpleProperty<String, Long, Long> ID = new SimpleProperty<>(new FieldInfo<>(entity -> null, (entity, value) -> {},
+            "id", "id", ColumnType.PARTITION, new PartitionKeyInfo(1, false), IndexInfo.noIndex()), DataType.bigint(),
+            gettable -> null, (settable, value) -> {}, new TypeToken<Long>() {}, new TypeToken<Long>() {}, new FallThroughCodec<>(Long.class));
+    private static final SimpleProperty<String, String, String> STATIC_COL = textColumn("staticcol", ColumnType.STATIC, IndexInfo.noIndex());
+    private static final SimpleProperty<String, String, String> VALUE = textColumn("value", ColumnType.NORMAL, IndexInfo.noIndex());
+    private static final SimpleProperty<String, String, String> INDEXED = textColumn("indexed", ColumnType.NORMAL,
+            IndexInfo.forNative(IndexType.NORMAL, "indexed_index", "", ""));
+    private static final SimpleProperty<String, String, String> STREET = textColumn("street", ColumnType.NORMAL, IndexInfo.noIndex());
+    private static final SimpleProperty<String, String, String> CITY = textColumn("city", ColumnType.NORMAL, IndexInfo.noIndex());
+
+    private final SchemaContext context = new SchemaContext("ks", true, true);
+
+    @Mock
+    private TableMetadata liveTable;
+
+    @Mock
+    private TableOptionsMetadata liveOptions;
+
+    @Mock
+    private UserType liveType;
+
+    @Test
+    public void should_alter_table_with_missing_columns_and_ttl() throws Exception {
+        //Given
+        when(liveTable.getColumn("id")).thenReturn(mock(ColumnMetadata.class));
+        when(liveTable.getColumn("value")).thenReturn(mock(ColumnMetadata.class));
+        when(liveTable.getOptions()).thenReturn(liveOptions);
+        when(liveOptions.getDefaultTimeToLive()).thenReturn(0);
+
+        //When
+        final List<String> schemas = SchemaDiff.alterTable(context, new TestEntityProperty(), liveTable);
+
+        //Then
+        assertThat(schemas).containsExactly(
+                "ALTER TABLE ks.my_table ADD staticcol text static;",
+                "ALTER TABLE ks.my_table ADD indexed text;",
+                "ALTER TABLE ks.my_table WITH default_time_to_live = 3600;");
+    }
+
+    @Test
+    public void should_not_alter_table_in_sync_with_entity() throws Exception {
+        //Given
+        final ColumnMetadata column = mock(ColumnMetadata.class);
+        for (String name : asList("id", "staticcol", "value", "indexed")) {
+            when(liveTable.getColumn(name)).thenReturn(column);
+        }
+        when(liveTable.getOptions()).thenReturn(liveOptions);
+        when(liveOptions.getDefaultTimeToLive()).thenReturn(3600);
+
+        //When
+        final List<String> schemas = SchemaDiff.alterTable(context, new TestEntityProperty(), liveTable);
+
+        //Then
+        assertThat(schemas).isEmpty();
+    }
+
+    @Test
+    public void should_generate_only_missing_indices() throws Exception {
+        //Given
+        final TestEntityProperty entityProperty = new TestEntityProperty();
+        when(liveTable.getIndex("indexed_index")).thenReturn(null);
+
+        //When
+        final List<String> missingOnNewTable = SchemaDiff.missingIndices(context, entityProperty, Optional.empty());
+        final List<String> missingOnLiveTable = SchemaDiff.missingIndices(context, entityProperty, Optional.of(liveTable));
+        when(liveTable.getIndex("indexed_index")).thenReturn(mock(IndexMetadata.class));
+        final List<String> missingOnIndexedTable = SchemaDiff.missingIndices(context, entityProperty, Optional.of(liveTable));
+        final List<String> missingWithoutIndexCreation = SchemaDiff.missingIndices(new SchemaContext("ks", true, false),
+                entityProperty, Optional.of(liveTable));
+
+        //Then
+        assertThat(missingOnNewTable).hasSize(1);
+        assertThat(missingOnNewTable.get(0)).contains("INDEX IF NOT EXISTS indexed_index ON ks.my_table ( indexed )");
+        assertThat(missingOnLiveTable).isEqualTo(missingOnNewTable);
+        assertThat(missingOnIndexedTable).isEmpty();
+        assertThat(missingWithoutIndexCreation).isEmpty();
+    }
+
+    @Test
+    public void should_alter_udt_with_missing_fields() throws Exception {
+        //Given
+        when(liveType.contains("street")).thenReturn(true);
+        when(liveType.contains("city")).thenReturn(false);
+
+        //When
+        final List<String> schemas = SchemaDiff.alterUDT(context, new TestUDTProperty(), liveType);
+
+        //Then
+        assertThat(schemas).containsExactly("ALTER TYPE ks.address ADD city text;");
+    }
+
+    @Test
+    public void should_not_alter_udt_in_sync_with_class() throws Exception {
+        //Given
+        when(liveType.contains("street")).thenReturn(true);
+        when(liveType.contains("city")).thenReturn(true);
+
+        //When
+        final List<String> schemas = SchemaDiff.alterUDT(context, new TestUDTProperty(), liveType);
+
+        //Then
+        assertThat(schemas).isEmpty();
+    }
+
+    private static SimpleProperty<String, String, String> textColumn(String name, ColumnType columnType, IndexInfo indexInfo) {
+        return new SimpleProperty<>(new FieldInfo<>(entity -> null, (entity, value) -> {}, name, name, columnType,
+                new ColumnInfo(false), indexInfo), DataType.text(), gettable -> null, (settable, value) -> {},
+                new TypeToken<String>() {}, new TypeToken<String>() {}, new FallThroughCodec<>(String.class));
+    }
+
+    private static class TestEntityProperty extends AbstractEntityProperty<String> {
+
+        @Override
+        protected Class<String> getEntityClass() {
+            return String.class;
+        }
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticTableOrViewName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected String getDerivedTableOrViewName() {
+            return "my_table";
+        }
+
+        @Override
+        protected BiMap<String, String> fieldNameToCqlColumn() {
+            return HashBiMap.create();
+        }
+
+        @Override
+        protected boolean isCounterTable() {
+            return false;
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticReadConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticWriteConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticSerialConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<Integer> getStaticTTL() {
+            return Optional.of(3600);
+        }
+
+        @Override
+        protected Optional<InsertStrategy> getStaticInsertStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getPartitionKeys() {
+            return asList(ID);
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getClusteringColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getStaticColumns() {
+            return asList(STATIC_COL);
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getNormalColumns() {
+            return asList(VALUE, INDEXED);
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getComputedColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getCounterColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getConstructorInjectedColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected String newInstanceFromCustomConstructor(Row row, List<String> cqlColumns) {
+            return null;
+        }
+    }
+
+    private static class TestUDTProperty extends AbstractUDTClassProperty<String> {
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticUdtName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected String getUdtName() {
+            return "address";
+        }
+
+        @Override
+        protected Class<String> getUdtClass() {
+            return String.class;
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getComponentsProperty() {
+            return asList(STREET, CITY);
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getConstructorInjectedProperty() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected Class<?> getParentEntityClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected UDTValue createUDTFromBean(String instance, boolean frozen, Optional<CassandraOptions> cassandraOptions) {
+            return null;
+        }
+
+        @Override
+        protected String newInstanceFromCustomConstructor(UDTValue udtValue, int[] constructorIndices) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.schema;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.*;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.UDTValue;
+
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+
+public class SchemaValidationCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void should_persist_validated_hashes() throws Exception {
+        //Given
+        final File cacheFile = new File(temporaryFolder.getRoot(), "cache/schema-validation.properties");
+        final SchemaValidationCache cache = new SchemaValidationCache(cacheFile.toPath());
+        final Map<String, String> hashes = new HashMap<>();
+        hashes.put("cluster/my.Entity", "abcd");
+
+        //When
+        cache.markValidated(hashes);
+        final SchemaValidationCache reloaded = new SchemaValidationCache(cacheFile.toPath());
+
+        //Then
+        assertThat(cacheFile).exists();
+        assertThat(reloaded.isUnchanged("cluster/my.Entity", "abcd")).isTrue();
+        assertThat(reloaded.isUnchanged("cluster/my.Entity", "efgh")).isFalse();
+        assertThat(reloaded.isUnchanged("cluster/other.Entity", "abcd")).isFalse();
+    }
+
+    @Test
+    public void should_ignore_unreadable_cache_file() throws Exception {
+        //Given
+        final File cacheFile = temporaryFolder.newFolder("not_a_file");
+
+        //When
+        final SchemaValidationCache cache = new SchemaValidationCache(cacheFile.toPath());
+
+        //Then
+        assertThat(cache.isUnchanged("cluster/my.Entity", "abcd")).isFalse();
+        assertThat(Files.isDirectory(cacheFile.toPath())).isTrue();
+    }
+
+    @Test
+    public void should_include_referenced_udt_schemas_once_and_sorted() throws Exception {
+        //Given
+        final AbstractProperty<?, ?, ?> addressColumn = mock(AbstractProperty.class);
+        final AbstractProperty<?, ?, ?> contactColumn = mock(AbstractProperty.class);
+        final AbstractProperty<?, ?, ?> simpleColumn = mock(AbstractProperty.class);
+        final AddressUDTProperty address = new AddressUDTProperty();
+        final ContactUDTProperty contact = new ContactUDTProperty();
+        when(addressColumn.getUDTClassProperties()).thenReturn(asList(address));
+        when(contactColumn.getUDTClassProperties()).thenReturn(asList(address, contact));
+        when(simpleColumn.getUDTClassProperties()).thenReturn(new ArrayList<>());
+
+        //When
+        final List<String> schemas = SchemaValidationCache.referencedUDTSchemas(asList(contactColumn, simpleColumn, addressColumn), "ks");
+
+        //Then
+        assertThat(schemas).containsExactly(address.generateSchema(new SchemaContext("ks", true, true)),
+                contact.generateSchema(new SchemaContext("ks", true, true)));
+        assertThat(schemas.get(0)).contains("ks.address");
+        assertThat(schemas.get(1)).contains("ks.contact");
+    }
+
+    @Test
+    public void should_key_cache_by_cluster_hosts_and_keyspace() throws Exception {
+        //Given
+        final Metadata cluster1 = metadata("cluster1", "10.0.0.1", "10.0.0.2");
+        final Metadata sameCluster1 = metadata("cluster1", "10.0.0.2", "10.0.0.1");
+        final Metadata otherCluster1 = metadata("cluster1", "10.1.0.1");
+
+        //When
+        final String key = SchemaValidationCache.cacheKey(cluster1, "ks", String.class);
+
+        //Then
+        assertThat(key).startsWith("cluster1@").endsWith("/ks/java.lang.String");
+        assertThat(SchemaValidationCache.cacheKey(sameCluster1, "ks", String.class)).isEqualTo(key);
+        assertThat(SchemaValidationCache.cacheKey(otherCluster1, "ks", String.class)).isNotEqualTo(key);
+        assertThat(SchemaValidationCache.cacheKey(cluster1, "other_ks", String.class)).isNotEqualTo(key);
+    }
+
+    private Metadata metadata(String clusterName, String... addresses) {
+        final Metadata metadata = mock(Metadata.class);
+        final Set<Host> hosts = new HashSet<>();
+        for (String address : addresses) {
+            final Host host = mock(Host.class);
+            when(host.getSocketAddress()).thenReturn(new InetSocketAddress(address, 9042));
+            hosts.add(host);
+        }
+        when(metadata.getClusterName()).thenReturn(clusterName);
+        when(metadata.getAllHosts()).thenReturn(hosts);
+        return metadata;
+    }
+
+    private static class AddressUDTProperty extends TestUDTProperty {
+        @Override
+        protected String getUdtName() {
+            return "address";
+        }
+
+        @Override
+        protected Class<Integer> getUdtClass() {
+            return Integer.class;
+        }
+    }
+
+    private static class ContactUDTProperty extends TestUDTProperty {
+        @Override
+        protected String getUdtName() {
+            return "contact";
+        }
+
+        @Override
+        protected Class<String> getUdtClass() {
+            return String.class;
+        }
+    }
+
+    private static abstract class TestUDTProperty<A> extends AbstractUDTClassProperty<A> {
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticUdtName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected List<AbstractProperty<A, ?, ?>> getComponentsProperty() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<A, ?, ?>> getConstructorInjectedProperty() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected Class<?> getParentEntityClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected UDTValue createUDTFromBean(A instance, boolean frozen, Optional<CassandraOptions> cassandraOptions) {
+            return null;
+        }
+
+        @Override
+        protected A newInstanceFromCustomConstructor(UDTValue udtValue, int[] constructorIndices) {
+            return null;
+        }
+    }
+}
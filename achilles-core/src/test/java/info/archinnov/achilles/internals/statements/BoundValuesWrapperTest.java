@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.internals.statements;
+
+import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyVararg;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Constructor;
+import java.util.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.*;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
+
+import info.archinnov.achilles.internals.codec.FallThroughCodec;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.metamodel.SimpleProperty;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+import info.archinnov.achilles.type.strategy.InsertStrategy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BoundValuesWrapperTest {
+
+    private static final SimpleProperty<String, Long, Long> ID = new SimpleProperty<>(new FieldInfo<>(entity -> null, (entity, value) -> {},
+            "id", "id", ColumnType.PARTITION, new PartitionKeyInfo(1, false), IndexInfo.noIndex()), DataType.bigint(),
+            gettable -> null, (settable, value) -> {}, new TypeToken<Long>() {}, new TypeToken<Long>() {}, new FallThroughCodec<>(Long.class));
+    private static final SimpleProperty<String, String, String> NAME = textColumn("name");
+    private static final SimpleProperty<String, String, String> AVATAR = textColumn("avatar");
+    private static final SimpleProperty<String, String, String> HISTORY = textColumn("history");
+    private static final SimpleProperty<String, String, String> NOTES = textColumn("notes");
+
+    private final TestEntityProperty meta = new TestEntityProperty();
+
+    @Mock
+    private PreparedStatement ps;
+
+    @Mock
+    private ColumnDefinitions variables;
+
+    @Before
+    public void setUp() throws Exception {
+        meta.injectKeyspace("ks");
+        final Constructor<?> preparedIdConstructor = PreparedId.class.getDeclaredConstructors()[0];
+        preparedIdConstructor.setAccessible(true);
+        when(ps.getPreparedId()).thenReturn((PreparedId) preparedIdConstructor.newInstance(null, null, null, null, ProtocolVersion.V3));
+        when(ps.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT_INSTANCE);
+        when(ps.getVariables()).thenReturn(variables);
+        when(ps.bind(anyVararg())).thenAnswer(invocation -> new BoundStatement(ps).bind(invocation.getArguments()));
+    }
+
+    @Test
+    public void should_leave_out_lazy_groups_with_only_null_values() throws Exception {
+        //Given
+        final BoundValuesWrapper wrapper = wrapperFor(1L, "john", null, null, "some notes");
+
+        //When
+        final BoundValuesWrapper actual = wrapper.withoutUnloadedLazyGroups();
+
+        //Then
+        assertThat(actual.excludedLazyGroups).containsExactly("payload");
+        assertThat(actual.boundValuesInfo.stream().map(x -> x.encodedValue).toArray())
+                .containsExactly(1L, "john", "some notes", 0);
+    }
+
+    @Test
+    public void should_keep_partially_loaded_lazy_group() throws Exception {
+        //Given
+        final BoundValuesWrapper wrapper = wrapperFor(1L, "john", "avatar", null, "some notes");
+
+        //When
+        final BoundValuesWrapper actual = wrapper.withoutUnloadedLazyGroups();
+
+        //Then
+        assertThat(actual.excludedLazyGroups).isEmpty();
+        assertThat(actual.boundValuesInfo).hasSize(6);
+    }
+
+    @Test
+    public void should_generate_insert_without_excluded_lazy_groups() throws Exception {
+        //Given
+        final BoundValuesWrapper wrapper = wrapperFor(1L, "john", null, null, "some notes").withoutUnloadedLazyGroups();
+
+        //When
+        final String insert = PreparedStatementGenerator.generateInsertWithoutLazyGroups(meta, wrapper.excludedLazyGroups,
+                false, false, Optional.empty()).getQueryString();
+        final String insertIfNotExists = PreparedStatementGenerator.generateInsertWithoutLazyGroups(meta, wrapper.excludedLazyGroups,
+                false, true, Optional.empty()).getQueryString();
+
+        //Then
+        assertThat(insert).isEqualTo("INSERT INTO ks.my_table (id,name,notes) VALUES (:id,:name,:notes) USING TTL :ttl;");
+        assertThat(insertIfNotExists).isEqualTo("INSERT INTO ks.my_table (id,name,notes) VALUES (:id,:name,:notes) IF NOT EXISTS USING TTL :ttl;");
+    }
+
+    @Test
+    public void should_set_every_variable_for_protocol_v3_when_lazy_group_is_unloaded() throws Exception {
+        //Given
+        final BoundValuesWrapper wrapper = wrapperFor(1L, "john", null, null, "some notes").withoutUnloadedLazyGroups();
+        prepareVariables(DataType.bigint(), DataType.text(), DataType.text(), DataType.cint());
+
+        //When
+        final BoundStatement bs = wrapper.bindWithInsertStrategy(ps, ALL_FIELDS).getBoundStatement();
+
+        //Then
+        for (int i = 0; i < 4; i++) {
+            assertThat(bs.isSet(i)).isTrue();
+        }
+        assertThat(bs.getString(2)).isEqualTo("some notes");
+    }
+
+    @Test
+    public void should_bind_null_lazy_column_of_loaded_group_for_protocol_v3() throws Exception {
+        //Given
+        final BoundValuesWrapper wrapper = wrapperFor(1L, "john", "avatar", null, "some notes").withoutUnloadedLazyGroups();
+        prepareVariables(DataType.bigint(), DataType.text(), DataType.text(), DataType.text(), DataType.text(), DataType.cint());
+
+        //When
+        final BoundStatement bs = wrapper.bindWithInsertStrategy(ps, ALL_FIELDS).getBoundStatement();
+
+        //Then
+        for (int i = 0; i < 6; i++) {
+            assertThat(bs.isSet(i)).isTrue();
+        }
+        assertThat(bs.isNull(3)).isTrue();
+    }
+
+    private void prepareVariables(DataType... types) {
+        when(variables.size()).thenReturn(types.length);
+        for (int i = 0; i < types.length; i++) {
+            when(variables.getType(i)).thenReturn(types[i]);
+        }
+    }
+
+    private BoundValuesWrapper wrapperFor(Long id, String name, String avatar, String history, String notes) {
+        final List<BoundValueInfo> values = new ArrayList<>();
+        values.add(valueOf(ID, id));
+        values.add(valueOf(NAME, name));
+        values.add(valueOf(AVATAR, avatar));
+        values.add(valueOf(HISTORY, history));
+        values.add(valueOf(NOTES, notes));
+        values.add(BoundValueInfo.of((value, settable) -> settable.setInt("ttl", (Integer) value), 0, 0));
+        return new BoundValuesWrapper(meta, values);
+    }
+
+    private BoundValueInfo valueOf(AbstractProperty<String, ?, ?> column, Object value) {
+        return BoundValueInfo.of((encoded, settable) -> {}, value, value, meta.lazyGroupOf(column));
+    }
+
+    private static SimpleProperty<String, String, String> textColumn(String name) {
+        return new SimpleProperty<>(new FieldInfo<>(entity -> null, (entity, value) -> {}, name, name, ColumnType.NORMAL,
+                new ColumnInfo(false), IndexInfo.noIndex()), DataType.text(), gettable -> null, (settable, value) -> {},
+                new TypeToken<String>() {}, new TypeToken<String>() {}, new FallThroughCodec<>(String.class));
+    }
+
+    private static class TestEntityProperty extends AbstractEntityProperty<String> {
+
+        @Override
+        protected Class<String> getEntityClass() {
+            return String.class;
+        }
+
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticTableOrViewName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected String getDerivedTableOrViewName() {
+            return "my_table";
+        }
+
+        @Override
+        protected BiMap<String, String> fieldNameToCqlColumn() {
+            return HashBiMap.create();
+        }
+
+        @Override
+        protected boolean isCounterTable() {
+            return false;
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticReadConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticWriteConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<ConsistencyLevel> getStaticSerialConsistency() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<Integer> getStaticTTL() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InsertStrategy> getStaticInsertStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getPartitionKeys() {
+            return asList(ID);
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getClusteringColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getStaticColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getNormalColumns() {
+            return asList(NAME, AVATAR, HISTORY, NOTES);
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getComputedColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getCounterColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected List<AbstractProperty<String, ?, ?>> getConstructorInjectedColumns() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        protected Map<String, List<AbstractProperty<String, ?, ?>>> getLazyColumnGroups() {
+            return ImmutableMap.of("payload", asList(AVATAR, HISTORY), "notes", asList(NOTES));
+        }
+
+        @Override
+        protected String newInstanceFromCustomConstructor(Row row, List<String> cqlColumns) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.slf4j.MDC;
+
+public class DMLLogDispatcherTest {
+
+    @Test
+    public void should_poll_tasks_in_order_and_reject_when_full() throws Exception {
+        //Given
+        final DMLLogDispatcher.RingBuffer ringBuffer = new DMLLogDispatcher.RingBuffer(3);
+        final Runnable task1 = () -> {};
+        final Runnable task2 = () -> {};
+        final Runnable task3 = () -> {};
+        final Runnable task4 = () -> {};
+        final Runnable task5 = () -> {};
+
+        //When
+        final boolean offered = ringBuffer.offer(task1) && ringBuffer.offer(task2)
+                && ringBuffer.offer(task3) && ringBuffer.offer(task4);
+
+        //Then
+        assertThat(ringBuffer.capacity()).isEqualTo(4);
+        assertThat(offered).isTrue();
+        assertThat(ringBuffer.offer(task5)).isFalse();
+        assertThat(ringBuffer.poll()).isSameAs(task1);
+        assertThat(ringBuffer.offer(task5)).isTrue();
+        assertThat(ringBuffer.poll()).isSameAs(task2);
+        assertThat(ringBuffer.poll()).isSameAs(task3);
+        assertThat(ringBuffer.poll()).isSameAs(task4);
+        assertThat(ringBuffer.poll()).isSameAs(task5);
+        assertThat(ringBuffer.poll()).isNull();
+        assertThat(ringBuffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void should_run_log_tasks_on_background_thread() throws Exception {
+        //Given
+        final DMLLogDispatcher dispatcher = new DMLLogDispatcher(16, "test-dml-logger-background");
+        final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(10);
+
+        //When
+        for (int i = 0; i < 10; i++) {
+            dispatcher.dispatch(() -> {
+                threadNames.add(Thread.currentThread().getName());
+                done.countDown();
+            });
+        }
+
+        //Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadNames).hasSize(10).containsOnly("test-dml-logger-background");
+        assertThat(dispatcher.getSynchronousFallbackCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_run_log_task_on_caller_thread_when_ring_buffer_is_full() throws Exception {
+        //Given
+        final DMLLogDispatcher dispatcher = new DMLLogDispatcher(2, "test-dml-logger-full");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> threadNames = Collections.synchronizedList(new ArrayList<>());
+        dispatcher.dispatch(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.dispatch(() -> {});
+        dispatcher.dispatch(() -> {});
+
+        //When
+        dispatcher.dispatch(() -> threadNames.add(Thread.currentThread().getName()));
+        release.countDown();
+
+        //Then
+        assertThat(threadNames).containsExactly(Thread.currentThread().getName());
+        assertThat(dispatcher.getSynchronousFallbackCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_restore_caller_mdc_on_background_thread() throws Exception {
+        //Given
+        final DMLLogDispatcher dispatcher = new DMLLogDispatcher(16, "test-dml-logger-mdc");
+        final List<String> requestIds = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(2);
+        MDC.put("requestId", "req-1");
+
+        //When
+        try {
+            dispatcher.dispatch(() -> {
+                requestIds.add(MDC.get("requestId"));
+                done.countDown();
+            });
+        } finally {
+            MDC.remove("requestId");
+        }
+        dispatcher.dispatch(() -> {
+            requestIds.add(MDC.get("requestId"));
+            done.countDown();
+        });
+
+        //Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(requestIds).containsExactly("req-1", null);
+    }
+
+    @Test
+    public void should_generate_distinct_query_ids_with_node_prefix() throws Exception {
+        //When
+        final String id1 = QueryIdGenerator.nextId();
+        final String id2 = QueryIdGenerator.nextId();
+
+        //Then
+        assertThat(id1).startsWith(QueryIdGenerator.NODE_PREFIX + "-");
+        assertThat(id2).startsWith(QueryIdGenerator.NODE_PREFIX + "-");
+        assertThat(id1).isNotEqualTo(id2);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SlowQueryProbeTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private StatementWrapper wrapper;
+
+    @Before
+    public void setUp() {
+        when(wrapper.getEntityClass()).thenReturn((Class) String.class);
+        when(wrapper.getBoundStatement().preparedStatement().getQueryString()).thenReturn("SELECT * FROM table");
+    }
+
+    @Test
+    public void should_not_complete_partially_consumed_iteration_under_threshold() throws Exception {
+        //Given
+        final SlowQueryProbe probe = new SlowQueryProbe(wrapper, Long.MAX_VALUE, System.nanoTime(), true, false);
+
+        //When
+        probe.onResponse(null);
+        probe.onIteration(true);
+
+        //Then
+        assertThat(probe.isCompleted()).isFalse();
+    }
+
+    @Test
+    public void should_complete_partially_consumed_iteration_once_over_threshold() throws Exception {
+        //Given
+        final SlowQueryProbe probe = new SlowQueryProbe(wrapper, 0L, System.nanoTime(), true, false);
+
+        //When
+        probe.onResponse(null);
+        final boolean completedOnResponse = probe.isCompleted();
+        probe.onIteration(true);
+
+        //Then
+        assertThat(completedOnResponse).isFalse();
+        assertThat(probe.isCompleted()).isTrue();
+    }
+
+    @Test
+    public void should_complete_exhausted_iteration() throws Exception {
+        //Given
+        final SlowQueryProbe probe = new SlowQueryProbe(wrapper, Long.MAX_VALUE, System.nanoTime(), true, false);
+
+        //When
+        probe.onIteration(false);
+
+        //Then
+        assertThat(probe.isCompleted()).isTrue();
+    }
+}
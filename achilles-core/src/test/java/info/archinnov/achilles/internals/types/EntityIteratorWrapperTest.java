@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.SlowQueryProbe;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityIteratorWrapperTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private Row row1;
+
+    @Mock
+    private Row row2;
+
+    @Mock
+    private AbstractEntityProperty<String> meta;
+
+    @Mock
+    private StatementWrapper statementWrapper;
+
+    @Mock
+    private SlowQueryProbe slowQueryProbe;
+
+    @Before
+    public void setUp() {
+        when(statementWrapper.getSlowQueryProbe()).thenReturn(slowQueryProbe);
+        when(statementWrapper.logTrace(resultSet)).thenReturn(resultSet);
+        when(meta.createEntityFrom(row1)).thenReturn("entity1");
+        when(meta.createEntityFrom(row2)).thenReturn("entity2");
+    }
+
+    @Test
+    public void should_report_progress_to_slow_query_probe_when_iterator_is_partially_consumed() throws Exception {
+        //Given
+        when(resultSet.iterator()).thenReturn(Arrays.asList(row1, row2).iterator());
+        final EntityIteratorWrapper<String> iterator = new EntityIteratorWrapper<>(CompletableFuture.completedFuture(resultSet),
+                meta, statementWrapper, new CassandraOptions());
+
+        //When
+        final boolean hasNext = iterator.hasNext();
+        final String entity = iterator.next();
+
+        //Then
+        assertThat(hasNext).isTrue();
+        assertThat(entity).isEqualTo("entity1");
+        verify(slowQueryProbe, times(2)).onIteration(true);
+        verify(slowQueryProbe, never()).onIteration(false);
+        verify(slowQueryProbe).addMapping(anyLong(), eq(1));
+    }
+
+    @Test
+    public void should_complete_slow_query_probe_when_iterator_is_exhausted() throws Exception {
+        //Given
+        when(resultSet.iterator()).thenReturn(Arrays.asList(row1).iterator());
+        final EntityIteratorWrapper<String> iterator = new EntityIteratorWrapper<>(CompletableFuture.completedFuture(resultSet),
+                meta, statementWrapper, new CassandraOptions());
+
+        //When
+        iterator.next();
+        final boolean hasNext = iterator.hasNext();
+
+        //Then
+        assertThat(hasNext).isFalse();
+        verify(slowQueryProbe).onIteration(false);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void should_fail_slow_query_probe_when_fetching_next_page_fails() throws Exception {
+        //Given
+        final Iterator<Row> rows = mock(Iterator.class);
+        final ReadTimeoutException failure = mock(ReadTimeoutException.class);
+        when(rows.hasNext()).thenThrow(failure);
+        when(resultSet.iterator()).thenReturn(rows);
+        final EntityIteratorWrapper<String> iterator = new EntityIteratorWrapper<>(CompletableFuture.completedFuture(resultSet),
+                meta, statementWrapper, new CassandraOptions());
+
+        //When
+        Throwable thrown = null;
+        try {
+            iterator.hasNext();
+        } catch (ReadTimeoutException e) {
+            thrown = e;
+        }
+
+        //Then
+        assertThat(thrown).isSameAs(failure);
+        verify(slowQueryProbe).onFailure(failure);
+        verify(slowQueryProbe, never()).onIteration(false);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.JsonArrayFraming;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JSONStreamWriterTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private Row row1;
+
+    @Mock
+    private Row row2;
+
+    @Mock
+    private StatementWrapper statementWrapper;
+
+    @Mock
+    private CassandraOptions options;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @Before
+    public void setUp() {
+        when(options.resultSetAsyncListener(resultSet)).thenReturn(resultSet);
+        when(statementWrapper.logTrace(resultSet)).thenReturn(resultSet);
+        when(row1.getBytesUnsafe(0)).thenReturn(ByteBuffer.wrap("{\"id\":1,\"value\":\"é\"}".getBytes(UTF_8)));
+        when(row2.getBytesUnsafe(0)).thenReturn(ByteBuffer.wrap("{\"id\":2}".getBytes(UTF_8)));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_stream_rows_as_json_array_to_output_stream() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(2);
+        when(resultSet.one()).thenReturn(row1, row2);
+        when(resultSet.isFullyFetched()).thenReturn(true);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        final Long count = new JSONStreamWriter(JSONStreamWriter.Sink.of(outputStream), JsonArrayFraming.JSON_ARRAY, 0,
+                statementWrapper, options, executor)
+                .write(CompletableFuture.completedFuture(resultSet))
+                .get();
+
+        //Then
+        assertThat(count).isEqualTo(2L);
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo("[{\"id\":1,\"value\":\"é\"},{\"id\":2}]");
+        verify(options).rowAsyncListener(row1);
+        verify(options).rowAsyncListener(row2);
+    }
+
+    @Test
+    public void should_stream_rows_page_by_page_as_ndjson_to_writer() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(1, 1);
+        when(resultSet.one()).thenReturn(row1, row2);
+        when(resultSet.isFullyFetched()).thenReturn(false, true);
+        when(resultSet.fetchMoreResults()).thenReturn(Futures.immediateFuture(resultSet));
+        final StringWriter writer = new StringWriter();
+
+        //When
+        final Long count = new JSONStreamWriter(JSONStreamWriter.Sink.of(writer), JsonArrayFraming.NEWLINE_DELIMITED, 1,
+                statementWrapper, options, executor)
+                .write(CompletableFuture.completedFuture(resultSet))
+                .get();
+
+        //Then
+        assertThat(count).isEqualTo(2L);
+        assertThat(writer.toString()).isEqualTo("{\"id\":1,\"value\":\"é\"}\n{\"id\":2}\n");
+        verify(resultSet, times(1)).fetchMoreResults();
+    }
+
+    @Test
+    public void should_write_empty_json_array_when_no_row() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+        when(resultSet.isFullyFetched()).thenReturn(true);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //When
+        final Long count = new JSONStreamWriter(JSONStreamWriter.Sink.of(outputStream), JsonArrayFraming.JSON_ARRAY, 0,
+                statementWrapper, options, executor)
+                .write(CompletableFuture.completedFuture(resultSet))
+                .get();
+
+        //Then
+        assertThat(count).isEqualTo(0L);
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    public void should_write_all_pages_on_given_executor() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(1, 1);
+        when(resultSet.one()).thenReturn(row1, row2);
+        when(resultSet.isFullyFetched()).thenReturn(false, true);
+        when(resultSet.fetchMoreResults()).thenReturn(Futures.immediateFuture(resultSet));
+        final ExecutorService writeExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "json-writer"));
+        final Set<String> writingThreads = new ConcurrentSkipListSet<>();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] bytes, int offset, int length) {
+                writingThreads.add(Thread.currentThread().getName());
+                super.write(bytes, offset, length);
+            }
+        };
+
+        //When
+        try {
+            new JSONStreamWriter(JSONStreamWriter.Sink.of(outputStream), JsonArrayFraming.JSON_ARRAY, 0,
+                    statementWrapper, options, writeExecutor)
+                    .write(CompletableFuture.completedFuture(resultSet))
+                    .get();
+        } finally {
+            writeExecutor.shutdownNow();
+        }
+
+        //Then
+        assertThat(writingThreads).containsExactly("json-writer");
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo("[{\"id\":1,\"value\":\"é\"},{\"id\":2}]");
+    }
+
+    @Test
+    public void should_not_expose_framing_bytes() throws Exception {
+        //Given
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(0);
+        when(resultSet.isFullyFetched()).thenReturn(true);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonArrayFraming.JSON_ARRAY.begin()[0] = '{';
+        JsonArrayFraming.JSON_ARRAY.end()[0] = '}';
+
+        //When
+        new JSONStreamWriter(JSONStreamWriter.Sink.of(outputStream), JsonArrayFraming.JSON_ARRAY, 0,
+                statementWrapper, options, executor)
+                .write(CompletableFuture.completedFuture(resultSet))
+                .get();
+
+        //Then
+        assertThat(new String(outputStream.toByteArray(), UTF_8)).isEqualTo("[]");
+    }
+}
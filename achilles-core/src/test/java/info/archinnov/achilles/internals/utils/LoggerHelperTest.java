@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+import org.junit.Test;
+
+public class LoggerHelperTest {
+
+    @Test
+    public void should_snapshot_values_for_deferred_log() throws Exception {
+        //Given
+        final List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        final Set<Integer> set = new TreeSet<>(Arrays.asList(2, 1));
+        final Map<String, Integer> map = new HashMap<>();
+        map.put("one", 1);
+        final byte[] bytes = new byte[]{1, 2};
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{3, 4});
+        final Object[] values = new Object[]{"id", list, set, map, bytes, buffer};
+
+        //When
+        final List<Object> snapshot = LoggerHelper.snapshotForLog(values);
+        values[0] = "other_id";
+        list.add("c");
+        set.add(3);
+        map.put("two", 2);
+        bytes[0] = 9;
+        buffer.put(0, (byte) 9);
+
+        //Then
+        assertThat(snapshot.toString()).isEqualTo("[id, [a, b], [1, 2], {one=1}, 0x0102, 0x0304]");
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ParallelTasksHelperTest {
+
+    @Test
+    public void should_run_all_tasks_and_collect_failures_by_index() throws Exception {
+        //Given
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final int index = i;
+            tasks.add(() -> {
+                counter.incrementAndGet();
+                if (index % 5 == 0) {
+                    throw new IllegalStateException("failure " + index);
+                }
+            });
+        }
+
+        //When
+        final Throwable[] failures = ParallelTasksHelper.runAll(tasks, executor);
+
+        //Then
+        assertThat(counter.get()).isEqualTo(20);
+        assertThat(failures).hasSize(20);
+        assertThat(failures[0]).hasMessage("failure 0");
+        assertThat(failures[1]).isNull();
+        assertThat(failures[15]).hasMessage("failure 15");
+        executor.shutdown();
+    }
+
+    @Test
+    public void should_run_tasks_on_calling_thread_when_executor_is_blocked() throws Exception {
+        //Given
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final AtomicInteger counter = new AtomicInteger();
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(counter::incrementAndGet);
+        }
+
+        //When
+        final Throwable[] failures = ParallelTasksHelper.runAll(tasks, executor);
+
+        //Then
+        assertThat(counter.get()).isEqualTo(5);
+        assertThat(failures).containsOnly((Throwable) null);
+        release.countDown();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RowViewTest {
+
+    @Mock
+    private Row row;
+
+    private RowView.Columns columns;
+
+    @Before
+    public void setUp() {
+        columns = new RowView.Columns(Arrays.asList("id", "value"));
+    }
+
+    @Test
+    public void should_decode_cell_by_index_only_when_read() throws Exception {
+        //Given
+        when(row.getObject(1)).thenReturn("val");
+        final RowView view = new RowView(columns, row);
+
+        //When
+        final String value = view.getTyped("value");
+
+        //Then
+        assertThat(value).isEqualTo("val");
+        verify(row).getObject(1);
+        verify(row, never()).getObject(0);
+    }
+
+    @Test
+    public void should_return_default_value_for_unknown_column() throws Exception {
+        //Given
+        final RowView view = new RowView(columns, row);
+
+        //When
+        final Long value = view.getTypedOr("unknown", 10L);
+
+        //Then
+        assertThat(value).isEqualTo(10L);
+        assertThat(view.<Long>getTyped("unknown")).isNull();
+        assertThat(view.containsKey("unknown")).isFalse();
+    }
+
+    @Test
+    public void should_return_null_for_null_cell() throws Exception {
+        //Given
+        when(row.isNull(0)).thenReturn(true);
+        final RowView view = new RowView(columns, row);
+
+        //When
+        final Long id = view.getTypedOr("id", 10L);
+
+        //Then
+        assertThat(id).isNull();
+        verify(row, never()).getObject(0);
+    }
+
+    @Test
+    public void should_convert_to_typed_map() throws Exception {
+        //Given
+        when(row.getObject(0)).thenReturn(10L);
+        when(row.getObject(1)).thenReturn("val");
+        final RowView view = new RowView(columns, row);
+
+        //When
+        final TypedMap typedMap = view.toTypedMap();
+
+        //Then
+        assertThat(view.size()).isEqualTo(2);
+        assertThat(view.keys()).containsExactly("id", "value");
+        assertThat(typedMap.<Long>getTyped("id")).isEqualTo(10L);
+        assertThat(typedMap.<String>getTyped("value")).isEqualTo("val");
+    }
+
+    @Test
+    public void should_share_columns_between_views() throws Exception {
+        //Given
+        final Row otherRow = mock(Row.class);
+        when(row.getObject(0)).thenReturn(1L);
+        when(otherRow.getObject(0)).thenReturn(2L);
+
+        //When
+        final RowView view1 = new RowView(columns, row);
+        final RowView view2 = new RowView(columns, otherRow);
+
+        //Then
+        assertThat(view1.<Long>getTyped("id")).isEqualTo(1L);
+        assertThat(view2.<Long>getTyped("id")).isEqualTo(2L);
+    }
+}
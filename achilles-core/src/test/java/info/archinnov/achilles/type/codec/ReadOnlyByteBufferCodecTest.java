@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.ReadableByteChannel;
+
+import org.junit.Test;
+
+public class ReadOnlyByteBufferCodecTest {
+
+    private final ReadOnlyByteBufferCodec codec = new ReadOnlyByteBufferCodec();
+
+    @Test
+    public void should_encode_caller_buffer_without_copy() throws Exception {
+        //Given
+        final ByteBuffer value = ByteBuffer.wrap(new byte[]{1, 2, 3});
+
+        //When
+        final ByteBuffer encoded = codec.encode(value);
+
+        //Then
+        assertThat(encoded).isSameAs(value);
+    }
+
+    @Test
+    public void should_decode_as_read_only_view_sharing_content() throws Exception {
+        //Given
+        final byte[] bytes = new byte[]{1, 2, 3, 4};
+        final ByteBuffer fromCassandra = ByteBuffer.wrap(bytes, 1, 2).slice();
+
+        //When
+        final ByteBuffer decoded = codec.decode(fromCassandra);
+        bytes[1] = 9;
+
+        //Then
+        assertThat(decoded.isReadOnly()).isTrue();
+        assertThat(decoded.remaining()).isEqualTo(2);
+        assertThat(decoded.get(0)).isEqualTo((byte) 9);
+        assertThat(decoded.get(1)).isEqualTo((byte) 3);
+    }
+
+    @Test(expected = ReadOnlyBufferException.class)
+    public void should_fail_writing_into_decoded_value() throws Exception {
+        //Given
+        final ByteBuffer decoded = codec.decode(ByteBuffer.wrap(new byte[]{1, 2}));
+
+        //When
+        decoded.put(0, (byte) 5);
+    }
+
+    @Test
+    public void should_stream_buffer_through_channel() throws Exception {
+        //Given
+        final ByteBuffer value = codec.decode(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+        final ReadableByteChannel channel = ReadOnlyByteBufferCodec.asChannel(value);
+        final ByteBuffer dst = ByteBuffer.allocate(2);
+
+        //When
+        final int read1 = channel.read(dst);
+        dst.clear();
+        final int read2 = channel.read(dst);
+        dst.clear();
+        final int read3 = channel.read(dst);
+        final byte last = dst.get(0);
+        dst.clear();
+        final int read4 = channel.read(dst);
+
+        //Then
+        assertThat(read1).isEqualTo(2);
+        assertThat(read2).isEqualTo(2);
+        assertThat(read3).isEqualTo(1);
+        assertThat(last).isEqualTo((byte) 5);
+        assertThat(read4).isEqualTo(-1);
+        assertThat(value.remaining()).isEqualTo(5);
+    }
+}
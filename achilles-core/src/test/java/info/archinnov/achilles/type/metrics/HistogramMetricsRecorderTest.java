@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class HistogramMetricsRecorderTest {
+
+    @Test
+    public void should_record_metrics_per_entity_and_operation() throws Exception {
+        //Given
+        final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+
+        //When
+        recorder.recordExecution(String.class, MetricsOperation.FIND, 1_000L, ExecutionOutcome.SUCCESS);
+        recorder.recordExecution(String.class, MetricsOperation.FIND, 2_000L, ExecutionOutcome.TIMEOUT);
+        recorder.recordExecution(String.class, MetricsOperation.FIND, 3_000L, ExecutionOutcome.ERROR);
+        recorder.recordMapping(String.class, MetricsOperation.FIND, 500L, 1);
+        recorder.recordExecution(Long.class, MetricsOperation.INSERT, 4_000L, ExecutionOutcome.SUCCESS);
+
+        //Then
+        final OperationMetrics findMetrics = recorder.getMetrics(String.class, MetricsOperation.FIND).get();
+        assertThat(findMetrics.getExecutionCount()).isEqualTo(3L);
+        assertThat(findMetrics.getSuccessCount()).isEqualTo(1L);
+        assertThat(findMetrics.getTimeoutCount()).isEqualTo(1L);
+        assertThat(findMetrics.getErrorCount()).isEqualTo(1L);
+        assertThat(findMetrics.getRowsMappedCount()).isEqualTo(1L);
+        assertThat(findMetrics.getMappingLatency().getCount()).isEqualTo(1L);
+        assertThat(findMetrics.getThroughputPerSecond()).isGreaterThan(0d);
+
+        assertThat(recorder.getMetrics(String.class, MetricsOperation.INSERT).isPresent()).isFalse();
+        assertThat(recorder.getMetrics(Integer.class, MetricsOperation.FIND).isPresent()).isFalse();
+
+        final Map<Class<?>, Map<MetricsOperation, OperationMetrics>> allMetrics = recorder.getAllMetrics();
+        assertThat(allMetrics).hasSize(2);
+        assertThat(allMetrics.get(String.class)).containsOnlyKeys(MetricsOperation.FIND);
+        assertThat(allMetrics.get(Long.class)).containsOnlyKeys(MetricsOperation.INSERT);
+    }
+
+    @Test
+    public void should_sample_registered_executor_queue_depth() throws Exception {
+        //Given
+        final HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+        final AtomicInteger queueDepth = new AtomicInteger(0);
+
+        //When
+        final int beforeRegistration = recorder.getExecutorQueueDepth();
+        recorder.registerExecutorQueueDepth(queueDepth::get);
+        queueDepth.set(7);
+
+        //Then
+        assertThat(beforeRegistration).isEqualTo(-1);
+        assertThat(recorder.getExecutorQueueDepth()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void should_map_values_to_buckets_with_bounded_relative_error() throws Exception {
+        //Given
+        final long[] values = {0L, 1L, 63L, 64L, 65L, 127L, 128L, 1_000L, 1_000_000L, 123_456_789L, LatencyHistogram.MAX_TRACKABLE_VALUE};
+
+        for (long value : values) {
+            //When
+            final int index = LatencyHistogram.indexOf(value);
+            final long lowest = LatencyHistogram.lowestValueOf(index);
+            final long highest = LatencyHistogram.highestValueOf(index);
+
+            //Then
+            assertThat(index).isBetween(0, LatencyHistogram.BUCKET_COUNT - 1);
+            assertThat(lowest).isLessThanOrEqualTo(value);
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(value - lowest).isLessThanOrEqualTo(Math.max(0L, value / LatencyHistogram.HALF_SUB_BUCKET_COUNT));
+        }
+    }
+
+    @Test
+    public void should_compute_percentiles_mean_and_max() throws Exception {
+        //Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        //When
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        //Then
+        assertThat(histogram.getCount()).isEqualTo(100L);
+        assertThat(histogram.getMax(TimeUnit.MILLISECONDS)).isEqualTo(100L);
+        assertThat(histogram.getMean(TimeUnit.MICROSECONDS)).isEqualTo(50_500L);
+        assertThat(histogram.getValueAtPercentile(50d, TimeUnit.MICROSECONDS)).isBetween(50_000L, 52_000L);
+        assertThat(histogram.getValueAtPercentile(99d, TimeUnit.MICROSECONDS)).isBetween(99_000L, 100_000L);
+        assertThat(histogram.getValueAtPercentile(100d, TimeUnit.MILLISECONDS)).isEqualTo(100L);
+    }
+
+    @Test
+    public void should_return_zero_percentile_when_empty() throws Exception {
+        //Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        //When
+        final long p99 = histogram.getValueAtPercentile(99d, TimeUnit.NANOSECONDS);
+
+        //Then
+        assertThat(p99).isEqualTo(0L);
+        assertThat(histogram.getMean(TimeUnit.NANOSECONDS)).isEqualTo(0L);
+    }
+}
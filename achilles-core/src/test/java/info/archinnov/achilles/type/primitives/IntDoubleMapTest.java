@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.primitives;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IntDoubleMapTest {
+
+    @Test
+    public void should_put_get_and_remove_entries() throws Exception {
+        //Given
+        final IntDoubleMap map = new IntDoubleMap();
+
+        //When
+        map.put(1, 1.5);
+        map.put(0, 0.5);
+        map.put(1, 2.5);
+
+        //Then
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.getOrDefault(1, -1)).isEqualTo(2.5);
+        assertThat(map.getOrDefault(0, -1)).isEqualTo(0.5);
+        assertThat(map.getOrDefault(2, -1)).isEqualTo(-1);
+        assertThat(map.remove(0)).isTrue();
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map.keys()).containsOnly(1);
+    }
+
+    @Test
+    public void should_behave_like_hash_map_when_growing_and_removing() throws Exception {
+        //Given
+        final Random random = new Random(42);
+        final IntDoubleMap map = new IntDoubleMap();
+        final Map<Integer, Double> reference = new HashMap<>();
+
+        //When
+        for (int i = 0; i < 20_000; i++) {
+            final int key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) > 0) {
+                final double value = random.nextDouble();
+                map.put(key, value);
+                reference.put(key, value);
+            } else {
+                assertThat(map.remove(key)).isEqualTo(reference.remove(key) != null);
+            }
+        }
+
+        //Then
+        assertThat(map.size()).isEqualTo(reference.size());
+        final Map<Integer, Double> copy = new HashMap<>();
+        map.forEach(copy::put);
+        assertThat(copy).isEqualTo(reference);
+    }
+
+    @Test
+    public void should_clear_entries() throws Exception {
+        //Given
+        final IntDoubleMap map = new IntDoubleMap();
+        map.put(0, 1.0);
+        map.put(3, 2.0);
+
+        //When
+        map.clear();
+
+        //Then
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map).isEqualTo(new IntDoubleMap());
+    }
+
+    @Test
+    public void should_compare_entries_including_zero_key() throws Exception {
+        //Given
+        final IntDoubleMap map1 = new IntDoubleMap();
+        map1.put(0, 1.5);
+        map1.put(7, -2.0);
+        final IntDoubleMap map2 = new IntDoubleMap(50);
+        map2.put(7, -2.0);
+        map2.put(0, 1.5);
+        final IntDoubleMap otherValue = new IntDoubleMap();
+        otherValue.put(0, 3.0);
+        otherValue.put(7, -2.0);
+        final Map<Integer, Double> reference = new HashMap<>();
+        reference.put(0, 1.5);
+        reference.put(7, -2.0);
+
+        //When
+        //Then
+        assertThat(map1).isEqualTo(map2);
+        assertThat(map1).isNotEqualTo(otherValue);
+        assertThat(map1.hashCode()).isEqualTo(map2.hashCode());
+        assertThat(map1.hashCode()).isEqualTo(reference.hashCode());
+        assertThat(map1.toString()).isEqualTo("{7=-2.0, 0=1.5}");
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.primitives;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class IntSetTest {
+
+    @Test
+    public void should_add_contain_and_remove_elements() throws Exception {
+        //Given
+        final IntSet set = IntSet.of(1, 2, 3);
+
+        //When
+        final boolean addedTwice = set.add(2);
+        final boolean removed = set.remove(1);
+        final boolean removedAbsent = set.remove(10);
+
+        //Then
+        assertThat(addedTwice).isFalse();
+        assertThat(removed).isTrue();
+        assertThat(removedAbsent).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains(1)).isFalse();
+        assertThat(set.toArray()).containsOnly(2, 3);
+    }
+
+    @Test
+    public void should_handle_zero_element() throws Exception {
+        //Given
+        final IntSet set = new IntSet();
+
+        //When
+        set.add(0);
+        set.add(-1);
+
+        //Then
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.toArray()).containsOnly(0, -1);
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_behave_like_hash_set_when_growing_and_removing() throws Exception {
+        //Given
+        final Random random = new Random(42);
+        final IntSet set = new IntSet();
+        final Set<Integer> reference = new HashSet<>();
+
+        //When
+        for (int i = 0; i < 20_000; i++) {
+            final int element = random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertThat(set.add(element)).isEqualTo(reference.add(element));
+            } else {
+                assertThat(set.remove(element)).isEqualTo(reference.remove(element));
+            }
+        }
+
+        //Then
+        assertThat(set.size()).isEqualTo(reference.size());
+        for (int element = -1_000; element < 1_000; element++) {
+            assertThat(set.contains(element)).isEqualTo(reference.contains(element));
+        }
+    }
+
+    @Test
+    public void should_be_equal_regardless_of_insertion_order() throws Exception {
+        //Given
+        final IntSet set1 = IntSet.of(0, 5, 100, -7);
+        final IntSet set2 = new IntSet(100);
+
+        //When
+        set2.add(-7);
+        set2.add(100);
+        set2.add(0);
+        set2.add(5);
+
+        //Then
+        assertThat(set1).isEqualTo(set2);
+        assertThat(set1.hashCode()).isEqualTo(set2.hashCode());
+        assertThat(set1).isNotEqualTo(IntSet.of(0, 5, 100));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Transparently compress a <strong>String</strong>, <strong>byte[]</strong> or <strong>ByteBuffer</strong> value
+ * and store it in a Cassandra <strong>blob</strong> column.
+ * <br/>
+ * <br/>
+ * Values smaller than the <strong>threshold()</strong> (in bytes) are stored as-is, larger values are deflated.
+ * Each stored value starts with a 1-byte header describing its format so that the threshold can be changed later
+ * without breaking existing data
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Column
+ * <strong>{@literal @}Compressed(threshold = 1024)</strong>
+ * private String largeDocument;
+ * </code></pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.TYPE_USE})
+@Documented
+public @interface Compressed {
+
+    int DEFAULT_THRESHOLD = 512;
+
+    /**
+     * Minimum size, in bytes, of the serialized value before compression kicks in. Default = 512
+     */
+    int threshold() default DEFAULT_THRESHOLD;
+}
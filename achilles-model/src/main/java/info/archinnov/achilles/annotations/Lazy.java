@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Mark a column as <strong>lazy</strong>. Lazy columns are left out of the SELECT statement
+ * used by <em>crud().findById(...)</em> so that large blob or collection columns are not fetched
+ * when only the small fields are needed.
+ * <br/>
+ * <br/>
+ * Lazy columns are organized in named groups. A group can be fetched along with the entity using
+ * <em>findById(...).withGroups("payload")</em> or loaded later into an existing instance using
+ * <em>crud().loadGroup(entity, "payload")</em>
+
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Table
+ * public class Profile {
+
+ * {@literal @}PartitionKey
+ * private Long id;
+
+ * {@literal @}Column
+ * private String name;
+
+ * {@literal @}Column
+ * <strong>{@literal @}Lazy(group = "payload")</strong>
+ * private ByteBuffer avatar;
+ * }
+ * </code></pre>
+ * <br/>
+ * Since an entity returned by <em>findById(...)</em> has its lazy columns set to null, <strong>an INSERT
+ * with <em>InsertStrategy.ALL_FIELDS</em> leaves out the lazy groups whose columns are all null</strong>,
+ * so that the read-modify-write pattern below keeps the stored values
+ * <pre class="code"><code class="java">
+ * manager.crud().insert(manager.crud().findById(id).get()).execute();
+ * </code></pre>
+ * When at least one column of a group is set, the whole group is written and its null columns are
+ * cleared. To clear all the columns of a group, use the UPDATE or DELETE DSL.
+ * <br/>
+ * <br/>
+ * Like <em>findById(...)</em>, <em>loadGroup(...)</em> triggers the POST_LOAD interceptors once the
+ * group is decoded into the instance.
+ * <br/>
+ * <br/>
+ * Partition keys, clustering columns, computed columns and columns injected by an
+ * {@literal @}EntityCreator constructor cannot be lazy
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Documented
+public @interface Lazy {
+
+    String DEFAULT_GROUP = "default";
+
+    /**
+     * Name of the group this column belongs to. Defaults to <em>"default"</em>
+     */
+    String group() default DEFAULT_GROUP;
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.*;
+
+/**
+ * Declare a read-only <strong>projection</strong> of an entity. The annotated type should be an interface
+ * whose accessors match fields of the entity by name (<em>getName()</em>, <em>isActive()</em> or <em>name()</em>)
+ * and by type.
+ * <br/>
+ * <br/>
+ * Achilles generates an immutable implementation of the interface along with a mapper that reads the
+ * selected columns by index. The projection is used as a terminal of the SELECT DSL
+ *
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Projection(entity = User.class)
+ * public interface UserSummary {
+ *     Long getId();
+ *     String getLogin();
+ * }
+
+ * List&lt;UserSummary&gt; summaries = manager
+ *     .dsl()
+ *     .select()
+ *     .id()
+ *     .login()
+ *     .fromBaseTable()
+ *     .where()
+ *     .id().Eq(10L)
+ *     <strong>.as(UserSummary.class)</strong>
+ *     .getList();
+ * </code></pre>
+ * <br/>
+ * All the columns used by the projection must be part of the selection, otherwise an exception is raised at runtime
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+public @interface Projection {
+
+    /**
+     * The entity class (annotated by {@literal @}Table or {@literal @}MaterializedView) this projection reads from
+     */
+    Class<?> entity();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Raised at bootstrap when the schema validation detects several mismatches between
+ * the mapped entities or functions and the live schema. All the detected problems are
+ * reported at once, the first one being also the cause of this exception
+ */
+public class AchillesSchemaValidationException extends AchillesException {
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> problems;
+
+    public AchillesSchemaValidationException(List<String> problems, Throwable firstProblem) {
+        super(buildMessage(problems), firstProblem);
+        this.problems = Collections.unmodifiableList(new ArrayList<>(problems));
+    }
+
+    public List<String> getProblems() {
+        return problems;
+    }
+
+    private static String buildMessage(List<String> problems) {
+        final StringBuilder message = new StringBuilder("Schema validation failed with ")
+                .append(problems.size())
+                .append(" problem(s) :");
+        for (String problem : problems) {
+            message.append("\n\t- ").append(problem);
+        }
+        return message.toString();
+    }
+}
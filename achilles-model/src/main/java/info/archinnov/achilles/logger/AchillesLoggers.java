@@ -17,9 +17,10 @@
 package info.archinnov.achilles.logger;
 
 /**
- * Define Achilles logger names for DML statements and DDL scripts
+ * Define Achilles logger names for DML statements, DDL scripts and slow queries
  */
 public interface AchillesLoggers {
     String ACHILLES_DML_STATEMENT = "ACHILLES_DML_STATEMENT";
     String ACHILLES_DDL_SCRIPT = "ACHILLES_DDL_SCRIPT";
+    String ACHILLES_SLOW_QUERY = "ACHILLES_SLOW_QUERY";
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Define how the JSON rows of a <strong>SELECT JSON</strong> query are framed when streamed
+ * to an {@link java.io.OutputStream} or a {@link java.io.Writer}
+ * <br/>
+ * <br/>
+ * <ul>
+ *     <li>JSON_ARRAY: rows are written as a single JSON array <em>[{...},{...}]</em></li>
+ *     <li>NEWLINE_DELIMITED: each row is written on its own line, as expected by <em>application/x-ndjson</em></li>
+ * </ul>
+ */
+public enum JsonArrayFraming {
+
+    JSON_ARRAY("[", ",", "", "]"),
+    NEWLINE_DELIMITED("", "", "\n", "");
+
+    private final byte[] begin;
+    private final byte[] separator;
+    private final byte[] terminator;
+    private final byte[] end;
+
+    JsonArrayFraming(String begin, String separator, String terminator, String end) {
+        this.begin = begin.getBytes(UTF_8);
+        this.separator = separator.getBytes(UTF_8);
+        this.terminator = terminator.getBytes(UTF_8);
+        this.end = end.getBytes(UTF_8);
+    }
+
+    /**
+     * @return a copy of the bytes written once before the first row
+     */
+    public byte[] begin() {
+        return begin.clone();
+    }
+
+    /**
+     * @return a copy of the bytes written before every row but the first one
+     */
+    public byte[] separator() {
+        return separator.clone();
+    }
+
+    /**
+     * @return a copy of the bytes written after every row
+     */
+    public byte[] terminator() {
+        return terminator.clone();
+    }
+
+    /**
+     * @return a copy of the bytes written once after the last row
+     */
+    public byte[] end() {
+        return end.clone();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Read-only view over a {@link com.datastax.driver.core.Row} offering the same
+ * <em>getTyped(String key)</em> and <em>getTypedOr(String key, T defaultValue)</em> methods as {@link TypedMap}
+ * <br/>
+ * <br/>
+ * Unlike a {@link TypedMap}, a RowView does not copy the row into a hash map. All the views of a result set
+ * share a single {@link Columns} dictionary mapping column names to their index and cells are decoded by index
+ * only when they are read, so columns nobody reads are never decoded
+ * <pre class="code"><code class="java">
+
+ * RegularStatement statement = session.newSimpleStatement("SELECT * FROM users");
+ * for (RowView view : manager.nativeQuery(statement).getRowViews()) {
+ *     String name = view.getTyped("name");
+ *     Long age = view.getTypedOr("age", 0L);
+ * }
+
+ * </code></pre>
+ */
+public class RowView {
+
+    private final Columns columns;
+    private final Row row;
+
+    public RowView(Columns columns, Row row) {
+        this.columns = columns;
+        this.row = row;
+    }
+
+    public <T> T getTyped(String key) {
+        final int index = columns.indexOf(key);
+        if (index < 0) return null;
+        return getTyped(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getTyped(int index) {
+        if (row.isNull(index)) return null;
+        return (T) row.getObject(index);
+    }
+
+    public <T> T getTypedOr(String key, T defaultValue) {
+        if (columns.contains(key)) {
+            return getTyped(key);
+        } else {
+            return defaultValue;
+        }
+    }
+
+    public boolean containsKey(String key) {
+        return columns.contains(key);
+    }
+
+    public int size() {
+        return columns.names.size();
+    }
+
+    public List<String> keys() {
+        return columns.names;
+    }
+
+    /**
+     * @return the underlying Java driver row
+     */
+    public Row getRow() {
+        return row;
+    }
+
+    /**
+     * Decode all the cells of this view into a new {@link TypedMap}
+     */
+    public TypedMap toTypedMap() {
+        final TypedMap typedMap = new TypedMap();
+        for (int i = 0; i < columns.names.size(); i++) {
+            typedMap.put(columns.names.get(i), getTyped(i));
+        }
+        return typedMap;
+    }
+
+    @Override
+    public String toString() {
+        return toTypedMap().toString();
+    }
+
+    /**
+     * Column name to index dictionary, built once per result set and shared by all its RowView instances
+     */
+    public static class Columns {
+
+        private final List<String> names;
+        private final Map<String, Integer> indices;
+
+        Columns(List<String> names) {
+            this.names = Collections.unmodifiableList(names);
+            this.indices = new HashMap<>(names.size() * 2);
+            for (int i = 0; i < names.size(); i++) {
+                indices.putIfAbsent(names.get(i), i);
+            }
+        }
+
+        public static Columns from(ColumnDefinitions definitions) {
+            final List<String> names = new ArrayList<>(definitions.size());
+            for (ColumnDefinitions.Definition definition : definitions) {
+                names.add(definition.getName());
+            }
+            return new Columns(names);
+        }
+
+        public int indexOf(String name) {
+            final Integer index = indices.get(name);
+            return index == null ? -1 : index;
+        }
+
+        public boolean contains(String name) {
+            return indices.containsKey(name);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.bootstrap;
+
+/**
+ * Phases of the manager factory bootstrap, in execution order
+ */
+public enum BootstrapPhase {
+    ADD_NATIVE_CODECS,
+    INJECT_DEPENDENCIES,
+    CREATE_SCHEMA,
+    VALIDATE_SCHEMA,
+    PREPARE_STATIC_STATEMENTS
+}
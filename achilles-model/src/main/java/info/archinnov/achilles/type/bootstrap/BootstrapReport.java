@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.bootstrap;
+
+import static java.lang.String.format;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Timings of the manager factory bootstrap, per phase and per entity class
+ */
+public class BootstrapReport {
+
+    public static final BootstrapReport EMPTY = new BootstrapReport(0L, Collections.emptyList(), Collections.emptyList());
+
+    private final long totalDurationNanos;
+    private final List<BootstrapStep> phases;
+    private final List<BootstrapStep> targetSteps;
+
+    public BootstrapReport(long totalDurationNanos, List<BootstrapStep> phases, List<BootstrapStep> targetSteps) {
+        this.totalDurationNanos = totalDurationNanos;
+        this.phases = Collections.unmodifiableList(phases);
+        this.targetSteps = Collections.unmodifiableList(targetSteps);
+    }
+
+    public long getTotalDuration(TimeUnit unit) {
+        return unit.convert(totalDurationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the executed phases, in execution order
+     */
+    public List<BootstrapStep> getPhases() {
+        return phases;
+    }
+
+    public Optional<BootstrapStep> getPhase(BootstrapPhase phase) {
+        return phases.stream().filter(x -> x.getPhase() == phase).findFirst();
+    }
+
+    /**
+     * @return the steps of each phase for each entity or UDT class, in execution order
+     */
+    public List<BootstrapStep> getTargetSteps() {
+        return targetSteps;
+    }
+
+    public List<BootstrapStep> getTargetSteps(Class<?> targetClass) {
+        return targetSteps
+                .stream()
+                .filter(x -> x.getTargetClass().filter(targetClass::equals).isPresent())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param limit maximum number of returned steps
+     * @return the slowest entity or UDT steps, slowest first
+     */
+    public List<BootstrapStep> getSlowestTargetSteps(int limit) {
+        return targetSteps
+                .stream()
+                .sorted(Comparator.comparingLong((BootstrapStep x) -> x.getDuration(TimeUnit.NANOSECONDS)).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public long getRoundTrips() {
+        return phases.stream().mapToLong(BootstrapStep::getRoundTrips).sum();
+    }
+
+    public long getStatementsPrepared() {
+        return phases.stream().mapToLong(BootstrapStep::getStatementsPrepared).sum();
+    }
+
+    public long getMetadataLookups() {
+        return phases.stream().mapToLong(BootstrapStep::getMetadataLookups).sum();
+    }
+
+    /**
+     * Human-readable summary with one line per phase followed by the slowest entity steps
+     *
+     * @param slowestStepsLimit maximum number of entity steps displayed
+     * @return multi-line summary
+     */
+    public String toSummary(int slowestStepsLimit) {
+        final StringBuilder summary = new StringBuilder(format("Bootstrap took %d ms with %d round trip(s), %d prepared statement(s), %d metadata lookup(s)\n",
+                getTotalDuration(TimeUnit.MILLISECONDS), getRoundTrips(), getStatementsPrepared(), getMetadataLookups()));
+        summary.append(format("%1$-26s | %2$-40s | %3$10s | %4$11s | %5$8s | %6$16s\n",
+                "Phase", "Class", "Time in ms", "Round trips", "Prepared", "Metadata lookups"));
+        phases.forEach(step -> appendStep(summary, step));
+        final List<BootstrapStep> slowestSteps = getSlowestTargetSteps(slowestStepsLimit);
+        if (!slowestSteps.isEmpty()) {
+            summary.append(format("Slowest %d step(s) :\n", slowestSteps.size()));
+            slowestSteps.forEach(step -> appendStep(summary, step));
+        }
+        return summary.toString();
+    }
+
+    private static void appendStep(StringBuilder summary, BootstrapStep step) {
+        summary.append(format("%1$-26s | %2$-40s | %3$10d | %4$11d | %5$8d | %6$16d\n",
+                step.getPhase(),
+                step.getTargetClass().map(Class::getSimpleName).orElse(""),
+                step.getDuration(TimeUnit.MILLISECONDS),
+                step.getRoundTrips(),
+                step.getStatementsPrepared(),
+                step.getMetadataLookups()));
+    }
+
+    @Override
+    public String toString() {
+        return "BootstrapReport{" +
+                "totalDurationMillis=" + getTotalDuration(TimeUnit.MILLISECONDS) +
+                ", phases=" + phases +
+                '}';
+    }
+}
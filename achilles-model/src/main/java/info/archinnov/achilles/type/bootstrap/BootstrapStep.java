@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.bootstrap;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall-clock time and Cassandra interactions of one bootstrap phase, either as a whole
+ * or restricted to one entity class (or UDT class for schema creation)
+ */
+public class BootstrapStep {
+
+    private final BootstrapPhase phase;
+    private final Optional<Class<?>> targetClass;
+    private final long durationNanos;
+    private final long roundTrips;
+    private final long statementsPrepared;
+    private final long metadataLookups;
+
+    public BootstrapStep(BootstrapPhase phase, Optional<Class<?>> targetClass, long durationNanos,
+                         long roundTrips, long statementsPrepared, long metadataLookups) {
+        this.phase = phase;
+        this.targetClass = targetClass;
+        this.durationNanos = durationNanos;
+        this.roundTrips = roundTrips;
+        this.statementsPrepared = statementsPrepared;
+        this.metadataLookups = metadataLookups;
+    }
+
+    public BootstrapPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * @return the entity or UDT class of this step, empty for a whole phase
+     */
+    public Optional<Class<?>> getTargetClass() {
+        return targetClass;
+    }
+
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return number of requests sent to Cassandra (schema statements and statement preparations)
+     */
+    public long getRoundTrips() {
+        return roundTrips;
+    }
+
+    public long getStatementsPrepared() {
+        return statementsPrepared;
+    }
+
+    /**
+     * @return number of keyspace, table, view or function lookups in the cluster metadata
+     */
+    public long getMetadataLookups() {
+        return metadataLookups;
+    }
+
+    @Override
+    public String toString() {
+        return "BootstrapStep{" +
+                "phase=" + phase +
+                ", targetClass=" + targetClass.map(Class::getCanonicalName).orElse("") +
+                ", durationMillis=" + getDuration(TimeUnit.MILLISECONDS) +
+                ", roundTrips=" + roundTrips +
+                ", statementsPrepared=" + statementsPrepared +
+                ", metadataLookups=" + metadataLookups +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+
+import info.archinnov.achilles.exception.AchillesTranscodingException;
+
+/**
+ * Zero-copy codec for <strong>blob</strong> columns mapped to <strong>java.nio.ByteBuffer</strong> fields.
+ * Use it with the {@literal @}Codec annotation:
+ * <br/>
+ * <br/>
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Column
+ * <strong>{@literal @}Codec(ReadOnlyByteBufferCodec.class)</strong>
+ * private ByteBuffer picture;
+ * </code></pre>
+ * <br/>
+ * Ownership rules:
+ * <ul>
+ *     <li><strong>read</strong>: the decoded value is a read-only view sharing its content with the buffer of
+ *     the Java driver Row. Nothing is copied; the view can be kept as long as needed but any attempt to write into
+ *     it, or to call <em>array()</em> on it, raises a <em>ReadOnlyBufferException</em></li>
+ *     <li><strong>write</strong>: the caller buffer is handed to the driver as is, without copy. The bytes between
+ *     its <em>position</em> and its <em>limit</em> are sent. The buffer content must not be modified until the
+ *     statement has been executed</li>
+ * </ul>
+ * <br/>
+ * To stream a large blob out of an entity, use {@link #asChannel(ByteBuffer)}
+ */
+public class ReadOnlyByteBufferCodec implements Codec<ByteBuffer, ByteBuffer> {
+
+    @Override
+    public Class<ByteBuffer> sourceType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public Class<ByteBuffer> targetType() {
+        return ByteBuffer.class;
+    }
+
+    @Override
+    public ByteBuffer encode(ByteBuffer fromJava) throws AchillesTranscodingException {
+        return fromJava;
+    }
+
+    @Override
+    public ByteBuffer decode(ByteBuffer fromCassandra) throws AchillesTranscodingException {
+        if (fromCassandra == null) return null;
+        return fromCassandra.isReadOnly() ? fromCassandra : fromCassandra.asReadOnlyBuffer();
+    }
+
+    /**
+     * Expose the remaining bytes of the given buffer as a ReadableByteChannel. The channel reads from
+     * its own view so the position of the given buffer is left untouched. No byte is copied except into the
+     * destination buffers provided to <em>read()</em>
+     *
+     * @param buffer source buffer, usually a value decoded by this codec
+     * @return a channel over the remaining bytes of the buffer
+     */
+    public static ReadableByteChannel asChannel(ByteBuffer buffer) {
+        return new ByteBufferChannel(buffer.duplicate());
+    }
+
+    private static class ByteBufferChannel implements ReadableByteChannel {
+
+        private final ByteBuffer source;
+        private boolean open = true;
+
+        private ByteBufferChannel(ByteBuffer source) {
+            this.source = source;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws ClosedChannelException {
+            if (!open) throw new ClosedChannelException();
+            if (!source.hasRemaining()) return -1;
+
+            final int length = Math.min(source.remaining(), dst.remaining());
+            final ByteBuffer chunk = source.duplicate();
+            chunk.limit(chunk.position() + length);
+            dst.put(chunk);
+            source.position(source.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.interceptor;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Asynchronous variant of {@link Interceptor} for interception logic performing I/O,
+ * like auditing to another store or invalidating a cache.
+ * <br>
+ * <br>
+ * The "<em>CompletionStage&lt;Void&gt; onEventAsync(T entity, Event event)</em>" method is called upon interception
+ * and should return immediately. Achilles composes the returned stage into the asynchronous pipeline of
+ * the CRUD or DSL operation instead of blocking its executor threads while the side effect completes.
+ * Interceptors of the same event are still triggered in order, each one after the completion of the previous one.
+ * <br>
+ * <br>
+ * The "<em>FailurePolicy failurePolicy()</em>" method decides what happens when the returned stage completes exceptionally:
+ * <ul>
+ *     <li>FAIL_CLOSED (default): the operation fails with the interceptor error</li>
+ *     <li>FAIL_OPEN: the error is logged and the operation carries on</li>
+ * </ul>
+ * <br>
+ * Async interceptors are registered like any other interceptor. Invocation count, failure count and latency
+ * are recorded for each of them and exposed by the manager factory
+ * <br>
+ * <br>
+ * <pre class="code"><code class="java">
+ * public class AuditInterceptor implements AsyncInterceptor&lt;User&gt;
+ * {
+ * public boolean acceptEntity(Class&lt;?&gt; entityClass) {
+ * return entityClass.equals(User.class);
+ * }
+
+ * public CompletionStage&lt;Void&gt; onEventAsync(User entity, Event event) {
+ * return auditClient.sendAsync(entity.getId(), event);
+ * }
+
+ * public List&lt;Event&gt; interceptOnEvents() {
+ * return Arrays.asList(POST_INSERT, POST_UPDATE, POST_DELETE);
+ * }
+
+ * public FailurePolicy failurePolicy() {
+ * return FailurePolicy.FAIL_OPEN;
+ * }
+ * }
+ * </code></pre>
+ *
+ * @param <T> : type of entity to which this interceptor applies
+ */
+public interface AsyncInterceptor<T> extends Interceptor<T> {
+
+    CompletionStage<Void> onEventAsync(T entity, Event event);
+
+    default FailurePolicy failurePolicy() {
+        return FailurePolicy.FAIL_CLOSED;
+    }
+
+    /**
+     * Blocking bridge to {@link #onEventAsync(Object, Event)}. Achilles never calls this method itself,
+     * it always goes through <em>onEventAsync()</em>
+     */
+    @Override
+    default void onEvent(T entity, Event event) {
+        try {
+            onEventAsync(entity, event).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    enum FailurePolicy {
+        FAIL_OPEN, FAIL_CLOSED
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.interceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live invocation statistics of an {@link AsyncInterceptor}. Latency is measured
+ * from the call to <em>onEventAsync()</em> to the completion of the returned stage
+ */
+public class InterceptorStats {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Long::max, 0L);
+
+    public void record(long latencyNanos, boolean failed) {
+        invocations.increment();
+        if (failed) failures.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulate(latencyNanos);
+    }
+
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public long getTotalLatency(TimeUnit unit) {
+        return unit.convert(totalLatencyNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(maxLatencyNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMeanLatency(TimeUnit unit) {
+        final long count = invocations.sum();
+        return count == 0 ? 0L : unit.convert(totalLatencyNanos.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptorStats{" +
+                "invocations=" + getInvocationCount() +
+                ", failures=" + getFailureCount() +
+                ", meanLatencyMicros=" + getMeanLatency(TimeUnit.MICROSECONDS) +
+                ", maxLatencyMicros=" + getMaxLatency(TimeUnit.MICROSECONDS) +
+                '}';
+    }
+}
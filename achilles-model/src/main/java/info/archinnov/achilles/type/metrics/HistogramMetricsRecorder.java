@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntSupplier;
+
+/**
+ * Built-in {@link MetricsRecorder} keeping one {@link OperationMetrics}
+ * per entity class &times; {@link MetricsOperation}.
+ * <br/>
+ * Metrics are looked up through a {@link ClassValue} and an array indexed by operation
+ * so that, once created, recording neither locks nor allocates
+ * <pre class="code"><code class="java">
+ * HistogramMetricsRecorder recorder = new HistogramMetricsRecorder();
+ * ManagerFactory factory = ManagerFactoryBuilder
+ *                               .builder(cluster)
+ *                               ...
+ *                               <strong>.withMetricsRecorder(recorder)</strong>
+ *                               .build();
+ *
+ * recorder.getMetrics(User.class, MetricsOperation.FIND)
+ *      .ifPresent(metrics -&gt; metrics.getCassandraLatency().getValueAtPercentile(99, TimeUnit.MILLISECONDS));
+ * </code></pre>
+ */
+public class HistogramMetricsRecorder implements MetricsRecorder {
+
+    private static final MetricsOperation[] OPERATIONS = MetricsOperation.values();
+
+    private final Map<Class<?>, AtomicReferenceArray<OperationMetrics>> registry = new ConcurrentHashMap<>();
+    private final ClassValue<AtomicReferenceArray<OperationMetrics>> metricsByClass = new ClassValue<AtomicReferenceArray<OperationMetrics>>() {
+        @Override
+        protected AtomicReferenceArray<OperationMetrics> computeValue(Class<?> type) {
+            return registry.computeIfAbsent(type, x -> new AtomicReferenceArray<>(OPERATIONS.length));
+        }
+    };
+    private volatile IntSupplier executorQueueDepth;
+
+    @Override
+    public void recordExecution(Class<?> entityClass, MetricsOperation operation, long latencyNanos, ExecutionOutcome outcome) {
+        metricsFor(entityClass, operation).recordExecution(latencyNanos, outcome);
+    }
+
+    @Override
+    public void recordMapping(Class<?> entityClass, MetricsOperation operation, long mappingNanos, int rowsMapped) {
+        metricsFor(entityClass, operation).recordMapping(mappingNanos, rowsMapped);
+    }
+
+    @Override
+    public void registerExecutorQueueDepth(IntSupplier queueDepth) {
+        this.executorQueueDepth = queueDepth;
+    }
+
+    /**
+     * Current depth of the executor service queue
+     *
+     * @return queue depth or -1 if the executor service does not expose its queue
+     */
+    public int getExecutorQueueDepth() {
+        final IntSupplier queueDepth = executorQueueDepth;
+        return queueDepth == null ? -1 : queueDepth.getAsInt();
+    }
+
+    public Optional<OperationMetrics> getMetrics(Class<?> entityClass, MetricsOperation operation) {
+        return Optional.ofNullable(registry.get(entityClass))
+                .map(metrics -> metrics.get(operation.ordinal()));
+    }
+
+    /**
+     * Snapshot of all the recorded metrics, grouped by entity class then operation
+     *
+     * @return recorded metrics
+     */
+    public Map<Class<?>, Map<MetricsOperation, OperationMetrics>> getAllMetrics() {
+        final Map<Class<?>, Map<MetricsOperation, OperationMetrics>> allMetrics = new HashMap<>();
+        registry.forEach((entityClass, metrics) -> {
+            final Map<MetricsOperation, OperationMetrics> byOperation = new EnumMap<>(MetricsOperation.class);
+            for (MetricsOperation operation : OPERATIONS) {
+                final OperationMetrics operationMetrics = metrics.get(operation.ordinal());
+                if (operationMetrics != null) {
+                    byOperation.put(operation, operationMetrics);
+                }
+            }
+            allMetrics.put(entityClass, byOperation);
+        });
+        return allMetrics;
+    }
+
+    private OperationMetrics metricsFor(Class<?> entityClass, MetricsOperation operation) {
+        final AtomicReferenceArray<OperationMetrics> metrics = metricsByClass.get(entityClass);
+        final int index = operation.ordinal();
+        final OperationMetrics existing = metrics.get(index);
+        if (existing != null) {
+            return existing;
+        }
+        final OperationMetrics created = new OperationMetrics();
+        return metrics.compareAndSet(index, null, created) ? created : metrics.get(index);
+    }
+}
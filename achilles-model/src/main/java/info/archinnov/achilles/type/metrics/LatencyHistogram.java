@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets.
+ * <br/>
+ * Values below 64 ns are counted exactly; above, each power of two is split
+ * into 32 linear sub-buckets, giving a relative error of about 3%.
+ * Values are tracked up to 2<sup>42</sup> ns (~73 minutes), greater values are clamped.
+ * <br/>
+ * Recording is allocation-free and only uses atomic increments so it can be
+ * called concurrently from any thread
+ */
+public class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    static final int MAX_MAGNITUDE = 42;
+    static final long MAX_TRACKABLE_VALUE = (1L << MAX_MAGNITUDE) - 1;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalValue = new LongAdder();
+    private final LongAccumulator maxValue = new LongAccumulator(Long::max, 0L);
+
+    public void record(long valueNanos) {
+        final long value = valueNanos < 0 ? 0 : Math.min(valueNanos, MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalValue.add(value);
+        maxValue.accumulate(value);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMax(TimeUnit unit) {
+        return unit.convert(maxValue.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMean(TimeUnit unit) {
+        final long count = totalCount.sum();
+        return count == 0 ? 0L : unit.convert(totalValue.sum() / count, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Value under which the given percentage of recorded values fall.
+     * The highest value of the matching bucket is returned, capped by the max recorded value
+     *
+     * @param percentile percentile between 0 and 100
+     * @param unit       time unit of the returned value
+     * @return value at percentile, 0 if nothing has been recorded
+     */
+    public long getValueAtPercentile(double percentile, TimeUnit unit) {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        final double boundedPercentile = Math.min(Math.max(percentile, 0d), 100d);
+        final long targetCount = Math.max(1L, (long) Math.ceil(boundedPercentile / 100d * count));
+        long cumulated = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulated += snapshot[i];
+            if (cumulated >= targetCount) {
+                return unit.convert(Math.min(highestValueOf(i), maxValue.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return unit.convert(maxValue.get(), TimeUnit.NANOSECONDS);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS + 1)) & (HALF_SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + (magnitude - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long lowestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int offset = index - SUB_BUCKET_COUNT;
+        final int magnitude = offset / HALF_SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        final long subBucket = HALF_SUB_BUCKET_COUNT + offset % HALF_SUB_BUCKET_COUNT;
+        return subBucket << (magnitude - SUB_BUCKET_BITS + 1);
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int magnitude = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        final long bucketWidth = 1L << (magnitude - SUB_BUCKET_BITS + 1);
+        return lowestValueOf(index) + bucketWidth - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{" +
+                "count=" + getCount() +
+                ", meanMicros=" + getMean(TimeUnit.MICROSECONDS) +
+                ", p99Micros=" + getValueAtPercentile(99d, TimeUnit.MICROSECONDS) +
+                ", maxMicros=" + getMax(TimeUnit.MICROSECONDS) +
+                '}';
+    }
+}
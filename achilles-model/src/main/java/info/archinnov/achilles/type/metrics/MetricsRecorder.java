@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.metrics;
+
+import java.util.function.IntSupplier;
+
+/**
+ * SPI to record operational metrics of <strong>Achilles</strong>.
+ * <br/>
+ * Methods are invoked on the hot path, from driver or executor threads,
+ * so implementations should be thread-safe, non-blocking and avoid allocations.
+ * <br/>
+ * A built-in implementation backed by lock-free histograms is provided
+ * by {@link HistogramMetricsRecorder}
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Recorder discarding all metrics, used when none is configured
+     */
+    MetricsRecorder NO_OP = new MetricsRecorder() {
+        @Override
+        public void recordExecution(Class<?> entityClass, MetricsOperation operation, long latencyNanos, ExecutionOutcome outcome) {
+        }
+
+        @Override
+        public void recordMapping(Class<?> entityClass, MetricsOperation operation, long mappingNanos, int rowsMapped) {
+        }
+    };
+
+    /**
+     * Record the time spent waiting on Cassandra for a statement,
+     * from submission to the driver until the result set (or error) is available
+     *
+     * @param entityClass  entity class the statement is issued for
+     * @param operation    kind of operation
+     * @param latencyNanos elapsed time in nanoseconds
+     * @param outcome      success, error or timeout
+     */
+    void recordExecution(Class<?> entityClass, MetricsOperation operation, long latencyNanos, ExecutionOutcome outcome);
+
+    /**
+     * Record the time spent mapping returned rows into entities or typed maps
+     *
+     * @param entityClass  entity class the statement is issued for
+     * @param operation    kind of operation
+     * @param mappingNanos elapsed mapping time in nanoseconds
+     * @param rowsMapped   number of rows mapped
+     */
+    void recordMapping(Class<?> entityClass, MetricsOperation operation, long mappingNanos, int rowsMapped);
+
+    /**
+     * Called once at bootstrap when the executor service used by <strong>Achilles</strong>
+     * exposes its task queue, to let the recorder sample the queue depth
+     *
+     * @param queueDepth supplier of the current executor queue depth
+     */
+    default void registerExecutorQueueDepth(IntSupplier queueDepth) {
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live metrics of one {@link MetricsOperation} for one entity class.
+ * <br/>
+ * Time spent waiting on Cassandra and time spent mapping rows are tracked
+ * by two distinct histograms
+ */
+public class OperationMetrics {
+
+    private final long creationNanos = System.nanoTime();
+    private final LatencyHistogram cassandraLatency = new LatencyHistogram();
+    private final LatencyHistogram mappingLatency = new LatencyHistogram();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rowsMapped = new LongAdder();
+
+    void recordExecution(long latencyNanos, ExecutionOutcome outcome) {
+        cassandraLatency.record(latencyNanos);
+        switch (outcome) {
+            case SUCCESS:
+                successes.increment();
+                break;
+            case TIMEOUT:
+                timeouts.increment();
+                break;
+            default:
+                errors.increment();
+        }
+    }
+
+    void recordMapping(long mappingNanos, int rows) {
+        mappingLatency.record(mappingNanos);
+        rowsMapped.add(rows);
+    }
+
+    public LatencyHistogram getCassandraLatency() {
+        return cassandraLatency;
+    }
+
+    public LatencyHistogram getMappingLatency() {
+        return mappingLatency;
+    }
+
+    public long getExecutionCount() {
+        return cassandraLatency.getCount();
+    }
+
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public long getRowsMappedCount() {
+        return rowsMapped.sum();
+    }
+
+    /**
+     * Average number of executions per second since the first recording
+     *
+     * @return throughput in executions per second
+     */
+    public double getThroughputPerSecond() {
+        final long elapsedNanos = Math.max(1L, System.nanoTime() - creationNanos);
+        return getExecutionCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics{" +
+                "executions=" + getExecutionCount() +
+                ", errors=" + getErrorCount() +
+                ", timeouts=" + getTimeoutCount() +
+                ", rowsMapped=" + getRowsMappedCount() +
+                ", cassandraLatency=" + cassandraLatency +
+                ", mappingLatency=" + mappingLatency +
+                '}';
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.metrics;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the server-side timings aggregated for one tracing stage
+ * of sampled statements, per entity class, operation and source node.
+ * <br/>
+ * The duration of a stage is the time elapsed on the source node between the
+ * previous trace event and the event of this stage
+ */
+public class TraceStageSummary {
+
+    private final Class<?> entityClass;
+    private final MetricsOperation operation;
+    private final String source;
+    private final String stage;
+    private final long count;
+    private final long totalMicros;
+    private final long maxMicros;
+
+    public TraceStageSummary(Class<?> entityClass, MetricsOperation operation, String source, String stage,
+                             long count, long totalMicros, long maxMicros) {
+        this.entityClass = entityClass;
+        this.operation = operation;
+        this.source = source;
+        this.stage = stage;
+        this.count = count;
+        this.totalMicros = totalMicros;
+        this.maxMicros = maxMicros;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    public MetricsOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return address of the node which emitted the trace events
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return trace event description with numbers and addresses replaced by placeholders
+     */
+    public String getStage() {
+        return stage;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public double getMeanMicros() {
+        return count == 0 ? 0d : (double) totalMicros / count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TraceStageSummary that = (TraceStageSummary) o;
+        return count == that.count &&
+                totalMicros == that.totalMicros &&
+                maxMicros == that.maxMicros &&
+                Objects.equals(entityClass, that.entityClass) &&
+                operation == that.operation &&
+                Objects.equals(source, that.source) &&
+                Objects.equals(stage, that.stage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityClass, operation, source, stage, count, totalMicros, maxMicros);
+    }
+
+    @Override
+    public String toString() {
+        return "TraceStageSummary{" +
+                "entityClass=" + (entityClass == null ? null : entityClass.getCanonicalName()) +
+                ", operation=" + operation +
+                ", source='" + source + '\'' +
+                ", stage='" + stage + '\'' +
+                ", count=" + count +
+                ", totalMicros=" + totalMicros +
+                ", maxMicros=" + maxMicros +
+                '}';
+    }
+}
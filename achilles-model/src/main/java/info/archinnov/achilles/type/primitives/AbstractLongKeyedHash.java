@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.primitives;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table with linear probing on <strong>long</strong> keys, shared
+ * by the long-keyed primitive sets and maps.
+ * <br/>
+ * <br/>
+ * The key 0 marks free slots so an actual 0 key is tracked by a flag and its value, if any,
+ * is stored at index <em>keys.length</em> of the value array. Removal uses backward-shift
+ * deletion so there is no tombstone
+ */
+abstract class AbstractLongKeyedHash {
+
+    static final long FREE_KEY = 0;
+    static final float LOAD_FACTOR = 0.75f;
+    static final int MIN_CAPACITY = 4;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    long[] keys;
+    boolean hasFreeKey;
+    int size;
+    private int mask;
+    private int resizeAt;
+
+    AbstractLongKeyedHash(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove the key, or the element for the sets
+     *
+     * @return true if the key was present
+     */
+    public boolean remove(long key) {
+        final int index = indexOf(key);
+        if (index < 0) return false;
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Remove all keys, keeping the current capacity
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        hasFreeKey = false;
+        size = 0;
+        clearValues();
+    }
+
+    /**
+     * Copy of all the keys, in no particular order
+     */
+    public long[] keys() {
+        final long[] result = new long[size];
+        int i = 0;
+        for (int index = nextIndex(0); index >= 0; index = nextIndex(index + 1)) {
+            result[i++] = keyAt(index);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final AbstractLongKeyedHash that = (AbstractLongKeyedHash) o;
+        if (size != that.size) return false;
+        for (int index = nextIndex(0); index >= 0; index = nextIndex(index + 1)) {
+            final int thatIndex = that.indexOf(keyAt(index));
+            if (thatIndex < 0 || !valueEquals(index, that, thatIndex)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int index = nextIndex(0); index >= 0; index = nextIndex(index + 1)) {
+            hashCode += hash(keyAt(index)) ^ valueHashCode(index);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        for (int index = nextIndex(0); index >= 0; index = nextIndex(index + 1)) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(keyAt(index));
+            appendValue(sb, index);
+        }
+        return sb.append('}').toString();
+    }
+
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size should be positive or zero, got " + expectedSize);
+        }
+        final long minCapacity = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Cannot allocate a hash table for " + expectedSize + " keys");
+        }
+        return Integer.highestOneBit((int) minCapacity - 1) << 1;
+    }
+
+    static int mix(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int hash(long key) {
+        return Long.hashCode(key);
+    }
+
+    /**
+     * Iterate over the stored keys with
+     * <em>for (int index = nextIndex(0); index >= 0; index = nextIndex(index + 1))</em>,
+     * the 0 key, if present, comes last at index <em>keys.length</em>
+     *
+     * @return the index of the first key stored at or after the given index, or -1 if there is none
+     */
+    final int nextIndex(int index) {
+        for (int i = index; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) return i;
+        }
+        return hasFreeKey && index <= keys.length ? keys.length : -1;
+    }
+
+    final long keyAt(int index) {
+        return index == keys.length ? FREE_KEY : keys[index];
+    }
+
+    /**
+     * @return the index of the key or -1 if absent
+     */
+    final int indexOf(long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? keys.length : -1;
+        }
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the key if it was already present, or <em>-index - 1</em> if it has just been inserted
+     */
+    final int insert(long key) {
+        if (key == FREE_KEY) {
+            if (hasFreeKey) return keys.length;
+            hasFreeKey = true;
+            size++;
+            return -keys.length - 1;
+        }
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            if (current == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > resizeAt) {
+            if (keys.length == MAX_CAPACITY) {
+                throw new IllegalStateException("Maximum capacity reached, cannot insert more keys");
+            }
+            rehash(keys.length << 1);
+            slot = indexOf(key);
+        }
+        return -slot - 1;
+    }
+
+    final void removeAt(int index) {
+        size--;
+        if (index == keys.length) {
+            hasFreeKey = false;
+            clearValue(index);
+            return;
+        }
+        int gap = index;
+        int slot = (gap + 1) & mask;
+        long current;
+        while ((current = keys[slot]) != FREE_KEY) {
+            final int ideal = mix(current) & mask;
+            // Shift back the key if the gap lies on its probing path
+            if (((slot - ideal) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = current;
+                moveValue(slot, gap);
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+        clearValue(gap);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+        allocateValues(capacity + 1);
+    }
+
+    private void rehash(int newCapacity) {
+        final long[] oldKeys = keys;
+        final Object oldValues = values();
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != FREE_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                transferValue(oldValues, i, slot);
+            }
+        }
+        if (hasFreeKey) {
+            transferValue(oldValues, oldKeys.length, keys.length);
+        }
+    }
+
+    // Hooks for the value array of the maps, no-op for the sets
+    void allocateValues(int length) {
+    }
+
+    Object values() {
+        return null;
+    }
+
+    void transferValue(Object oldValues, int from, int to) {
+    }
+
+    void moveValue(int from, int to) {
+    }
+
+    void clearValue(int index) {
+    }
+
+    void clearValues() {
+    }
+
+    boolean valueEquals(int index, AbstractLongKeyedHash that, int thatIndex) {
+        return true;
+    }
+
+    int valueHashCode(int index) {
+        return 0;
+    }
+
+    void appendValue(StringBuilder sb, int index) {
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.primitives;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Compact set of primitive <strong>int</strong>, mapped to a Cassandra <strong>set&lt;int&gt;</strong> column
+ * without boxing.
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Column
+ * <strong>private IntSet ids;</strong>
+ * </code></pre>
+ * This class is not thread-safe
+ */
+public class IntSet extends AbstractIntKeyedHash {
+
+    public IntSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of elements the set can hold without resizing
+     */
+    public IntSet(int expectedSize) {
+        super(expectedSize);
+    }
+
+    public static IntSet of(int... elements) {
+        final IntSet set = new IntSet(elements.length);
+        for (int element : elements) {
+            set.add(element);
+        }
+        return set;
+    }
+
+    /**
+     * @return true if the element was not already present
+     */
+    public boolean add(int element) {
+        return insert(element) < 0;
+    }
+
+    public boolean contains(int element) {
+        return indexOf(element) >= 0;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int index = nextIndex(0); index >= 0; index = nextIndex(index + 1)) {
+            consumer.accept(keyAt(index));
+        }
+    }
+
+    /**
+     * Same as {@link #keys()}
+     */
+    public int[] toArray() {
+        return keys();
+    }
+}
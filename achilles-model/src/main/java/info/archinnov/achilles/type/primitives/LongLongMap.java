@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.primitives;
+
+import java.util.Arrays;
+
+/**
+ * Compact map of primitive <strong>long</strong> keys to primitive <strong>long</strong> values,
+ * mapped to a Cassandra <strong>map&lt;bigint, bigint&gt;</strong> column without boxing.
+ * <pre class="code"><code class="java">
+
+ * {@literal @}Column
+ * <strong>private LongLongMap features;</strong>
+ * </code></pre>
+ * This class is not thread-safe
+ */
+public class LongLongMap extends AbstractLongKeyedHash {
+
+    private long[] values;
+
+    public LongLongMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of entries the map can hold without resizing
+     */
+    public LongLongMap(int expectedSize) {
+        super(expectedSize);
+    }
+
+    public void put(long key, long value) {
+        final int index = insert(key);
+        values[index < 0 ? -index - 1 : index] = value;
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        final int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    public void forEach(EntryConsumer consumer) {
+        for (int index = nextIndex(0); index >= 0; index = nextIndex(index + 1)) {
+            consumer.accept(keyAt(index), values[index]);
+        }
+    }
+
+    @Override
+    void allocateValues(int length) {
+        values = new long[length];
+    }
+
+    @Override
+    Object values() {
+        return values;
+    }
+
+    @Override
+    void transferValue(Object oldValues, int from, int to) {
+        values[to] = ((long[]) oldValues)[from];
+    }
+
+    @Override
+    void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    void clearValue(int index) {
+        values[index] = 0;
+    }
+
+    @Override
+    void clearValues() {
+        Arrays.fill(values, 0);
+    }
+
+    @Override
+    boolean valueEquals(int index, AbstractLongKeyedHash that, int thatIndex) {
+        return values[index] == ((LongLongMap) that).values[thatIndex];
+    }
+
+    @Override
+    int valueHashCode(int index) {
+        return Long.hashCode(values[index]);
+    }
+
+    @Override
+    void appendValue(StringBuilder sb, int index) {
+        sb.append('=').append(values[index]);
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
@@ -31,10 +31,12 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 import org.reflections.Reflections;
@@ -42,13 +44,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.UserType;
 
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
+import info.archinnov.achilles.internals.metamodel.MetaClassIndex;
+import info.archinnov.achilles.internals.metamodel.MetaClassIndex.Kind;
 import info.archinnov.achilles.internals.schema.SchemaContext;
+import info.archinnov.achilles.internals.schema.SchemaDiff;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public class SchemaGenerator {
@@ -65,6 +73,7 @@ public class SchemaGenerator {
     private Optional<String> keyspace = Optional.empty();
     private boolean createIndex = true;
     private boolean createUdt = true;
+    private Optional<KeyspaceMetadata> liveKeyspace = Optional.empty();
 
     private SchemaGenerator(String keyspaceName) {
         this.keyspace = Optional.ofNullable(keyspaceName);
@@ -139,17 +148,40 @@ public class SchemaGenerator {
         return this;
     }
 
+    /**
+     * Generate only the DDL migrating the given live keyspace: missing tables, views, UDTs and indices
+     * are created, existing tables and UDTs only receive the ALTER statements for their new columns,
+     * new fields and default TTL changes
+     */
+    public SchemaGenerator withLiveSchema(KeyspaceMetadata liveKeyspace) {
+        this.liveKeyspace = Optional.of(liveKeyspace);
+        return this;
+    }
+
     @SuppressWarnings("")
     public String generate() {
         LOGGER.info("Start generating schema file ");
         validateNotBlank(keyspace.orElse(""), "Keyspace should be provided to generate schema");
         final SchemaContext context = new SchemaContext(keyspace.get(), createUdt, createIndex);
-        ReflectionsHelper.registerUrlTypes(".mar", ".jnilib", ".zip");
-        Reflections reflections = new Reflections(newHashSet(ENTITY_META_PACKAGE, UDT_META_PACKAGE), this.getClass().getClassLoader());
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        final MetaClassIndex metaClassIndex = MetaClassIndex.load(classLoader);
+        final Collection<Class<? extends AbstractEntityProperty>> entityMetaClasses;
+        final Collection<Class<? extends AbstractUDTClassProperty>> udtMetaClasses;
+        if (metaClassIndex.isEmpty()) {
+            LOGGER.info(format("No meta class index '%s' found, scanning the classpath", MetaClassIndex.INDEX_RESOURCE));
+            ReflectionsHelper.registerUrlTypes(".mar", ".jnilib", ".zip");
+            Reflections reflections = new Reflections(newHashSet(ENTITY_META_PACKAGE, UDT_META_PACKAGE), classLoader);
+            entityMetaClasses = reflections.getSubTypesOf(AbstractEntityProperty.class);
+            udtMetaClasses = reflections.getSubTypesOf(AbstractUDTClassProperty.class);
+        } else {
+            LOGGER.info(format("Reading meta classes from index '%s'", MetaClassIndex.INDEX_RESOURCE));
+            // Same meta classes as the classpath scan, which does not pick up the view metas
+            entityMetaClasses = metaClassIndex.loadClasses(classLoader, AbstractEntityProperty.class, Kind.ENTITY);
+            udtMetaClasses = metaClassIndex.loadClasses(classLoader, AbstractUDTClassProperty.class, Kind.UDT);
+        }
         StringBuilder builder = new StringBuilder();
 
-        final List<AbstractEntityProperty<?>> entityMetas = reflections
-                .getSubTypesOf(AbstractEntityProperty.class)
+        final List<AbstractEntityProperty<?>> entityMetas = entityMetaClasses
                 .stream()
                 .map(x -> Tuple2.of(x.getCanonicalName(), (Class<AbstractEntityProperty<?>>) x))
                 .sorted(BY_NAME_ENTITY_CLASS_SORTER)
@@ -166,8 +198,7 @@ public class SchemaGenerator {
         //Generate UDT BEFORE tables
         if (context.createUdt) {
             LOGGER.info(format("Generating schema for UDT"));
-            final List<AbstractUDTClassProperty<?>> udtMetas = reflections
-                    .getSubTypesOf(AbstractUDTClassProperty.class)
+            final List<AbstractUDTClassProperty<?>> udtMetas = udtMetaClasses
                     .stream()
                     .map(x -> Tuple2.of(x.getCanonicalName(), (Class<AbstractUDTClassProperty<?>>) x))
                     .sorted(BY_NAME_UDT_CLASS_SORTER)
@@ -181,7 +212,7 @@ public class SchemaGenerator {
             for (AbstractUDTClassProperty<?> instance : udtMetas) {
                 instance.injectKeyspace(keyspace.get());
                 instance.inject(USER_TYPE_FACTORY, TUPLE_TYPE_FACTORY);
-                builder.append(instance.generateSchema(context));
+                builder.append(generateUDTSchema(context, instance));
             }
 
         }
@@ -208,12 +239,40 @@ public class SchemaGenerator {
 
         for (AbstractEntityProperty<?> instance : entityMetas) {
             instance.inject(USER_TYPE_FACTORY, TUPLE_TYPE_FACTORY);
-            builder.append(instance.generateSchema(context));
+            builder.append(generateEntitySchema(context, instance));
         }
 
         return builder.toString();
     }
 
+    private String generateUDTSchema(SchemaContext context, AbstractUDTClassProperty<?> instance) {
+        final Optional<UserType> liveType = liveKeyspace.map(x -> x.getUserType(instance.udtName));
+        if (liveType.isPresent()) {
+            return String.join("\n", SchemaDiff.alterUDT(context, instance, liveType.get()));
+        }
+        return instance.generateSchema(context);
+    }
+
+    private String generateEntitySchema(SchemaContext context, AbstractEntityProperty<?> instance) {
+        if (!liveKeyspace.isPresent()) {
+            return instance.generateSchema(context);
+        }
+
+        final String tableOrViewName = instance.getTableOrViewName();
+        if (instance.isView()) {
+            return liveKeyspace.get().getMaterializedView(tableOrViewName) == null ? instance.generateSchema(context) : "";
+        }
+
+        final Optional<TableMetadata> liveTable = Optional.ofNullable(liveKeyspace.get().getTable(tableOrViewName));
+        if (!liveTable.isPresent()) {
+            return instance.generateSchema(context);
+        }
+        final StringJoiner joiner = new StringJoiner("\n\n");
+        SchemaDiff.alterTable(context, instance, liveTable.get()).forEach(joiner::add);
+        SchemaDiff.missingIndices(context, instance, liveTable).forEach(joiner::add);
+        return joiner.toString();
+    }
+
     public void generateTo(Appendable appendable) throws IOException {
         final String schemaString = generate();
         appendable.append(schemaString);
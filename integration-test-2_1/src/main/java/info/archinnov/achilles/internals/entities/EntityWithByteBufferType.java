@@ -18,9 +18,11 @@ package info.archinnov.achilles.internals.entities;
 
 import java.nio.ByteBuffer;
 
+import info.archinnov.achilles.annotations.Codec;
 import info.archinnov.achilles.annotations.Column;
 import info.archinnov.achilles.annotations.PartitionKey;
 import info.archinnov.achilles.annotations.Table;
+import info.archinnov.achilles.type.codec.ReadOnlyByteBufferCodec;
 
 @Table(table = EntityWithByteBufferType.TABLE)
 public class EntityWithByteBufferType {
@@ -33,6 +35,10 @@ public class EntityWithByteBufferType {
     @Column
     private ByteBuffer value;
 
+    @Column("readonly_value")
+    @Codec(ReadOnlyByteBufferCodec.class)
+    private ByteBuffer readOnlyValue;
+
     public EntityWithByteBufferType() {
     }
 
@@ -56,4 +62,12 @@ public class EntityWithByteBufferType {
     public void setValue(ByteBuffer value) {
         this.value = value;
     }
+
+    public ByteBuffer getReadOnlyValue() {
+        return readOnlyValue;
+    }
+
+    public void setReadOnlyValue(ByteBuffer readOnlyValue) {
+        this.readOnlyValue = readOnlyValue;
+    }
 }
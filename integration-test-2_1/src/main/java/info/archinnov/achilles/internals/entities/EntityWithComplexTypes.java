@@ -35,6 +35,7 @@ import info.archinnov.achilles.internals.codecs.IntToStringCodec;
 import info.archinnov.achilles.internals.codecs.StringToLongCodec;
 import info.archinnov.achilles.internals.types.ClassAnnotatedByCodec;
 import info.archinnov.achilles.internals.types.IntWrapper;
+import info.archinnov.achilles.type.primitives.IntDoubleMap;
 import info.archinnov.achilles.type.tuples.Tuple1;
 import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
@@ -189,6 +190,13 @@ public class EntityWithComplexTypes {
     @Column
     private String ascii;
 
+    @Column("compressed_text")
+    @Compressed(threshold = 32)
+    private String compressedText;
+
+    @Column("feature_weights")
+    private IntDoubleMap featureWeights;
+
     public Long getId() {
         return id;
     }
@@ -540,4 +548,20 @@ public class EntityWithComplexTypes {
     public void setAscii(String ascii) {
         this.ascii = ascii;
     }
+
+    public String getCompressedText() {
+        return compressedText;
+    }
+
+    public void setCompressedText(String compressedText) {
+        this.compressedText = compressedText;
+    }
+
+    public IntDoubleMap getFeatureWeights() {
+        return featureWeights;
+    }
+
+    public void setFeatureWeights(IntDoubleMap featureWeights) {
+        this.featureWeights = featureWeights;
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.interceptor.AsyncInterceptor;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.InterceptorStats;
+
+public class TestAsyncInterceptorsSimpleEntity {
+
+    public static AsyncInterceptor<SimpleEntity> asyncPreInsert = new AsyncInterceptor<SimpleEntity>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(SimpleEntity.class);
+        }
+
+        @Override
+        public CompletionStage<Void> onEventAsync(SimpleEntity entity, Event event) {
+            return CompletableFuture.runAsync(() -> {
+                sleep(50);
+                entity.setValue("asyncPreInsert_" + entity.getValue());
+            });
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.PRE_INSERT);
+        }
+    };
+
+    public static AsyncInterceptor<SimpleEntity> failOpenPostInsert = new AsyncInterceptor<SimpleEntity>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(SimpleEntity.class);
+        }
+
+        @Override
+        public CompletionStage<Void> onEventAsync(SimpleEntity entity, Event event) {
+            return CompletableFuture.runAsync(() -> {
+                throw new IllegalStateException("audit store unavailable");
+            });
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.POST_INSERT);
+        }
+
+        @Override
+        public FailurePolicy failurePolicy() {
+            return FailurePolicy.FAIL_OPEN;
+        }
+    };
+
+    public static AsyncInterceptor<SimpleEntity> failClosedPreUpdate = new AsyncInterceptor<SimpleEntity>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(SimpleEntity.class);
+        }
+
+        @Override
+        public CompletionStage<Void> onEventAsync(SimpleEntity entity, Event event) {
+            return CompletableFuture.runAsync(() -> {
+                throw new AchillesException("cache invalidation failed");
+            });
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.PRE_UPDATE);
+        }
+    };
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEventInterceptors(asList(asyncPreInsert, failOpenPostInsert, failClosedPreUpdate))
+                    .build());
+
+    private Session session = resource.getNativeSession();
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_compose_async_interceptors_for_insert() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final SimpleEntity entity = new SimpleEntity(id, new Date(), "value");
+
+        //When
+        manager
+                .crud()
+                .insert(entity)
+                .executeAsync()
+                .get();
+
+        //Then
+        final Row row = session.execute("SELECT * FROM simple WHERE id = " + id).one();
+        assertThat(row.getString("value")).isEqualTo("asyncPreInsert_value");
+
+        final InterceptorStats preInsertStats = resource.getManagerFactory().getAsyncInterceptorStats().get(asyncPreInsert);
+        assertThat(preInsertStats.getInvocationCount()).isGreaterThanOrEqualTo(1L);
+        assertThat(preInsertStats.getFailureCount()).isEqualTo(0L);
+        assertThat(preInsertStats.getMaxLatency(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50L);
+
+        final InterceptorStats postInsertStats = resource.getManagerFactory().getAsyncInterceptorStats().get(failOpenPostInsert);
+        assertThat(postInsertStats.getFailureCount()).isEqualTo(postInsertStats.getInvocationCount());
+    }
+
+    @Test
+    public void should_fail_update_when_fail_closed_interceptor_fails() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final SimpleEntity entity = new SimpleEntity(id, new Date(), "value");
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("cache invalidation failed");
+
+        manager
+                .crud()
+                .update(entity)
+                .execute();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -183,6 +184,43 @@ public class TestBeanValidation {
                 .containsEntry("0", "default");
     }
 
+    @Test
+    public void should_validate_all_entities_and_report_all_violations() throws Exception {
+        //Given
+        final TestUDT udt = new TestUDT("test@test.com", asList("list"), ImmutableMap.of(1, "one"));
+        final List<EntityWithBeanValidation> entities = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entities.add(new EntityWithBeanValidation(RandomUtils.nextLong(0L, Long.MAX_VALUE), "value", asList("1"), udt));
+        }
+        entities.add(new EntityWithBeanValidation(RandomUtils.nextLong(0L, Long.MAX_VALUE), "", asList("1"), udt));
+        entities.add(new EntityWithBeanValidation(RandomUtils.nextLong(0L, Long.MAX_VALUE), "value", new ArrayList<>(), udt));
+
+        //When
+        try {
+            manager.validateAll(entities, PRE_INSERT);
+            fail("Expected AchillesBeanValidationException");
+        } catch (AchillesBeanValidationException ex) {
+            //Then
+            assertThat(ex.getMessage())
+                    .startsWith("Bean validation error on event 'PRE_INSERT' : \n")
+                    .contains("property 'value' of class 'info.archinnov.achilles.internals.entities.EntityWithBeanValidation' may not be empty")
+                    .contains("property 'list' of class 'info.archinnov.achilles.internals.entities.EntityWithBeanValidation' may not be empty");
+        }
+    }
+
+    @Test
+    public void should_validate_all_valid_entities() throws Exception {
+        //Given
+        final TestUDT udt = new TestUDT("test@test.com", asList("list"), ImmutableMap.of(1, "one"));
+        final List<EntityWithBeanValidation> entities = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entities.add(new EntityWithBeanValidation(RandomUtils.nextLong(0L, Long.MAX_VALUE), "value", asList("1"), udt));
+        }
+
+        //When
+        manager.validateAll(entities, PRE_INSERT);
+    }
+
     @Test
     public void should_fail_on_post_load() throws Exception {
         //Given
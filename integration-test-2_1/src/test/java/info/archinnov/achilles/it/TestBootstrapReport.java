@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.datastax.driver.core.Cluster;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.bootstrap.BootstrapPhase;
+import info.archinnov.achilles.type.bootstrap.BootstrapReport;
+import info.archinnov.achilles.type.bootstrap.BootstrapStep;
+
+public class TestBootstrapReport {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withBootstrapReportLogging(true)
+                    .build());
+
+    @Test
+    public void should_report_bootstrap_phases_per_entity() throws Exception {
+        //Given
+        final ManagerFactory managerFactory = resource.getManagerFactory();
+
+        //When
+        final BootstrapReport report = managerFactory.getBootstrapReport();
+
+        //Then
+        assertThat(report.getPhases()).extracting("phase").containsExactly(
+                BootstrapPhase.ADD_NATIVE_CODECS,
+                BootstrapPhase.INJECT_DEPENDENCIES,
+                BootstrapPhase.CREATE_SCHEMA,
+                BootstrapPhase.VALIDATE_SCHEMA,
+                BootstrapPhase.PREPARE_STATIC_STATEMENTS);
+
+        final List<BootstrapStep> steps = report.getTargetSteps(SimpleEntity.class);
+        assertThat(steps).extracting("phase").containsExactly(
+                BootstrapPhase.INJECT_DEPENDENCIES,
+                BootstrapPhase.CREATE_SCHEMA,
+                BootstrapPhase.VALIDATE_SCHEMA,
+                BootstrapPhase.PREPARE_STATIC_STATEMENTS);
+        assertThat(steps.get(2).getMetadataLookups()).isEqualTo(2L);
+        assertThat(steps.get(3).getStatementsPrepared()).isGreaterThan(0L);
+        assertThat(report.getRoundTrips()).isGreaterThanOrEqualTo(steps.get(1).getRoundTrips() + steps.get(3).getStatementsPrepared());
+    }
+
+    @Test
+    public void should_skip_validation_of_entities_whose_schema_did_not_change() throws Exception {
+        //Given
+        final String cacheFile = temporaryFolder.getRoot().getAbsolutePath() + "/schema-validation.properties";
+        final Cluster cluster = resource.getNativeSession().getCluster();
+
+        //When
+        final ManagerFactory firstFactory = buildWithSchemaValidationCache(cluster, cacheFile);
+        final ManagerFactory secondFactory = buildWithSchemaValidationCache(cluster, cacheFile);
+
+        //Then
+        assertThat(firstFactory.getBootstrapReport().getPhase(BootstrapPhase.VALIDATE_SCHEMA).get().getMetadataLookups()).isEqualTo(2L);
+        assertThat(secondFactory.getBootstrapReport().getPhase(BootstrapPhase.VALIDATE_SCHEMA).get().getMetadataLookups()).isEqualTo(0L);
+
+        firstFactory.shutDown();
+        secondFactory.shutDown();
+    }
+
+    @Test
+    public void should_not_send_schema_statements_for_existing_tables() throws Exception {
+        //Given
+        final Cluster cluster = resource.getNativeSession().getCluster();
+
+        //When
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(SimpleEntity.class)
+                .doForceSchemaCreation(true)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .build();
+
+        //Then
+        final BootstrapReport report = managerFactory.getBootstrapReport();
+        assertThat(report.getPhase(BootstrapPhase.CREATE_SCHEMA).get().getRoundTrips()).isEqualTo(0L);
+        assertThat(report.getTargetSteps(SimpleEntity.class)).extracting("phase").contains(BootstrapPhase.CREATE_SCHEMA);
+
+        managerFactory.shutDown();
+    }
+
+    private ManagerFactory buildWithSchemaValidationCache(Cluster cluster, String cacheFile) {
+        return ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(SimpleEntity.class)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .withSchemaValidationCacheFile(cacheFile)
+                .build();
+    }
+}
@@ -31,6 +31,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.ExecutionInfo;
@@ -40,6 +41,7 @@ import com.datastax.driver.core.policies.DowngradingConsistencyRetryPolicy;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.dsl.SimpleEntity_Delete;
@@ -47,6 +49,7 @@ import info.archinnov.achilles.generated.dsl.SimpleEntity_Select;
 import info.archinnov.achilles.generated.dsl.SimpleEntity_Update;
 import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
 import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.internals.entities.SimpleEntitySummary;
 import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
@@ -71,6 +74,9 @@ public class TestDSLSimpleEntity {
                 .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
             .build());
 
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
     private Session session = resource.getNativeSession();
     private ScriptExecutor scriptExecutor = resource.getScriptExecutor();
     private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
@@ -474,6 +480,99 @@ public class TestDSLSimpleEntity {
         assertThat(iterator.hasNext()).isFalse();
     }
 
+    @Test
+    public void should_dsl_select_as_projection() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+
+        //When
+        final List<SimpleEntitySummary> list = manager
+                .dsl()
+                .select()
+                .date()
+                .value()
+                .consistencyList()
+                .fromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .as(SimpleEntitySummary.class)
+                .getList();
+
+        //Then
+        assertThat(list).hasSize(1);
+        final SimpleEntitySummary actual = list.get(0);
+        assertThat(actual.getDate()).isEqualTo(date);
+        assertThat(actual.getValue()).isEqualTo("0 AM");
+        assertThat(actual.getConsistencyList()).containsExactly(ConsistencyLevel.QUORUM, ConsistencyLevel.LOCAL_ONE);
+    }
+
+    @Test
+    public void should_dsl_select_as_projection_with_iterator() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss z");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+        final Date date1 = dateFormat.parse("2015-10-01 00:00:00 GMT");
+        final Date date4 = dateFormat.parse("2015-10-04 00:00:00 GMT");
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        //When
+        final Iterator<SimpleEntitySummary> iterator = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Gte_And_Lt(date1, date4)
+                .withFetchSize(2)
+                .as(SimpleEntitySummary.class)
+                .iterator();
+
+        //Then
+        assertThat(iterator.next().getValue()).isEqualTo("id - date1");
+        assertThat(iterator.next().getValue()).isEqualTo("id - date2");
+        assertThat(iterator.next().getConsistencyList()).containsExactly(THREE);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    public void should_fail_dsl_select_as_projection_when_column_not_selected() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = buildDateKey();
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id, "table", "simple"));
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Column 'consistencylist' required by projection '" + SimpleEntitySummary.class.getCanonicalName() + "' is not selected");
+
+        manager
+                .dsl()
+                .select()
+                .date()
+                .value()
+                .fromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .as(SimpleEntitySummary.class)
+                .getOne();
+    }
+
     @Test
     public void should_dsl_delete() throws Exception {
         //Given
@@ -21,6 +21,7 @@ import static com.datastax.driver.core.DataType.*;
 import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.nio.ByteBuffer;
 import java.text.ParseException;
@@ -29,6 +30,7 @@ import java.time.Instant;
 import java.util.*;
 
 import org.apache.commons.lang3.RandomUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -52,6 +54,7 @@ import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
 import info.archinnov.achilles.type.codec.CodecSignature;
+import info.archinnov.achilles.type.primitives.IntDoubleMap;
 import info.archinnov.achilles.type.tuples.Tuple1;
 import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
@@ -139,6 +142,11 @@ public class TestEntityWithComplexTypes {
         entity.setOptionalEncodingAsOrdinal(Optional.of(ProtocolVersion.V2));
         entity.setListOfOptional(Arrays.asList(Optional.of("1"), Optional.of("2")));
         entity.setAscii("ascii_value");
+        entity.setCompressedText(StringUtils.repeat("compressed_text ", 10));
+        final IntDoubleMap featureWeights = new IntDoubleMap();
+        featureWeights.put(1, 0.5);
+        featureWeights.put(0, 2.0);
+        entity.setFeatureWeights(featureWeights);
 
         //When
         manager
@@ -209,6 +217,8 @@ public class TestEntityWithComplexTypes {
         assertThat(actual.getInt("optionalencodingasordinal")).isEqualTo(1);
         assertThat(actual.getList("listofoptional", String.class)).containsExactly("1", "2");
         assertThat(actual.getString("ascii")).isEqualTo("ascii_value");
+        assertThat(actual.getBytes("compressed_text").get(0)).isEqualTo((byte) 0x01);
+        assertThat(actual.getMap("feature_weights", Integer.class, Double.class)).containsOnly(entry(1, 0.5), entry(0, 2.0));
     }
 
     @Test
@@ -272,6 +282,9 @@ public class TestEntityWithComplexTypes {
         assertThat(actual.getOptionalEncodingAsOrdinal()).isEqualTo(Optional.of(ProtocolVersion.V2));
         assertThat(actual.getListOfOptional()).isEqualTo(Arrays.asList(Optional.of("1"), Optional.of("2")));
         assertThat(actual.getAscii()).isEqualTo("ascii_value");
+        assertThat(actual.getCompressedText()).isEqualTo("compressed");
+        assertThat(actual.getFeatureWeights().getOrDefault(1, 0)).isEqualTo(0.5);
+        assertThat(actual.getFeatureWeights().getOrDefault(0, 0)).isEqualTo(2.0);
     }
 
     @Test
@@ -0,0 +1,226 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.EntityWithLazyColumns_Manager;
+import info.archinnov.achilles.internals.entities.EntityWithLazyColumns;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.interceptor.Interceptor;
+
+public class TestEntityWithLazyColumns {
+
+    private final List<String> loadedNotes = new CopyOnWriteArrayList<>();
+
+    private final Interceptor<EntityWithLazyColumns> postLoad = new Interceptor<EntityWithLazyColumns>() {
+        @Override
+        public boolean acceptEntity(Class<?> entityClass) {
+            return entityClass.equals(EntityWithLazyColumns.class);
+        }
+
+        @Override
+        public void onEvent(EntityWithLazyColumns entity, Event event) {
+            loadedNotes.add(String.valueOf(entity.getNotes()));
+        }
+
+        @Override
+        public List<Event> interceptOnEvents() {
+            return asList(Event.POST_LOAD);
+        }
+    };
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(EntityWithLazyColumns.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(EntityWithLazyColumns.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEventInterceptors(asList(postLoad))
+                    .build());
+
+    private ScriptExecutor scriptExecutor = resource.getScriptExecutor();
+    private EntityWithLazyColumns_Manager manager = resource.getManagerFactory().forEntityWithLazyColumns();
+
+    @Test
+    public void should_find_without_lazy_columns() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityWithLazyColumns/insert_single_row.cql", ImmutableMap.of("id", id));
+
+        //When
+        final EntityWithLazyColumns actual = manager.crud().findById(id).get();
+
+        //Then
+        assertThat(manager.crud().findById(id).getStatementAsString())
+                .isEqualTo("SELECT id,name FROM achilles_embedded.entity_lazy_columns WHERE id=:id;");
+        assertThat(actual.getName()).isEqualTo("john");
+        assertThat(actual.getAvatar()).isNull();
+        assertThat(actual.getHistory()).isNull();
+        assertThat(actual.getNotes()).isNull();
+    }
+
+    @Test
+    public void should_find_with_lazy_groups() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityWithLazyColumns/insert_single_row.cql", ImmutableMap.of("id", id));
+
+        //When
+        final EntityWithLazyColumns actual = manager.crud().findById(id).withGroups("payload").get();
+
+        //Then
+        assertThat(actual.getName()).isEqualTo("john");
+        assertThat(actual.getAvatar()).isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+        assertThat(actual.getHistory()).containsExactly("login", "logout");
+        assertThat(actual.getNotes()).isNull();
+    }
+
+    @Test
+    public void should_load_lazy_group_into_existing_instance() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityWithLazyColumns/insert_single_row.cql", ImmutableMap.of("id", id));
+        final EntityWithLazyColumns entity = manager.crud().findById(id).get();
+
+        //When
+        final EntityWithLazyColumns actual = manager.crud().loadGroup(entity, "notes").getAsync().get();
+
+        //Then
+        assertThat(actual).isSameAs(entity);
+        assertThat(actual.getNotes()).isEqualTo("some notes");
+        assertThat(actual.getAvatar()).isNull();
+    }
+
+    @Test
+    public void should_insert_lazy_columns() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final EntityWithLazyColumns entity = new EntityWithLazyColumns(id, "jane",
+                ByteBuffer.wrap(new byte[]{9}), asList("signup"), "notes");
+
+        //When
+        manager.crud().insert(entity).execute();
+
+        //Then
+        final EntityWithLazyColumns actual = manager.crud().findById(id).withGroups("payload", "notes").get();
+        assertThat(actual.getAvatar()).isEqualTo(ByteBuffer.wrap(new byte[]{9}));
+        assertThat(actual.getHistory()).containsExactly("signup");
+        assertThat(actual.getNotes()).isEqualTo("notes");
+    }
+
+    @Test
+    public void should_keep_lazy_columns_when_inserting_entity_found_without_groups() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityWithLazyColumns/insert_single_row.cql", ImmutableMap.of("id", id));
+        final EntityWithLazyColumns entity = manager.crud().findById(id).get();
+        entity.setName("jane");
+
+        //When
+        manager.crud().insert(entity).execute();
+
+        //Then
+        final EntityWithLazyColumns actual = manager.crud().findById(id).withGroups("payload", "notes").get();
+        assertThat(actual.getName()).isEqualTo("jane");
+        assertThat(actual.getAvatar()).isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+        assertThat(actual.getHistory()).containsExactly("login", "logout");
+        assertThat(actual.getNotes()).isEqualTo("some notes");
+    }
+
+    @Test
+    public void should_write_null_into_eager_column_with_lazy_columns_unloaded() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityWithLazyColumns/insert_single_row.cql", ImmutableMap.of("id", id));
+        final EntityWithLazyColumns entity = manager.crud().findById(id).get();
+        entity.setName(null);
+
+        //When
+        manager.crud().insert(entity).execute();
+
+        //Then
+        final EntityWithLazyColumns actual = manager.crud().findById(id).withGroups("notes").get();
+        assertThat(actual.getName()).isNull();
+        assertThat(actual.getNotes()).isEqualTo("some notes");
+    }
+
+    @Test
+    public void should_clear_lazy_column_of_loaded_group_with_all_fields_strategy() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityWithLazyColumns/insert_single_row.cql", ImmutableMap.of("id", id));
+        final EntityWithLazyColumns entity = manager.crud().findById(id).withGroups("payload").get();
+        entity.setHistory(null);
+
+        //When
+        manager.crud().insert(entity).execute();
+
+        //Then
+        final EntityWithLazyColumns actual = manager.crud().findById(id).withGroups("payload", "notes").get();
+        assertThat(actual.getAvatar()).isEqualTo(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5}));
+        assertThat(actual.getHistory()).isNull();
+        assertThat(actual.getNotes()).isEqualTo("some notes");
+    }
+
+    @Test
+    public void should_trigger_post_load_interceptors_when_loading_group() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("EntityWithLazyColumns/insert_single_row.cql", ImmutableMap.of("id", id));
+        final EntityWithLazyColumns entity = manager.crud().findById(id).get();
+
+        //When
+        manager.crud().loadGroup(entity, "notes").get();
+
+        //Then
+        assertThat(loadedNotes).containsExactly("null", "some notes");
+    }
+
+    @Test(expected = AchillesException.class)
+    public void should_fail_loading_unknown_group() throws Exception {
+        //Given
+        final EntityWithLazyColumns entity = new EntityWithLazyColumns();
+        entity.setId(10L);
+
+        //When
+        manager.crud().loadGroup(entity, "unknown");
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.metrics.HistogramMetricsRecorder;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
+import info.archinnov.achilles.type.metrics.OperationMetrics;
+
+public class TestMetricsRecorderSimpleEntity {
+
+    private static final HistogramMetricsRecorder METRICS_RECORDER = new HistogramMetricsRecorder();
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withMetricsRecorder(METRICS_RECORDER)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_record_metrics_per_operation() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final SimpleEntity entity = new SimpleEntity(id, date, "value");
+        final long findCountBefore = executionCount(MetricsOperation.FIND);
+        final long selectCountBefore = executionCount(MetricsOperation.DSL_SELECT);
+
+        //When
+        manager.crud().insert(entity).execute();
+        final SimpleEntity found = manager.crud().findById(id, date).get();
+        final List<SimpleEntity> selected = manager.dsl().select().allColumns_FromBaseTable().where().id().Eq(id).date().Eq(date).getList();
+
+        //Then
+        assertThat(found).isNotNull();
+        assertThat(selected).hasSize(1);
+        assertThat(resource.getManagerFactory().getMetricsRecorder()).isSameAs(METRICS_RECORDER);
+
+        final OperationMetrics insertMetrics = METRICS_RECORDER.getMetrics(SimpleEntity.class, MetricsOperation.INSERT).get();
+        assertThat(insertMetrics.getSuccessCount()).isGreaterThanOrEqualTo(1L);
+        assertThat(insertMetrics.getCassandraLatency().getCount()).isGreaterThanOrEqualTo(1L);
+
+        final OperationMetrics findMetrics = METRICS_RECORDER.getMetrics(SimpleEntity.class, MetricsOperation.FIND).get();
+        assertThat(findMetrics.getExecutionCount()).isEqualTo(findCountBefore + 1);
+        assertThat(findMetrics.getRowsMappedCount()).isGreaterThanOrEqualTo(1L);
+
+        final OperationMetrics selectMetrics = METRICS_RECORDER.getMetrics(SimpleEntity.class, MetricsOperation.DSL_SELECT).get();
+        assertThat(selectMetrics.getExecutionCount()).isEqualTo(selectCountBefore + 1);
+        assertThat(selectMetrics.getMappingLatency().getCount()).isGreaterThanOrEqualTo(1L);
+
+        assertThat(METRICS_RECORDER.getExecutorQueueDepth()).isGreaterThanOrEqualTo(0);
+    }
+
+    private long executionCount(MetricsOperation operation) {
+        return METRICS_RECORDER.getMetrics(SimpleEntity.class, operation)
+                .map(OperationMetrics::getExecutionCount)
+                .orElse(0L);
+    }
+}
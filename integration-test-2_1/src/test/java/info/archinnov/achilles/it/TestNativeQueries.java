@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -38,6 +39,7 @@ import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.RowView;
 import info.archinnov.achilles.type.TypedMap;
 
 public class TestNativeQueries {
@@ -156,6 +158,51 @@ public class TestNativeQueries {
         assertThat(foundEntity.get()).isTrue();
     }
 
+    @Test
+    public void should_select_row_views_as_native_query() throws Exception {
+        //Given
+        final Map<String, Object> values = new HashMap<>();
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        values.put("id", id);
+        values.put("date1", "'2015-10-01 00:00:00+0000'");
+        values.put("date2", "'2015-10-02 00:00:00+0000'");
+        values.put("date3", "'2015-10-03 00:00:00+0000'");
+        values.put("date4", "'2015-10-04 00:00:00+0000'");
+        values.put("date5", "'2015-10-05 00:00:00+0000'");
+        values.put("date6", "'2015-10-06 00:00:00+0000'");
+        values.put("date7", "'2015-10-07 00:00:00+0000'");
+        values.put("date8", "'2015-10-08 00:00:00+0000'");
+        values.put("date9", "'2015-10-09 00:00:00+0000'");
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_many_rows.cql", values);
+
+        final SimpleStatement statement = new SimpleStatement("SELECT * FROM simple WHERE id = :id LIMIT 100");
+
+        //When
+        final List<RowView> views = manager
+                .raw()
+                .nativeQuery(statement, id)
+                .getRowViews();
+
+        final Iterator<RowView> iter = manager
+                .raw()
+                .nativeQuery(statement, id)
+                .rowViewIterator();
+
+        //Then
+        assertThat(views).hasSize(9);
+        assertThat(views.get(0).<String>getTyped("value")).contains("id - date");
+        assertThat(views.get(0).<Long>getTyped("id")).isEqualTo(id);
+        assertThat(views.get(0).getTypedOr("unknown", "default")).isEqualTo("default");
+        assertThat(views.get(0).toTypedMap().<String>getTyped("value")).isEqualTo(views.get(0).getTyped("value"));
+
+        final AtomicInteger count = new AtomicInteger(0);
+        iter.forEachRemaining(view -> {
+            count.incrementAndGet();
+            assertThat(view.<String>getTyped("value")).contains("id - date");
+        });
+        assertThat(count.get()).isEqualTo(9);
+    }
+
     @Test
     public void should_perform_regular_insert_as_native_query() throws Exception {
         //Given
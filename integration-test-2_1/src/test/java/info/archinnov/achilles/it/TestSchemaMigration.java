@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package info.archinnov.achilles.it;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TableMetadata;
+
+import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.internals.entities.EntityWithUDTs;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.type.SchemaNameProvider;
+import info.archinnov.achilles.type.bootstrap.BootstrapPhase;
+
+public class TestSchemaMigration {
+
+    private static final String KEYSPACE = "schema_migration";
+
+    @Test
+    public void should_add_missing_columns_to_existing_table() throws Exception {
+        //Given
+        final Cluster cluster = CassandraEmbeddedServerBuilder
+                .builder()
+                .buildNativeCluster();
+        final Session session = cluster.connect();
+        session.execute("CREATE KEYSPACE IF NOT EXISTS " + KEYSPACE +
+                " WITH replication = {'class': 'SimpleStrategy', 'replication_factor': 1}");
+        session.execute("DROP TABLE IF EXISTS " + KEYSPACE + ".simple");
+        session.execute("CREATE TABLE " + KEYSPACE + ".simple(id bigint, date timestamp, value text, PRIMARY KEY(id, date))");
+
+        //When
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(SimpleEntity.class)
+                .doSchemaMigration(true)
+                .withDefaultKeyspaceName(KEYSPACE)
+                .build();
+
+        //Then
+        final TableMetadata table = cluster.getMetadata().getKeyspace(KEYSPACE).getTable("simple");
+        assertThat(table.getColumn("consistencylist")).isNotNull();
+        assertThat(table.getColumn("simpleset")).isNotNull();
+        assertThat(table.getColumn("simplemap")).isNotNull();
+        assertThat(managerFactory.getBootstrapReport().getPhase(BootstrapPhase.CREATE_SCHEMA).get().getRoundTrips())
+                .isGreaterThan(0L);
+
+        managerFactory.shutDown();
+        session.close();
+    }
+
+    @Test
+    public void should_add_missing_fields_to_existing_udt() throws Exception {
+        //Given
+        final Cluster cluster = CassandraEmbeddedServerBuilder
+                .builder()
+                .buildNativeCluster();
+        final Session session = cluster.connect();
+        session.execute("CREATE KEYSPACE IF NOT EXISTS " + KEYSPACE +
+                " WITH replication = {'class': 'SimpleStrategy', 'replication_factor': 1}");
+        session.execute("DROP TABLE IF EXISTS " + KEYSPACE + ".entity_with_udts");
+        session.execute("DROP TYPE IF EXISTS " + KEYSPACE + ".udt_no_ks");
+        session.execute("CREATE TYPE " + KEYSPACE + ".udt_no_ks(id bigint)");
+        session.execute("CREATE TABLE " + KEYSPACE + ".entity_with_udts(id bigint PRIMARY KEY, listudt list<frozen<udt_no_ks>>)");
+
+        // UDT meta classes are shared by all manager factories of the JVM, override any schema name
+        // provider injected by a previous test so that the UDT is resolved in the migrated keyspace
+        final SchemaNameProvider schemaNameProvider = new SchemaNameProvider() {
+            @Override
+            public <T> String keyspaceFor(Class<T> entityClass) {
+                return KEYSPACE;
+            }
+
+            @Override
+            public <T> String tableNameFor(Class<T> entityClass) {
+                return "entity_with_udts";
+            }
+        };
+
+        //When
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(EntityWithUDTs.class)
+                .doSchemaMigration(true)
+                .withDefaultKeyspaceName(KEYSPACE)
+                .withSchemaNameProvider(schemaNameProvider)
+                .build();
+
+        //Then
+        final KeyspaceMetadata keyspace = cluster.getMetadata().getKeyspace(KEYSPACE);
+        assertThat(keyspace.getUserType("udt_no_ks").contains("value")).isTrue();
+        assertThat(keyspace.getTable("entity_with_udts").getColumn("tupleudt")).isNotNull();
+
+        managerFactory.shutDown();
+        session.close();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.Iterator;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.it.utils.CassandraLogAsserter;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.logger.AchillesLoggers;
+
+public class TestSlowQueryLog {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withSlowQueryThresholdInMillis(0L)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_log_slow_iterated_select_with_redacted_bound_values() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        manager.crud().insert(new SimpleEntity(id, new Date(1L), "value1")).execute();
+        manager.crud().insert(new SimpleEntity(id, new Date(2L), "value2")).execute();
+
+        final CassandraLogAsserter logAsserter = new CassandraLogAsserter();
+        logAsserter.prepareLogLevel(AchillesLoggers.ACHILLES_SLOW_QUERY);
+
+        //When
+        final Iterator<SimpleEntity> iterator = manager
+                .dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(1)
+                .iterator();
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        Thread.sleep(300);
+
+        //Then
+        assertThat(count).isEqualTo(2);
+        logAsserter.assertContains("2 row(s)");
+    }
+
+    @Test
+    public void should_log_slow_insert() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final CassandraLogAsserter logAsserter = new CassandraLogAsserter();
+        logAsserter.prepareLogLevel(AchillesLoggers.ACHILLES_SLOW_QUERY);
+
+        //When
+        manager.crud().insert(new SimpleEntity(id, new Date(), "value")).execute();
+        Thread.sleep(300);
+
+        //Then
+        logAsserter.assertContains("redacted>");
+    }
+}
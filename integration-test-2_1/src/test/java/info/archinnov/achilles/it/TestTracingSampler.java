@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.metrics.MetricsOperation;
+import info.archinnov.achilles.type.metrics.TraceStageSummary;
+
+public class TestTracingSampler {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withTracingSamplingRate(SimpleEntity.class, MetricsOperation.FIND, 1.0d)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_aggregate_trace_stages_of_sampled_statements() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date(1L);
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+
+        //When
+        for (int i = 0; i < 3; i++) {
+            assertThat(manager.crud().findById(id, date).get()).isNotNull();
+        }
+
+        List<TraceStageSummary> summaries = resource.getManagerFactory().getTraceStageSummaries();
+        for (int i = 0; i < 50 && summaries.isEmpty(); i++) {
+            Thread.sleep(100);
+            summaries = resource.getManagerFactory().getTraceStageSummaries();
+        }
+
+        //Then
+        assertThat(summaries).isNotEmpty();
+        assertThat(summaries)
+                .extracting(TraceStageSummary::getOperation)
+                .containsOnly(MetricsOperation.FIND);
+        assertThat(summaries)
+                .extracting(TraceStageSummary::getEntityClass)
+                .containsOnly(SimpleEntity.class);
+    }
+}
@@ -21,6 +21,7 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Test;
@@ -33,6 +34,7 @@ import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.EntityWithByteBufferType_Manager;
 import info.archinnov.achilles.internals.entities.EntityWithByteBufferType;
+import info.archinnov.achilles.type.codec.ReadOnlyByteBufferCodec;
 
 public class TestEntityWithByteBufferTypeIT {
 
@@ -69,4 +71,42 @@ public class TestEntityWithByteBufferTypeIT {
         assertThat(one.getBytes("value")).isEqualTo(value);
     }
 
+    @Test
+    public void should_read_bytebuffer_as_read_only_view() throws Exception {
+        //Given
+        final Cluster cluster = CassandraEmbeddedServerBuilder
+                .builder()
+                .buildNativeCluster();
+
+        final Long id = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        final byte[] bytes = RandomUtils.nextBytes(100);
+
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(EntityWithByteBufferType.class)
+                .doForceSchemaCreation(true)
+                .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                .build();
+
+        final EntityWithByteBufferType_Manager manager = managerFactory
+                .forEntityWithByteBufferType();
+
+        final EntityWithByteBufferType entity = new EntityWithByteBufferType(id, null);
+        entity.setReadOnlyValue(ByteBuffer.wrap(bytes));
+        manager.crud().insert(entity).execute();
+
+        //When
+        final ByteBuffer actual = manager.crud().findById(id).get().getReadOnlyValue();
+
+        //Then
+        assertThat(actual.isReadOnly()).isTrue();
+        assertThat(actual).isEqualTo(ByteBuffer.wrap(bytes));
+
+        final ByteBuffer streamed = ByteBuffer.allocate(bytes.length);
+        final ReadableByteChannel channel = ReadOnlyByteBufferCodec.asChannel(actual);
+        while (channel.read(streamed) > 0) {
+        }
+        assertThat(streamed.array()).isEqualTo(bytes);
+    }
+
 }
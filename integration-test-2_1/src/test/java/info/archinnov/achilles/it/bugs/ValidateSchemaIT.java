@@ -24,6 +24,7 @@ import com.datastax.driver.core.Cluster;
 
 import info.archinnov.achilles.embedded.CassandraEmbeddedServerBuilder;
 import info.archinnov.achilles.exception.AchillesBeanMappingException;
+import info.archinnov.achilles.exception.AchillesSchemaValidationException;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.internals.entities.EntityWithMissingClustering;
 import info.archinnov.achilles.internals.entities.EntityWithMissingPartitionKey;
@@ -95,4 +96,27 @@ public class ValidateSchemaIT {
                 .withManagedEntityClasses(EntityWithMissingStaticCol.class)
                 .build();
     }
+
+    @Test
+    public void should_report_all_schema_validation_problems() throws Exception {
+        //Given
+        final Cluster cluster = CassandraEmbeddedServerBuilder.builder()
+                .withScript("EntityWithMissingPartitionKey/schema.cql")
+                .withScript("EntityWithMissingClustering/schema.cql")
+                .buildNativeCluster();
+
+        //When
+        exception.expect(AchillesSchemaValidationException.class);
+        exception.expectMessage("Schema validation failed with 2 problem(s)");
+        exception.expectMessage("The mapped partition key(s) [id] for entity " +
+                "info.archinnov.achilles.internals.entities.EntityWithMissingPartitionKey");
+        exception.expectMessage("The mapped clustering column(s) [clust] for entity " +
+                "info.archinnov.achilles.internals.entities.EntityWithMissingClustering");
+
+        //Then
+        ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(EntityWithMissingPartitionKey.class, EntityWithMissingClustering.class)
+                .build();
+    }
 }
@@ -20,8 +20,13 @@ import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
@@ -45,6 +50,7 @@ import info.archinnov.achilles.internals.entities.EntityForJSONCall;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.JsonArrayFraming;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.codec.CodecSignature;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
@@ -146,6 +152,53 @@ public class TestJSONCall {
 
     }
 
+    @Test
+    public void should_stream_allJSON_page_by_page() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        for (int clust = 1; clust <= 5; clust++) {
+            session.execute(format("INSERT INTO %s.entity_for_json_function_call(id, clust, value) VALUES(%s, %s, 'val%s')",
+                    DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME, id, clust, clust));
+        }
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final StringWriter writer = new StringWriter();
+
+        //When
+        final long arrayCount = manager
+                .dsl()
+                .select()
+                .allColumnsAsJSON_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .writeJsonTo(outputStream, JsonArrayFraming.JSON_ARRAY);
+
+        final long lineCount = manager
+                .dsl()
+                .select()
+                .allColumnsAsJSON_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .withFetchSize(2)
+                .writeJsonTo(writer, JsonArrayFraming.NEWLINE_DELIMITED, 1);
+
+        //Then
+        final List<String> rows = manager
+                .dsl()
+                .select()
+                .allColumnsAsJSON_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .getListJSON();
+
+        assertThat(arrayCount).isEqualTo(5L);
+        assertThat(lineCount).isEqualTo(5L);
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8))
+                .isEqualTo("[" + rows.stream().collect(Collectors.joining(",")) + "]");
+        assertThat(writer.toString())
+                .isEqualTo(rows.stream().map(row -> row + "\n").collect(Collectors.joining()));
+    }
+
     @Test
     public void should_update_using_fromJson() throws Exception {
         //Given